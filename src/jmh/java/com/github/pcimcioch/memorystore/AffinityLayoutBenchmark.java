@@ -0,0 +1,105 @@
+package com.github.pcimcioch.memorystore;
+
+import com.github.pcimcioch.memorystore.encoder.ByteEncoder;
+import com.github.pcimcioch.memorystore.encoder.LongEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.layout.AffinityMemoryLayoutBuilder;
+import com.github.pcimcioch.memorystore.layout.AutomaticMemoryLayoutBuilder;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.pcimcioch.memorystore.header.Headers.byte8;
+import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.long64;
+
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 10)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class AffinityLayoutBenchmark {
+
+    private static final int SIZE = 1 << 20;
+
+    private static final BitHeader<LongEncoder> VALUE = long64("value");
+    private static final BitHeader<ByteEncoder> FLAG = byte8("flag");
+
+    private final int[] order = randomOrder();
+
+    private final TableStore automaticStore = new TableStore(new AutomaticMemoryLayoutBuilder());
+    private final TableStore affinityStore = new TableStore(AffinityMemoryLayoutBuilder.builder()
+            .group(VALUE, FLAG)
+            .build());
+    private final TableStore alignedStore = new TableStore(AffinityMemoryLayoutBuilder.builder()
+            .group(VALUE, FLAG)
+            .alignToCacheLine()
+            .build());
+
+    @Benchmark
+    public long automaticLayoutRead() {
+        return automaticStore.sum(order);
+    }
+
+    @Benchmark
+    public long affinityLayoutRead() {
+        return affinityStore.sum(order);
+    }
+
+    @Benchmark
+    public long alignedAffinityLayoutRead() {
+        return alignedStore.sum(order);
+    }
+
+    private static int[] randomOrder() {
+        Random random = new Random(0);
+        int[] order = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            order[i] = random.nextInt(SIZE);
+        }
+        return order;
+    }
+
+    private static final class TableStore {
+        private final LongEncoder value;
+        private final ByteEncoder flag;
+
+        private TableStore(MemoryLayoutBuilder layout) {
+            List<BitHeader<?>> headers = new ArrayList<>();
+            headers.add(VALUE);
+            headers.add(FLAG);
+            for (int i = 0; i < 8; i++) {
+                headers.add(long64("long" + i));
+                headers.add(int32("int" + i));
+            }
+            Table table = new Table(layout, headers);
+
+            this.value = table.encoderFor(VALUE);
+            this.flag = table.encoderFor(FLAG);
+
+            for (int i = 0; i < SIZE; i++) {
+                value.set(i, i);
+                flag.set(i, (byte) (i & 1));
+            }
+        }
+
+        private long sum(int[] order) {
+            long sum = 0;
+            for (int index : order) {
+                if (flag.get(index) != 0) {
+                    sum += value.get(index);
+                }
+            }
+            return sum;
+        }
+    }
+}
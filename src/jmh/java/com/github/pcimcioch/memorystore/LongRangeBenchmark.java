@@ -0,0 +1,122 @@
+package com.github.pcimcioch.memorystore;
+
+import com.github.pcimcioch.memorystore.encoder.IntEncoder;
+import com.github.pcimcioch.memorystore.encoder.LongEncoder;
+import com.github.pcimcioch.memorystore.encoder.SignedLongEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.long64;
+import static com.github.pcimcioch.memorystore.header.Headers.longRange;
+
+/**
+ * Compares 40-bit ids stored in {@link SignedLongEncoder}, straddling word boundaries, with ids stored in the full
+ * 64-bit {@link LongEncoder}. Records with two long64 ids and an int take 20 bytes, records with two 40-bit ids and
+ * an int take 16 bytes
+ */
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 10)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class LongRangeBenchmark {
+
+    private static final int SIZE = 1 << 20;
+    private static final long MAX_ID = (1L << 40) - 1;
+
+    private static final BitHeader<LongEncoder> LONG_ID = long64("id");
+    private static final BitHeader<SignedLongEncoder> PACKED_ID = longRange("id", 0, MAX_ID);
+    private static final BitHeader<SignedLongEncoder> PACKED_PARENT_ID = longRange("parentId", 0, MAX_ID);
+    private static final BitHeader<LongEncoder> LONG_PARENT_ID = long64("parentId");
+    private static final BitHeader<IntEncoder> VALUE = int32("value");
+
+    private int[] order;
+    private long[] ids;
+    private LongEncoder longId;
+    private LongEncoder longParentId;
+    private SignedLongEncoder packedId;
+    private SignedLongEncoder packedParentId;
+
+    @Setup
+    public void setUp() {
+        Table longTable = new Table(List.of(LONG_ID, LONG_PARENT_ID, VALUE));
+        Table packedTable = new Table(List.of(PACKED_ID, PACKED_PARENT_ID, VALUE));
+        longId = longTable.encoderFor(LONG_ID);
+        longParentId = longTable.encoderFor(LONG_PARENT_ID);
+        packedId = packedTable.encoderFor(PACKED_ID);
+        packedParentId = packedTable.encoderFor(PACKED_PARENT_ID);
+
+        Random random = new Random(0);
+        order = new int[SIZE];
+        ids = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            ids[i] = random.nextLong() & MAX_ID;
+            longId.set(i, ids[i]);
+            longParentId.set(i, ids[i] >>> 1);
+            packedId.set(i, ids[i]);
+            packedParentId.set(i, ids[i] >>> 1);
+            order[i] = random.nextInt(SIZE);
+        }
+    }
+
+    @Benchmark
+    public long longRandomRead() {
+        long sum = 0;
+        for (int index : order) {
+            sum += longId.get(index) + longParentId.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long packedRandomRead() {
+        long sum = 0;
+        for (int index : order) {
+            sum += packedId.get(index) + packedParentId.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long longSequentialRead() {
+        long sum = 0;
+        for (int index = 0; index < SIZE; index++) {
+            sum += longId.get(index) + longParentId.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long packedSequentialRead() {
+        long sum = 0;
+        for (int index = 0; index < SIZE; index++) {
+            sum += packedId.get(index) + packedParentId.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void longSequentialWrite() {
+        for (int index = 0; index < SIZE; index++) {
+            longId.set(index, ids[index]);
+        }
+    }
+
+    @Benchmark
+    public void packedSequentialWrite() {
+        for (int index = 0; index < SIZE; index++) {
+            packedId.set(index, ids[index]);
+        }
+    }
+}
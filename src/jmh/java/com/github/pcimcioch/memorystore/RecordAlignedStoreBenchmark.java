@@ -0,0 +1,92 @@
+package com.github.pcimcioch.memorystore;
+
+import com.github.pcimcioch.memorystore.encoder.IntEncoder;
+import com.github.pcimcioch.memorystore.encoder.LongEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.layout.AutomaticMemoryLayoutBuilder;
+import com.github.pcimcioch.memorystore.store.DefaultStoreFactory;
+import com.github.pcimcioch.memorystore.store.RecordAlignedStoreFactory;
+import com.github.pcimcioch.memorystore.store.StoreFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.long64;
+
+/**
+ * Compares records of 3 words stored in default store, where long fields may cross the block boundary, with the same
+ * records stored in record aligned store, where long fields are read from a single block. Both layouts take 12 bytes
+ * per record
+ */
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 10)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RecordAlignedStoreBenchmark {
+
+    private static final int SIZE = 1 << 20;
+
+    private static final BitHeader<LongEncoder> ID = long64("id");
+    private static final BitHeader<IntEncoder> VALUE = int32("value");
+
+    @Param({"default", "recordAligned"})
+    private String store;
+
+    private int[] order;
+    private LongEncoder id;
+    private IntEncoder value;
+
+    @Setup
+    public void setUp() {
+        StoreFactory storeFactory = "recordAligned".equals(store)
+                ? new RecordAlignedStoreFactory()
+                : new DefaultStoreFactory();
+        Table table = new Table(new AutomaticMemoryLayoutBuilder(), storeFactory, List.of(ID, VALUE));
+        id = table.encoderFor(ID);
+        value = table.encoderFor(VALUE);
+
+        Random random = new Random(0);
+        order = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            id.set(i, i * 31L);
+            value.set(i, i);
+            order[i] = random.nextInt(SIZE);
+        }
+    }
+
+    @Benchmark
+    public long randomRead() {
+        long sum = 0;
+        for (int index : order) {
+            sum += id.get(index) + value.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sequentialRead() {
+        long sum = 0;
+        for (int index = 0; index < SIZE; index++) {
+            sum += id.get(index) + value.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void sequentialWrite() {
+        for (int index = 0; index < SIZE; index++) {
+            id.set(index, index);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.pcimcioch.memorystore;
+
+import com.github.pcimcioch.memorystore.encoder.IntEncoder;
+import com.github.pcimcioch.memorystore.encoder.ShortEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.layout.AutomaticMemoryLayoutBuilder;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder;
+import com.github.pcimcioch.memorystore.layout.PowerOfTwoMemoryLayoutBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.short16;
+
+/**
+ * Compares records of 3 words addressed with multiplication with records padded to 4 words addressed with shift.
+ * Automatic layout takes 12 bytes per record, 12 MB for all records. Power of two layout takes 16 bytes per record,
+ * 16 MB for all records
+ */
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 10)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RecordSizeBenchmark {
+
+    private static final int SIZE = 1 << 20;
+
+    private static final BitHeader<IntEncoder> VAL1 = int32("val1");
+    private static final BitHeader<IntEncoder> VAL2 = int32("val2");
+    private static final BitHeader<ShortEncoder> VAL3 = short16("val3");
+
+    @Param({"automatic", "powerOfTwo"})
+    private String layout;
+
+    private int[] order;
+    private IntEncoder val1;
+    private IntEncoder val2;
+    private ShortEncoder val3;
+
+    @Setup
+    public void setUp() {
+        MemoryLayoutBuilder builder = "powerOfTwo".equals(layout)
+                ? new PowerOfTwoMemoryLayoutBuilder()
+                : new AutomaticMemoryLayoutBuilder();
+        Table table = new Table(builder, List.of(VAL1, VAL2, VAL3));
+        val1 = table.encoderFor(VAL1);
+        val2 = table.encoderFor(VAL2);
+        val3 = table.encoderFor(VAL3);
+
+        Random random = new Random(0);
+        order = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            val1.set(i, i);
+            val2.set(i, -i);
+            val3.set(i, (short) i);
+            order[i] = random.nextInt(SIZE);
+        }
+    }
+
+    @Benchmark
+    public long randomRead() {
+        long sum = 0;
+        for (int index : order) {
+            sum += val1.get(index) + val2.get(index) + val3.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sequentialRead() {
+        long sum = 0;
+        for (int index = 0; index < SIZE; index++) {
+            sum += val1.get(index) + val2.get(index) + val3.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void sequentialWrite() {
+        for (int index = 0; index < SIZE; index++) {
+            val1.set(index, index);
+            val3.set(index, (short) index);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.github.pcimcioch.memorystore.header.Header;
 import com.github.pcimcioch.memorystore.header.ObjectDirectHeader;
 import com.github.pcimcioch.memorystore.header.ObjectPoolHeader;
 import com.github.pcimcioch.memorystore.header.ObjectPoolHeader.PoolDefinition;
+import com.github.pcimcioch.memorystore.header.StoreOwnerHeader;
 import com.github.pcimcioch.memorystore.layout.AutomaticMemoryLayoutBuilder;
 import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder;
 import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryLayout;
@@ -18,8 +19,10 @@ import com.github.pcimcioch.memorystore.store.DefaultStoreFactory;
 import com.github.pcimcioch.memorystore.store.IntStore;
 import com.github.pcimcioch.memorystore.store.ObjectPoolStore;
 import com.github.pcimcioch.memorystore.store.ObjectStore;
+import com.github.pcimcioch.memorystore.store.RecordAlignedStoreFactory;
 import com.github.pcimcioch.memorystore.store.StoreFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -42,7 +45,9 @@ public class Table {
     private final Map<Header<? extends Encoder>, Encoder> encoders = new HashMap<>();
     private final Map<PoolDefinition, ObjectPoolStore<?>> objectPoolStores = new HashMap<>();
     private final Map<ObjectDirectHeader<?>, ObjectStore<?>> objectStores = new HashMap<>();
-    private final IntStore intStore;
+    private final Map<Header<?>, IntStore> ownedStores = new HashMap<>();
+    private final List<IntStore> intStores = new ArrayList<>();
+    private MemoryLayout memoryLayout;
 
     /**
      * Create store for records with fields defined by passed headers
@@ -63,12 +68,20 @@ public class Table {
         this(memoryLayoutBuilder, new DefaultStoreFactory(), headers);
     }
 
-    private Table(MemoryLayoutBuilder memoryLayoutBuilder,
-                  StoreFactory storeFactory,
-                  Collection<? extends Header<? extends Encoder>> headers) {
-        this.intStore = initBitEncoders(headers, memoryLayoutBuilder, storeFactory);
+    /**
+     * Create store for records with fields defined by passed headers
+     *
+     * @param memoryLayoutBuilder memory layout to use when storing bit headers
+     * @param storeFactory        factory of the stores holding the data, for example {@link RecordAlignedStoreFactory}
+     * @param headers             headers
+     */
+    public Table(MemoryLayoutBuilder memoryLayoutBuilder,
+                 StoreFactory storeFactory,
+                 Collection<? extends Header<? extends Encoder>> headers) {
+        initBitEncoders(headers, memoryLayoutBuilder, storeFactory);
         initObjectEncoders(headers, storeFactory);
         initObjectPoolEncoders(headers, storeFactory);
+        initStoreOwnerEncoders(headers, storeFactory);
     }
 
     /**
@@ -91,23 +104,27 @@ public class Table {
         return unmodifiableSet(encoders.keySet());
     }
 
-    private IntStore initBitEncoders(Collection<? extends Header<? extends Encoder>> allHeaders,
-                                     MemoryLayoutBuilder memoryLayoutBuilder,
-                                     StoreFactory storeFactory) {
+    private void initBitEncoders(Collection<? extends Header<? extends Encoder>> allHeaders,
+                                 MemoryLayoutBuilder memoryLayoutBuilder,
+                                 StoreFactory storeFactory) {
         List<BitHeader<?>> headers = filterBitHeaders(allHeaders).collect(Collectors.toList());
         if (headers.isEmpty()) {
-            return null;
+            return;
         }
 
-        IntStore store = storeFactory.buildIntStore();
         MemoryLayout layout = memoryLayoutBuilder.compute(WORD_SIZE, headers);
+        for (int group = 0; group < layout.groupsCount(); group++) {
+            intStores.add(storeFactory.buildIntStore(group, layout.recordSize(group)));
+        }
 
         for (BitHeader<?> header : headers) {
             MemoryPosition memoryPosition = layout.memoryPositionFor(header);
             assertArgument(memoryPosition != null, "Cannot find Memory Position for header %s", header.name());
+            assertArgument(memoryPosition.group() >= 0 && memoryPosition.group() < layout.groupsCount(),
+                    "Incorrect column group for header %s", header.name());
             BitEncoder.Config config = new BitEncoder.Config(
-                    store,
-                    layout.recordSize(),
+                    intStores.get(memoryPosition.group()),
+                    layout.recordSize(memoryPosition.group()),
                     memoryPosition.positionInRecord(),
                     memoryPosition.bitShift(),
                     header.bitsCount()
@@ -115,7 +132,7 @@ public class Table {
             addEncoder(header, header.encoderFactory().apply(config));
         }
 
-        return store;
+        this.memoryLayout = layout;
     }
 
     private void initObjectEncoders(Collection<? extends Header<? extends Encoder>> allHeaders,
@@ -146,6 +163,23 @@ public class Table {
         }
     }
 
+    private void initStoreOwnerEncoders(Collection<? extends Header<? extends Encoder>> allHeaders,
+                                        StoreFactory storeFactory) {
+        List<Header<?>> headers = filterStoreOwnerHeaders(allHeaders).collect(Collectors.toList());
+        if (headers.isEmpty()) {
+            return;
+        }
+
+        for (Header<?> header : headers) {
+            StoreOwnerHeader<?> storeOwner = (StoreOwnerHeader<?>) header;
+            IntStore store = storeFactory.buildOwnedStore(storeOwner);
+            assertArgument(store != null, "Missing owned store for header named %s", header.name());
+            ownedStores.put(header, store);
+
+            addEncoder(header, storeOwner.buildEncoder(store, this::encoderFor));
+        }
+    }
+
     private void addEncoder(Header<?> header, Encoder encoder) {
         encoders.keySet().stream()
                 .map(Header::name)
@@ -184,8 +218,10 @@ public class Table {
                 .filter(BitHeader.class::isInstance)
                 .map(BitHeader.class::cast);
         Stream<BitHeader<?>> poolIndexHeader = filterObjectPoolHeaders(headers).map(ObjectPoolHeader::poolIndexHeader);
+        Stream<BitHeader<?>> recordHeaders = filterStoreOwnerHeaders(headers)
+                .flatMap(header -> ((StoreOwnerHeader<?>) header).recordHeaders().stream());
 
-        return Stream.concat(bitHeaders, poolIndexHeader);
+        return Stream.concat(Stream.concat(bitHeaders, poolIndexHeader), recordHeaders);
     }
 
     private static Stream<ObjectDirectHeader<?>> filterObjectHeaders(Collection<? extends Header<? extends Encoder>> headers) {
@@ -200,6 +236,12 @@ public class Table {
                 .map(ObjectPoolHeader.class::cast);
     }
 
+    private static Stream<Header<?>> filterStoreOwnerHeaders(Collection<? extends Header<? extends Encoder>> allHeaders) {
+        return allHeaders.stream()
+                .filter(StoreOwnerHeader.class::isInstance)
+                .map(header -> (Header<?>) header);
+    }
+
     /**
      * By implementing this interface you can get access to the internal Table state, that we don't want to normally
      * make public
@@ -207,7 +249,15 @@ public class Table {
     public static abstract class Accessor {
 
         protected IntStore intStore(Table table) {
-            return table.intStore;
+            return table.intStores.isEmpty() ? null : table.intStores.get(0);
+        }
+
+        protected List<IntStore> intStores(Table table) {
+            return table.intStores;
+        }
+
+        protected MemoryLayout memoryLayout(Table table) {
+            return table.memoryLayout;
         }
 
         protected Map<ObjectDirectHeader<?>, ObjectStore<?>> objectStores(Table table) {
@@ -218,6 +268,10 @@ public class Table {
             return table.objectPoolStores;
         }
 
+        protected Map<Header<?>, IntStore> ownedStores(Table table) {
+            return table.ownedStores;
+        }
+
         protected Map<Header<? extends Encoder>, Encoder> encoders(Table table) {
             return table.encoders;
         }
@@ -0,0 +1,223 @@
+package com.github.pcimcioch.memorystore.cache;
+
+import com.github.pcimcioch.memorystore.encoder.BooleanEncoder;
+import com.github.pcimcioch.memorystore.encoder.HashIndexEncoder;
+import com.github.pcimcioch.memorystore.encoder.LongEncoder;
+import com.github.pcimcioch.memorystore.store.IntStore;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Cache of fixed number of records, with eviction done by the CLOCK algorithm. Cached entries are records of the table
+ * from 0th to {@code capacity - 1}. Each record stores its key and the reference bit. Hash index maps keys to the
+ * records, so there are no objects allocated per entry.
+ * <br>
+ * <p>
+ * Reference bit is set when the cached entry is read or put again. New entries start without it, so keys that are
+ * used only once are evicted before the keys that are reused. When the cache is full, clock hand sweeps the records:
+ * it clears reference bits that are set and evicts the first record that was not referenced since the last sweep.
+ * Slot of the evicted record is reused for the new key. Values of the entry are stored by the caller in other fields
+ * of the record returned by {@link #put(long)}.
+ * <br>
+ * <p>
+ * This class is not thread safe
+ */
+public class ClockCache {
+
+    /**
+     * Returned when the key is not cached
+     */
+    public static final long NONE = HashIndexEncoder.NONE;
+
+    private final HashIndexEncoder index;
+    private final LongEncoder keyEncoder;
+    private final BooleanEncoder referenceEncoder;
+    private final long capacity;
+    private final IntStore freeSlots = new IntStore();
+
+    private long used;
+    private long freeSlotsCount;
+    private long hand;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructor. Index must be empty
+     *
+     * @param index            index mapping keys to the records
+     * @param keyEncoder       encoder storing key of the record
+     * @param referenceEncoder encoder storing reference bit of the record
+     * @param capacity         maximum number of cached records
+     */
+    public ClockCache(HashIndexEncoder index, LongEncoder keyEncoder, BooleanEncoder referenceEncoder, long capacity) {
+        this.index = requireNonNull(index, "Index cannot be null");
+        this.keyEncoder = requireNonNull(keyEncoder, "Key Encoder cannot be null");
+        this.referenceEncoder = requireNonNull(referenceEncoder, "Reference Encoder cannot be null");
+        assertArgument(capacity > 0 && capacity <= HashIndexEncoder.MAX_POSITION + 1,
+                "Capacity must be between 1 and %d", HashIndexEncoder.MAX_POSITION + 1);
+        assertArgument(index.isEmpty(), "Index must be empty");
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns record of the cached key and marks it as referenced. Counts hit or miss
+     *
+     * @param key key
+     * @return position of the record or {@link #NONE} if key is not cached
+     */
+    public long get(long key) {
+        long position = index.get(key);
+        if (position == NONE) {
+            misses++;
+        } else {
+            hits++;
+            referenceEncoder.set(position);
+        }
+
+        return position;
+    }
+
+    /**
+     * Returns whether the key is cached. It does not mark the record as referenced and does not count hit or miss
+     *
+     * @param key key
+     * @return whether key is cached
+     */
+    public boolean contains(long key) {
+        return index.containsKey(key);
+    }
+
+    /**
+     * Returns record for the key. If the key is cached, record is marked as referenced. Otherwise, free record is
+     * assigned to it. If there are no free records, one of the cached keys is evicted and its record is reused, so
+     * values stored in it should be overwritten
+     *
+     * @param key key
+     * @return position of the record
+     */
+    public long put(long key) {
+        long position = index.get(key);
+        if (position == NONE) {
+            position = freeSlot();
+            keyEncoder.set(position, key);
+            referenceEncoder.clear(position);
+            index.put(key, position);
+        } else {
+            referenceEncoder.set(position);
+        }
+
+        return position;
+    }
+
+    /**
+     * Removes the key from the cache. Its record becomes free
+     *
+     * @param key key
+     * @return position of the freed record or {@link #NONE} if key was not cached
+     */
+    public long remove(long key) {
+        long position = index.remove(key);
+        if (position != NONE) {
+            referenceEncoder.clear(position);
+            freeSlots.setInt(freeSlotsCount++, (int) position);
+        }
+
+        return position;
+    }
+
+    /**
+     * Returns number of cached keys
+     *
+     * @return size
+     */
+    public long size() {
+        return used - freeSlotsCount;
+    }
+
+    /**
+     * Returns maximum number of cached keys
+     *
+     * @return capacity
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns number of {@link #get(long)} calls that found the key
+     *
+     * @return hits count
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns number of {@link #get(long)} calls that did not find the key
+     *
+     * @return misses count
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * Returns number of keys evicted to make room for new keys
+     *
+     * @return evictions count
+     */
+    public long evictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns part of {@link #get(long)} calls that found the key
+     *
+     * @return hit ratio, from 0 to 1
+     */
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0L ? 0d : (double) hits / requests;
+    }
+
+    /**
+     * Resets hits, misses and evictions counters
+     */
+    public void resetCounters() {
+        hits = 0L;
+        misses = 0L;
+        evictions = 0L;
+    }
+
+    private long freeSlot() {
+        if (freeSlotsCount > 0) {
+            return Integer.toUnsignedLong(freeSlots.getInt(--freeSlotsCount));
+        }
+        if (used < capacity) {
+            return used++;
+        }
+
+        return evict();
+    }
+
+    private long evict() {
+        while (referenceEncoder.get(hand)) {
+            referenceEncoder.clear(hand);
+            hand = next(hand);
+        }
+
+        long position = hand;
+        index.remove(keyEncoder.get(position));
+        evictions++;
+        hand = next(hand);
+
+        return position;
+    }
+
+    private long next(long position) {
+        return position + 1 == capacity ? 0L : position + 1;
+    }
+}
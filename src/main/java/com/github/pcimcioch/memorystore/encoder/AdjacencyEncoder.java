@@ -0,0 +1,219 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.store.IntStore;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * AdjacencyEncoder stores outgoing edges of the graph in Compressed Sparse Row format. Neighbours of the record are
+ * stored next to each other in a separate store of edges, so iterating them reads memory sequentially. Each record
+ * keeps only the offset of its first neighbour and its degree, instead of a pointer per edge.
+ * <br>
+ * <p>
+ * Graph is built in bulk from the edge lists using {@link #build(long, long[], long[])}. Neighbours can be read
+ * concurrently, which allows parallel frontier expansion, see {@link #expand(long[], LongPredicate, boolean)}
+ */
+public class AdjacencyEncoder implements RecordLinkEncoder {
+
+    private final IntStore edges;
+    private final UnsignedIntegerEncoder offsetEncoder;
+    private final UnsignedIntegerEncoder degreeEncoder;
+    private final int maxDegree;
+
+    /**
+     * Constructor
+     *
+     * @param edges         structure to store neighbours of all records
+     * @param offsetEncoder encoder that is used to store offset of the first neighbour
+     * @param degreeEncoder encoder that is used to store number of neighbours
+     */
+    public AdjacencyEncoder(IntStore edges, UnsignedIntegerEncoder offsetEncoder, UnsignedIntegerEncoder degreeEncoder) {
+        this.edges = requireNonNull(edges, "Edges Store cannot be null");
+        this.offsetEncoder = requireNonNull(offsetEncoder, "Offset Encoder cannot be null");
+        this.degreeEncoder = requireNonNull(degreeEncoder, "Degree Encoder cannot be null");
+        this.maxDegree = (1 << degreeEncoder.bitsCount()) - 1;
+    }
+
+    /**
+     * @return max number of neighbours that can be stored for a record in this encoder
+     */
+    public int maxDegree() {
+        return maxDegree;
+    }
+
+    /**
+     * Builds the graph from the edge lists. Edge i goes from record sources[i] to record targets[i]. All the edges
+     * previously stored are replaced. Neighbours of each record are kept in the order in which they appear in the edge
+     * lists. Records without edges get degree zero.
+     * <br>
+     * <p>
+     * Edges are grouped by source in two passes over the edge lists, without sorting. All the edges and degrees are
+     * validated in the first pass, so nothing is written if any of them is incorrect
+     *
+     * @param recordsCount number of records in the graph
+     * @param sources      source record of each edge
+     * @param targets      target record of each edge
+     */
+    public void build(long recordsCount, long[] sources, long[] targets) {
+        assertArgument(recordsCount >= 0 && recordsCount <= Integer.MAX_VALUE, "Records count must be between 0 and %d", Integer.MAX_VALUE);
+        assertArgument(sources.length == targets.length, "Edge lists must have the same length");
+
+        int[] offsets = new int[(int) recordsCount + 1];
+        for (int i = 0; i < sources.length; i++) {
+            assertArgument(sources[i] >= 0 && sources[i] < recordsCount && targets[i] >= 0 && targets[i] < recordsCount,
+                    "Edge %d -> %d outside of records range [0, %d)", sources[i], targets[i], recordsCount);
+            offsets[(int) sources[i] + 1]++;
+        }
+        for (int position = 0; position < recordsCount; position++) {
+            assertArgument(offsets[position + 1] <= maxDegree, "Degree %d of record %d must be between 0 and %d",
+                    offsets[position + 1], position, maxDegree);
+        }
+        for (int position = 0; position < recordsCount; position++) {
+            degreeEncoder.set(position, offsets[position + 1]);
+            offsets[position + 1] += offsets[position];
+            offsetEncoder.set(position, offsets[position]);
+        }
+
+        int[] cursors = Arrays.copyOf(offsets, offsets.length - 1);
+        for (int i = 0; i < sources.length; i++) {
+            edges.setInt(cursors[(int) sources[i]]++, (int) targets[i]);
+        }
+    }
+
+    /**
+     * Returns number of neighbours of the record
+     *
+     * @param position index of the record
+     * @return degree
+     */
+    public int degree(long position) {
+        return degreeEncoder.get(position);
+    }
+
+    /**
+     * Returns neighbour of the record
+     *
+     * @param position index of the record
+     * @param index    index of the neighbour, from 0 to degree - 1
+     * @return position of the neighbour
+     */
+    public long neighbour(long position, int index) {
+        int degree = degree(position);
+        assertArgument(index >= 0 && index < degree, "Neighbour index %d outside of degree %d", index, degree);
+
+        return edges.getInt((long) offsetEncoder.get(position) + index);
+    }
+
+    /**
+     * Calls action for each neighbour of the record, in order
+     *
+     * @param position index of the record
+     * @param action   action to call
+     */
+    public void forEachNeighbour(long position, LongConsumer action) {
+        long offset = offsetEncoder.get(position);
+        long end = offset + degree(position);
+        for (long i = offset; i < end; i++) {
+            action.accept(edges.getInt(i));
+        }
+    }
+
+    /**
+     * Returns stream of neighbours of the record, in order
+     *
+     * @param position index of the record
+     * @return neighbours
+     */
+    public LongStream neighbours(long position) {
+        long offset = offsetEncoder.get(position);
+        return LongStream.range(offset, offset + degree(position))
+                .map(edges::getInt);
+    }
+
+    /**
+     * Expands the frontier of graph traversal by one level. Returns neighbours of the frontier records that were
+     * accepted by visit predicate. Predicate should accept each record only once, usually by marking it as visited.
+     * When expanded in parallel, predicate is called concurrently and must be thread safe.
+     *
+     * @param frontier records of the current level
+     * @param visit    returns true, if the record was not visited before and should be in the next frontier
+     * @param parallel whether to expand frontier records in parallel
+     * @return records of the next level
+     */
+    public long[] expand(long[] frontier, LongPredicate visit, boolean parallel) {
+        LongStream records = Arrays.stream(frontier);
+        if (parallel) {
+            records = records.parallel();
+        }
+
+        return records
+                .flatMap(this::neighbours)
+                .filter(visit)
+                .toArray();
+    }
+
+    /**
+     * Runs breadth first search from given record and returns distance of each record from it
+     *
+     * @param source       record to start search from
+     * @param recordsCount number of records in the graph
+     * @param parallel     whether to expand each level in parallel
+     * @return distances in number of edges, or -1 for records not reachable from the source
+     */
+    public int[] bfs(long source, long recordsCount, boolean parallel) {
+        assertArgument(recordsCount >= 0 && recordsCount <= Integer.MAX_VALUE, "Records count must be between 0 and %d", Integer.MAX_VALUE);
+        assertArgument(source >= 0 && source < recordsCount, "Source %d outside of records range [0, %d)", source, recordsCount);
+
+        AtomicIntegerArray distances = new AtomicIntegerArray((int) recordsCount);
+        for (int i = 0; i < distances.length(); i++) {
+            distances.set(i, -1);
+        }
+        distances.set((int) source, 0);
+
+        long[] frontier = {source};
+        for (int level = 1; frontier.length > 0; level++) {
+            int distance = level;
+            frontier = expand(frontier, record -> distances.compareAndSet((int) record, -1, distance), parallel);
+        }
+
+        int[] result = new int[distances.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = distances.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remapLinks(long position, LongUnaryOperator mapping) {
+        long offset = offsetEncoder.get(position);
+        long end = offset + degree(position);
+        for (long i = offset; i < end; i++) {
+            edges.setInt(i, (int) mapping.applyAsLong(edges.getInt(i)));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AdjacencyEncoder that = (AdjacencyEncoder) o;
+        return edges.equals(that.edges) && offsetEncoder.equals(that.offsetEncoder) && degreeEncoder.equals(that.degreeEncoder);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(edges, offsetEncoder, degreeEncoder);
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import static java.lang.Float.floatToRawIntBits;
+import static java.lang.Float.intBitsToFloat;
+
+/**
+ * Stores floating point number {@link Float} on 16 bits of memory, in bfloat16 format. It keeps the full exponent
+ * range of float, but only 8 bits of precision. Values are rounded to the nearest representable bfloat16 number
+ */
+public class BFloat16Encoder extends BitEncoder {
+
+    public static final int BIT_COUNT = 16;
+    public static final int MAX_LAST_BIT = 32;
+
+    private final int mask;
+
+    /**
+     * {@inheritDoc}
+     */
+    public BFloat16Encoder(Config config) {
+        super(config);
+        this.mask = 65535 << this.bitShift;
+    }
+
+    /**
+     * Returns float from given index
+     *
+     * @param position index of the record
+     * @return float value
+     */
+    public float get(long position) {
+        return toFloat((store.getInt(storeIndex(position)) & mask) >>> bitShift);
+    }
+
+    /**
+     * Sets float for record of given index. Value is rounded to the nearest bfloat16 number
+     *
+     * @param position index of the record
+     * @param value    float value
+     */
+    public void set(long position, float value) {
+        store.setPartialInt(storeIndex(position), toBFloat16(value) << bitShift, mask);
+    }
+
+    /**
+     * Converts float to the bfloat16 bits. Rounds to the nearest value, ties to even
+     *
+     * @param value float value
+     * @return bfloat16 bits, on the lowest 16 bits
+     */
+    public static int toBFloat16(float value) {
+        int bits = floatToRawIntBits(value);
+        if (Float.isNaN(value)) {
+            return (bits >>> 16) | 0x40;
+        }
+        return (bits + 0x7fff + ((bits >>> 16) & 1)) >>> 16;
+    }
+
+    /**
+     * Converts bfloat16 bits to float. Conversion is exact
+     *
+     * @param bfloat16 bfloat16 bits, on the lowest 16 bits
+     * @return float value
+     */
+    public static float toFloat(int bfloat16) {
+        return intBitsToFloat(bfloat16 << 16);
+    }
+
+    @Override
+    protected int minBits() {
+        return BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+}
@@ -17,6 +17,19 @@ public abstract class BitEncoder implements Encoder {
     protected final int bitsCount;
     protected final int bitShift;
 
+    private final int blockRecordsBits;
+    private final int blockShift;
+    private final long recordMask;
+
+    private final int valueIndex;
+    private final int valueShift;
+    private final int valueWords;
+    private final LongAccess longAccess;
+    private final long valueMask;
+    private final int lowWordMask;
+    private final int middleWordMask;
+    private final int highWordMask;
+
     /**
      * Constructor
      *
@@ -25,12 +38,41 @@ public abstract class BitEncoder implements Encoder {
     protected BitEncoder(Config config) {
         assertArgument(config.bitsCount() >= minBits() && config.bitsCount() <= maxBits(), "Bits Count outside of defined bounds");
         assertArgument(config.bitShift() + config.bitsCount() <= maxLastBit(), "Bit Shift over a limit");
+        assertArgument(!config.store().isRecordAligned() || config.store().recordSize() == config.recordSize(),
+                "Store is aligned to records of %d words, but record size is %d", config.store().recordSize(), config.recordSize());
 
         this.store = config.store();
         this.recordSize = config.recordSize();
         this.positionInRecord = config.positionInRecord();
         this.bitsCount = config.bitsCount();
         this.bitShift = config.bitShift();
+        this.longAccess = store.isRecordAligned() || store.blockSize() % recordSize == 0
+                ? LongAccess.IN_BLOCK
+                : LongAccess.ACROSS_BLOCKS;
+
+        if (Integer.bitCount(recordSize) == 1) {
+            // every record is a block of its own, addressed with shift
+            this.blockRecordsBits = 0;
+            this.blockShift = Integer.numberOfTrailingZeros(recordSize);
+            this.recordMask = 0L;
+        } else if (store.isRecordAligned()) {
+            this.blockRecordsBits = Integer.numberOfTrailingZeros(store.recordsPerBlock());
+            this.blockShift = store.numberOfIndexBits();
+            this.recordMask = store.recordsPerBlock() - 1;
+        } else {
+            // single block holding all the records, addressed with multiplication
+            this.blockRecordsBits = 63;
+            this.blockShift = 0;
+            this.recordMask = Long.MAX_VALUE;
+        }
+
+        this.valueIndex = bitShift >>> 5;
+        this.valueShift = bitShift & 0b11111;
+        this.valueWords = (valueShift + bitsCount + 31) >>> 5;
+        this.valueMask = bitsCount >= 64 ? -1L : (1L << bitsCount) - 1;
+        this.lowWordMask = (int) (valueMask << valueShift);
+        this.middleWordMask = (int) ((valueMask << valueShift) >>> 32);
+        this.highWordMask = valueShift == 0 ? 0 : (int) (valueMask >>> (64 - valueShift));
     }
 
     /**
@@ -69,8 +111,144 @@ public abstract class BitEncoder implements Encoder {
         return bitShift;
     }
 
+    /**
+     * Number of records that fit into a single block of the underlying store. Consecutive records of that count share
+     * the same memory block, so it is a natural unit for per-block summaries
+     *
+     * @return records per store block, at least 1
+     */
+    public int recordsPerBlock() {
+        return store.isRecordAligned() ? store.recordsPerBlock() : Math.max(1, store.blockSize() / recordSize);
+    }
+
+    /**
+     * Index of the first word of this encoder's data in the store. Addressing mode is chosen once, when the encoder is
+     * created, and expressed as blocks of records: records of power of two size are single record blocks addressed with
+     * shift, records of record aligned store use store blocks and other records are in one block addressed with
+     * multiplication. The computation itself has no branches
+     *
+     * @param position index of the record
+     * @return store index
+     */
     protected long storeIndex(long position) {
-        return position * recordSize + positionInRecord;
+        return ((position >>> blockRecordsBits) << blockShift) + (position & recordMask) * recordSize + positionInRecord;
+    }
+
+    /**
+     * Returns whether all the words holding this encoder's value of the record are allocated in the store. Store
+     * allocates blocks only when they are written, so reading value of the record that was never written, and that is
+     * beyond the last written block, fails
+     *
+     * @param position index of the record
+     * @return whether value can be read
+     */
+    protected boolean isAllocated(long position) {
+        return storeIndex(position) + valueIndex + valueWords <= store.size();
+    }
+
+    /**
+     * Reads long stored in two consecutive words of the record. If records never cross store blocks, block boundary
+     * is not checked
+     *
+     * @param position index of the record
+     * @return long value
+     */
+    protected long readLong(long position) {
+        return longAccess.get(store, storeIndex(position));
+    }
+
+    /**
+     * Writes long to two consecutive words of the record. If records never cross store blocks, block boundary is not
+     * checked
+     *
+     * @param position index of the record
+     * @param value    long value
+     */
+    protected void writeLong(long position, long value) {
+        longAccess.set(store, storeIndex(position), value);
+    }
+
+    /**
+     * Reads up to 32 bits of this encoder's data. Bits may span two consecutive words of the record
+     *
+     * @param position index of the record
+     * @param offset   position of the first bit, relative to the first bit of this encoder's data
+     * @param count    number of bits to read, from 1 to 32
+     * @return unsigned value
+     */
+    protected long readBits(long position, int offset, int count) {
+        int bit = bitShift + offset;
+        long index = storeIndex(position) + (bit >>> 5);
+        int shift = bit & 0b11111;
+        long mask = (1L << count) - 1;
+
+        long value = (store.getInt(index) & 0xffffffffL) >>> shift;
+        if (shift + count > 32) {
+            value |= (store.getInt(index + 1) & 0xffffffffL) << (32 - shift);
+        }
+        return value & mask;
+    }
+
+    /**
+     * Writes up to 32 bits of this encoder's data. Bits may span two consecutive words of the record
+     *
+     * @param position index of the record
+     * @param offset   position of the first bit, relative to the first bit of this encoder's data
+     * @param count    number of bits to write, from 1 to 32
+     * @param value    unsigned value
+     */
+    protected void writeBits(long position, int offset, int count, long value) {
+        int bit = bitShift + offset;
+        long index = storeIndex(position) + (bit >>> 5);
+        int shift = bit & 0b11111;
+        long mask = (1L << count) - 1;
+
+        store.setPartialInt(index, (int) (value << shift), (int) (mask << shift));
+        if (shift + count > 32) {
+            store.setPartialInt(index + 1, (int) (value >>> (32 - shift)), (int) (mask >>> (32 - shift)));
+        }
+    }
+
+    /**
+     * Reads all the bits of this encoder's data, up to 64 bits. Bits may span three consecutive words of the record.
+     * Number of spanned words is known upfront, so two words are read as a single long, without per bit branches
+     *
+     * @param position index of the record
+     * @return unsigned value
+     */
+    protected long readValue(long position) {
+        long index = storeIndex(position) + valueIndex;
+        switch (valueWords) {
+            case 1:
+                return ((store.getInt(index) & 0xffffffffL) >>> valueShift) & valueMask;
+            case 2:
+                return (littleEndianLong(index) >>> valueShift) & valueMask;
+            default:
+                return ((littleEndianLong(index) >>> valueShift) | ((long) store.getInt(index + 2) << (64 - valueShift))) & valueMask;
+        }
+    }
+
+    /**
+     * Writes all the bits of this encoder's data, up to 64 bits. Bits may span three consecutive words of the record
+     *
+     * @param position index of the record
+     * @param value    unsigned value
+     */
+    protected void writeValue(long position, long value) {
+        long index = storeIndex(position) + valueIndex;
+        long shifted = value << valueShift;
+
+        store.setPartialInt(index, (int) shifted, lowWordMask);
+        if (valueWords > 1) {
+            store.setPartialInt(index + 1, (int) (shifted >>> 32), middleWordMask);
+        }
+        if (valueWords > 2) {
+            store.setPartialInt(index + 2, (int) (value >>> (64 - valueShift)), highWordMask);
+        }
+    }
+
+    private long littleEndianLong(long index) {
+        return Long.rotateLeft(longAccess.get(store, index), 32);
     }
 
     protected abstract int minBits();
@@ -92,6 +270,40 @@ public abstract class BitEncoder implements Encoder {
         return Objects.hash(store, recordSize, positionInRecord, bitsCount, bitShift);
     }
 
+    /**
+     * Access to longs stored in two consecutive words of the record. Chosen once, when the encoder is created: records
+     * of record aligned store, or of store which block size is a multiple of the record size, never cross the block
+     * boundary, so the block is resolved once and not checked. Other records may cross it
+     */
+    private enum LongAccess {
+        IN_BLOCK {
+            @Override
+            long get(IntStore store, long index) {
+                return store.getLongInBlock(index);
+            }
+
+            @Override
+            void set(IntStore store, long index, long value) {
+                store.setLongInBlock(index, value);
+            }
+        },
+        ACROSS_BLOCKS {
+            @Override
+            long get(IntStore store, long index) {
+                return store.getLong(index);
+            }
+
+            @Override
+            void set(IntStore store, long index, long value) {
+                store.setLong(index, value);
+            }
+        };
+
+        abstract long get(IntStore store, long index);
+
+        abstract void set(IntStore store, long index, long value);
+    }
+
     /**
      * Let's say our full record contains four bytes and our data is located on second byte on bits indexed [12, 16]
      * <pre>
@@ -0,0 +1,251 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Stores fixed point decimal number on 1-62 bits of memory. Decimal is stored as the unscaled integer
+ * {@code value * 10^scale}, shifted by the min value, so number of bits depends only on the number of possible values.
+ * For example, prices from 0 to 100000 with 2 decimal places take 24 bits.
+ * <br>
+ * <p>
+ * Values can be accessed as {@link BigDecimal}, as double or as unscaled long. Double and unscaled accessors do not
+ * create any objects, so they should be used for scans, aggregations and sorting
+ */
+public class DecimalEncoder extends BitEncoder {
+
+    public static final int MIN_BIT_COUNT = 1;
+    public static final int MAX_BIT_COUNT = 62;
+    public static final int MAX_LAST_BIT = 96;
+
+    public static final int MIN_SCALE = 0;
+    public static final int MAX_SCALE = 18;
+
+    private static final long[] POWERS_OF_TEN = powersOfTen();
+
+    private final int scale;
+    private final long minUnscaled;
+    private final long maxUnscaled;
+    private final BigDecimal minValue;
+    private final BigDecimal maxValue;
+    private final double scaleFactor;
+    private final String incorrectValueException;
+
+    /**
+     * Constructor
+     *
+     * @param config      configuration describing memory layout
+     * @param scale       number of decimal places
+     * @param minUnscaled min value that can be stored in this encoder, multiplied by {@code 10^scale}
+     */
+    public DecimalEncoder(Config config, int scale, long minUnscaled) {
+        super(config);
+        assertArgument(scale >= MIN_SCALE && scale <= MAX_SCALE, "Scale must be between %d and %d", MIN_SCALE, MAX_SCALE);
+
+        long maxUnscaled = minUnscaled + (1L << this.bitsCount) - 1;
+        this.scale = scale;
+        this.minUnscaled = minUnscaled;
+        this.maxUnscaled = maxUnscaled < minUnscaled ? Long.MAX_VALUE : maxUnscaled;
+        this.minValue = BigDecimal.valueOf(this.minUnscaled, scale);
+        this.maxValue = BigDecimal.valueOf(this.maxUnscaled, scale);
+        this.scaleFactor = POWERS_OF_TEN[scale];
+        this.incorrectValueException = String.format("Value must be between [%s, %s]",
+                this.minValue.toPlainString(), this.maxValue.toPlainString());
+    }
+
+    /**
+     * @return number of decimal places
+     */
+    public int scale() {
+        return scale;
+    }
+
+    /**
+     * @return min value that can be stored in this encoder
+     */
+    public BigDecimal minValue() {
+        return minValue;
+    }
+
+    /**
+     * @return max value that can be stored in this encoder
+     */
+    public BigDecimal maxValue() {
+        return maxValue;
+    }
+
+    /**
+     * @return min value that can be stored in this encoder, multiplied by {@code 10^scale}
+     */
+    public long minUnscaled() {
+        return minUnscaled;
+    }
+
+    /**
+     * @return max value that can be stored in this encoder, multiplied by {@code 10^scale}
+     */
+    public long maxUnscaled() {
+        return maxUnscaled;
+    }
+
+    /**
+     * Returns decimal from given index
+     *
+     * @param position index of the record
+     * @return decimal value
+     */
+    public BigDecimal get(long position) {
+        return BigDecimal.valueOf(getUnscaled(position), scale);
+    }
+
+    /**
+     * Sets decimal for record of given index. Value cannot have more decimal places than the scale of this encoder
+     *
+     * @param position index of the record
+     * @param value    decimal value
+     */
+    public void set(long position, BigDecimal value) {
+        assertArgument(value.stripTrailingZeros().scale() <= scale, "Value %s has more than %d decimal places", value, scale);
+        assertArgument(value.compareTo(minValue) >= 0 && value.compareTo(maxValue) <= 0, incorrectValueException);
+
+        setUnscaled(position, value.setScale(scale).unscaledValue().longValue());
+    }
+
+    /**
+     * Returns decimal from given index as the closest double
+     *
+     * @param position index of the record
+     * @return double value
+     */
+    public double getDouble(long position) {
+        return getUnscaled(position) / scaleFactor;
+    }
+
+    /**
+     * Sets decimal for record of given index. Value is rounded to the closest decimal with the scale of this encoder,
+     * ties are rounded to the even neighbour. Rounding is done on the exact binary value of the double, so 1.005, which
+     * is 1.00499999999999989... in binary, is rounded down
+     *
+     * @param position index of the record
+     * @param value    double value
+     */
+    public void setDouble(long position, double value) {
+        assertArgument(Double.isFinite(value), incorrectValueException);
+        double unscaled = roundHalfEven(value);
+        assertArgument(unscaled >= minUnscaled && unscaled <= maxUnscaled, incorrectValueException);
+
+        setUnscaled(position, (long) unscaled);
+    }
+
+    /**
+     * Returns decimal from given index, multiplied by {@code 10^scale}
+     *
+     * @param position index of the record
+     * @return unscaled value
+     */
+    public long getUnscaled(long position) {
+        return readValue(position) + minUnscaled;
+    }
+
+    /**
+     * Sets decimal for record of given index
+     *
+     * @param position index of the record
+     * @param unscaled decimal value multiplied by {@code 10^scale}
+     */
+    public void setUnscaled(long position, long unscaled) {
+        assertArgument(unscaled >= minUnscaled && unscaled <= maxUnscaled, incorrectValueException);
+        writeValue(position, unscaled - minUnscaled);
+    }
+
+    /**
+     * Sums decimals of records in range [fromPosition, toPosition) without creating {@link BigDecimal} per record
+     *
+     * @param fromPosition first record position, inclusive
+     * @param toPosition   last record position, exclusive
+     * @return sum multiplied by {@code 10^scale}
+     * @throws ArithmeticException if the sum overflows long
+     */
+    public long sumUnscaled(long fromPosition, long toPosition) {
+        assertArgument(fromPosition >= 0 && fromPosition <= toPosition, "Incorrect range [%d, %d)", fromPosition, toPosition);
+
+        long sum = 0L;
+        for (long position = fromPosition; position < toPosition; position++) {
+            sum = Math.addExact(sum, getUnscaled(position));
+        }
+        return sum;
+    }
+
+    /**
+     * Sums decimals of records in range [fromPosition, toPosition)
+     *
+     * @param fromPosition first record position, inclusive
+     * @param toPosition   last record position, exclusive
+     * @return sum
+     * @throws ArithmeticException if the sum overflows long
+     */
+    public BigDecimal sum(long fromPosition, long toPosition) {
+        return BigDecimal.valueOf(sumUnscaled(fromPosition, toPosition), scale);
+    }
+
+    @Override
+    protected int minBits() {
+        return MIN_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return MAX_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+
+    /**
+     * Rounds {@code value * 10^scale} half to even. Product of doubles is rounded, so it can land exactly on the tie
+     * while the exact product is above or below it. In that case the exact residual of the product, computed with fma,
+     * decides the direction. Scale factor is a power of ten up to 10^18, so it is exact as double
+     */
+    private double roundHalfEven(double value) {
+        double scaled = value * scaleFactor;
+        double rounded = Math.rint(scaled);
+        double difference = scaled - rounded;
+        if (difference == 0.5d || difference == -0.5d) {
+            double residual = Math.fma(value, scaleFactor, -scaled);
+            if (difference > 0 && residual > 0) {
+                return rounded + 1;
+            }
+            if (difference < 0 && residual < 0) {
+                return rounded - 1;
+            }
+        }
+        return rounded;
+    }
+
+    private static long[] powersOfTen() {
+        long[] powers = new long[MAX_SCALE + 1];
+        powers[0] = 1L;
+        for (int i = 1; i < powers.length; i++) {
+            powers[i] = powers[i - 1] * 10;
+        }
+        return powers;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        DecimalEncoder that = (DecimalEncoder) o;
+        return scale == that.scale && minUnscaled == that.minUnscaled;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), scale, minUnscaled);
+    }
+}
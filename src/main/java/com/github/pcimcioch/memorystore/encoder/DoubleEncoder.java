@@ -25,7 +25,7 @@ public class DoubleEncoder extends BitEncoder {
      * @return double value
      */
     public double get(long position) {
-        return longBitsToDouble(store.getLong(storeIndex(position)));
+        return longBitsToDouble(readLong(position));
     }
 
     /**
@@ -35,7 +35,7 @@ public class DoubleEncoder extends BitEncoder {
      * @param value    double value
      */
     public void set(long position, double value) {
-        store.setLong(storeIndex(position), doubleToRawLongBits(value));
+        writeLong(position, doubleToRawLongBits(value));
     }
 
     @Override
@@ -0,0 +1,374 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Allows to connect records in an ordered cyclic list, the same way as {@link ListEncoder}.
+ * Each element stores both next and previous element, so finding previous element, adding previous element, removing
+ * elements and splicing parts of the lists take constant time. This comes at the cost of twice as many bits per record.
+ * Half of the bits is used to store next element and the other half to store previous element. The header may span
+ * two consecutive words.
+ * <br>
+ * <p>
+ * It is very important that each new record must be either initialized using {@link #init(long)} method, or added to the
+ * existing list using {@link #addNext(long, long)} or {@link #addPrevious(long, long)}
+ */
+public class DoublyLinkedListEncoder extends BitEncoder implements RecordLinkEncoder {
+
+    public static final int MIN_BIT_COUNT = 2;
+    public static final int MAX_BIT_COUNT = 62;
+    public static final int MAX_LAST_BIT = 64;
+
+    private final int pointerBits;
+    private final long maxValue;
+    private final String incorrectValueException;
+
+    /**
+     * {@inheritDoc}
+     */
+    public DoublyLinkedListEncoder(BitEncoder.Config config) {
+        super(config);
+        assertArgument(this.bitsCount % 2 == 0, "Bits Count must be even");
+
+        this.pointerBits = this.bitsCount / 2;
+        this.maxValue = (1L << this.pointerBits) - 1;
+        this.incorrectValueException = String.format("Value must be between [0, %d]", this.maxValue);
+    }
+
+    /**
+     * Initializes new list. It will be one element list.
+     *
+     * @param elementPosition position to initialize
+     */
+    public void init(long elementPosition) {
+        link(elementPosition, elementPosition);
+    }
+
+    /**
+     * Adds new element to the list on next position.
+     * Element that is added to the list doesn't need to be initialized.
+     * Element that is added to the list can't be part of another list. It can only be uninitialized or be in one-element list.
+     * If you need to move an element from one list to another, first remove it using {@link #remove(long)}.
+     * <br>
+     * <p>
+     * For example, for list:
+     * <pre>
+     *     0 &lt;-&gt; 1 &lt;-&gt; 2 &lt;-&gt; 3 &lt;-&gt; 4 &lt;-&gt; 5
+     *     addNext(2, 6)
+     * </pre>
+     * Will create list:
+     * <pre>
+     *     0 &lt;-&gt; 1 &lt;-&gt; 2 &lt;-&gt; 6 &lt;-&gt; 3 &lt;-&gt; 4 &lt;-&gt; 5
+     * </pre>
+     *
+     * @param listPosition        position of existing list
+     * @param nextElementPosition element to add
+     */
+    public void addNext(long listPosition, long nextElementPosition) {
+        long next = next(listPosition);
+
+        link(listPosition, nextElementPosition);
+        link(nextElementPosition, next);
+    }
+
+    /**
+     * Adds new element to the list on previous position.
+     * Element that is added to the list doesn't need to be initialized.
+     * Element that is added to the list can't be part of another list. If you need to move an element from one list to another,
+     * first remove it using {@link #remove(long)}.
+     * <br>
+     * <p>
+     * For example, for list:
+     * <pre>
+     *     0 &lt;-&gt; 1 &lt;-&gt; 2 &lt;-&gt; 3 &lt;-&gt; 4 &lt;-&gt; 5
+     *     addPrevious(2, 6)
+     * </pre>
+     * Will create list:
+     * <pre>
+     *     0 &lt;-&gt; 1 &lt;-&gt; 6 &lt;-&gt; 2 &lt;-&gt; 3 &lt;-&gt; 4 &lt;-&gt; 5
+     * </pre>
+     *
+     * @param listPosition            position of existing list
+     * @param previousElementPosition element to add
+     */
+    public void addPrevious(long listPosition, long previousElementPosition) {
+        long previous = previous(listPosition);
+
+        link(previous, previousElementPosition);
+        link(previousElementPosition, listPosition);
+    }
+
+    /**
+     * Removes element from its current list. The removed element will create new, one element list.
+     * After element was removed it can be safely added to different list.
+     * <br>
+     * <p>
+     * For example, for list:
+     * <pre>
+     *     0 &lt;-&gt; 1 &lt;-&gt; 2 &lt;-&gt; 3 &lt;-&gt; 4 &lt;-&gt; 5
+     *     remove(2)
+     * </pre>
+     * Will create two lists:
+     * <pre>
+     *     0 &lt;-&gt; 1 &lt;-&gt; 3 &lt;-&gt; 4 &lt;-&gt; 5
+     *     2
+     * </pre>
+     *
+     * @param listPosition element to remove
+     */
+    public void remove(long listPosition) {
+        link(previous(listPosition), next(listPosition));
+        link(listPosition, listPosition);
+    }
+
+    /**
+     * Merges two lists.
+     * <br>
+     * <p>
+     * For example, for lists:
+     * <pre>
+     *     0 &lt;-&gt; 1 &lt;-&gt; 2
+     *     3 &lt;-&gt; 4
+     *     merge(1, 3)
+     * </pre>
+     * Will create one list:
+     * <pre>
+     *     0 &lt;-&gt; 1 &lt;-&gt; 3 &lt;-&gt; 4 &lt;-&gt; 2
+     * </pre>
+     *
+     * @param firstListPosition  first list element
+     * @param secondListPosition second list element
+     */
+    public void merge(long firstListPosition, long secondListPosition) {
+        long firstNext = next(firstListPosition);
+        long secondPrevious = previous(secondListPosition);
+
+        link(firstListPosition, secondListPosition);
+        link(secondPrevious, firstNext);
+    }
+
+    /**
+     * Moves range of elements after given element. The range starts at firstPosition and follows next elements up to
+     * lastPosition inclusive. The range is removed from its current list. Element listPosition can be part of the same
+     * list as the range, or a different list, but it can't be part of the range itself.
+     * <br>
+     * <p>
+     * For example, for lists:
+     * <pre>
+     *     0 &lt;-&gt; 1 &lt;-&gt; 2 &lt;-&gt; 3 &lt;-&gt; 4
+     *     5 &lt;-&gt; 6
+     *     splice(5, 1, 3)
+     * </pre>
+     * Will create lists:
+     * <pre>
+     *     0 &lt;-&gt; 4
+     *     5 &lt;-&gt; 1 &lt;-&gt; 2 &lt;-&gt; 3 &lt;-&gt; 6
+     * </pre>
+     *
+     * @param listPosition  element after which the range is inserted
+     * @param firstPosition first element of the range
+     * @param lastPosition  last element of the range
+     */
+    public void splice(long listPosition, long firstPosition, long lastPosition) {
+        link(previous(firstPosition), next(lastPosition));
+
+        long next = next(listPosition);
+        link(listPosition, firstPosition);
+        link(lastPosition, next);
+    }
+
+    /**
+     * Return next element in the list. For one element lists, it will return passed listPosition.
+     * For uninitialized elements, behaviour is undefined
+     *
+     * @param listPosition element position
+     * @return next element
+     */
+    public long next(long listPosition) {
+        return readBits(listPosition, 0, pointerBits);
+    }
+
+    /**
+     * Return previous element in the list. For one element lists, it will return passed listPosition.
+     * For uninitialized elements, behaviour is undefined
+     *
+     * @param listPosition element position
+     * @return previous element
+     */
+    public long previous(long listPosition) {
+        return readBits(listPosition, pointerBits, pointerBits);
+    }
+
+    /**
+     * Returns iterator that can be used to traverse whole list. Even though the list is circular, the iterator will stop
+     * after traversing all elements.
+     * This iterator supports deleting elements from the list. See {@link #remove(long)} for details on what it means to
+     * remove an element from the list.
+     *
+     * @param listPosition position to start iteration
+     * @return iterator
+     */
+    public ListIterator iterator(long listPosition) {
+        return new ListIterator(listPosition);
+    }
+
+    /**
+     * Returns iterable that can be used to traverse whole list. Even though the list is circular, the iterator
+     * returned by this iterable will stop after traversing all elements.
+     *
+     * @param listPosition position to start iteration
+     * @return iterable
+     */
+    public Iterable<Long> iterable(long listPosition) {
+        return () -> iterator(listPosition);
+    }
+
+    /**
+     * Returns stream that can be used to traverse whole list. Even though the list is circular, the stream
+     * will stop after traversing all elements.
+     *
+     * @param listPosition position to start iteration
+     * @return stream
+     */
+    public LongStream stream(long listPosition) {
+        return StreamSupport.longStream(new ListSpliterator(listPosition), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remapLinks(long position, LongUnaryOperator mapping) {
+        long next = mapping.applyAsLong(next(position));
+        long previous = mapping.applyAsLong(previous(position));
+
+        setNext(position, next);
+        setPrevious(position, previous);
+    }
+
+    private void link(long position, long next) {
+        setNext(position, next);
+        setPrevious(next, position);
+    }
+
+    private void setNext(long position, long value) {
+        assertArgument(value >= 0 && value <= maxValue, incorrectValueException);
+        writeBits(position, 0, pointerBits, value);
+    }
+
+    private void setPrevious(long position, long value) {
+        assertArgument(value >= 0 && value <= maxValue, incorrectValueException);
+        writeBits(position, pointerBits, pointerBits, value);
+    }
+
+    @Override
+    protected int minBits() {
+        return MIN_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return MAX_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+
+    public final class ListIterator implements Iterator<Long> {
+
+        private long startingPosition;
+        private long currentPosition;
+        private long nextPosition;
+
+        private ListIterator(long startingPosition) {
+            this.startingPosition = startingPosition;
+            this.currentPosition = -1;
+            this.nextPosition = startingPosition;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return currentPosition == -1 || nextPosition != startingPosition;
+        }
+
+        /**
+         * @return next value
+         * @deprecated If possible, use primitive version {@link #nextLong()}
+         */
+        @Override
+        @Deprecated
+        public Long next() {
+            return nextLong();
+        }
+
+        public long nextLong() {
+            currentPosition = nextPosition;
+            nextPosition = DoublyLinkedListEncoder.this.next(currentPosition);
+            return currentPosition;
+        }
+
+        @Override
+        public void remove() {
+            if (currentPosition < 0) {
+                throw new IllegalStateException();
+            }
+
+            DoublyLinkedListEncoder.this.remove(currentPosition);
+
+            if (currentPosition == startingPosition && hasNext()) {
+                startingPosition = nextPosition;
+                currentPosition = -1;
+            }
+        }
+    }
+
+    public final class ListSpliterator implements Spliterator.OfLong {
+
+        private final long startingPosition;
+        private long currentPosition;
+        private long nextPosition;
+
+        private ListSpliterator(long startingPosition) {
+            this.startingPosition = startingPosition;
+            this.currentPosition = -1L;
+            this.nextPosition = startingPosition;
+        }
+
+        @Override
+        public OfLong trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (currentPosition != -1 && nextPosition == startingPosition) {
+                return false;
+            }
+
+            currentPosition = nextPosition;
+            nextPosition = DoublyLinkedListEncoder.this.next(currentPosition);
+
+            action.accept(currentPosition);
+            return true;
+        }
+    }
+}
@@ -40,8 +40,17 @@ public class EnumEncoder<E extends Enum<E>> extends EnumEncoderBase<E> {
      * @return enum value
      */
     public E get(long position) {
-        int valueIndex = (store.getInt(storeIndex(position)) & mask) >>> bitShift;
-        return valueOf(valueIndex);
+        return valueOf(getIndex(position));
+    }
+
+    /**
+     * Returns index of the enum stored in given record, without creating enum value
+     *
+     * @param position index of the record
+     * @return enum value index
+     */
+    public int getIndex(long position) {
+        return (store.getInt(storeIndex(position)) & mask) >>> bitShift;
     }
 
     /**
@@ -31,7 +31,13 @@ public abstract class EnumEncoderBase<E extends Enum<E>> extends BitEncoder {
         this.enumIndexer = requireNonNull(enumIndexer, "Enum Indexer cannot be null");
     }
 
-    protected int indexOf(E value) {
+    /**
+     * Returns index under which given enum value is stored
+     *
+     * @param value enum value
+     * @return value index
+     */
+    public int indexOf(E value) {
         return enumIndexer.apply(value);
     }
 
@@ -0,0 +1,120 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import static java.lang.Float.floatToRawIntBits;
+import static java.lang.Float.intBitsToFloat;
+
+/**
+ * Stores floating point number {@link Float} on 16 bits of memory, in IEEE 754 half precision (binary16) format. It
+ * has 11 bits of precision and range of about [-65504, 65504]. Values are rounded to the nearest representable half
+ * precision number. Values too big to be represented are stored as infinity, values too small as zero
+ */
+public class HalfFloatEncoder extends BitEncoder {
+
+    public static final int BIT_COUNT = 16;
+    public static final int MAX_LAST_BIT = 32;
+
+    private final int mask;
+
+    /**
+     * {@inheritDoc}
+     */
+    public HalfFloatEncoder(Config config) {
+        super(config);
+        this.mask = 65535 << this.bitShift;
+    }
+
+    /**
+     * Returns float from given index
+     *
+     * @param position index of the record
+     * @return float value
+     */
+    public float get(long position) {
+        return toFloat((store.getInt(storeIndex(position)) & mask) >>> bitShift);
+    }
+
+    /**
+     * Sets float for record of given index. Value is rounded to the nearest half precision number
+     *
+     * @param position index of the record
+     * @param value    float value
+     */
+    public void set(long position, float value) {
+        store.setPartialInt(storeIndex(position), toHalf(value) << bitShift, mask);
+    }
+
+    /**
+     * Converts float to the half precision bits. Rounds to the nearest value, ties to even
+     *
+     * @param value float value
+     * @return half precision bits, on the lowest 16 bits
+     */
+    public static int toHalf(float value) {
+        int bits = floatToRawIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exponent = ((bits >>> 23) & 0xff) - 127 + 15;
+        int mantissa = bits & 0x7fffff;
+
+        if (exponent == 0xff - 127 + 15) {
+            return sign | 0x7c00 | (mantissa == 0 ? 0 : 0x200 | (mantissa >>> 13));
+        }
+        if (exponent >= 0x1f) {
+            return sign | 0x7c00;
+        }
+        if (exponent <= 0) {
+            if (exponent < -10) {
+                return sign;
+            }
+            return sign | roundShift(mantissa | 0x800000, 14 - exponent);
+        }
+
+        // rounding may carry into the exponent, which is still correct, up to infinity
+        return sign | ((exponent << 10) + roundShift(mantissa, 13));
+    }
+
+    /**
+     * Converts half precision bits to float. Conversion is exact
+     *
+     * @param half half precision bits, on the lowest 16 bits
+     * @return float value
+     */
+    public static float toFloat(int half) {
+        int sign = (half & 0x8000) << 16;
+        int exponent = (half >>> 10) & 0x1f;
+        int mantissa = half & 0x3ff;
+
+        if (exponent == 0x1f) {
+            return intBitsToFloat(sign | 0x7f800000 | (mantissa << 13));
+        }
+        if (exponent == 0) {
+            float subnormal = mantissa * 0x1p-24f;
+            return sign == 0 ? subnormal : -subnormal;
+        }
+        return intBitsToFloat(sign | ((exponent + 127 - 15) << 23) | (mantissa << 13));
+    }
+
+    private static int roundShift(int value, int shift) {
+        int result = value >>> shift;
+        int remainder = value & ((1 << shift) - 1);
+        int halfway = 1 << (shift - 1);
+        if (remainder > halfway || (remainder == halfway && (result & 1) != 0)) {
+            result++;
+        }
+        return result;
+    }
+
+    @Override
+    protected int minBits() {
+        return BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+}
@@ -0,0 +1,388 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.store.IntStore;
+
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongUnaryOperator;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * HashIndexEncoder maps long keys to the record positions, like the {@code Map<Long, Integer>}, but without boxing and
+ * entry objects. Map is an open addressing hash table with linear probing. Its slots are stored in a separate store,
+ * each slot takes 3 ints: the key and the record position. Table is doubled and rehashed when it is filled in 75%, and
+ * removed keys are not left as tombstones: following keys are shifted back instead.
+ * <br>
+ * <p>
+ * Reads take the read lock, so they can be done concurrently with each other, but not with writes. Writes are
+ * exclusive.
+ * <br>
+ * <p>
+ * Positions stored in the map are remapped by {@link #remapAllLinks(long, LongUnaryOperator)} when the table is
+ * reordered. Keys are not changed, so entries stay in their slots
+ */
+public class HashIndexEncoder implements RecordLinkEncoder {
+
+    /**
+     * Returned when the key is not present in the map
+     */
+    public static final long NONE = -1L;
+
+    /**
+     * Maximum record position that can be stored in the map
+     */
+    public static final long MAX_POSITION = 0xFFFFFFFEL;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private static final int SIZE_INDEX = 0;
+    private static final int CAPACITY_INDEX = 1;
+    private static final int SLOTS_OFFSET = 2;
+    private static final int SLOT_SIZE = 3;
+    private static final int POSITION_OFFSET = 2;
+
+    private final IntStore store;
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * Constructor
+     *
+     * @param store structure to store slots of the map
+     */
+    public HashIndexEncoder(IntStore store) {
+        this.store = requireNonNull(store, "Store cannot be null");
+    }
+
+    /**
+     * Returns position of the record stored for the key
+     *
+     * @param key key
+     * @return record position or {@link #NONE} if key is not present
+     */
+    public long get(long key) {
+        long stamp = lock.readLock();
+        try {
+            return find(key);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns whether the key is present in the map
+     *
+     * @param key key
+     * @return whether key is present
+     */
+    public boolean containsKey(long key) {
+        return get(key) != NONE;
+    }
+
+    /**
+     * Stores record position for the key
+     *
+     * @param key      key
+     * @param position record position
+     * @return previous record position stored for the key or {@link #NONE} if key was not present
+     */
+    public long put(long key, long position) {
+        assertArgument(position >= 0 && position <= MAX_POSITION, "Position must be between 0 and %d", MAX_POSITION);
+
+        long stamp = lock.writeLock();
+        try {
+            return insert(key, position);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the key from the map
+     *
+     * @param key key
+     * @return record position stored for the key or {@link #NONE} if key was not present
+     */
+    public long remove(long key) {
+        long stamp = lock.writeLock();
+        try {
+            return delete(key);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all the keys. Allocated slots are kept
+     */
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            clearSlots();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Replaces content of the map with keys of given records. If multiple records have the same key, the last one
+     * is stored
+     *
+     * @param recordsCount number of records, starting from 0th
+     * @param key          function returning key of the record for its position
+     */
+    public void rebuild(long recordsCount, LongUnaryOperator key) {
+        assertArgument(recordsCount >= 0 && recordsCount <= MAX_POSITION + 1, "Records count must be between 0 and %d", MAX_POSITION + 1);
+
+        long stamp = lock.writeLock();
+        try {
+            clearSlots();
+            int capacity = capacityFor(recordsCount);
+            if (capacity > storedCapacity()) {
+                resize(capacity);
+            }
+            for (long position = 0; position < recordsCount; position++) {
+                insert(key.applyAsLong(position), position);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns number of keys in the map
+     *
+     * @return size
+     */
+    public long size() {
+        long stamp = lock.readLock();
+        try {
+            return storedSize();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns whether the map is empty
+     *
+     * @return whether there are no keys
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns number of allocated slots
+     *
+     * @return capacity
+     */
+    public long capacity() {
+        long stamp = lock.readLock();
+        try {
+            return storedCapacity();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Hash index does not store any links in the records. All the positions are remapped by
+     * {@link #remapAllLinks(long, LongUnaryOperator)}
+     */
+    @Override
+    public void remapLinks(long position, LongUnaryOperator mapping) {
+    }
+
+    /**
+     * Replaces all record positions stored in the map with positions returned by the mapping
+     *
+     * @param recordsCount number of records, starting from 0th
+     * @param mapping      function returning new position of the record for its old position
+     */
+    @Override
+    public void remapAllLinks(long recordsCount, LongUnaryOperator mapping) {
+        long stamp = lock.writeLock();
+        try {
+            int capacity = storedCapacity();
+            for (int slot = 0; slot < capacity; slot++) {
+                long position = positionAt(slot);
+                if (position != NONE) {
+                    write(slot, keyAt(slot), mapping.applyAsLong(position));
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private long find(long key) {
+        int capacity = storedCapacity();
+        if (capacity == 0) {
+            return NONE;
+        }
+
+        int slot = probe(key, capacity);
+        return slot < 0 ? NONE : positionAt(slot);
+    }
+
+    private long insert(long key, long position) {
+        int capacity = storedCapacity();
+        int size = storedSize();
+        int slot = capacity == 0 ? -1 : probe(key, capacity);
+        if (slot >= 0 && positionAt(slot) != NONE) {
+            long previous = positionAt(slot);
+            write(slot, key, position);
+            return previous;
+        }
+
+        // only new key can grow the map
+        if ((long) (size + 1) * 4 > (long) capacity * 3) {
+            assertState(capacity < MAX_CAPACITY);
+            capacity = capacity == 0 ? MIN_CAPACITY : capacity * 2;
+            resize(capacity);
+            slot = probe(key, capacity);
+        }
+        store.setInt(SIZE_INDEX, size + 1);
+        write(slot, key, position);
+
+        return NONE;
+    }
+
+    private long delete(long key) {
+        int capacity = storedCapacity();
+        if (capacity == 0) {
+            return NONE;
+        }
+
+        int slot = probe(key, capacity);
+        long removed = positionAt(slot);
+        if (removed == NONE) {
+            return NONE;
+        }
+
+        int mask = capacity - 1;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; positionAt(next) != NONE; next = (next + 1) & mask) {
+            long nextKey = keyAt(next);
+            int home = home(nextKey, capacity);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                write(hole, nextKey, positionAt(next));
+                hole = next;
+            }
+        }
+        write(hole, 0L, NONE);
+        store.setInt(SIZE_INDEX, storedSize() - 1);
+
+        return removed;
+    }
+
+    private void resize(int capacity) {
+        int oldCapacity = storedCapacity();
+        int size = storedSize();
+        long[] keys = new long[size];
+        long[] positions = new long[size];
+        int count = 0;
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            long position = positionAt(slot);
+            if (position != NONE) {
+                keys[count] = keyAt(slot);
+                positions[count++] = position;
+                write(slot, 0L, NONE);
+            }
+        }
+
+        // allocate all the slots before they can be probed
+        store.setInt(slotIndex(capacity) - 1, 0);
+        store.setInt(CAPACITY_INDEX, capacity);
+        for (int i = 0; i < count; i++) {
+            write(probe(keys[i], capacity), keys[i], positions[i]);
+        }
+    }
+
+    private void clearSlots() {
+        int capacity = storedCapacity();
+        for (int slot = 0; slot < capacity; slot++) {
+            write(slot, 0L, NONE);
+        }
+        if (capacity > 0) {
+            store.setInt(SIZE_INDEX, 0);
+        }
+    }
+
+    /**
+     * Returns slot holding the key or the empty slot where the key should be inserted. Returns -1 if all the slots
+     * are taken
+     */
+    private int probe(long key, int capacity) {
+        int mask = capacity - 1;
+        int slot = home(key, capacity);
+        for (int i = 0; i < capacity; i++, slot = (slot + 1) & mask) {
+            if (positionAt(slot) == NONE || keyAt(slot) == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private long positionAt(int slot) {
+        return Integer.toUnsignedLong(store.getInt(slotIndex(slot) + POSITION_OFFSET)) - 1;
+    }
+
+    private long keyAt(int slot) {
+        return store.getLong(slotIndex(slot));
+    }
+
+    private void write(int slot, long key, long position) {
+        long index = slotIndex(slot);
+        store.setLong(index, key);
+        store.setInt(index + POSITION_OFFSET, (int) (position + 1));
+    }
+
+    private int storedSize() {
+        return store.size() == 0 ? 0 : store.getInt(SIZE_INDEX);
+    }
+
+    private int storedCapacity() {
+        return store.size() == 0 ? 0 : store.getInt(CAPACITY_INDEX);
+    }
+
+    private static long slotIndex(int slot) {
+        return SLOTS_OFFSET + (long) slot * SLOT_SIZE;
+    }
+
+    private static int home(long key, int capacity) {
+        return (int) ((key * GOLDEN_RATIO) >>> (64 - Integer.numberOfTrailingZeros(capacity)));
+    }
+
+    private static int capacityFor(long keysCount) {
+        long capacity = MIN_CAPACITY;
+        while (keysCount * 4 > capacity * 3) {
+            capacity *= 2;
+        }
+        assertState(capacity <= MAX_CAPACITY);
+        return (int) capacity;
+    }
+
+    private static void assertState(boolean check) {
+        if (!check) {
+            throw new IllegalStateException(String.format("Hash Index cannot hold more than %d keys", MAX_CAPACITY / 4 * 3));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        HashIndexEncoder that = (HashIndexEncoder) o;
+        return store.equals(that.store);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(store);
+    }
+}
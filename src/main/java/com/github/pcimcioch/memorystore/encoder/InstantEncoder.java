@@ -0,0 +1,74 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Stores {@link Instant} with defined granularity on 1-63 bits of memory. Instants are rounded down to the granularity.
+ * For example, instants from 2020 to 2100 with minute granularity take 26 bits
+ * <br>
+ * <p>
+ * Epoch milli and epoch units accessors do not create {@link Instant}, so they should be used for scans
+ */
+public class InstantEncoder extends TemporalEncoderBase {
+
+    /**
+     * Constructor
+     *
+     * @param config        configuration describing memory layout
+     * @param granularity   unit in which instants are stored
+     * @param minEpochUnits min value that can be stored in this encoder, in granularity units since epoch
+     */
+    public InstantEncoder(Config config, ChronoUnit granularity, long minEpochUnits) {
+        super(config, granularity, minEpochUnits);
+    }
+
+    /**
+     * Returns instant from given index
+     *
+     * @param position index of the record
+     * @return instant
+     */
+    public Instant get(long position) {
+        return Instant.ofEpochMilli(getEpochMilli(position));
+    }
+
+    /**
+     * Sets instant for record of given index. Instant is rounded down to the granularity
+     *
+     * @param position index of the record
+     * @param value    instant
+     */
+    public void set(long position, Instant value) {
+        requireNonNull(value, "Value cannot be null");
+        setEpochMilli(position, value.toEpochMilli());
+    }
+
+    /**
+     * Returns instant from given index as milliseconds since 1970-01-01T00:00:00Z
+     *
+     * @param position index of the record
+     * @return epoch milliseconds
+     */
+    public long getEpochMilli(long position) {
+        return getEpochUnits(position) * unitMillis;
+    }
+
+    /**
+     * Sets instant for record of given index as milliseconds since 1970-01-01T00:00:00Z. Value is rounded down to the
+     * granularity
+     *
+     * @param position   index of the record
+     * @param epochMilli epoch milliseconds
+     */
+    public void setEpochMilli(long position, long epochMilli) {
+        setEpochUnits(position, Math.floorDiv(epochMilli, unitMillis));
+    }
+
+    @Override
+    protected String formatEpochUnits(long epochUnits) {
+        return Instant.ofEpochMilli(Math.multiplyExact(epochUnits, unitMillis)).toString();
+    }
+}
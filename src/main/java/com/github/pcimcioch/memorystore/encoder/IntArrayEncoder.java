@@ -0,0 +1,372 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.store.IntStore;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * IntArrayEncoder stores variable length int arrays of the records in a shared arena, instead of {@code int[]} object
+ * per record. Elements of each array are stored next to each other in the arena store. Each record keeps only the
+ * offset of its first element and the length of its array, so there is no object header and nothing is tracked by the
+ * garbage collector.
+ * <br>
+ * <p>
+ * New arrays are appended at the end of the arena. Array that is at the end of the arena grows in place, so building
+ * arrays record by record never copies the elements. Array that has to grow somewhere else is moved to the end of the
+ * arena, and the space it occupied becomes garbage. Garbage is reclaimed by {@link #compact(long)}.
+ * <br>
+ * <p>
+ * Record that was never written has an empty array: its offset and length are 0. That is true also for the records
+ * beyond the memory allocated so far, so all the methods can be used on fresh records.
+ * <br>
+ * <p>
+ * Reads can be done concurrently with each other, but not with writes
+ */
+public class IntArrayEncoder implements Encoder {
+
+    /**
+     * Maximum number of ints that can be stored in the arena, including garbage
+     */
+    public static final long MAX_ARENA_SIZE = Integer.MAX_VALUE;
+
+    private static final int TAIL_INDEX = 0;
+    private static final int GARBAGE_INDEX = 1;
+    private static final int DATA_OFFSET = 2;
+
+    private final IntStore arena;
+    private final UnsignedIntegerEncoder offsetEncoder;
+    private final UnsignedIntegerEncoder lengthEncoder;
+    private final int maxLength;
+
+    /**
+     * Constructor
+     *
+     * @param arena         structure to store elements of all the arrays
+     * @param offsetEncoder encoder that is used to store offset of the first element
+     * @param lengthEncoder encoder that is used to store length of the array
+     */
+    public IntArrayEncoder(IntStore arena, UnsignedIntegerEncoder offsetEncoder, UnsignedIntegerEncoder lengthEncoder) {
+        this.arena = requireNonNull(arena, "Arena Store cannot be null");
+        this.offsetEncoder = requireNonNull(offsetEncoder, "Offset Encoder cannot be null");
+        this.lengthEncoder = requireNonNull(lengthEncoder, "Length Encoder cannot be null");
+        this.maxLength = (1 << lengthEncoder.bitsCount()) - 1;
+    }
+
+    /**
+     * @return max length of the array that can be stored in this encoder
+     */
+    public int maxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Returns length of the array of the record. Record that was never written has an empty array
+     *
+     * @param position index of the record
+     * @return length
+     */
+    public int length(long position) {
+        return lengthEncoder.isAllocated(position) ? lengthEncoder.get(position) : 0;
+    }
+
+    /**
+     * Returns element of the array of the record
+     *
+     * @param position index of the record
+     * @param index    index of the element, from 0 to length - 1
+     * @return element
+     */
+    public int get(long position, int index) {
+        int length = length(position);
+        assertArgument(index >= 0 && index < length, "Index %d outside of array length %d", index, length);
+
+        return arena.getInt((long) offsetEncoder.get(position) + index);
+    }
+
+    /**
+     * Sets element of the array of the record
+     *
+     * @param position index of the record
+     * @param index    index of the element, from 0 to length - 1
+     * @param value    element
+     */
+    public void set(long position, int index, int value) {
+        int length = length(position);
+        assertArgument(index >= 0 && index < length, "Index %d outside of array length %d", index, length);
+
+        arena.setInt((long) offsetEncoder.get(position) + index, value);
+    }
+
+    /**
+     * Returns copy of the array of the record. To read the array without allocation, use
+     * {@link #read(long, int[], int)} or {@link #forEach(long, IntConsumer)}
+     *
+     * @param position index of the record
+     * @return array
+     */
+    public int[] get(long position) {
+        int[] values = new int[length(position)];
+        read(position, values, 0);
+
+        return values;
+    }
+
+    /**
+     * Replaces the array of the record. If new array is not longer than the current one, it is written in place
+     *
+     * @param position index of the record
+     * @param values   elements of the new array
+     */
+    public void set(long position, int[] values) {
+        set(position, values, 0, values.length);
+    }
+
+    /**
+     * Replaces the array of the record with the part of the given array. If new array is not longer than the current
+     * one, it is written in place
+     *
+     * @param position    index of the record
+     * @param values      source of the elements
+     * @param valueOffset index of the first element in the source
+     * @param length      length of the new array
+     */
+    public void set(long position, int[] values, int valueOffset, int length) {
+        assertArgument(valueOffset >= 0 && length >= 0 && valueOffset + length <= values.length,
+                "Range [%d, %d) outside of values length %d", valueOffset, valueOffset + length, values.length);
+        assertArgument(length <= maxLength, "Array length must be between 0 and %d", maxLength);
+
+        long offset = resize(position, length, 0);
+        for (int i = 0; i < length; i++) {
+            arena.setInt(offset + i, values[valueOffset + i]);
+        }
+    }
+
+    /**
+     * Appends element to the array of the record. If the array is at the end of the arena, it grows in place.
+     * Otherwise, it is moved to the end of the arena first
+     *
+     * @param position index of the record
+     * @param value    element
+     */
+    public void append(long position, int value) {
+        int length = length(position);
+        assertArgument(length < maxLength, "Array length must be between 0 and %d", maxLength);
+
+        long offset = resize(position, length + 1, length);
+        arena.setInt(offset + length, value);
+    }
+
+    /**
+     * Removes all elements of the array of the record
+     *
+     * @param position index of the record
+     */
+    public void clear(long position) {
+        resize(position, 0, 0);
+    }
+
+    /**
+     * Copies the array of the record to the buffer
+     *
+     * @param position     index of the record
+     * @param buffer       buffer to copy the elements to
+     * @param bufferOffset index in the buffer of the first copied element
+     * @return length of the array
+     */
+    public int read(long position, int[] buffer, int bufferOffset) {
+        int length = length(position);
+        assertArgument(bufferOffset >= 0 && bufferOffset <= buffer.length && length <= buffer.length - bufferOffset,
+                "Array of length %d does not fit into buffer of length %d at offset %d", length, buffer.length, bufferOffset);
+
+        long offset = offset(position, length);
+        for (int i = 0; i < length; i++) {
+            buffer[bufferOffset + i] = arena.getInt(offset + i);
+        }
+        return length;
+    }
+
+    /**
+     * Calls action for each element of the array of the record, in order
+     *
+     * @param position index of the record
+     * @param action   action to call
+     */
+    public void forEach(long position, IntConsumer action) {
+        int length = length(position);
+        long offset = offset(position, length);
+        long end = offset + length;
+        for (long i = offset; i < end; i++) {
+            action.accept(arena.getInt(i));
+        }
+    }
+
+    /**
+     * Returns stream of elements of the array of the record, in order
+     *
+     * @param position index of the record
+     * @return elements
+     */
+    public IntStream stream(long position) {
+        int length = length(position);
+        long offset = offset(position, length);
+        return IntStream.range(0, length)
+                .map(i -> arena.getInt(offset + i));
+    }
+
+    /**
+     * Returns number of ints used in the arena, including garbage
+     *
+     * @return arena size
+     */
+    public long arenaSize() {
+        return tail() - DATA_OFFSET;
+    }
+
+    /**
+     * Returns number of ints in the arena that are not used by any array anymore
+     *
+     * @return garbage size
+     */
+    public long garbage() {
+        return arena.size() == 0 ? 0 : arena.getInt(GARBAGE_INDEX);
+    }
+
+    /**
+     * Compacts the arena, so there is no garbage between the arrays. Arrays keep their order in the arena and are only
+     * moved towards its beginning, so no additional memory is needed except for the array of records sorted by offset.
+     * Arrays of records outside of [0, recordsCount) are dropped: those records become empty. Memory blocks of the arena store are not released,
+     * they are reused by the following writes
+     *
+     * @param recordsCount number of records in the table
+     */
+    public void compact(long recordsCount) {
+        assertArgument(recordsCount >= 0 && recordsCount <= Integer.MAX_VALUE, "Records count must be between 0 and %d", Integer.MAX_VALUE);
+
+        long[] arrays = new long[(int) recordsCount];
+        int arraysCount = 0;
+        for (int position = 0; position < recordsCount; position++) {
+            if (length(position) > 0) {
+                arrays[arraysCount++] = (long) offsetEncoder.get(position) << 31 | position;
+            }
+        }
+        Arrays.sort(arrays, 0, arraysCount);
+        for (long position = recordsCount; lengthEncoder.isAllocated(position); position++) {
+            if (length(position) > 0) {
+                offsetEncoder.set(position, 0);
+                lengthEncoder.set(position, 0);
+            }
+        }
+
+        int tail = DATA_OFFSET;
+        for (int i = 0; i < arraysCount; i++) {
+            int position = (int) (arrays[i] & Integer.MAX_VALUE);
+            int offset = (int) (arrays[i] >>> 31);
+            int length = length(position);
+            if (offset != tail) {
+                for (int j = 0; j < length; j++) {
+                    arena.setInt(tail + j, arena.getInt(offset + j));
+                }
+                offsetEncoder.set(position, tail);
+            }
+            tail += length;
+        }
+
+        if (arena.size() > 0) {
+            setTail(tail);
+            arena.setInt(GARBAGE_INDEX, 0);
+        }
+    }
+
+    /**
+     * Changes length of the array of the record. Preserved elements are kept, others are undefined
+     *
+     * @return offset of the array
+     */
+    private long resize(long position, int newLength, int preserved) {
+        int length = length(position);
+        int offset = offset(position, length);
+        int tail = tail();
+
+        if (newLength <= length) {
+            release(offset + newLength, length - newLength);
+            if (newLength == 0) {
+                offset = 0;
+            }
+        } else if (length > 0 && offset + length == tail) {
+            setTail(allocate(newLength - length) + newLength - length);
+        } else {
+            int newOffset = allocate(newLength);
+            setTail(newOffset + newLength);
+            for (int i = 0; i < preserved; i++) {
+                arena.setInt(newOffset + i, arena.getInt(offset + i));
+            }
+            release(offset, length);
+            offset = newOffset;
+        }
+
+        offsetEncoder.set(position, offset);
+        lengthEncoder.set(position, newLength);
+        return offset;
+    }
+
+    /**
+     * Returns offset of the free space of given size at the end of the arena
+     */
+    private int allocate(int size) {
+        int tail = tail();
+        if (tail > MAX_ARENA_SIZE - size) {
+            throw new IllegalStateException(String.format("Int Array arena cannot hold more than %d ints", MAX_ARENA_SIZE));
+        }
+        return tail;
+    }
+
+    /**
+     * Releases space of the array. Space at the end of the arena is reused right away, other space becomes garbage
+     */
+    private void release(int offset, int size) {
+        if (size == 0) {
+            return;
+        }
+
+        if (offset + size == tail()) {
+            setTail(offset);
+        } else {
+            arena.setInt(GARBAGE_INDEX, arena.getInt(GARBAGE_INDEX) + size);
+        }
+    }
+
+    /**
+     * Returns offset of the array of the record. Empty array has offset 0, so the offset of the record that was never
+     * written is not read
+     */
+    private int offset(long position, int length) {
+        return length == 0 ? 0 : offsetEncoder.get(position);
+    }
+
+    private int tail() {
+        return arena.size() == 0 ? DATA_OFFSET : Math.max(DATA_OFFSET, arena.getInt(TAIL_INDEX));
+    }
+
+    private void setTail(int tail) {
+        arena.setInt(TAIL_INDEX, tail);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IntArrayEncoder that = (IntArrayEncoder) o;
+        return arena.equals(that.arena) && offsetEncoder.equals(that.offsetEncoder) && lengthEncoder.equals(that.lengthEncoder);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(arena, offsetEncoder, lengthEncoder);
+    }
+}
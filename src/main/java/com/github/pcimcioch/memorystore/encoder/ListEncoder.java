@@ -1,8 +1,11 @@
 package com.github.pcimcioch.memorystore.encoder;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Spliterator;
 import java.util.function.LongConsumer;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
 import java.util.stream.LongStream;
 import java.util.stream.StreamSupport;
 
@@ -18,7 +21,7 @@ import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
  * It is very important that each new record must be either initialized using {@link #init(long)} method, or added to the
  * existing list using {@link #addNext(long, long)} or {@link #addPrevious(long, long)}
  */
-public class ListEncoder extends BitEncoder {
+public class ListEncoder extends BitEncoder implements RecordLinkEncoder {
 
     public static final int MIN_BIT_COUNT = 1;
     public static final int MAX_BIT_COUNT = 31;
@@ -162,6 +165,121 @@ public class ListEncoder extends BitEncoder {
         setNext(secondPrevious, firstNext);
     }
 
+    /**
+     * Moves range of elements after given element. The range starts after previousPosition and follows next elements up
+     * to lastPosition inclusive. The range is removed from its current list. Element listPosition can be part of the same
+     * list as the range, or a different list, but it can't be part of the range itself.
+     * Because the element before the range is passed, this operation takes constant time. Unlike
+     * {@link DoublyLinkedListEncoder#splice(long, long, long)}, the range is given by the element preceding it.
+     * <br>
+     * <p>
+     * For example, for lists:
+     * <pre>
+     *     0 -&gt; 1 -&gt; 2 -&gt; 3 -&gt; 4
+     *     5 -&gt; 6
+     *     spliceAfter(5, 0, 3)
+     * </pre>
+     * Will create lists:
+     * <pre>
+     *     0 -&gt; 4
+     *     5 -&gt; 1 -&gt; 2 -&gt; 3 -&gt; 6
+     * </pre>
+     *
+     * @param listPosition     element after which the range is inserted
+     * @param previousPosition element before the first element of the range
+     * @param lastPosition     last element of the range
+     */
+    public void spliceAfter(long listPosition, long previousPosition, long lastPosition) {
+        long firstPosition = next(previousPosition);
+        setNext(previousPosition, next(lastPosition));
+
+        long next = next(listPosition);
+        setNext(listPosition, firstPosition);
+        setNext(lastPosition, next);
+    }
+
+    /**
+     * Connects all records from given range into lists, one list per key. Records are visited in a single pass, and each
+     * list keeps the records in the increasing order of their positions, so traversing the list reads memory
+     * sequentially. Records don't need to be initialized, but they can't be part of any other list.
+     * Keys must be dense, from 0 (inclusive) to keysCount (exclusive), so the lists are tracked in arrays without boxing.
+     * <br>
+     * <p>
+     * For example, for records with keys:
+     * <pre>
+     *     position: 0  1  2  3  4
+     *     key:      2  0  2  2  0
+     *     groupBy(0, 5, 3, key)
+     * </pre>
+     * Will create lists:
+     * <pre>
+     *     0 -&gt; 2 -&gt; 3
+     *     1 -&gt; 4
+     * </pre>
+     * And return heads {1, -1, 0}
+     *
+     * @param fromPosition first record, inclusive
+     * @param toPosition   last record, exclusive
+     * @param keysCount    number of keys
+     * @param key          returns key for the record position
+     * @return first element of the list for each key, or -1 if there are no records with given key
+     */
+    public long[] groupBy(long fromPosition, long toPosition, int keysCount, LongToIntFunction key) {
+        assertArgument(fromPosition >= 0 && fromPosition <= toPosition, "Incorrect range [%d, %d)", fromPosition, toPosition);
+        assertArgument(keysCount >= 0, "Keys count must be non-negative");
+
+        long[] heads = new long[keysCount];
+        long[] tails = new long[keysCount];
+        Arrays.fill(heads, -1L);
+        for (long position = fromPosition; position < toPosition; position++) {
+            int recordKey = key.applyAsInt(position);
+            assertArgument(recordKey >= 0 && recordKey < keysCount, "Key %d must be between 0 and %d", recordKey, keysCount - 1);
+
+            if (heads[recordKey] == -1L) {
+                heads[recordKey] = position;
+                setNext(position, position);
+            } else {
+                setNext(tails[recordKey], position);
+                setNext(position, heads[recordKey]);
+            }
+            tails[recordKey] = position;
+        }
+
+        return heads;
+    }
+
+    /**
+     * Sorts the list in place by the key, using merge sort. Sort is stable, so elements with equal keys keep their
+     * relative order, starting from listPosition. Nodes are not moved in memory, only the links are changed.
+     * <br>
+     * <p>
+     * For example, for list with keys:
+     * <pre>
+     *     0 -&gt; 1 -&gt; 2 -&gt; 3
+     *     key: 0=30, 1=10, 2=20, 3=10
+     *     sort(0, key)
+     * </pre>
+     * Will create list:
+     * <pre>
+     *     1 -&gt; 3 -&gt; 2 -&gt; 0
+     * </pre>
+     *
+     * @param listPosition position of existing list
+     * @param key          returns key for the element position
+     * @return element with the smallest key, that is the beginning of the sorted list
+     */
+    public long sort(long listPosition, LongUnaryOperator key) {
+        long length = 1;
+        for (long i = next(listPosition); i != listPosition; i = next(i)) {
+            length++;
+        }
+
+        Run sorted = new MergeSort(listPosition, key).sort(length);
+        setNext(sorted.tail, sorted.head);
+
+        return sorted.head;
+    }
+
     /**
      * Return next element in the list. For one element lists, it will return passed listPosition.
      * For uninitialized elements, behaviour is undefined
@@ -248,6 +366,14 @@ public class ListEncoder extends BitEncoder {
         return StreamSupport.longStream(new ListSpliterator(listPosition), false);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remapLinks(long position, LongUnaryOperator mapping) {
+        setNext(position, mapping.applyAsLong(getNext(position)));
+    }
+
     private long getNext(long position) {
         return (store.getInt(storeIndex(position)) & mask) >>> bitShift;
     }
@@ -272,6 +398,79 @@ public class ListEncoder extends BitEncoder {
         return MAX_LAST_BIT;
     }
 
+    private static final class Run {
+        private final long head;
+        private final long tail;
+
+        private Run(long head, long tail) {
+            this.head = head;
+            this.tail = tail;
+        }
+    }
+
+    private final class MergeSort {
+        private final LongUnaryOperator key;
+        private long cursor;
+
+        private MergeSort(long cursor, LongUnaryOperator key) {
+            this.cursor = cursor;
+            this.key = key;
+        }
+
+        /**
+         * Sorts next length elements starting from the cursor. Next link of the returned tail is not set
+         */
+        private Run sort(long length) {
+            if (length == 1) {
+                long element = cursor;
+                cursor = next(cursor);
+                return new Run(element, element);
+            }
+
+            long leftLength = length / 2;
+            Run left = sort(leftLength);
+            Run right = sort(length - leftLength);
+            return merge(left, leftLength, right, length - leftLength);
+        }
+
+        private Run merge(Run left, long leftLength, Run right, long rightLength) {
+            long leftElement = left.head;
+            long rightElement = right.head;
+            long head = -1L;
+            long tail = -1L;
+
+            while (leftLength > 0 && rightLength > 0) {
+                long element;
+                if (key.applyAsLong(rightElement) < key.applyAsLong(leftElement)) {
+                    element = rightElement;
+                    rightLength--;
+                    rightElement = rightLength > 0 ? next(rightElement) : rightElement;
+                } else {
+                    element = leftElement;
+                    leftLength--;
+                    leftElement = leftLength > 0 ? next(leftElement) : leftElement;
+                }
+
+                if (head == -1L) {
+                    head = element;
+                } else {
+                    setNext(tail, element);
+                }
+                tail = element;
+            }
+
+            if (leftLength > 0) {
+                setNext(tail, leftElement);
+                tail = left.tail;
+            } else {
+                setNext(tail, rightElement);
+                tail = right.tail;
+            }
+
+            return new Run(head, tail);
+        }
+    }
+
     public final class ListIterator implements Iterator<Long> {
 
         private long startingPosition;
@@ -0,0 +1,72 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Stores {@link LocalDate} on 1-63 bits of memory, as the number of days since the min value. For example, dates from
+ * 2020 to 2100 take 15 bits
+ * <br>
+ * <p>
+ * Epoch day accessors do not create {@link LocalDate}, so they should be used for scans
+ */
+public class LocalDateEncoder extends TemporalEncoderBase {
+
+    /**
+     * Constructor
+     *
+     * @param config      configuration describing memory layout
+     * @param minEpochDay  min value that can be stored in this encoder, in days since 1970-01-01
+     */
+    public LocalDateEncoder(Config config, long minEpochDay) {
+        super(config, ChronoUnit.DAYS, minEpochDay);
+    }
+
+    /**
+     * Returns date from given index
+     *
+     * @param position index of the record
+     * @return date
+     */
+    public LocalDate get(long position) {
+        return LocalDate.ofEpochDay(getEpochUnits(position));
+    }
+
+    /**
+     * Sets date for record of given index
+     *
+     * @param position index of the record
+     * @param value    date
+     */
+    public void set(long position, LocalDate value) {
+        requireNonNull(value, "Value cannot be null");
+        setEpochUnits(position, value.toEpochDay());
+    }
+
+    /**
+     * Returns date from given index as days since 1970-01-01
+     *
+     * @param position index of the record
+     * @return epoch day
+     */
+    public long getEpochDay(long position) {
+        return getEpochUnits(position);
+    }
+
+    /**
+     * Sets date for record of given index as days since 1970-01-01
+     *
+     * @param position index of the record
+     * @param epochDay epoch day
+     */
+    public void setEpochDay(long position, long epochDay) {
+        setEpochUnits(position, epochDay);
+    }
+
+    @Override
+    protected String formatEpochUnits(long epochUnits) {
+        return LocalDate.ofEpochDay(epochUnits).toString();
+    }
+}
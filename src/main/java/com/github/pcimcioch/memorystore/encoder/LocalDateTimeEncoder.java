@@ -0,0 +1,90 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Stores {@link LocalDateTime} with defined granularity on 1-63 bits of memory. Date times are rounded down to the
+ * granularity. Epoch units of the local date time are counted as if it was in UTC
+ * <br>
+ * <p>
+ * Epoch milli and epoch units accessors do not create {@link LocalDateTime}, so they should be used for scans
+ */
+public class LocalDateTimeEncoder extends TemporalEncoderBase {
+
+    /**
+     * Constructor
+     *
+     * @param config        configuration describing memory layout
+     * @param granularity   unit in which date times are stored
+     * @param minEpochUnits min value that can be stored in this encoder, in granularity units since epoch
+     */
+    public LocalDateTimeEncoder(Config config, ChronoUnit granularity, long minEpochUnits) {
+        super(config, granularity, minEpochUnits);
+    }
+
+    /**
+     * Returns date time from given index
+     *
+     * @param position index of the record
+     * @return date time
+     */
+    public LocalDateTime get(long position) {
+        return toLocalDateTime(getEpochMilli(position));
+    }
+
+    /**
+     * Sets date time for record of given index. Date time is rounded down to the granularity
+     *
+     * @param position index of the record
+     * @param value    date time
+     */
+    public void set(long position, LocalDateTime value) {
+        requireNonNull(value, "Value cannot be null");
+        setEpochMilli(position, toEpochMilli(value));
+    }
+
+    /**
+     * Returns date time from given index as milliseconds since 1970-01-01T00:00:00, counted in UTC
+     *
+     * @param position index of the record
+     * @return epoch milliseconds
+     */
+    public long getEpochMilli(long position) {
+        return getEpochUnits(position) * unitMillis;
+    }
+
+    /**
+     * Sets date time for record of given index as milliseconds since 1970-01-01T00:00:00, counted in UTC. Value is
+     * rounded down to the granularity
+     *
+     * @param position   index of the record
+     * @param epochMilli epoch milliseconds
+     */
+    public void setEpochMilli(long position, long epochMilli) {
+        setEpochUnits(position, Math.floorDiv(epochMilli, unitMillis));
+    }
+
+    /**
+     * Converts date time to milliseconds since 1970-01-01T00:00:00, counted in UTC
+     *
+     * @param value date time
+     * @return epoch milliseconds
+     */
+    public static long toEpochMilli(LocalDateTime value) {
+        return value.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC);
+    }
+
+    @Override
+    protected String formatEpochUnits(long epochUnits) {
+        return toLocalDateTime(Math.multiplyExact(epochUnits, unitMillis)).toString();
+    }
+}
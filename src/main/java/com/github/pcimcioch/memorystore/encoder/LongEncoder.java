@@ -22,7 +22,7 @@ public class LongEncoder extends BitEncoder {
      * @return long value
      */
     public long get(long position) {
-        return store.getLong(storeIndex(position));
+        return readLong(position);
     }
 
     /**
@@ -32,7 +32,7 @@ public class LongEncoder extends BitEncoder {
      * @param value    long value
      */
     public void set(long position, long value) {
-        store.setLong(storeIndex(position), value);
+        writeLong(position, value);
     }
 
     @Override
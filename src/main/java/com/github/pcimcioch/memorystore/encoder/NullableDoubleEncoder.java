@@ -0,0 +1,66 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Double.longBitsToDouble;
+
+/**
+ * Stores nullable floating point number {@link Double} on 65 bits of memory: presence bit and the value
+ */
+public class NullableDoubleEncoder extends NullableEncoderBase {
+
+    public static final int BIT_COUNT = 65;
+    public static final int MAX_LAST_BIT = 96;
+
+    /**
+     * {@inheritDoc}
+     */
+    public NullableDoubleEncoder(Config config) {
+        super(config);
+    }
+
+    /**
+     * Returns double from given index. If value is null, returns {@code 0}
+     *
+     * @param position index of the record
+     * @return double value
+     */
+    public double get(long position) {
+        return longBitsToDouble(readPayload(position));
+    }
+
+    /**
+     * Returns double from given index or default value if value is null
+     *
+     * @param position     index of the record
+     * @param defaultValue value returned for null
+     * @return double value
+     */
+    public double getOrDefault(long position, double defaultValue) {
+        return isNull(position) ? defaultValue : get(position);
+    }
+
+    /**
+     * Sets double for record of given index. Value is no longer null
+     *
+     * @param position index of the record
+     * @param value    double value
+     */
+    public void set(long position, double value) {
+        writePayload(position, doubleToRawLongBits(value));
+    }
+
+    @Override
+    protected int minBits() {
+        return BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+}
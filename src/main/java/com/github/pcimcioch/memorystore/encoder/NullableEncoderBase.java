@@ -0,0 +1,141 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import java.util.function.LongConsumer;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Base encoder for nullable primitive types. First bit of the data is the presence bit, set when the value is not
+ * null. Remaining bits store the value. Presence bit and value are stored in the same packed field, so they are always
+ * in sync, and setting a value is a single write for fields of up to 64 bits
+ * <br>
+ * <p>
+ * Null checks read only the presence bit, without decoding the value, so scans over records that skip nulls are cheap
+ */
+public abstract class NullableEncoderBase extends BitEncoder {
+
+    /**
+     * Returned when there are no more non-null records
+     */
+    public static final long NONE = -1L;
+
+    private final boolean wide;
+    private final int presenceIndex;
+    private final int presenceMask;
+
+    protected NullableEncoderBase(Config config) {
+        super(config);
+
+        this.wide = this.bitsCount > 64;
+        this.presenceIndex = this.bitShift >>> 5;
+        this.presenceMask = 1 << (this.bitShift & 0b11111);
+    }
+
+    /**
+     * Returns whether value of given record is null
+     *
+     * @param position index of the record
+     * @return whether value is null
+     */
+    public boolean isNull(long position) {
+        return (store.getInt(storeIndex(position) + presenceIndex) & presenceMask) == 0;
+    }
+
+    /**
+     * Sets value of given record to null
+     *
+     * @param position index of the record
+     */
+    public void clear(long position) {
+        if (wide) {
+            writeBits(position, 0, 1, 0L);
+            writeBits(position, 1, 32, 0L);
+            writeBits(position, 33, 32, 0L);
+        } else {
+            writeValue(position, 0L);
+        }
+    }
+
+    /**
+     * Returns first record in range [fromPosition, toPosition) which value is not null
+     *
+     * @param fromPosition first record position, inclusive
+     * @param toPosition   last record position, exclusive
+     * @return position of the record or {@link #NONE} if all values in range are null
+     */
+    public long nextPresent(long fromPosition, long toPosition) {
+        assertArgument(fromPosition >= 0 && fromPosition <= toPosition, "Incorrect range [%d, %d)", fromPosition, toPosition);
+
+        for (long position = fromPosition; position < toPosition; position++) {
+            if (!isNull(position)) {
+                return position;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Calls action for each record in range [fromPosition, toPosition) which value is not null, in order
+     *
+     * @param fromPosition first record position, inclusive
+     * @param toPosition   last record position, exclusive
+     * @param action       action called with position of the record
+     */
+    public void forEachPresent(long fromPosition, long toPosition, LongConsumer action) {
+        assertArgument(fromPosition >= 0 && fromPosition <= toPosition, "Incorrect range [%d, %d)", fromPosition, toPosition);
+
+        for (long position = fromPosition; position < toPosition; position++) {
+            if (!isNull(position)) {
+                action.accept(position);
+            }
+        }
+    }
+
+    /**
+     * Counts records in range [fromPosition, toPosition) which value is not null
+     *
+     * @param fromPosition first record position, inclusive
+     * @param toPosition   last record position, exclusive
+     * @return number of non-null values
+     */
+    public long countPresent(long fromPosition, long toPosition) {
+        assertArgument(fromPosition >= 0 && fromPosition <= toPosition, "Incorrect range [%d, %d)", fromPosition, toPosition);
+
+        long count = 0L;
+        for (long position = fromPosition; position < toPosition; position++) {
+            if (!isNull(position)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reads value bits, without the presence bit. For null values returns 0
+     *
+     * @param position index of the record
+     * @return unsigned value
+     */
+    protected long readPayload(long position) {
+        if (wide) {
+            return readBits(position, 1, 32) | readBits(position, 33, 32) << 32;
+        }
+        return readValue(position) >>> 1;
+    }
+
+    /**
+     * Writes value bits and sets the presence bit
+     *
+     * @param position index of the record
+     * @param payload  unsigned value
+     */
+    protected void writePayload(long position, long payload) {
+        if (wide) {
+            writeBits(position, 0, 1, 1L);
+            writeBits(position, 1, 32, payload);
+            writeBits(position, 33, 32, payload >>> 32);
+        } else {
+            writeValue(position, payload << 1 | 1L);
+        }
+    }
+}
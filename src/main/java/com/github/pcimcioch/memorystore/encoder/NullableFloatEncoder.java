@@ -0,0 +1,66 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import static java.lang.Float.floatToRawIntBits;
+import static java.lang.Float.intBitsToFloat;
+
+/**
+ * Stores nullable floating point number {@link Float} on 33 bits of memory: presence bit and the value
+ */
+public class NullableFloatEncoder extends NullableEncoderBase {
+
+    public static final int BIT_COUNT = 33;
+    public static final int MAX_LAST_BIT = 64;
+
+    /**
+     * {@inheritDoc}
+     */
+    public NullableFloatEncoder(Config config) {
+        super(config);
+    }
+
+    /**
+     * Returns float from given index. If value is null, returns {@code 0}
+     *
+     * @param position index of the record
+     * @return float value
+     */
+    public float get(long position) {
+        return intBitsToFloat((int) readPayload(position));
+    }
+
+    /**
+     * Returns float from given index or default value if value is null
+     *
+     * @param position     index of the record
+     * @param defaultValue value returned for null
+     * @return float value
+     */
+    public float getOrDefault(long position, float defaultValue) {
+        return isNull(position) ? defaultValue : get(position);
+    }
+
+    /**
+     * Sets float for record of given index. Value is no longer null
+     *
+     * @param position index of the record
+     * @param value    float value
+     */
+    public void set(long position, float value) {
+        writePayload(position, floatToRawIntBits(value) & 0xffffffffL);
+    }
+
+    @Override
+    protected int minBits() {
+        return BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+/**
+ * Stores nullable integer {@link Integer} on 33 bits of memory: presence bit and the value
+ */
+public class NullableIntEncoder extends NullableEncoderBase {
+
+    public static final int BIT_COUNT = 33;
+    public static final int MAX_LAST_BIT = 64;
+
+    /**
+     * {@inheritDoc}
+     */
+    public NullableIntEncoder(Config config) {
+        super(config);
+    }
+
+    /**
+     * Returns int from given index. If value is null, returns {@code 0}
+     *
+     * @param position index of the record
+     * @return int value
+     */
+    public int get(long position) {
+        return (int) readPayload(position);
+    }
+
+    /**
+     * Returns int from given index or default value if value is null
+     *
+     * @param position     index of the record
+     * @param defaultValue value returned for null
+     * @return int value
+     */
+    public int getOrDefault(long position, int defaultValue) {
+        return isNull(position) ? defaultValue : get(position);
+    }
+
+    /**
+     * Sets int for record of given index. Value is no longer null
+     *
+     * @param position index of the record
+     * @param value    int value
+     */
+    public void set(long position, int value) {
+        writePayload(position, value & 0xffffffffL);
+    }
+
+    @Override
+    protected int minBits() {
+        return BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+/**
+ * Stores nullable long {@link Long} on 65 bits of memory: presence bit and the value
+ */
+public class NullableLongEncoder extends NullableEncoderBase {
+
+    public static final int BIT_COUNT = 65;
+    public static final int MAX_LAST_BIT = 96;
+
+    /**
+     * {@inheritDoc}
+     */
+    public NullableLongEncoder(Config config) {
+        super(config);
+    }
+
+    /**
+     * Returns long from given index. If value is null, returns {@code 0}
+     *
+     * @param position index of the record
+     * @return long value
+     */
+    public long get(long position) {
+        return readPayload(position);
+    }
+
+    /**
+     * Returns long from given index or default value if value is null
+     *
+     * @param position     index of the record
+     * @param defaultValue value returned for null
+     * @return long value
+     */
+    public long getOrDefault(long position, long defaultValue) {
+        return isNull(position) ? defaultValue : get(position);
+    }
+
+    /**
+     * Sets long for record of given index. Value is no longer null
+     *
+     * @param position index of the record
+     * @param value    long value
+     */
+    public void set(long position, long value) {
+        writePayload(position, value);
+    }
+
+    @Override
+    protected int minBits() {
+        return BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+}
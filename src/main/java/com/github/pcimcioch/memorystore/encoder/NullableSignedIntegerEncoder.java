@@ -0,0 +1,110 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import java.util.Objects;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Stores nullable signed integer on 2-32 bits of memory: presence bit and 1-31 bits of the value
+ */
+public class NullableSignedIntegerEncoder extends NullableEncoderBase {
+
+    public static final int MIN_BIT_COUNT = 2;
+    public static final int MAX_BIT_COUNT = 32;
+    public static final int MAX_LAST_BIT = 64;
+
+    private final int minValue;
+    private final int maxValue;
+    private final String incorrectValueException;
+
+    /**
+     * Constructor
+     *
+     * @param config   configuration describing memory layout
+     * @param minValue min value that can be stored in this signed integer
+     */
+    public NullableSignedIntegerEncoder(Config config, int minValue) {
+        super(config);
+
+        long maxValue = (1L << (this.bitsCount - 1)) - 1 + minValue;
+        this.minValue = minValue;
+        this.maxValue = maxValue > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) maxValue;
+
+        this.incorrectValueException = String.format("Value must be between [%d, %d]", this.minValue, this.maxValue);
+    }
+
+    /**
+     * @return min value that can be stored in this encoder
+     */
+    public int minValue() {
+        return minValue;
+    }
+
+    /**
+     * @return max value that can be stored in this encoder
+     */
+    public int maxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Returns integer from given index. If value is null, returns min value
+     *
+     * @param position index of the record
+     * @return integer value
+     */
+    public int get(long position) {
+        return (int) readPayload(position) + minValue;
+    }
+
+    /**
+     * Returns integer from given index or default value if value is null
+     *
+     * @param position     index of the record
+     * @param defaultValue value returned for null
+     * @return integer value
+     */
+    public int getOrDefault(long position, int defaultValue) {
+        return isNull(position) ? defaultValue : get(position);
+    }
+
+    /**
+     * Sets integer for record of given index. Value is no longer null
+     *
+     * @param position index of the record
+     * @param value    integer value
+     */
+    public void set(long position, int value) {
+        assertArgument(value >= minValue && value <= maxValue, incorrectValueException);
+        writePayload(position, value - minValue);
+    }
+
+    @Override
+    protected int minBits() {
+        return MIN_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return MAX_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        NullableSignedIntegerEncoder that = (NullableSignedIntegerEncoder) o;
+        return minValue == that.minValue;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), minValue);
+    }
+}
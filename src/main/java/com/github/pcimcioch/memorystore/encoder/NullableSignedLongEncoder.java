@@ -0,0 +1,110 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import java.util.Objects;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Stores nullable signed long on 2-64 bits of memory: presence bit and 1-63 bits of the value
+ */
+public class NullableSignedLongEncoder extends NullableEncoderBase {
+
+    public static final int MIN_BIT_COUNT = 2;
+    public static final int MAX_BIT_COUNT = 64;
+    public static final int MAX_LAST_BIT = 96;
+
+    private final long minValue;
+    private final long maxValue;
+    private final String incorrectValueException;
+
+    /**
+     * Constructor
+     *
+     * @param config   configuration describing memory layout
+     * @param minValue min value that can be stored in this signed long
+     */
+    public NullableSignedLongEncoder(Config config, long minValue) {
+        super(config);
+
+        long maxValue = minValue + (1L << (this.bitsCount - 1)) - 1;
+        this.minValue = minValue;
+        this.maxValue = maxValue < minValue ? Long.MAX_VALUE : maxValue;
+
+        this.incorrectValueException = String.format("Value must be between [%d, %d]", this.minValue, this.maxValue);
+    }
+
+    /**
+     * @return min value that can be stored in this encoder
+     */
+    public long minValue() {
+        return minValue;
+    }
+
+    /**
+     * @return max value that can be stored in this encoder
+     */
+    public long maxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Returns long from given index. If value is null, returns min value
+     *
+     * @param position index of the record
+     * @return long value
+     */
+    public long get(long position) {
+        return readPayload(position) + minValue;
+    }
+
+    /**
+     * Returns long from given index or default value if value is null
+     *
+     * @param position     index of the record
+     * @param defaultValue value returned for null
+     * @return long value
+     */
+    public long getOrDefault(long position, long defaultValue) {
+        return isNull(position) ? defaultValue : get(position);
+    }
+
+    /**
+     * Sets long for record of given index. Value is no longer null
+     *
+     * @param position index of the record
+     * @param value    long value
+     */
+    public void set(long position, long value) {
+        assertArgument(value >= minValue && value <= maxValue, incorrectValueException);
+        writePayload(position, value - minValue);
+    }
+
+    @Override
+    protected int minBits() {
+        return MIN_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return MAX_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        NullableSignedLongEncoder that = (NullableSignedLongEncoder) o;
+        return minValue == that.minValue;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), minValue);
+    }
+}
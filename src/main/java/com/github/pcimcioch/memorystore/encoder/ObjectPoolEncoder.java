@@ -49,6 +49,40 @@ public class ObjectPoolEncoder<T> implements Encoder {
         return store.get(poolIndex);
     }
 
+    /**
+     * Returns index in the pool of the object stored under given index
+     *
+     * @param index index of the object
+     * @return pool index
+     */
+    public int getPoolIndex(long index) {
+        return indexEncoder.get(index);
+    }
+
+    /**
+     * Returns index in the pool of given object
+     *
+     * @param value object
+     * @return pool index or -1 if object is not in the pool
+     */
+    public int poolIndexOf(T value) {
+        return store.indexOf(value);
+    }
+
+    /**
+     * @return number of bits used to store pool index
+     */
+    public int poolBits() {
+        return indexEncoder.bitsCount();
+    }
+
+    /**
+     * @return number of records whose pool indexes are stored in a single block of the underlying store
+     */
+    public int recordsPerBlock() {
+        return indexEncoder.recordsPerBlock();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
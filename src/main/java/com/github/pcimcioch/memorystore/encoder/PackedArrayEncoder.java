@@ -0,0 +1,264 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import java.util.Objects;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Stores fixed length array of unsigned integers of 1-31 bits each, on 1-1024 bits of memory. For example, 24 hourly
+ * speeds of 7 bits take 168 bits, instead of 24 separate fields. Elements are stored one after another, so a single
+ * element may span two words.
+ * <br>
+ * <p>
+ * Besides indexed access, whole array can be packed from and unpacked to {@code int[]} or {@code byte[]} buffers.
+ * Bulk operations go through the words of the record sequentially, without computing the position of each element
+ */
+public class PackedArrayEncoder extends BitEncoder {
+
+    public static final int MIN_BIT_COUNT = 1;
+    public static final int MAX_BIT_COUNT = 1024;
+    public static final int MAX_LAST_BIT = MAX_BIT_COUNT + 32;
+
+    public static final int MIN_ELEMENT_BIT_COUNT = 1;
+    public static final int MAX_ELEMENT_BIT_COUNT = 31;
+
+    private final int elementBits;
+    private final int length;
+    private final int maxValue;
+    private final String incorrectIndexException;
+    private final String incorrectValueException;
+
+    /**
+     * Constructor
+     *
+     * @param config      configuration describing memory layout
+     * @param elementBits number of bits of each element
+     */
+    public PackedArrayEncoder(Config config, int elementBits) {
+        super(config);
+        assertArgument(elementBits >= MIN_ELEMENT_BIT_COUNT && elementBits <= MAX_ELEMENT_BIT_COUNT,
+                "Element Bits Count must be between %d and %d", MIN_ELEMENT_BIT_COUNT, MAX_ELEMENT_BIT_COUNT);
+        assertArgument(this.bitsCount % elementBits == 0, "Bits Count must be a multiple of Element Bits Count");
+
+        this.elementBits = elementBits;
+        this.length = this.bitsCount / elementBits;
+        this.maxValue = (1 << elementBits) - 1;
+        this.incorrectIndexException = String.format("Index must be between [0, %d]", this.length - 1);
+        this.incorrectValueException = String.format("Value must be between [0, %d]", this.maxValue);
+    }
+
+    /**
+     * @return number of elements in the array
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return number of bits of each element
+     */
+    public int elementBits() {
+        return elementBits;
+    }
+
+    /**
+     * @return max value of the element
+     */
+    public int maxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Returns element of the array of the record
+     *
+     * @param position index of the record
+     * @param index    index of the element
+     * @return element
+     */
+    public int get(long position, int index) {
+        assertArgument(index >= 0 && index < length, incorrectIndexException);
+
+        return (int) readBits(position, index * elementBits, elementBits);
+    }
+
+    /**
+     * Sets element of the array of the record
+     *
+     * @param position index of the record
+     * @param index    index of the element
+     * @param value    element
+     */
+    public void set(long position, int index, int value) {
+        assertArgument(index >= 0 && index < length, incorrectIndexException);
+        assertArgument(value >= 0 && value <= maxValue, incorrectValueException);
+
+        writeBits(position, index * elementBits, elementBits, value);
+    }
+
+    /**
+     * Copies all elements of the array of the record to the buffer
+     *
+     * @param position     index of the record
+     * @param buffer       buffer to copy the elements to
+     * @param bufferOffset index in the buffer of the first copied element
+     */
+    public void unpack(long position, int[] buffer, int bufferOffset) {
+        assertBuffer(buffer.length, bufferOffset);
+
+        long index = storeIndex(position) + (bitShift >>> 5);
+        int shift = bitShift & 0b11111;
+        long bits = (store.getInt(index++) & 0xffffffffL) >>> shift;
+        int available = 32 - shift;
+        for (int i = 0; i < length; i++) {
+            if (available < elementBits) {
+                bits |= (store.getInt(index++) & 0xffffffffL) << available;
+                available += 32;
+            }
+            buffer[bufferOffset + i] = (int) bits & maxValue;
+            bits >>>= elementBits;
+            available -= elementBits;
+        }
+    }
+
+    /**
+     * Copies all elements of the array of the record to the byte buffer. Elements must not have more than 8 bits.
+     * Elements of 8 bits are unsigned, so values above 127 are negative bytes
+     *
+     * @param position     index of the record
+     * @param buffer       buffer to copy the elements to
+     * @param bufferOffset index in the buffer of the first copied element
+     */
+    public void unpack(long position, byte[] buffer, int bufferOffset) {
+        assertByteElements();
+        assertBuffer(buffer.length, bufferOffset);
+
+        long index = storeIndex(position) + (bitShift >>> 5);
+        int shift = bitShift & 0b11111;
+        long bits = (store.getInt(index++) & 0xffffffffL) >>> shift;
+        int available = 32 - shift;
+        for (int i = 0; i < length; i++) {
+            if (available < elementBits) {
+                bits |= (store.getInt(index++) & 0xffffffffL) << available;
+                available += 32;
+            }
+            buffer[bufferOffset + i] = (byte) ((int) bits & maxValue);
+            bits >>>= elementBits;
+            available -= elementBits;
+        }
+    }
+
+    /**
+     * Sets all elements of the array of the record. Values are validated before anything is written
+     *
+     * @param position    index of the record
+     * @param values      source of the elements
+     * @param valueOffset index in the source of the first element
+     */
+    public void pack(long position, int[] values, int valueOffset) {
+        assertBuffer(values.length, valueOffset);
+        for (int i = 0; i < length; i++) {
+            int value = values[valueOffset + i];
+            assertArgument(value >= 0 && value <= maxValue, incorrectValueException);
+        }
+
+        Packer packer = new Packer(position);
+        for (int i = 0; i < length; i++) {
+            packer.add(values[valueOffset + i]);
+        }
+        packer.flush();
+    }
+
+    /**
+     * Sets all elements of the array of the record from the byte buffer. Bytes are treated as unsigned. Elements must
+     * not have more than 8 bits. Values are validated before anything is written
+     *
+     * @param position    index of the record
+     * @param values      source of the elements
+     * @param valueOffset index in the source of the first element
+     */
+    public void pack(long position, byte[] values, int valueOffset) {
+        assertByteElements();
+        assertBuffer(values.length, valueOffset);
+        for (int i = 0; i < length; i++) {
+            assertArgument((values[valueOffset + i] & 0xff) <= maxValue, incorrectValueException);
+        }
+
+        Packer packer = new Packer(position);
+        for (int i = 0; i < length; i++) {
+            packer.add(values[valueOffset + i] & 0xff);
+        }
+        packer.flush();
+    }
+
+    private void assertBuffer(int bufferLength, int bufferOffset) {
+        assertArgument(bufferOffset >= 0 && bufferOffset <= bufferLength && length <= bufferLength - bufferOffset,
+                "Array of length %d does not fit into buffer of length %d at offset %d", length, bufferLength, bufferOffset);
+    }
+
+    private void assertByteElements() {
+        assertArgument(elementBits <= Byte.SIZE, "Elements of %d bits do not fit into bytes", elementBits);
+    }
+
+    @Override
+    protected int minBits() {
+        return MIN_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return MAX_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        PackedArrayEncoder that = (PackedArrayEncoder) o;
+        return elementBits == that.elementBits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), elementBits);
+    }
+
+    /**
+     * Collects elements in a long and writes them word by word. Only the first and the last word are written
+     * partially, to keep the bits of other fields
+     */
+    private final class Packer {
+        private long index;
+        private long bits;
+        private int filled;
+        private int firstBit;
+
+        private Packer(long position) {
+            this.index = storeIndex(position) + (bitShift >>> 5);
+            this.firstBit = bitShift & 0b11111;
+            this.filled = firstBit;
+        }
+
+        private void add(int value) {
+            bits |= (long) value << filled;
+            filled += elementBits;
+            if (filled >= 32) {
+                store.setPartialInt(index++, (int) bits, -1 << firstBit);
+                bits >>>= 32;
+                filled -= 32;
+                firstBit = 0;
+            }
+        }
+
+        private void flush() {
+            if (filled > firstBit) {
+                store.setPartialInt(index, (int) bits, (int) ((1L << filled) - 1) & (-1 << firstBit));
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import java.util.Objects;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Stores floating point number {@link Float} from defined range on 1-24 bits of memory. Range [minValue, maxValue] is
+ * divided into {@code 2^bitsCount - 1} equal steps and only the number of the step is stored. Both min and max values
+ * are stored exactly. Other values are rounded to the step using configured {@link Rounding}
+ * <br>
+ * <p>
+ * For example, sensor readings in range [-40, 85] stored on 12 bits have precision of about 0.03
+ */
+public class QuantizedFloatEncoder extends BitEncoder {
+
+    public static final int MIN_BIT_COUNT = 1;
+    public static final int MAX_BIT_COUNT = 24;
+    public static final int MAX_LAST_BIT = 32;
+
+    /**
+     * How values between the steps are rounded
+     */
+    public enum Rounding {
+        /**
+         * Round to the nearest step, ties to even step
+         */
+        NEAREST,
+        /**
+         * Round to the step that is lower or equal to the value
+         */
+        DOWN,
+        /**
+         * Round to the step that is greater or equal to the value
+         */
+        UP
+    }
+
+    private final float minValue;
+    private final float maxValue;
+    private final Rounding rounding;
+    private final int maxStep;
+    private final double step;
+    private final int mask;
+    private final String incorrectValueException;
+
+    /**
+     * Constructor
+     *
+     * @param config   configuration describing memory layout
+     * @param minValue min value that can be stored in this encoder
+     * @param maxValue max value that can be stored in this encoder
+     * @param rounding how values between the steps are rounded
+     */
+    public QuantizedFloatEncoder(Config config, float minValue, float maxValue, Rounding rounding) {
+        super(config);
+        assertArgument(Float.isFinite(minValue) && Float.isFinite(maxValue), "Min and Max Value must be finite");
+        assertArgument(minValue < maxValue, "Min Value must be lower than Max Value");
+
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.rounding = requireNonNull(rounding, "Rounding cannot be null");
+        this.maxStep = (1 << this.bitsCount) - 1;
+        this.step = ((double) maxValue - minValue) / maxStep;
+        this.mask = this.maxStep << this.bitShift;
+        this.incorrectValueException = String.format("Value must be between [%s, %s]", minValue, maxValue);
+    }
+
+    /**
+     * @return min value that can be stored in this encoder
+     */
+    public float minValue() {
+        return minValue;
+    }
+
+    /**
+     * @return max value that can be stored in this encoder
+     */
+    public float maxValue() {
+        return maxValue;
+    }
+
+    /**
+     * @return how values between the steps are rounded
+     */
+    public Rounding rounding() {
+        return rounding;
+    }
+
+    /**
+     * @return difference between two consecutive values that can be stored in this encoder
+     */
+    public double step() {
+        return step;
+    }
+
+    /**
+     * Returns float from given index
+     *
+     * @param position index of the record
+     * @return float value
+     */
+    public float get(long position) {
+        int quantized = getQuantized(position);
+        return quantized == maxStep ? maxValue : (float) (minValue + quantized * step);
+    }
+
+    /**
+     * Sets float for record of given index. Value is rounded to the step
+     *
+     * @param position index of the record
+     * @param value    float value
+     */
+    public void set(long position, float value) {
+        assertArgument(value >= minValue && value <= maxValue, incorrectValueException);
+        setQuantized(position, quantize(value));
+    }
+
+    /**
+     * Returns number of the step stored for given index. Steps are ordered the same way as values
+     *
+     * @param position index of the record
+     * @return step number, from 0 to {@code 2^bitsCount - 1}
+     */
+    public int getQuantized(long position) {
+        return (store.getInt(storeIndex(position)) & mask) >>> bitShift;
+    }
+
+    /**
+     * Sets number of the step for record of given index
+     *
+     * @param position  index of the record
+     * @param quantized step number, from 0 to {@code 2^bitsCount - 1}
+     */
+    public void setQuantized(long position, int quantized) {
+        assertArgument(quantized >= 0 && quantized <= maxStep, "Quantized value must be between [0, %d]", maxStep);
+        store.setPartialInt(storeIndex(position), quantized << bitShift, mask);
+    }
+
+    private int quantize(float value) {
+        double steps = (value - (double) minValue) / step;
+        double rounded;
+        switch (rounding) {
+            case DOWN:
+                rounded = Math.floor(steps);
+                break;
+            case UP:
+                rounded = Math.ceil(steps);
+                break;
+            default:
+                rounded = Math.rint(steps);
+        }
+        return (int) Math.min(rounded, maxStep);
+    }
+
+    @Override
+    protected int minBits() {
+        return MIN_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return MAX_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        QuantizedFloatEncoder that = (QuantizedFloatEncoder) o;
+        return Float.compare(that.minValue, minValue) == 0 && Float.compare(that.maxValue, maxValue) == 0 && rounding == that.rounding;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), minValue, maxValue, rounding);
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Encoder that stores positions of other records of the same table. When records are physically moved, those
+ * positions must be remapped to keep links consistent
+ */
+public interface RecordLinkEncoder extends Encoder {
+
+    /**
+     * Replaces all record positions stored in given record with positions returned by the mapping
+     *
+     * @param position index of the record
+     * @param mapping  function returning new position of the record for its old position
+     */
+    void remapLinks(long position, LongUnaryOperator mapping);
+
+    /**
+     * Replaces all record positions stored in the records from 0th to recordsCount exclusive. Encoders that keep links
+     * outside the records can override it to remap them in one pass
+     *
+     * @param recordsCount number of records, starting from 0th
+     * @param mapping      function returning new position of the record for its old position
+     */
+    default void remapAllLinks(long recordsCount, LongUnaryOperator mapping) {
+        for (long position = 0; position < recordsCount; position++) {
+            remapLinks(position, mapping);
+        }
+    }
+}
@@ -35,6 +35,20 @@ public class SignedIntegerEncoder extends BitEncoder {
         this.incorrectValueException = String.format("Value must be between [%d, %d]", this.minValue, this.maxValue);
     }
 
+    /**
+     * @return min value that can be stored in this encoder
+     */
+    public int minValue() {
+        return minValue;
+    }
+
+    /**
+     * @return max value that can be stored in this encoder
+     */
+    public int maxValue() {
+        return maxValue;
+    }
+
     /**
      * Returns integer from given index
      *
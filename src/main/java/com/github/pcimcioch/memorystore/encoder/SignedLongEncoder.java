@@ -0,0 +1,100 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import java.util.Objects;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Stores signed long on 1-63 bits of memory. Value is stored as an offset from the min value, so number of bits
+ * depends only on the number of possible values. Value may span up to three consecutive words of the record
+ */
+public class SignedLongEncoder extends BitEncoder {
+
+    public static final int MIN_BIT_COUNT = 1;
+    public static final int MAX_BIT_COUNT = 63;
+    public static final int MAX_LAST_BIT = 96;
+
+    private final long minValue;
+    private final long maxValue;
+    private final String incorrectValueException;
+
+    /**
+     * Constructor
+     *
+     * @param config   configuration describing memory layout
+     * @param minValue min value that can be stored in this signed long
+     */
+    public SignedLongEncoder(Config config, long minValue) {
+        super(config);
+
+        long maxValue = minValue + (1L << this.bitsCount) - 1;
+        this.minValue = minValue;
+        this.maxValue = maxValue < minValue ? Long.MAX_VALUE : maxValue;
+
+        this.incorrectValueException = String.format("Value must be between [%d, %d]", this.minValue, this.maxValue);
+    }
+
+    /**
+     * @return min value that can be stored in this encoder
+     */
+    public long minValue() {
+        return minValue;
+    }
+
+    /**
+     * @return max value that can be stored in this encoder
+     */
+    public long maxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Returns long from given index
+     *
+     * @param position index of the record
+     * @return long value
+     */
+    public long get(long position) {
+        return readValue(position) + minValue;
+    }
+
+    /**
+     * Sets long for record of given index
+     *
+     * @param position index of the record
+     * @param value    long value
+     */
+    public void set(long position, long value) {
+        assertArgument(value >= minValue && value <= maxValue, incorrectValueException);
+        writeValue(position, value - minValue);
+    }
+
+    @Override
+    protected int minBits() {
+        return MIN_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return MAX_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        SignedLongEncoder that = (SignedLongEncoder) o;
+        return minValue == that.minValue;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), minValue);
+    }
+}
@@ -0,0 +1,159 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import java.time.DateTimeException;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Base encoder for date and time types. Value is stored as the number of granularity units since the min value, on
+ * 1-63 bits of memory. Number of units since 1970-01-01T00:00:00Z is called epoch units
+ */
+public abstract class TemporalEncoderBase extends BitEncoder {
+
+    public static final int MIN_BIT_COUNT = 1;
+    public static final int MAX_BIT_COUNT = 63;
+    public static final int MAX_LAST_BIT = 96;
+
+    /**
+     * Granularities that can be used by temporal encoders
+     */
+    public static final Set<ChronoUnit> GRANULARITIES = EnumSet.of(
+            ChronoUnit.MILLIS, ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.DAYS);
+
+    protected final ChronoUnit granularity;
+    protected final long unitMillis;
+    private final long minEpochUnits;
+    private final long maxEpochUnits;
+    private final String incorrectValueException;
+
+    protected TemporalEncoderBase(Config config, ChronoUnit granularity, long minEpochUnits) {
+        super(config);
+
+        this.granularity = granularity;
+        this.unitMillis = unitMillis(granularity);
+        long maxEpochUnits = minEpochUnits + (1L << this.bitsCount) - 1;
+        this.minEpochUnits = minEpochUnits;
+        this.maxEpochUnits = maxEpochUnits < minEpochUnits ? Long.MAX_VALUE : maxEpochUnits;
+        this.incorrectValueException = String.format("Value must be between [%s, %s]",
+                format(this.minEpochUnits), format(this.maxEpochUnits));
+    }
+
+    /**
+     * @return unit in which values are stored
+     */
+    public ChronoUnit granularity() {
+        return granularity;
+    }
+
+    /**
+     * @return min value that can be stored in this encoder, in epoch units
+     */
+    public long minEpochUnits() {
+        return minEpochUnits;
+    }
+
+    /**
+     * @return max value that can be stored in this encoder, in epoch units
+     */
+    public long maxEpochUnits() {
+        return maxEpochUnits;
+    }
+
+    /**
+     * Returns value from given index as the number of granularity units since 1970-01-01T00:00:00Z
+     *
+     * @param position index of the record
+     * @return epoch units
+     */
+    public long getEpochUnits(long position) {
+        return readValue(position) + minEpochUnits;
+    }
+
+    /**
+     * Sets value for record of given index as the number of granularity units since 1970-01-01T00:00:00Z
+     *
+     * @param position   index of the record
+     * @param epochUnits epoch units
+     */
+    public void setEpochUnits(long position, long epochUnits) {
+        assertArgument(epochUnits >= minEpochUnits && epochUnits <= maxEpochUnits, incorrectValueException);
+        writeValue(position, epochUnits - minEpochUnits);
+    }
+
+    /**
+     * Returns how many milliseconds are in a single unit of given granularity
+     *
+     * @param granularity granularity
+     * @return milliseconds in a unit
+     */
+    public static long unitMillis(ChronoUnit granularity) {
+        assertGranularity(granularity);
+
+        return granularity.getDuration().toMillis();
+    }
+
+    /**
+     * Checks that given granularity can be used by temporal encoders
+     *
+     * @param granularity granularity
+     */
+    public static void assertGranularity(ChronoUnit granularity) {
+        requireNonNull(granularity, "Granularity cannot be null");
+        assertArgument(GRANULARITIES.contains(granularity), "Granularity must be one of %s", GRANULARITIES);
+    }
+
+    /**
+     * Converts epoch milliseconds to the epoch units, rounding down
+     *
+     * @param epochMilli  milliseconds since 1970-01-01T00:00:00Z
+     * @param granularity granularity
+     * @return epoch units
+     */
+    public static long toEpochUnits(long epochMilli, ChronoUnit granularity) {
+        return Math.floorDiv(epochMilli, unitMillis(granularity));
+    }
+
+    protected abstract String formatEpochUnits(long epochUnits);
+
+    private String format(long epochUnits) {
+        try {
+            return formatEpochUnits(epochUnits);
+        } catch (DateTimeException | ArithmeticException ex) {
+            return epochUnits + " " + granularity.toString().toLowerCase();
+        }
+    }
+
+    @Override
+    protected int minBits() {
+        return MIN_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return MAX_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        TemporalEncoderBase that = (TemporalEncoderBase) o;
+        return minEpochUnits == that.minEpochUnits && granularity == that.granularity;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), granularity, minEpochUnits);
+    }
+}
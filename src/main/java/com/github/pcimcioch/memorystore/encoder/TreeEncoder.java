@@ -0,0 +1,401 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Allows to connect records in trees. Each record stores its parent, its first child and its next sibling, each on a
+ * third of the header bits. Children of the record form a list starting at the first child and following next
+ * siblings. Record without a parent is a root of the tree. Missing links are returned as {@link #NONE}.
+ * <br>
+ * <p>
+ * All traversals follow the stored links, without any stack or queue, so they don't allocate memory per visited record.
+ * Each record can belong to only one tree.
+ * <br>
+ * <p>
+ * For example, tree:
+ * <pre>
+ *         0
+ *       / | \
+ *      1  2  3
+ *     / \
+ *    4   5
+ * </pre>
+ * Is stored as:
+ * <pre>
+ *     record:       0     1     2     3     4     5
+ *     parent:       NONE  0     0     0     1     1
+ *     first child:  1     4     NONE  NONE  NONE  NONE
+ *     next sibling: NONE  2     3     NONE  5     NONE
+ * </pre>
+ */
+public class TreeEncoder extends BitEncoder implements RecordLinkEncoder {
+
+    public static final int MIN_BIT_COUNT = 3;
+    public static final int MAX_BIT_COUNT = 93;
+    public static final int MAX_LAST_BIT = 96;
+
+    /**
+     * Returned when there is no parent, child or sibling
+     */
+    public static final long NONE = -1L;
+
+    private final int pointerBits;
+    private final long maxValue;
+    private final String incorrectValueException;
+
+    /**
+     * {@inheritDoc}
+     */
+    public TreeEncoder(BitEncoder.Config config) {
+        super(config);
+        assertArgument(this.bitsCount % 3 == 0, "Bits Count must be divisible by 3");
+
+        this.pointerBits = this.bitsCount / 3;
+        this.maxValue = (1L << this.pointerBits) - 2;
+        this.incorrectValueException = String.format("Value must be between [0, %d]", this.maxValue);
+    }
+
+    /**
+     * Initializes the record as one-element tree. Each record must be initialized, either by this method or by
+     * {@link #build(long[])}, before it is added to a tree
+     *
+     * @param position position to initialize
+     */
+    public void init(long position) {
+        setParent(position, NONE);
+        setFirstChild(position, NONE);
+        setNextSibling(position, NONE);
+    }
+
+    /**
+     * Returns parent of the record
+     *
+     * @param position record position
+     * @return parent or {@link #NONE} for the root
+     */
+    public long parent(long position) {
+        return readBits(position, 0, pointerBits) - 1;
+    }
+
+    /**
+     * Returns first child of the record
+     *
+     * @param position record position
+     * @return first child or {@link #NONE} for the leaf
+     */
+    public long firstChild(long position) {
+        return readBits(position, pointerBits, pointerBits) - 1;
+    }
+
+    /**
+     * Returns next sibling of the record
+     *
+     * @param position record position
+     * @return next sibling or {@link #NONE} for the last child
+     */
+    public long nextSibling(long position) {
+        return readBits(position, 2 * pointerBits, pointerBits) - 1;
+    }
+
+    /**
+     * @param position record position
+     * @return whether record has no parent
+     */
+    public boolean isRoot(long position) {
+        return parent(position) == NONE;
+    }
+
+    /**
+     * @param position record position
+     * @return whether record has no children
+     */
+    public boolean isLeaf(long position) {
+        return firstChild(position) == NONE;
+    }
+
+    /**
+     * Adds child as the first child of the parent. Child must be a root of its tree, and it is added with its whole
+     * subtree. If you need to move a record from one parent to another, first detach it using {@link #detach(long)}.
+     *
+     * @param parentPosition parent record
+     * @param childPosition  child record
+     */
+    public void addChild(long parentPosition, long childPosition) {
+        assertArgument(isRoot(childPosition), "Record %d already has a parent", childPosition);
+        assertArgument(parentPosition != childPosition, "Record %d cannot be its own child", childPosition);
+
+        setNextSibling(childPosition, firstChild(parentPosition));
+        setFirstChild(parentPosition, childPosition);
+        setParent(childPosition, parentPosition);
+    }
+
+    /**
+     * Detaches the record, with its whole subtree, from its parent. The record becomes the root of a separate tree.
+     * Finding the record among the children of the parent takes time proportional to the number of children
+     *
+     * @param position record to detach
+     */
+    public void detach(long position) {
+        long parent = parent(position);
+        if (parent == NONE) {
+            return;
+        }
+
+        long next = nextSibling(position);
+        long child = firstChild(parent);
+        if (child == position) {
+            setFirstChild(parent, next);
+        } else {
+            while (nextSibling(child) != position) {
+                child = nextSibling(child);
+            }
+            setNextSibling(child, next);
+        }
+
+        setParent(position, NONE);
+        setNextSibling(position, NONE);
+    }
+
+    /**
+     * Builds trees for records from 0 to parents.length - 1. Record i becomes a child of record parents[i], or a root if
+     * parents[i] is {@link #NONE}. Children of each record are ordered by their positions. Parents must form a forest,
+     * cycles are not detected.
+     *
+     * @param parents parent of each record
+     */
+    public void build(long[] parents) {
+        for (long position = 0; position < parents.length; position++) {
+            init(position);
+        }
+        for (int position = parents.length - 1; position >= 0; position--) {
+            long parent = parents[position];
+            if (parent != NONE) {
+                assertArgument(parent >= 0 && parent < parents.length && parent != position,
+                        "Incorrect parent %d of record %d", parent, position);
+                setNextSibling(position, firstChild(parent));
+                setFirstChild(parent, position);
+                setParent(position, parent);
+            }
+        }
+    }
+
+    /**
+     * Returns root of the tree containing the record
+     *
+     * @param position record position
+     * @return root
+     */
+    public long root(long position) {
+        for (long parent = parent(position); parent != NONE; parent = parent(position)) {
+            position = parent;
+        }
+        return position;
+    }
+
+    /**
+     * Returns depth of the record. Depth of the root is zero
+     *
+     * @param position record position
+     * @return depth
+     */
+    public int depth(long position) {
+        int depth = 0;
+        for (long parent = parent(position); parent != NONE; parent = parent(parent)) {
+            depth++;
+        }
+        return depth;
+    }
+
+    /**
+     * Returns number of records in the subtree, including the root of the subtree
+     *
+     * @param root root of the subtree
+     * @return subtree size
+     */
+    public long subtreeSize(long root) {
+        long size = 0;
+        for (long position = root; position != NONE; position = nextPreorder(position, root)) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Calls action for each child of the record, in order
+     *
+     * @param position record position
+     * @param action   action to call
+     */
+    public void forEachChild(long position, LongConsumer action) {
+        for (long child = firstChild(position); child != NONE; child = nextSibling(child)) {
+            action.accept(child);
+        }
+    }
+
+    /**
+     * Calls action for each record of the subtree in preorder, parents before their children
+     *
+     * @param root   root of the subtree
+     * @param action action to call
+     */
+    public void forEachPreorder(long root, LongConsumer action) {
+        for (long position = root; position != NONE; position = nextPreorder(position, root)) {
+            action.accept(position);
+        }
+    }
+
+    /**
+     * Calls action for each record of the subtree in postorder, children before their parents
+     *
+     * @param root   root of the subtree
+     * @param action action to call
+     */
+    public void forEachPostorder(long root, LongConsumer action) {
+        for (long position = firstLeaf(root); position != NONE; position = nextPostorder(position, root)) {
+            action.accept(position);
+        }
+    }
+
+    /**
+     * Returns iterator over the subtree in preorder, parents before their children
+     *
+     * @param root root of the subtree
+     * @return iterator
+     */
+    public TreeIterator preorder(long root) {
+        return new TreeIterator(root, root, false);
+    }
+
+    /**
+     * Returns iterator over the subtree in postorder, children before their parents
+     *
+     * @param root root of the subtree
+     * @return iterator
+     */
+    public TreeIterator postorder(long root) {
+        return new TreeIterator(root, firstLeaf(root), true);
+    }
+
+    /**
+     * Returns stream of all the records of the subtree in preorder
+     *
+     * @param root root of the subtree
+     * @return stream
+     */
+    public LongStream subtree(long root) {
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(preorder(root), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remapLinks(long position, LongUnaryOperator mapping) {
+        long parent = parent(position);
+        long firstChild = firstChild(position);
+        long nextSibling = nextSibling(position);
+
+        setParent(position, parent == NONE ? NONE : mapping.applyAsLong(parent));
+        setFirstChild(position, firstChild == NONE ? NONE : mapping.applyAsLong(firstChild));
+        setNextSibling(position, nextSibling == NONE ? NONE : mapping.applyAsLong(nextSibling));
+    }
+
+    private long nextPreorder(long position, long root) {
+        long child = firstChild(position);
+        if (child != NONE) {
+            return child;
+        }
+        for (; position != root; position = parent(position)) {
+            long sibling = nextSibling(position);
+            if (sibling != NONE) {
+                return sibling;
+            }
+        }
+        return NONE;
+    }
+
+    private long nextPostorder(long position, long root) {
+        if (position == root) {
+            return NONE;
+        }
+        long sibling = nextSibling(position);
+        return sibling == NONE ? parent(position) : firstLeaf(sibling);
+    }
+
+    private long firstLeaf(long position) {
+        for (long child = firstChild(position); child != NONE; child = firstChild(position)) {
+            position = child;
+        }
+        return position;
+    }
+
+    private void setParent(long position, long value) {
+        setPointer(position, 0, value);
+    }
+
+    private void setFirstChild(long position, long value) {
+        setPointer(position, pointerBits, value);
+    }
+
+    private void setNextSibling(long position, long value) {
+        setPointer(position, 2 * pointerBits, value);
+    }
+
+    private void setPointer(long position, int offset, long value) {
+        assertArgument(value >= NONE && value <= maxValue, incorrectValueException);
+        writeBits(position, offset, pointerBits, value + 1);
+    }
+
+    @Override
+    protected int minBits() {
+        return MIN_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return MAX_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+
+    public final class TreeIterator implements PrimitiveIterator.OfLong {
+
+        private final long root;
+        private final boolean postorder;
+        private long nextPosition;
+
+        private TreeIterator(long root, long nextPosition, boolean postorder) {
+            this.root = root;
+            this.nextPosition = nextPosition;
+            this.postorder = postorder;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextPosition != NONE;
+        }
+
+        @Override
+        public long nextLong() {
+            if (nextPosition == NONE) {
+                throw new NoSuchElementException();
+            }
+
+            long position = nextPosition;
+            nextPosition = postorder ? nextPostorder(position, root) : nextPreorder(position, root);
+            return position;
+        }
+    }
+}
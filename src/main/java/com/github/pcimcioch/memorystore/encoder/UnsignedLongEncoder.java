@@ -0,0 +1,69 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Stores unsigned long on 1-63 bits of memory. Value may span up to three consecutive words of the record
+ */
+public class UnsignedLongEncoder extends BitEncoder {
+
+    public static final int MIN_BIT_COUNT = 1;
+    public static final int MAX_BIT_COUNT = 63;
+    public static final int MAX_LAST_BIT = 96;
+
+    private final long maxValue;
+    private final String incorrectValueException;
+
+    /**
+     * {@inheritDoc}
+     */
+    public UnsignedLongEncoder(Config config) {
+        super(config);
+        this.maxValue = (1L << this.bitsCount) - 1;
+
+        this.incorrectValueException = String.format("Value must be between [0, %d]", this.maxValue);
+    }
+
+    /**
+     * @return max value that can be stored in this encoder
+     */
+    public long maxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Returns long from given index
+     *
+     * @param position index of the record
+     * @return long value
+     */
+    public long get(long position) {
+        return readValue(position);
+    }
+
+    /**
+     * Sets long for record of given index
+     *
+     * @param position index of the record
+     * @param value    long value
+     */
+    public void set(long position, long value) {
+        assertArgument(value >= 0 && value <= maxValue, incorrectValueException);
+        writeValue(position, value);
+    }
+
+    @Override
+    protected int minBits() {
+        return MIN_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxBits() {
+        return MAX_BIT_COUNT;
+    }
+
+    @Override
+    protected int maxLastBit() {
+        return MAX_LAST_BIT;
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.pcimcioch.memorystore.header;
+
+import com.github.pcimcioch.memorystore.encoder.AdjacencyEncoder;
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.store.IntStore;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder.MAX_BIT_COUNT;
+import static com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder.MAX_LAST_BIT;
+import static com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder.MIN_BIT_COUNT;
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * AdjacencyHeaders represent outgoing edges of the graph, stored in Compressed Sparse Row format. Neighbours of all
+ * records are stored one after another in a separate store of edges. Each record stores only the offset of its first
+ * neighbour in that store and the number of its neighbours
+ */
+public class AdjacencyHeader extends Header<AdjacencyEncoder> implements StoreOwnerHeader<AdjacencyEncoder> {
+
+    private static final String OFFSET_SUFFIX = "-offset";
+    private static final String DEGREE_SUFFIX = "-degree";
+
+    private final BitHeader<UnsignedIntegerEncoder> offsetHeader;
+    private final BitHeader<UnsignedIntegerEncoder> degreeHeader;
+
+    /**
+     * Constructor
+     *
+     * @param name       header name
+     * @param degreeBits how many bits should be used to store number of neighbours of the record
+     */
+    public AdjacencyHeader(String name, int degreeBits) {
+        super(name);
+        assertArgument(degreeBits >= MIN_BIT_COUNT && degreeBits <= MAX_BIT_COUNT,
+                "Degree Bits Count must be between %d and %d", MIN_BIT_COUNT, MAX_BIT_COUNT);
+
+        this.offsetHeader = new BitHeader<>(name + OFFSET_SUFFIX, MAX_BIT_COUNT, MAX_LAST_BIT, UnsignedIntegerEncoder::new);
+        this.degreeHeader = new BitHeader<>(name + DEGREE_SUFFIX, degreeBits, MAX_LAST_BIT, UnsignedIntegerEncoder::new);
+    }
+
+    /**
+     * BitHeader that is used to store offset of the first neighbour in the store of edges
+     *
+     * @return header to store offset
+     */
+    public BitHeader<UnsignedIntegerEncoder> offsetHeader() {
+        return offsetHeader;
+    }
+
+    /**
+     * BitHeader that is used to store number of neighbours
+     *
+     * @return header to store degree
+     */
+    public BitHeader<UnsignedIntegerEncoder> degreeHeader() {
+        return degreeHeader;
+    }
+
+    @Override
+    public List<BitHeader<UnsignedIntegerEncoder>> recordHeaders() {
+        return List.of(offsetHeader, degreeHeader);
+    }
+
+    @Override
+    public AdjacencyEncoder buildEncoder(IntStore store,
+                                         Function<BitHeader<UnsignedIntegerEncoder>, UnsignedIntegerEncoder> recordEncoders) {
+        return new AdjacencyEncoder(store, recordEncoders.apply(offsetHeader), recordEncoders.apply(degreeHeader));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        AdjacencyHeader that = (AdjacencyHeader) o;
+        return offsetHeader.equals(that.offsetHeader) && degreeHeader.equals(that.degreeHeader);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), offsetHeader, degreeHeader);
+    }
+}
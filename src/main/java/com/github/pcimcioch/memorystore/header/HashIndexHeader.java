@@ -0,0 +1,35 @@
+package com.github.pcimcioch.memorystore.header;
+
+import com.github.pcimcioch.memorystore.encoder.HashIndexEncoder;
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.store.IntStore;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * HashIndexHeaders represent the map from the long key to the record position. Buckets of the map are stored in a
+ * separate store, so records do not need any bits for it
+ */
+public class HashIndexHeader extends Header<HashIndexEncoder> implements StoreOwnerHeader<HashIndexEncoder> {
+
+    /**
+     * Constructor
+     *
+     * @param name header name
+     */
+    public HashIndexHeader(String name) {
+        super(name);
+    }
+
+    @Override
+    public List<BitHeader<UnsignedIntegerEncoder>> recordHeaders() {
+        return List.of();
+    }
+
+    @Override
+    public HashIndexEncoder buildEncoder(IntStore store,
+                                         Function<BitHeader<UnsignedIntegerEncoder>, UnsignedIntegerEncoder> recordEncoders) {
+        return new HashIndexEncoder(store);
+    }
+}
@@ -1,25 +1,52 @@
 package com.github.pcimcioch.memorystore.header;
 
+import com.github.pcimcioch.memorystore.encoder.BFloat16Encoder;
 import com.github.pcimcioch.memorystore.encoder.BitSetEncoder;
 import com.github.pcimcioch.memorystore.encoder.BooleanEncoder;
 import com.github.pcimcioch.memorystore.encoder.ByteEncoder;
 import com.github.pcimcioch.memorystore.encoder.CharEncoder;
+import com.github.pcimcioch.memorystore.encoder.DecimalEncoder;
 import com.github.pcimcioch.memorystore.encoder.DoubleEncoder;
+import com.github.pcimcioch.memorystore.encoder.DoublyLinkedListEncoder;
 import com.github.pcimcioch.memorystore.encoder.EnumBitSetEncoder;
 import com.github.pcimcioch.memorystore.encoder.EnumEncoder;
 import com.github.pcimcioch.memorystore.encoder.EnumEncoderBase;
 import com.github.pcimcioch.memorystore.encoder.EnumEncoderBase.EnumToIntFunction;
 import com.github.pcimcioch.memorystore.encoder.EnumEncoderBase.IntToEnumFunction;
 import com.github.pcimcioch.memorystore.encoder.FloatEncoder;
+import com.github.pcimcioch.memorystore.encoder.HalfFloatEncoder;
+import com.github.pcimcioch.memorystore.encoder.InstantEncoder;
 import com.github.pcimcioch.memorystore.encoder.IntEncoder;
 import com.github.pcimcioch.memorystore.encoder.ListEncoder;
+import com.github.pcimcioch.memorystore.encoder.LocalDateEncoder;
+import com.github.pcimcioch.memorystore.encoder.LocalDateTimeEncoder;
 import com.github.pcimcioch.memorystore.encoder.LongEncoder;
+import com.github.pcimcioch.memorystore.encoder.NullableDoubleEncoder;
+import com.github.pcimcioch.memorystore.encoder.NullableFloatEncoder;
+import com.github.pcimcioch.memorystore.encoder.NullableIntEncoder;
+import com.github.pcimcioch.memorystore.encoder.NullableLongEncoder;
+import com.github.pcimcioch.memorystore.encoder.NullableSignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.encoder.NullableSignedLongEncoder;
+import com.github.pcimcioch.memorystore.encoder.PackedArrayEncoder;
+import com.github.pcimcioch.memorystore.encoder.QuantizedFloatEncoder;
+import com.github.pcimcioch.memorystore.encoder.QuantizedFloatEncoder.Rounding;
 import com.github.pcimcioch.memorystore.encoder.ShortEncoder;
 import com.github.pcimcioch.memorystore.encoder.SignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.encoder.SignedLongEncoder;
+import com.github.pcimcioch.memorystore.encoder.TemporalEncoderBase;
+import com.github.pcimcioch.memorystore.encoder.TreeEncoder;
 import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.encoder.UnsignedLongEncoder;
 import com.github.pcimcioch.memorystore.header.ObjectPoolHeader.PoolDefinition;
 import com.github.pcimcioch.memorystore.util.Utils;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
 import static com.github.pcimcioch.memorystore.encoder.EnumEncoderBase.enumFactory;
 import static com.github.pcimcioch.memorystore.encoder.EnumEncoderBase.enumIndexer;
 import static com.github.pcimcioch.memorystore.encoder.EnumEncoderBase.enumSize;
@@ -27,6 +54,7 @@ import static com.github.pcimcioch.memorystore.encoder.EnumEncoderBase.nullableE
 import static com.github.pcimcioch.memorystore.encoder.EnumEncoderBase.nullableEnumIndexer;
 import static com.github.pcimcioch.memorystore.encoder.EnumEncoderBase.nullableEnumSize;
 import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Objects.requireNonNull;
 
 /**
  * This class contains constructor methods for common headers implemented by this library. It's just a facade
@@ -68,6 +96,45 @@ public final class Headers {
         return new BitHeader<>(name, CharEncoder.BIT_COUNT, CharEncoder.MAX_LAST_BIT, CharEncoder::new);
     }
 
+    /**
+     * Store fixed point decimal from defined range, with defined number of decimal places. Decimal is stored as integer
+     * on as many bits as needed to store all possible values
+     *
+     * @param name     name of the header
+     * @param scale    number of decimal places
+     * @param minValue minimum value that can be stored in this store
+     * @param maxValue maximum value that can be stored in this store
+     * @return new header
+     */
+    public static BitHeader<DecimalEncoder> decimal(String name, int scale, BigDecimal minValue, BigDecimal maxValue) {
+        assertArgument(scale >= DecimalEncoder.MIN_SCALE && scale <= DecimalEncoder.MAX_SCALE,
+                "Scale must be between %d and %d", DecimalEncoder.MIN_SCALE, DecimalEncoder.MAX_SCALE);
+        BigInteger minUnscaled = unscaled(minValue, scale);
+        BigInteger maxUnscaled = unscaled(maxValue, scale);
+        BigInteger range = maxUnscaled.subtract(minUnscaled).add(BigInteger.ONE);
+        assertNumberOfValuesInRange(range.bitLength() < Long.SIZE ? range.longValue() : Long.MAX_VALUE,
+                DecimalEncoder.MIN_BIT_COUNT, DecimalEncoder.MAX_BIT_COUNT);
+
+        long min = minUnscaled.longValueExact();
+        return new BitHeader<>(name, Utils.countBits(range.longValue()), DecimalEncoder.MAX_LAST_BIT, config -> new DecimalEncoder(config, scale, min));
+    }
+
+    /**
+     * Store fixed point decimal from defined range, with defined number of decimal places. Decimal is stored as integer
+     * on as many bits as needed to store all possible values
+     *
+     * @param name     name of the header
+     * @param scale    number of decimal places
+     * @param minValue minimum value that can be stored in this store
+     * @param maxValue maximum value that can be stored in this store
+     * @return new header
+     */
+    public static BitHeader<DecimalEncoder> decimal(String name, int scale, double minValue, double maxValue) {
+        assertArgument(Double.isFinite(minValue) && Double.isFinite(maxValue), "Min and Max Value must be finite");
+
+        return decimal(name, scale, BigDecimal.valueOf(minValue), BigDecimal.valueOf(maxValue));
+    }
+
     /**
      * Store double on 64 bits
      *
@@ -182,6 +249,61 @@ public final class Headers {
         return new BitHeader<>(name, FloatEncoder.BIT_COUNT, FloatEncoder.MAX_LAST_BIT, FloatEncoder::new);
     }
 
+    /**
+     * Store float on 16 bits, in IEEE 754 half precision format. Values are rounded to 11 bits of precision and
+     * range of about [-65504, 65504]
+     *
+     * @param name name of the header
+     * @return new header
+     */
+    public static BitHeader<HalfFloatEncoder> float16(String name) {
+        return new BitHeader<>(name, HalfFloatEncoder.BIT_COUNT, HalfFloatEncoder.MAX_LAST_BIT, HalfFloatEncoder::new);
+    }
+
+    /**
+     * Store float on 16 bits, in bfloat16 format. Values keep the float range, but are rounded to 8 bits of precision
+     *
+     * @param name name of the header
+     * @return new header
+     */
+    public static BitHeader<BFloat16Encoder> bfloat16(String name) {
+        return new BitHeader<>(name, BFloat16Encoder.BIT_COUNT, BFloat16Encoder.MAX_LAST_BIT, BFloat16Encoder::new);
+    }
+
+    /**
+     * Store float from defined range on defined number of bits. Values are rounded to the nearest of
+     * {@code 2^bitsCount} evenly distributed values
+     *
+     * @param name      name of the header
+     * @param bitsCount number of bits to use to store a value
+     * @param minValue  minimum value that can be stored in this store
+     * @param maxValue  maximum value that can be stored in this store
+     * @return new header
+     */
+    public static BitHeader<QuantizedFloatEncoder> quantizedFloat(String name, int bitsCount, float minValue, float maxValue) {
+        return quantizedFloat(name, bitsCount, minValue, maxValue, Rounding.NEAREST);
+    }
+
+    /**
+     * Store float from defined range on defined number of bits. Values are rounded to one of {@code 2^bitsCount}
+     * evenly distributed values, using given rounding
+     *
+     * @param name      name of the header
+     * @param bitsCount number of bits to use to store a value
+     * @param minValue  minimum value that can be stored in this store
+     * @param maxValue  maximum value that can be stored in this store
+     * @param rounding  how values between the steps are rounded
+     * @return new header
+     */
+    public static BitHeader<QuantizedFloatEncoder> quantizedFloat(String name, int bitsCount, float minValue, float maxValue, Rounding rounding) {
+        assertBitsCount(bitsCount, QuantizedFloatEncoder.MIN_BIT_COUNT, QuantizedFloatEncoder.MAX_BIT_COUNT);
+        assertArgument(Float.isFinite(minValue) && Float.isFinite(maxValue), "Min and Max Value must be finite");
+        assertArgument(minValue < maxValue, "Min Value must be lower than Max Value");
+        requireNonNull(rounding, "Rounding cannot be null");
+
+        return new BitHeader<>(name, bitsCount, QuantizedFloatEncoder.MAX_LAST_BIT, config -> new QuantizedFloatEncoder(config, minValue, maxValue, rounding));
+    }
+
     /**
      * Store int on 32 bits
      *
@@ -231,6 +353,94 @@ public final class Headers {
         return new BitHeader<>(name, LongEncoder.BIT_COUNT, LongEncoder.MAX_LAST_BIT, LongEncoder::new);
     }
 
+    /**
+     * Store long on defined number of bits
+     *
+     * @param name      name of the header
+     * @param minValue  minimum value that can be stored in this store
+     * @param bitsCount number of bits to use to store a value
+     * @return new header
+     */
+    public static BitHeader<SignedLongEncoder> longOnBits(String name, long minValue, int bitsCount) {
+        assertBitsCount(bitsCount, SignedLongEncoder.MIN_BIT_COUNT, SignedLongEncoder.MAX_BIT_COUNT);
+
+        return new BitHeader<>(name, bitsCount, SignedLongEncoder.MAX_LAST_BIT, config -> new SignedLongEncoder(config, minValue));
+    }
+
+    /**
+     * Store long from defined range on as many bits as needed to store all possible values
+     *
+     * @param name     name of the header
+     * @param minValue minimum value that can be stored in this store
+     * @param maxValue maximum value that can be stored in this store
+     * @return new header
+     */
+    public static BitHeader<SignedLongEncoder> longRange(String name, long minValue, long maxValue) {
+        int bitsCount = countLongRangeBits(minValue, maxValue);
+
+        return new BitHeader<>(name, bitsCount, SignedLongEncoder.MAX_LAST_BIT, config -> new SignedLongEncoder(config, minValue));
+    }
+
+    /**
+     * Store instant from defined range with defined granularity. Instant is stored as the number of granularity units
+     * since min value, on as many bits as needed to store all possible values. Instants are rounded down to the
+     * granularity
+     *
+     * @param name        name of the header
+     * @param minValue    minimum value that can be stored in this store
+     * @param maxValue    maximum value that can be stored in this store
+     * @param granularity unit in which instants are stored, one of {@link TemporalEncoderBase#GRANULARITIES}
+     * @return new header
+     */
+    public static BitHeader<InstantEncoder> instant(String name, Instant minValue, Instant maxValue, ChronoUnit granularity) {
+        TemporalEncoderBase.assertGranularity(granularity);
+        requireNonNull(minValue, "Min Value cannot be null");
+        requireNonNull(maxValue, "Max Value cannot be null");
+        long minUnits = TemporalEncoderBase.toEpochUnits(minValue.toEpochMilli(), granularity);
+        int bitsCount = countLongRangeBits(minUnits, TemporalEncoderBase.toEpochUnits(maxValue.toEpochMilli(), granularity));
+
+        return new BitHeader<>(name, bitsCount, TemporalEncoderBase.MAX_LAST_BIT, config -> new InstantEncoder(config, granularity, minUnits));
+    }
+
+    /**
+     * Store date from defined range. Date is stored as the number of days since min value, on as many bits as needed
+     * to store all possible values
+     *
+     * @param name     name of the header
+     * @param minValue minimum value that can be stored in this store
+     * @param maxValue maximum value that can be stored in this store
+     * @return new header
+     */
+    public static BitHeader<LocalDateEncoder> localDate(String name, LocalDate minValue, LocalDate maxValue) {
+        requireNonNull(minValue, "Min Value cannot be null");
+        requireNonNull(maxValue, "Max Value cannot be null");
+        long minEpochDay = minValue.toEpochDay();
+        int bitsCount = countLongRangeBits(minEpochDay, maxValue.toEpochDay());
+
+        return new BitHeader<>(name, bitsCount, TemporalEncoderBase.MAX_LAST_BIT, config -> new LocalDateEncoder(config, minEpochDay));
+    }
+
+    /**
+     * Store date time from defined range with defined granularity. Date time is stored as the number of granularity
+     * units since min value, on as many bits as needed to store all possible values. Date times are rounded down to
+     * the granularity
+     *
+     * @param name        name of the header
+     * @param minValue    minimum value that can be stored in this store
+     * @param maxValue    maximum value that can be stored in this store
+     * @param granularity unit in which date times are stored, one of {@link TemporalEncoderBase#GRANULARITIES}
+     * @return new header
+     */
+    public static BitHeader<LocalDateTimeEncoder> localDateTime(String name, LocalDateTime minValue, LocalDateTime maxValue, ChronoUnit granularity) {
+        TemporalEncoderBase.assertGranularity(granularity);
+        requireNonNull(minValue, "Min Value cannot be null");
+        requireNonNull(maxValue, "Max Value cannot be null");
+        long minUnits = TemporalEncoderBase.toEpochUnits(LocalDateTimeEncoder.toEpochMilli(minValue), granularity);
+        int bitsCount = countLongRangeBits(minUnits, TemporalEncoderBase.toEpochUnits(LocalDateTimeEncoder.toEpochMilli(maxValue), granularity));
+
+        return new BitHeader<>(name, bitsCount, TemporalEncoderBase.MAX_LAST_BIT, config -> new LocalDateTimeEncoder(config, granularity, minUnits));
+    }
+
     /**
      * Store any Object
      *
@@ -295,6 +505,125 @@ public final class Headers {
         return new BitHeader<>(name, Utils.countBits(size), ListEncoder.MAX_LAST_BIT, ListEncoder::new);
     }
 
+    /**
+     * Connect records in a doubly linked list. Each record stores index of both next and previous element
+     *
+     * @param name      name of the list header
+     * @param bitsCount number of bits on which each record can store index of the next or previous element
+     * @return new list header
+     */
+    public static BitHeader<DoublyLinkedListEncoder> doublyLinkedListOnBits(String name, int bitsCount) {
+        assertBitsCount(bitsCount, ListEncoder.MIN_BIT_COUNT, ListEncoder.MAX_BIT_COUNT);
+
+        return new BitHeader<>(name, 2 * bitsCount, DoublyLinkedListEncoder.MAX_LAST_BIT, DoublyLinkedListEncoder::new);
+    }
+
+    /**
+     * Connect records in a doubly linked list. Each record stores index of both next and previous element
+     *
+     * @param name name of the list header
+     * @param size maximum number of records that can be stored in a list
+     * @return new list header
+     */
+    public static BitHeader<DoublyLinkedListEncoder> doublyLinkedListOfSize(String name, long size) {
+        assertNumberOfValuesInRange(size, ListEncoder.MIN_BIT_COUNT, ListEncoder.MAX_BIT_COUNT);
+
+        return new BitHeader<>(name, 2 * Utils.countBits(size), DoublyLinkedListEncoder.MAX_LAST_BIT, DoublyLinkedListEncoder::new);
+    }
+
+    /**
+     * Connect records in trees. Each record stores its parent, first child and next sibling
+     *
+     * @param name      name of the tree header
+     * @param bitsCount number of bits on which each of the three links is stored
+     * @return new tree header
+     */
+    public static BitHeader<TreeEncoder> treeOnBits(String name, int bitsCount) {
+        assertBitsCount(bitsCount, ListEncoder.MIN_BIT_COUNT, ListEncoder.MAX_BIT_COUNT);
+
+        return new BitHeader<>(name, 3 * bitsCount, TreeEncoder.MAX_LAST_BIT, TreeEncoder::new);
+    }
+
+    /**
+     * Connect records in trees. Each record stores its parent, first child and next sibling
+     *
+     * @param name name of the tree header
+     * @param size maximum number of records that can be stored in trees
+     * @return new tree header
+     */
+    public static BitHeader<TreeEncoder> treeOfSize(String name, long size) {
+        assertNumberOfValuesInRange(size + 1, ListEncoder.MIN_BIT_COUNT, ListEncoder.MAX_BIT_COUNT);
+
+        return new BitHeader<>(name, 3 * Utils.countBits(size + 1), TreeEncoder.MAX_LAST_BIT, TreeEncoder::new);
+    }
+
+    /**
+     * Connect records in a graph stored in Compressed Sparse Row format. Each record stores offset of its neighbours
+     * in the separate store of edges on 31 bits, and the number of neighbours on given number of bits
+     *
+     * @param name       name of the header
+     * @param degreeBits number of bits on which each record can store number of its neighbours
+     * @return new adjacency header
+     */
+    public static AdjacencyHeader adjacencyOnBits(String name, int degreeBits) {
+        assertBitsCount(degreeBits, UnsignedIntegerEncoder.MIN_BIT_COUNT, UnsignedIntegerEncoder.MAX_BIT_COUNT);
+
+        return new AdjacencyHeader(name, degreeBits);
+    }
+
+    /**
+     * Connect records in a graph stored in Compressed Sparse Row format. Each record stores offset of its neighbours
+     * in the separate store of edges on 31 bits, and the number of neighbours on as many bits as needed
+     *
+     * @param name      name of the header
+     * @param maxDegree maximum number of neighbours of a record
+     * @return new adjacency header
+     */
+    public static AdjacencyHeader adjacencyMaxDegree(String name, int maxDegree) {
+        assertValueInRange(maxDegree, UnsignedIntegerEncoder.MIN_BIT_COUNT, UnsignedIntegerEncoder.MAX_BIT_COUNT);
+
+        return new AdjacencyHeader(name, Utils.countBits((long) maxDegree + 1));
+    }
+
+    /**
+     * Map long keys to record positions. Slots of the map are stored in the separate store, so records do not use any
+     * bits for it
+     *
+     * @param name name of the header
+     * @return new hash index header
+     */
+    public static HashIndexHeader hashIndex(String name) {
+        return new HashIndexHeader(name);
+    }
+
+    /**
+     * Store variable length int array. Elements of all the arrays are stored in the separate arena store. Each record
+     * stores offset of its first element in the arena on 31 bits, and the length of the array on given number of bits
+     *
+     * @param name       name of the header
+     * @param lengthBits number of bits on which each record can store length of its array
+     * @return new int array header
+     */
+    public static IntArrayHeader intArrayOnBits(String name, int lengthBits) {
+        assertBitsCount(lengthBits, UnsignedIntegerEncoder.MIN_BIT_COUNT, UnsignedIntegerEncoder.MAX_BIT_COUNT);
+
+        return new IntArrayHeader(name, lengthBits);
+    }
+
+    /**
+     * Store variable length int array. Elements of all the arrays are stored in the separate arena store. Each record
+     * stores offset of its first element in the arena on 31 bits, and the length of the array on as many bits as needed
+     *
+     * @param name      name of the header
+     * @param maxLength maximum length of the array
+     * @return new int array header
+     */
+    public static IntArrayHeader intArrayMaxLength(String name, int maxLength) {
+        assertValueInRange(maxLength, UnsignedIntegerEncoder.MIN_BIT_COUNT, UnsignedIntegerEncoder.MAX_BIT_COUNT);
+
+        return new IntArrayHeader(name, Utils.countBits((long) maxLength + 1));
+    }
+
     /**
      * Store any object of some object pool. Use when objects are very repeatable and there can be created a limited
      * pool of objects. Each record does not have to store its own object, but it can share object with another
@@ -345,6 +674,101 @@ public final class Headers {
         return new BitHeader<>(name, Utils.countBits((long) maxValue + 1), UnsignedIntegerEncoder.MAX_LAST_BIT, UnsignedIntegerEncoder::new);
     }
 
+    /**
+     * Store unsigned long on defined number of bits
+     *
+     * @param name      name of the header
+     * @param bitsCount number of bits to use to store a value
+     * @return new header
+     */
+    public static BitHeader<UnsignedLongEncoder> unsignedLongOnBits(String name, int bitsCount) {
+        assertBitsCount(bitsCount, UnsignedLongEncoder.MIN_BIT_COUNT, UnsignedLongEncoder.MAX_BIT_COUNT);
+
+        return new BitHeader<>(name, bitsCount, UnsignedLongEncoder.MAX_LAST_BIT, UnsignedLongEncoder::new);
+    }
+
+    /**
+     * Store unsigned long
+     *
+     * @param name     name of the header
+     * @param maxValue maximum value that can be stored
+     * @return new header
+     */
+    public static BitHeader<UnsignedLongEncoder> unsignedLongMaxValue(String name, long maxValue) {
+        assertArgument(maxValue >= 1, "Max Value must be between 1 and %d", Long.MAX_VALUE);
+
+        return new BitHeader<>(name, Long.SIZE - Long.numberOfLeadingZeros(maxValue), UnsignedLongEncoder.MAX_LAST_BIT, UnsignedLongEncoder::new);
+    }
+
+    /**
+     * Store nullable int on 33 bits: presence bit and the value
+     *
+     * @param name name of the header
+     * @return new header
+     */
+    public static BitHeader<NullableIntEncoder> nullableInt32(String name) {
+        return new BitHeader<>(name, NullableIntEncoder.BIT_COUNT, NullableIntEncoder.MAX_LAST_BIT, NullableIntEncoder::new);
+    }
+
+    /**
+     * Store nullable int from defined range on as many bits as needed to store all possible values, plus presence bit
+     *
+     * @param name     name of the header
+     * @param minValue minimum value that can be stored in this store
+     * @param maxValue maximum value that can be stored in this store
+     * @return new header
+     */
+    public static BitHeader<NullableSignedIntegerEncoder> nullableIntRange(String name, int minValue, int maxValue) {
+        long range = (long) maxValue - minValue + 1;
+        assertNumberOfValuesInRange(range, SignedIntegerEncoder.MIN_BIT_COUNT, SignedIntegerEncoder.MAX_BIT_COUNT);
+
+        return new BitHeader<>(name, Utils.countBits(range) + 1, NullableSignedIntegerEncoder.MAX_LAST_BIT, config -> new NullableSignedIntegerEncoder(config, minValue));
+    }
+
+    /**
+     * Store nullable long on 65 bits: presence bit and the value
+     *
+     * @param name name of the header
+     * @return new header
+     */
+    public static BitHeader<NullableLongEncoder> nullableLong64(String name) {
+        return new BitHeader<>(name, NullableLongEncoder.BIT_COUNT, NullableLongEncoder.MAX_LAST_BIT, NullableLongEncoder::new);
+    }
+
+    /**
+     * Store nullable long from defined range on as many bits as needed to store all possible values, plus presence bit
+     *
+     * @param name     name of the header
+     * @param minValue minimum value that can be stored in this store
+     * @param maxValue maximum value that can be stored in this store
+     * @return new header
+     */
+    public static BitHeader<NullableSignedLongEncoder> nullableLongRange(String name, long minValue, long maxValue) {
+        int bitsCount = countLongRangeBits(minValue, maxValue);
+
+        return new BitHeader<>(name, bitsCount + 1, NullableSignedLongEncoder.MAX_LAST_BIT, config -> new NullableSignedLongEncoder(config, minValue));
+    }
+
+    /**
+     * Store nullable float on 33 bits: presence bit and the value
+     *
+     * @param name name of the header
+     * @return new header
+     */
+    public static BitHeader<NullableFloatEncoder> nullableFloat32(String name) {
+        return new BitHeader<>(name, NullableFloatEncoder.BIT_COUNT, NullableFloatEncoder.MAX_LAST_BIT, NullableFloatEncoder::new);
+    }
+
+    /**
+     * Store nullable double on 65 bits: presence bit and the value
+     *
+     * @param name name of the header
+     * @return new header
+     */
+    public static BitHeader<NullableDoubleEncoder> nullableDouble64(String name) {
+        return new BitHeader<>(name, NullableDoubleEncoder.BIT_COUNT, NullableDoubleEncoder.MAX_LAST_BIT, NullableDoubleEncoder::new);
+    }
+
     /**
      * Store BitSet on defined number of bits
      *
@@ -358,6 +782,37 @@ public final class Headers {
         return new BitHeader<>(name, bitsCount, BitSetEncoder.MAX_LAST_BIT, BitSetEncoder::new);
     }
 
+    /**
+     * Store fixed length array of unsigned integers, each on defined number of bits
+     *
+     * @param name        name of the header
+     * @param length      number of elements in the array
+     * @param elementBits number of bits of each element
+     * @return new header
+     */
+    public static BitHeader<PackedArrayEncoder> packedArray(String name, int length, int elementBits) {
+        assertBitsCount(elementBits, PackedArrayEncoder.MIN_ELEMENT_BIT_COUNT, PackedArrayEncoder.MAX_ELEMENT_BIT_COUNT);
+        int maxLength = PackedArrayEncoder.MAX_BIT_COUNT / elementBits;
+        assertArgument(length >= 1 && length <= maxLength, "Length must be between 1 and %d", maxLength);
+
+        return new BitHeader<>(name, length * elementBits, PackedArrayEncoder.MAX_LAST_BIT, config -> new PackedArrayEncoder(config, elementBits));
+    }
+
+    /**
+     * Store fixed length array of unsigned integers from [0, maxValue] range, each on as many bits as needed to store
+     * max value
+     *
+     * @param name     name of the header
+     * @param length   number of elements in the array
+     * @param maxValue maximum value of the element
+     * @return new header
+     */
+    public static BitHeader<PackedArrayEncoder> packedArrayMaxValue(String name, int length, int maxValue) {
+        assertValueInRange(maxValue, PackedArrayEncoder.MIN_ELEMENT_BIT_COUNT, PackedArrayEncoder.MAX_ELEMENT_BIT_COUNT);
+
+        return packedArray(name, length, Integer.SIZE - Integer.numberOfLeadingZeros(maxValue));
+    }
+
     /**
      * Store enum bit set on as many bits as there are possible enum values excluding null. It is not possible to store null
      * value in this structure
@@ -414,6 +869,21 @@ public final class Headers {
                 "Number of possible values must be between %d and %d", min, max);
     }
 
+    private static BigInteger unscaled(BigDecimal value, int scale) {
+        requireNonNull(value, "Value cannot be null");
+        assertArgument(value.stripTrailingZeros().scale() <= scale, "Value %s has more than %d decimal places", value, scale);
+
+        return value.setScale(scale).unscaledValue();
+    }
+
+    private static int countLongRangeBits(long minValue, long maxValue) {
+        long maxOffset = maxValue - minValue;
+        assertArgument(maxValue > minValue && maxOffset > 0, "Number of possible values must be between %d and %s",
+                1L << SignedLongEncoder.MIN_BIT_COUNT, Long.toUnsignedString(1L << SignedLongEncoder.MAX_BIT_COUNT));
+
+        return Long.SIZE - Long.numberOfLeadingZeros(maxOffset);
+    }
+
     private static void assertBitsCount(int bitsCount, int minBitsCount, int maxBitsCount) {
         assertArgument(bitsCount >= minBitsCount && bitsCount <= maxBitsCount,
                 "Bits Count must be between %d and %d", minBitsCount, maxBitsCount);
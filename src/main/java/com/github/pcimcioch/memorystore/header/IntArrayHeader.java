@@ -0,0 +1,85 @@
+package com.github.pcimcioch.memorystore.header;
+
+import com.github.pcimcioch.memorystore.encoder.IntArrayEncoder;
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.store.IntStore;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder.MAX_BIT_COUNT;
+import static com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder.MAX_LAST_BIT;
+import static com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder.MIN_BIT_COUNT;
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * IntArrayHeaders represent variable length int arrays. Elements of all the arrays are stored in a separate, shared
+ * arena store. Each record stores only the offset of its first element in the arena and the length of its array
+ */
+public class IntArrayHeader extends Header<IntArrayEncoder> implements StoreOwnerHeader<IntArrayEncoder> {
+
+    private static final String OFFSET_SUFFIX = "-offset";
+    private static final String LENGTH_SUFFIX = "-length";
+
+    private final BitHeader<UnsignedIntegerEncoder> offsetHeader;
+    private final BitHeader<UnsignedIntegerEncoder> lengthHeader;
+
+    /**
+     * Constructor
+     *
+     * @param name       header name
+     * @param lengthBits how many bits should be used to store length of the array
+     */
+    public IntArrayHeader(String name, int lengthBits) {
+        super(name);
+        assertArgument(lengthBits >= MIN_BIT_COUNT && lengthBits <= MAX_BIT_COUNT,
+                "Length Bits Count must be between %d and %d", MIN_BIT_COUNT, MAX_BIT_COUNT);
+
+        this.offsetHeader = new BitHeader<>(name + OFFSET_SUFFIX, MAX_BIT_COUNT, MAX_LAST_BIT, UnsignedIntegerEncoder::new);
+        this.lengthHeader = new BitHeader<>(name + LENGTH_SUFFIX, lengthBits, MAX_LAST_BIT, UnsignedIntegerEncoder::new);
+    }
+
+    /**
+     * BitHeader that is used to store offset of the first element in the arena
+     *
+     * @return header to store offset
+     */
+    public BitHeader<UnsignedIntegerEncoder> offsetHeader() {
+        return offsetHeader;
+    }
+
+    /**
+     * BitHeader that is used to store length of the array
+     *
+     * @return header to store length
+     */
+    public BitHeader<UnsignedIntegerEncoder> lengthHeader() {
+        return lengthHeader;
+    }
+
+    @Override
+    public List<BitHeader<UnsignedIntegerEncoder>> recordHeaders() {
+        return List.of(offsetHeader, lengthHeader);
+    }
+
+    @Override
+    public IntArrayEncoder buildEncoder(IntStore store,
+                                       Function<BitHeader<UnsignedIntegerEncoder>, UnsignedIntegerEncoder> recordEncoders) {
+        return new IntArrayEncoder(store, recordEncoders.apply(offsetHeader), recordEncoders.apply(lengthHeader));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        IntArrayHeader that = (IntArrayHeader) o;
+        return offsetHeader.equals(that.offsetHeader) && lengthHeader.equals(that.lengthHeader);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), offsetHeader, lengthHeader);
+    }
+}
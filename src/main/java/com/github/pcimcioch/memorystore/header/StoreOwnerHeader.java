@@ -0,0 +1,39 @@
+package com.github.pcimcioch.memorystore.header;
+
+import com.github.pcimcioch.memorystore.encoder.Encoder;
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.store.IntStore;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Implemented by headers that keep their data in a separate IntStore, owned by the header, instead of (or in addition
+ * to) the bits of the record. The record can still store some fields, like offset into the owned store, using
+ * record headers
+ *
+ * @param <T> type of the encoder
+ */
+public interface StoreOwnerHeader<T extends Encoder> {
+
+    /**
+     * @return name of the header
+     */
+    String name();
+
+    /**
+     * BitHeaders that are stored in the record, next to other bit headers
+     *
+     * @return record headers
+     */
+    List<BitHeader<UnsignedIntegerEncoder>> recordHeaders();
+
+    /**
+     * Creates encoder for this header
+     *
+     * @param store          store owned by this header
+     * @param recordEncoders returns encoder for each of the {@link #recordHeaders()}
+     * @return encoder
+     */
+    T buildEncoder(IntStore store, Function<BitHeader<UnsignedIntegerEncoder>, UnsignedIntegerEncoder> recordEncoders);
+}
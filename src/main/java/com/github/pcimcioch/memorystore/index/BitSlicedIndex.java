@@ -0,0 +1,370 @@
+package com.github.pcimcioch.memorystore.index;
+
+import static com.github.pcimcioch.memorystore.index.Bitmap.WORDS_IN_BLOCK;
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Bit-sliced index of the integer field. Index keeps one {@link Bitmap} per each bit of the stored value: i-th bitmap
+ * contains records that have i-th bit of the value set. Values are stored as offsets from the minimum value, exactly
+ * as they are stored by the encoders.
+ * <p>
+ * Range predicates, sums and top-k queries are evaluated using logical operations on the bitmaps, so 64 records are
+ * processed at once and the cost of the query depends on the number of bits of the field, not on the number of
+ * distinct values.
+ * <p>
+ * Index is maintained incrementally. It is kept in sync with the table only when values are written through the
+ * index. Records that were never written through the index are not part of it. If the data was modified directly by
+ * the encoder, or the table was loaded from persistence, use {@link #rebuild(long)} to recreate the index
+ */
+public abstract class BitSlicedIndex {
+
+    private static final int LESS = 0;
+    private static final int EQUAL = 1;
+    private static final int GREATER = 2;
+
+    private final Bitmap[] slices;
+    private final Bitmap records = new Bitmap();
+    private final int minValue;
+    private final long maxOffset;
+
+    /**
+     * Constructor
+     *
+     * @param bitsCount number of bits on which value is stored
+     * @param minValue  value that is stored as 0
+     */
+    protected BitSlicedIndex(int bitsCount, int minValue) {
+        assertArgument(bitsCount > 0 && bitsCount < 32, "Bit-sliced index supports fields stored on 1 to 31 bits");
+
+        this.slices = new Bitmap[bitsCount];
+        for (int i = 0; i < bitsCount; i++) {
+            this.slices[i] = new Bitmap();
+        }
+        this.minValue = minValue;
+        this.maxOffset = (1L << bitsCount) - 1;
+    }
+
+    /**
+     * Reads value of the record from the table
+     *
+     * @param position index of the record
+     * @return value
+     */
+    protected abstract int read(long position);
+
+    /**
+     * Writes value of the record to the table
+     *
+     * @param position index of the record
+     * @param value    value
+     */
+    protected abstract void write(long position, int value);
+
+    /**
+     * Sets value for record of given index and updates the index. Value is validated by the encoder before the index
+     * is modified
+     *
+     * @param position index of the record
+     * @param value    value
+     */
+    public void set(long position, int value) {
+        write(position, value);
+
+        long offset = offset(value);
+        for (int i = 0; i < slices.length; i++) {
+            slices[i].set(position, (offset & (1L << i)) != 0);
+        }
+        records.set(position);
+    }
+
+    /**
+     * Removes record from the index. It does not modify the data stored in the table
+     *
+     * @param position index of the record
+     */
+    public void remove(long position) {
+        for (Bitmap slice : slices) {
+            slice.clear(position);
+        }
+        records.clear(position);
+    }
+
+    /**
+     * Recreates the index from the values stored in the table
+     *
+     * @param recordsCount number of records to index, starting from 0th
+     */
+    public void rebuild(long recordsCount) {
+        for (Bitmap slice : slices) {
+            slice.clear();
+        }
+        records.clear();
+
+        for (long position = 0; position < recordsCount; position++) {
+            long offset = offset(read(position));
+            for (int i = 0; i < slices.length; i++) {
+                if ((offset & (1L << i)) != 0) {
+                    slices[i].set(position);
+                }
+            }
+            records.set(position);
+        }
+    }
+
+    /**
+     * Returns all records that are currently in the index
+     *
+     * @return indexed records
+     */
+    public Bitmap records() {
+        return records.copy();
+    }
+
+    /**
+     * Returns records with value equal to given value
+     *
+     * @param value value
+     * @return records
+     */
+    public Bitmap equalTo(int value) {
+        long offset = offset(value);
+        if (offset < 0 || offset > maxOffset) {
+            return new Bitmap();
+        }
+        return compare(offset, EQUAL, EQUAL);
+    }
+
+    /**
+     * Returns records with value less than given value
+     *
+     * @param value value
+     * @return records
+     */
+    public Bitmap lessThan(int value) {
+        long offset = offset(value);
+        if (offset <= 0) {
+            return new Bitmap();
+        }
+        if (offset > maxOffset) {
+            return records();
+        }
+        return compare(offset, LESS, LESS);
+    }
+
+    /**
+     * Returns records with value less than or equal to given value
+     *
+     * @param value value
+     * @return records
+     */
+    public Bitmap lessThanOrEqual(int value) {
+        long offset = offset(value);
+        if (offset < 0) {
+            return new Bitmap();
+        }
+        if (offset >= maxOffset) {
+            return records();
+        }
+        return compare(offset, LESS, EQUAL);
+    }
+
+    /**
+     * Returns records with value greater than given value
+     *
+     * @param value value
+     * @return records
+     */
+    public Bitmap greaterThan(int value) {
+        long offset = offset(value);
+        if (offset >= maxOffset) {
+            return new Bitmap();
+        }
+        if (offset < 0) {
+            return records();
+        }
+        return compare(offset, GREATER, GREATER);
+    }
+
+    /**
+     * Returns records with value greater than or equal to given value
+     *
+     * @param value value
+     * @return records
+     */
+    public Bitmap greaterThanOrEqual(int value) {
+        long offset = offset(value);
+        if (offset > maxOffset) {
+            return new Bitmap();
+        }
+        if (offset <= 0) {
+            return records();
+        }
+        return compare(offset, EQUAL, GREATER);
+    }
+
+    /**
+     * Returns records with value in range [from, to]
+     *
+     * @param from minimum value, inclusive
+     * @param to   maximum value, inclusive
+     * @return records
+     */
+    public Bitmap between(int from, int to) {
+        if (from > to) {
+            return new Bitmap();
+        }
+        return greaterThanOrEqual(from).and(lessThanOrEqual(to));
+    }
+
+    /**
+     * Sums values of all records in the index
+     *
+     * @return sum
+     */
+    public long sum() {
+        return sum(records);
+    }
+
+    /**
+     * Sums values of given records. Records that are not in the index are ignored
+     *
+     * @param filter records to sum
+     * @return sum
+     */
+    public long sum(Bitmap filter) {
+        long sum = 0L;
+        for (int i = 0; i < slices.length; i++) {
+            sum += andCardinality(slices[i], filter) << i;
+        }
+
+        return sum + andCardinality(records, filter) * minValue;
+    }
+
+    /**
+     * Returns k records with the greatest values. If there are more records with the same value on the k-th position,
+     * records with lower positions are chosen
+     *
+     * @param k number of records
+     * @return records
+     */
+    public Bitmap topK(long k) {
+        return topK(k, records);
+    }
+
+    /**
+     * Returns k records with the greatest values among given records. If there are more records with the same value
+     * on the k-th position, records with lower positions are chosen
+     *
+     * @param k      number of records
+     * @param filter records to choose from
+     * @return records
+     */
+    public Bitmap topK(long k, Bitmap filter) {
+        assertArgument(k >= 0, "K must be greater or equal zero");
+
+        Bitmap candidates = records.and(filter);
+        if (k >= candidates.cardinality()) {
+            return candidates;
+        }
+
+        Bitmap greater = new Bitmap();
+        Bitmap equal = candidates;
+        for (int i = slices.length - 1; i >= 0; i--) {
+            Bitmap withBit = equal.and(slices[i]);
+            long count = greater.cardinality() + withBit.cardinality();
+            if (count > k) {
+                equal = withBit;
+            } else if (count < k) {
+                greater = greater.or(withBit);
+                equal = equal.andNot(slices[i]);
+            } else {
+                greater = greater.or(withBit);
+                equal = new Bitmap();
+                break;
+            }
+        }
+
+        long missing = k - greater.cardinality();
+        for (long position = equal.nextSetBit(0); missing > 0; position = equal.nextSetBit(position + 1), missing--) {
+            greater.set(position);
+        }
+        return greater;
+    }
+
+    private Bitmap compare(long offset, int lowerResult, int upperResult) {
+        long[][] result = new long[records.blocksCount()][];
+        long[][] sliceBlocks = new long[slices.length][];
+
+        for (int blockIndex = 0; blockIndex < result.length; blockIndex++) {
+            long[] recordsBlock = records.block(blockIndex);
+            if (recordsBlock == null) {
+                continue;
+            }
+            for (int i = 0; i < slices.length; i++) {
+                sliceBlocks[i] = slices[i].block(blockIndex);
+            }
+
+            long[] block = new long[WORDS_IN_BLOCK];
+            for (int word = 0; word < WORDS_IN_BLOCK; word++) {
+                block[word] = compareWord(offset, recordsBlock[word], sliceBlocks, word, lowerResult, upperResult);
+            }
+            result[blockIndex] = block;
+        }
+
+        return Bitmap.fromBlocks(result);
+    }
+
+    /**
+     * Compares 64 records at once with given offset. Returns records that are classified as lowerResult or
+     * upperResult, where each of them is one of LESS, EQUAL or GREATER
+     */
+    private long compareWord(long offset, long recordsWord, long[][] sliceBlocks, int word, int lowerResult, int upperResult) {
+        long less = 0L;
+        long greater = 0L;
+        long equal = recordsWord;
+
+        for (int i = slices.length - 1; i >= 0 && equal != 0L; i--) {
+            long slice = sliceBlocks[i] == null ? 0L : sliceBlocks[i][word];
+            if ((offset & (1L << i)) != 0) {
+                less |= equal & ~slice;
+                equal &= slice;
+            } else {
+                greater |= equal & slice;
+                equal &= ~slice;
+            }
+        }
+
+        return select(lowerResult, less, equal, greater) | select(upperResult, less, equal, greater);
+    }
+
+    private long offset(int value) {
+        return value - (long) minValue;
+    }
+
+    private static long select(int result, long less, long equal, long greater) {
+        switch (result) {
+            case LESS:
+                return less;
+            case EQUAL:
+                return equal;
+            default:
+                return greater;
+        }
+    }
+
+    private static long andCardinality(Bitmap first, Bitmap second) {
+        long cardinality = 0L;
+        int blocksCount = Math.min(first.blocksCount(), second.blocksCount());
+        for (int blockIndex = 0; blockIndex < blocksCount; blockIndex++) {
+            long[] left = first.block(blockIndex);
+            long[] right = second.block(blockIndex);
+            if (left == null || right == null) {
+                continue;
+            }
+            for (int word = 0; word < WORDS_IN_BLOCK; word++) {
+                cardinality += Long.bitCount(left[word] & right[word]);
+            }
+        }
+        return cardinality;
+    }
+}
@@ -0,0 +1,518 @@
+package com.github.pcimcioch.memorystore.index;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Set of record positions stored as bits.
+ * <p>
+ * Bits are grouped into blocks of 65536 positions. Block is allocated only when at least one bit in it is set, so
+ * sparse bitmaps (for example bitmaps of rare values) take memory proportional to the number of touched blocks, not to
+ * the number of records in the table. Blocks that become empty are released.
+ * <p>
+ * All logical operations are performed word by word, so 64 records are processed at once
+ */
+public class Bitmap {
+
+    static final int BLOCK_BITS = 16;
+    static final int WORD_BITS = 6;
+    static final int WORDS_IN_BLOCK = 1 << (BLOCK_BITS - WORD_BITS);
+    static final int BLOCK_MASK = (1 << BLOCK_BITS) - 1;
+
+    private static final long[] EMPTY_BLOCK = new long[WORDS_IN_BLOCK];
+
+    private long[][] blocks;
+    private long cardinality;
+
+    /**
+     * Creates empty bitmap
+     */
+    public Bitmap() {
+        this(new long[0][], 0L);
+    }
+
+    private Bitmap(long[][] blocks, long cardinality) {
+        this.blocks = blocks;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Returns whether given position is in the bitmap
+     *
+     * @param position record position
+     * @return whether position is set
+     */
+    public boolean get(long position) {
+        assertPosition(position);
+
+        long[] block = block(blockIndex(position));
+        return block != null && (block[wordIndex(position)] & bit(position)) != 0;
+    }
+
+    /**
+     * Adds given position to the bitmap
+     *
+     * @param position record position
+     */
+    public void set(long position) {
+        assertPosition(position);
+
+        long[] block = ensureBlock(blockIndex(position));
+        int word = wordIndex(position);
+        long bit = bit(position);
+        if ((block[word] & bit) == 0) {
+            block[word] |= bit;
+            cardinality++;
+        }
+    }
+
+    /**
+     * Adds or removes given position from the bitmap
+     *
+     * @param position record position
+     * @param value    whether to add or remove
+     */
+    public void set(long position, boolean value) {
+        if (value) {
+            set(position);
+        } else {
+            clear(position);
+        }
+    }
+
+    /**
+     * Removes given position from the bitmap
+     *
+     * @param position record position
+     */
+    public void clear(long position) {
+        assertPosition(position);
+
+        int blockIndex = blockIndex(position);
+        long[] block = block(blockIndex);
+        if (block == null) {
+            return;
+        }
+
+        int word = wordIndex(position);
+        long bit = bit(position);
+        if ((block[word] & bit) != 0) {
+            block[word] &= ~bit;
+            cardinality--;
+            if (block[word] == 0 && isEmpty(block)) {
+                blocks[blockIndex] = null;
+            }
+        }
+    }
+
+    /**
+     * Removes all positions from the bitmap
+     */
+    public void clear() {
+        blocks = new long[0][];
+        cardinality = 0L;
+    }
+
+    /**
+     * Number of positions in the bitmap. This is constant time operation
+     *
+     * @return cardinality
+     */
+    public long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * @return whether bitmap does not contain any position
+     */
+    public boolean isEmpty() {
+        return cardinality == 0L;
+    }
+
+    /**
+     * Returns first position that is set, starting from given position inclusive
+     *
+     * @param fromPosition position to start search from
+     * @return next set position or -1 if there is no such position
+     */
+    public long nextSetBit(long fromPosition) {
+        assertPosition(fromPosition);
+
+        for (int blockIndex = blockIndex(fromPosition); blockIndex < blocks.length; blockIndex++) {
+            long[] block = blocks[blockIndex];
+            if (block == null) {
+                fromPosition = (long) (blockIndex + 1) << BLOCK_BITS;
+                continue;
+            }
+
+            int word = wordIndex(fromPosition);
+            long bits = block[word] & (-1L << fromPosition);
+            while (true) {
+                if (bits != 0) {
+                    return ((long) blockIndex << BLOCK_BITS) | ((long) word << WORD_BITS) | Long.numberOfTrailingZeros(bits);
+                }
+                if (++word == WORDS_IN_BLOCK) {
+                    break;
+                }
+                bits = block[word];
+            }
+            fromPosition = (long) (blockIndex + 1) << BLOCK_BITS;
+        }
+
+        return -1L;
+    }
+
+    /**
+     * Calls action for each position in the bitmap in ascending order
+     *
+     * @param action action
+     */
+    public void forEach(LongConsumer action) {
+        for (int blockIndex = 0; blockIndex < blocks.length; blockIndex++) {
+            long[] block = blocks[blockIndex];
+            if (block == null) {
+                continue;
+            }
+
+            long blockOffset = (long) blockIndex << BLOCK_BITS;
+            for (int word = 0; word < WORDS_IN_BLOCK; word++) {
+                long bits = block[word];
+                while (bits != 0) {
+                    action.accept(blockOffset | ((long) word << WORD_BITS) | Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns iterator over positions in ascending order
+     *
+     * @return iterator
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new BitmapIterator();
+    }
+
+    /**
+     * Returns stream of positions in ascending order
+     *
+     * @return stream
+     */
+    public LongStream stream() {
+        Spliterator.OfLong spliterator = Spliterators.spliterator(iterator(), cardinality,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        return StreamSupport.longStream(spliterator, false);
+    }
+
+    /**
+     * Returns new bitmap containing positions that are in both bitmaps
+     *
+     * @param other other bitmap
+     * @return intersection
+     */
+    public Bitmap and(Bitmap other) {
+        int length = Math.min(blocks.length, other.blocks.length);
+        long[][] result = new long[length][];
+        for (int i = 0; i < length; i++) {
+            long[] left = blocks[i];
+            long[] right = other.blocks[i];
+            if (left != null && right != null) {
+                long[] block = new long[WORDS_IN_BLOCK];
+                for (int word = 0; word < WORDS_IN_BLOCK; word++) {
+                    block[word] = left[word] & right[word];
+                }
+                result[i] = block;
+            }
+        }
+
+        return build(result);
+    }
+
+    /**
+     * Returns new bitmap containing positions that are in any of the bitmaps
+     *
+     * @param other other bitmap
+     * @return union
+     */
+    public Bitmap or(Bitmap other) {
+        int length = Math.max(blocks.length, other.blocks.length);
+        long[][] result = new long[length][];
+        for (int i = 0; i < length; i++) {
+            long[] left = i < blocks.length ? blocks[i] : null;
+            long[] right = i < other.blocks.length ? other.blocks[i] : null;
+            if (left == null) {
+                result[i] = right == null ? null : right.clone();
+            } else if (right == null) {
+                result[i] = left.clone();
+            } else {
+                long[] block = new long[WORDS_IN_BLOCK];
+                for (int word = 0; word < WORDS_IN_BLOCK; word++) {
+                    block[word] = left[word] | right[word];
+                }
+                result[i] = block;
+            }
+        }
+
+        return build(result);
+    }
+
+    /**
+     * Returns new bitmap containing positions that are in this bitmap, but not in the other one
+     *
+     * @param other other bitmap
+     * @return difference
+     */
+    public Bitmap andNot(Bitmap other) {
+        long[][] result = new long[blocks.length][];
+        for (int i = 0; i < blocks.length; i++) {
+            long[] left = blocks[i];
+            long[] right = i < other.blocks.length ? other.blocks[i] : null;
+            if (left == null) {
+                continue;
+            }
+            if (right == null) {
+                result[i] = left.clone();
+            } else {
+                long[] block = new long[WORDS_IN_BLOCK];
+                for (int word = 0; word < WORDS_IN_BLOCK; word++) {
+                    block[word] = left[word] & ~right[word];
+                }
+                result[i] = block;
+            }
+        }
+
+        return build(result);
+    }
+
+    /**
+     * Returns new bitmap containing positions that are in exactly one of the bitmaps
+     *
+     * @param other other bitmap
+     * @return symmetric difference
+     */
+    public Bitmap xor(Bitmap other) {
+        int length = Math.max(blocks.length, other.blocks.length);
+        long[][] result = new long[length][];
+        for (int i = 0; i < length; i++) {
+            long[] left = i < blocks.length ? blocks[i] : null;
+            long[] right = i < other.blocks.length ? other.blocks[i] : null;
+            if (left == null) {
+                result[i] = right == null ? null : right.clone();
+            } else if (right == null) {
+                result[i] = left.clone();
+            } else {
+                long[] block = new long[WORDS_IN_BLOCK];
+                for (int word = 0; word < WORDS_IN_BLOCK; word++) {
+                    block[word] = left[word] ^ right[word];
+                }
+                result[i] = block;
+            }
+        }
+
+        return build(result);
+    }
+
+    /**
+     * Returns copy of this bitmap
+     *
+     * @return copy
+     */
+    public Bitmap copy() {
+        long[][] result = new long[blocks.length][];
+        for (int i = 0; i < blocks.length; i++) {
+            result[i] = blocks[i] == null ? null : blocks[i].clone();
+        }
+
+        return new Bitmap(result, cardinality);
+    }
+
+    /**
+     * Creates bitmap containing all positions in range [0, size)
+     *
+     * @param size number of positions
+     * @return new bitmap
+     */
+    public static Bitmap range(long size) {
+        assertArgument(size >= 0, "Size must be greater or equal zero");
+
+        Bitmap bitmap = new Bitmap();
+        if (size == 0) {
+            return bitmap;
+        }
+
+        int lastBlock = blockIndex(size - 1);
+        bitmap.blocks = new long[lastBlock + 1][];
+        for (int blockIndex = 0; blockIndex <= lastBlock; blockIndex++) {
+            long[] block = new long[WORDS_IN_BLOCK];
+            Arrays.fill(block, -1L);
+            bitmap.blocks[blockIndex] = block;
+        }
+
+        long[] last = bitmap.blocks[lastBlock];
+        int lastWord = wordIndex(size - 1);
+        Arrays.fill(last, lastWord + 1, WORDS_IN_BLOCK, 0L);
+        last[lastWord] = -1L >>> (63 - ((size - 1) & 63));
+        bitmap.cardinality = size;
+
+        return bitmap;
+    }
+
+    /**
+     * Direct access to the block of the bitmap. Block contains {@code WORDS_IN_BLOCK} words, each word contains 64
+     * consecutive positions. Returned block must not be modified
+     *
+     * @param blockIndex index of the block
+     * @return block or null if block is empty
+     */
+    long[] block(int blockIndex) {
+        return blockIndex < blocks.length ? blocks[blockIndex] : null;
+    }
+
+    /**
+     * @return number of blocks that may contain set positions
+     */
+    int blocksCount() {
+        return blocks.length;
+    }
+
+    /**
+     * Creates bitmap from blocks. Passed blocks are used directly, without copying
+     *
+     * @param blocks blocks. Null block represents empty block
+     * @return new bitmap
+     */
+    static Bitmap fromBlocks(long[][] blocks) {
+        return build(blocks);
+    }
+
+    private long[] ensureBlock(int blockIndex) {
+        if (blockIndex >= blocks.length) {
+            blocks = Arrays.copyOf(blocks, blockIndex + 1);
+        }
+        if (blocks[blockIndex] == null) {
+            blocks[blockIndex] = new long[WORDS_IN_BLOCK];
+        }
+
+        return blocks[blockIndex];
+    }
+
+    private static Bitmap build(long[][] blocks) {
+        long cardinality = 0L;
+        int length = 0;
+        for (int i = 0; i < blocks.length; i++) {
+            long[] block = blocks[i];
+            if (block == null) {
+                continue;
+            }
+
+            long blockCardinality = 0L;
+            for (long word : block) {
+                blockCardinality += Long.bitCount(word);
+            }
+            if (blockCardinality == 0L) {
+                blocks[i] = null;
+            } else {
+                cardinality += blockCardinality;
+                length = i + 1;
+            }
+        }
+
+        return new Bitmap(length == blocks.length ? blocks : Arrays.copyOf(blocks, length), cardinality);
+    }
+
+    private static boolean isEmpty(long[] block) {
+        for (long word : block) {
+            if (word != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int blockIndex(long position) {
+        return (int) (position >>> BLOCK_BITS);
+    }
+
+    private static int wordIndex(long position) {
+        return (int) ((position & BLOCK_MASK) >>> WORD_BITS);
+    }
+
+    private static long bit(long position) {
+        return 1L << position;
+    }
+
+    private static void assertPosition(long position) {
+        assertArgument(position >= 0, "Position must be greater or equal zero");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Bitmap that = (Bitmap) o;
+        if (cardinality != that.cardinality) return false;
+
+        int length = Math.max(blocks.length, that.blocks.length);
+        for (int i = 0; i < length; i++) {
+            long[] left = block(i);
+            long[] right = that.block(i);
+            if (left != right && !Arrays.equals(left == null ? EMPTY_BLOCK : left, right == null ? EMPTY_BLOCK : right)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(cardinality);
+        for (long[] block : blocks) {
+            if (block != null) {
+                result = 31 * result + Arrays.hashCode(block);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Bitmap{");
+        forEach(position -> {
+            if (builder.length() > 7) {
+                builder.append(", ");
+            }
+            builder.append(position);
+        });
+        return builder.append('}').toString();
+    }
+
+    private final class BitmapIterator implements PrimitiveIterator.OfLong {
+
+        private long next = cardinality == 0L ? -1L : nextSetBit(0L);
+
+        @Override
+        public boolean hasNext() {
+            return next >= 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (next < 0) {
+                throw new NoSuchElementException();
+            }
+
+            long current = next;
+            next = nextSetBit(current + 1);
+            return current;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.github.pcimcioch.memorystore.index;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Base class for indexes of low-cardinality fields. Index keeps one {@link Bitmap} per each possible value index, so
+ * equality filters are bitmap lookups, IN filters are bitmap unions and counting records by value is a constant
+ * time operation.
+ * <p>
+ * Index is maintained incrementally. It is kept in sync with the table only when values are written through the
+ * index. Records that were never written through the index are not part of it. If the data was modified directly by
+ * the encoder, or the table was loaded from persistence, use {@code rebuild} to recreate the index
+ */
+public abstract class BitmapIndex {
+
+    public static final int MAX_BIT_COUNT = 16;
+
+    protected static final int NOT_INDEXED = -1;
+
+    private static final Bitmap EMPTY = new Bitmap();
+
+    private final Bitmap[] bitmaps;
+    private final Bitmap records = new Bitmap();
+
+    /**
+     * Constructor
+     *
+     * @param bitsCount number of bits on which value index is stored
+     */
+    protected BitmapIndex(int bitsCount) {
+        assertArgument(bitsCount > 0 && bitsCount <= MAX_BIT_COUNT,
+                "Bitmap index supports fields stored on 1 to %d bits", MAX_BIT_COUNT);
+
+        this.bitmaps = new Bitmap[1 << bitsCount];
+    }
+
+    /**
+     * Returns all records that are currently in the index
+     *
+     * @return indexed records
+     */
+    public Bitmap records() {
+        return records.copy();
+    }
+
+    /**
+     * Returns whether given record is currently in the index
+     *
+     * @param position index of the record
+     * @return whether record is indexed
+     */
+    public boolean isIndexed(long position) {
+        return records.get(position);
+    }
+
+    /**
+     * Number of records that are currently in the index
+     *
+     * @return records count
+     */
+    public long recordsCount() {
+        return records.cardinality();
+    }
+
+    /**
+     * Moves record from the bitmap of previous value to the bitmap of current value
+     *
+     * @param position      index of the record
+     * @param previousIndex previous value index or {@link #NOT_INDEXED} if record was not indexed
+     * @param currentIndex  current value index
+     */
+    protected void update(long position, int previousIndex, int currentIndex) {
+        if (previousIndex != NOT_INDEXED) {
+            remove(position, previousIndex);
+        }
+        add(position, currentIndex);
+    }
+
+    /**
+     * Adds record to the bitmap of given value
+     *
+     * @param position   index of the record
+     * @param valueIndex value index
+     */
+    protected void add(long position, int valueIndex) {
+        ensureBitmap(valueIndex).set(position);
+        records.set(position);
+    }
+
+    /**
+     * Removes record from the bitmap of given value
+     *
+     * @param position   index of the record
+     * @param valueIndex value index
+     */
+    protected void remove(long position, int valueIndex) {
+        Bitmap bitmap = bitmaps[valueIndex];
+        if (bitmap != null) {
+            bitmap.clear(position);
+        }
+        records.clear(position);
+    }
+
+    /**
+     * Returns copy of the bitmap of records with given value index
+     *
+     * @param valueIndex value index
+     * @return records with given value
+     */
+    protected Bitmap bitmapOf(int valueIndex) {
+        return internalBitmap(valueIndex).copy();
+    }
+
+    /**
+     * Returns union of bitmaps of given value indexes
+     *
+     * @param valueIndexes value indexes
+     * @return records with any of given values
+     */
+    protected Bitmap bitmapOf(int... valueIndexes) {
+        Bitmap result = new Bitmap();
+        for (int valueIndex : valueIndexes) {
+            result = result.or(internalBitmap(valueIndex));
+        }
+        return result;
+    }
+
+    /**
+     * Returns number of records with given value index
+     *
+     * @param valueIndex value index
+     * @return records count
+     */
+    protected long countOf(int valueIndex) {
+        return internalBitmap(valueIndex).cardinality();
+    }
+
+    /**
+     * Removes all records from the index
+     */
+    protected void clear() {
+        for (Bitmap bitmap : bitmaps) {
+            if (bitmap != null) {
+                bitmap.clear();
+            }
+        }
+        records.clear();
+    }
+
+    /**
+     * @return number of different value indexes supported by this index
+     */
+    protected int valuesCount() {
+        return bitmaps.length;
+    }
+
+    private Bitmap internalBitmap(int valueIndex) {
+        if (valueIndex < 0 || valueIndex >= bitmaps.length) {
+            return EMPTY;
+        }
+
+        Bitmap bitmap = bitmaps[valueIndex];
+        return bitmap == null ? EMPTY : bitmap;
+    }
+
+    private Bitmap ensureBitmap(int valueIndex) {
+        Bitmap bitmap = bitmaps[valueIndex];
+        if (bitmap == null) {
+            bitmap = new Bitmap();
+            bitmaps[valueIndex] = bitmap;
+        }
+        return bitmap;
+    }
+}
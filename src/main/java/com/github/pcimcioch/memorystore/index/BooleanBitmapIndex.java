@@ -0,0 +1,86 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.encoder.BooleanEncoder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bitmap index of the field stored by {@link BooleanEncoder}. Keeps separate bitmaps for true and false values
+ */
+public class BooleanBitmapIndex extends BitmapIndex {
+
+    private static final int FALSE = 0;
+    private static final int TRUE = 1;
+
+    private final BooleanEncoder encoder;
+
+    /**
+     * Constructor
+     *
+     * @param encoder encoder of the indexed field
+     */
+    public BooleanBitmapIndex(BooleanEncoder encoder) {
+        super(requireNonNull(encoder, "Encoder cannot be null").bitsCount());
+
+        this.encoder = encoder;
+    }
+
+    /**
+     * Sets boolean for record of given index and updates the index
+     *
+     * @param position index of the record
+     * @param value    boolean value
+     */
+    public void set(long position, boolean value) {
+        int previousIndex = isIndexed(position) ? valueIndex(encoder.get(position)) : NOT_INDEXED;
+        encoder.set(position, value);
+        update(position, previousIndex, valueIndex(value));
+    }
+
+    /**
+     * Returns records with given value
+     *
+     * @param value boolean value
+     * @return records
+     */
+    public Bitmap equalTo(boolean value) {
+        return bitmapOf(valueIndex(value));
+    }
+
+    /**
+     * Returns number of records with given value
+     *
+     * @param value boolean value
+     * @return records count
+     */
+    public long count(boolean value) {
+        return countOf(valueIndex(value));
+    }
+
+    /**
+     * Removes record from the index. It does not modify the data stored in the table
+     *
+     * @param position index of the record
+     */
+    public void remove(long position) {
+        if (isIndexed(position)) {
+            remove(position, valueIndex(encoder.get(position)));
+        }
+    }
+
+    /**
+     * Recreates the index from the values stored in the table
+     *
+     * @param recordsCount number of records to index, starting from 0th
+     */
+    public void rebuild(long recordsCount) {
+        clear();
+        for (long position = 0; position < recordsCount; position++) {
+            add(position, valueIndex(encoder.get(position)));
+        }
+    }
+
+    private static int valueIndex(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+}
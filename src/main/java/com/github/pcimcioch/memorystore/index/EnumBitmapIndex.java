@@ -0,0 +1,105 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.encoder.EnumEncoder;
+
+import java.util.Collection;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bitmap index of the field stored by {@link EnumEncoder}. Keeps one bitmap per each enum value.
+ * <p>
+ * Example:
+ * <pre>
+ *     EnumEncoder&lt;SurfaceType&gt; surface = table.encoderFor(surfaceHeader);
+ *     EnumBitmapIndex&lt;SurfaceType&gt; surfaceIndex = new EnumBitmapIndex&lt;&gt;(surface);
+ *
+ *     surfaceIndex.set(0, SurfaceType.ASPHALT);
+ *     surfaceIndex.set(1, SurfaceType.GRAVEL);
+ *
+ *     Bitmap paved = surfaceIndex.in(List.of(SurfaceType.ASPHALT, SurfaceType.CONCRETE));
+ *     long gravelCount = surfaceIndex.count(SurfaceType.GRAVEL);
+ * </pre>
+ *
+ * @param <E> enum type
+ */
+public class EnumBitmapIndex<E extends Enum<E>> extends BitmapIndex {
+
+    private final EnumEncoder<E> encoder;
+
+    /**
+     * Constructor
+     *
+     * @param encoder encoder of the indexed field
+     */
+    public EnumBitmapIndex(EnumEncoder<E> encoder) {
+        super(requireNonNull(encoder, "Encoder cannot be null").bitsCount());
+
+        this.encoder = encoder;
+    }
+
+    /**
+     * Sets enum for record of given index and updates the index
+     *
+     * @param position index of the record
+     * @param value    enum value
+     */
+    public void set(long position, E value) {
+        int previousIndex = isIndexed(position) ? encoder.getIndex(position) : NOT_INDEXED;
+        encoder.set(position, value);
+        update(position, previousIndex, encoder.getIndex(position));
+    }
+
+    /**
+     * Returns records with given value
+     *
+     * @param value enum value
+     * @return records
+     */
+    public Bitmap equalTo(E value) {
+        return bitmapOf(encoder.indexOf(value));
+    }
+
+    /**
+     * Returns records with any of given values
+     *
+     * @param values enum values
+     * @return records
+     */
+    public Bitmap in(Collection<E> values) {
+        return bitmapOf(values.stream().mapToInt(encoder::indexOf).toArray());
+    }
+
+    /**
+     * Returns number of records with given value
+     *
+     * @param value enum value
+     * @return records count
+     */
+    public long count(E value) {
+        return countOf(encoder.indexOf(value));
+    }
+
+    /**
+     * Removes record from the index. It does not modify the data stored in the table
+     *
+     * @param position index of the record
+     */
+    public void remove(long position) {
+        if (isIndexed(position)) {
+            remove(position, encoder.getIndex(position));
+        }
+    }
+
+    /**
+     * Recreates the index from the values stored in the table
+     *
+     * @param recordsCount number of records to index, starting from 0th
+     */
+    public void rebuild(long recordsCount) {
+        clear();
+        for (long position = 0; position < recordsCount; position++) {
+            add(position, encoder.getIndex(position));
+        }
+    }
+}
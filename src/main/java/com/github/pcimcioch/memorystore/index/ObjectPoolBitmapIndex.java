@@ -0,0 +1,94 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.encoder.ObjectPoolEncoder;
+
+import java.util.Collection;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bitmap index of the field stored by {@link ObjectPoolEncoder}. Keeps one bitmap per each pool index. Pools
+ * defined on up to {@value #MAX_BIT_COUNT} bits are supported
+ *
+ * @param <T> pooled object type
+ */
+public class ObjectPoolBitmapIndex<T> extends BitmapIndex {
+
+    private final ObjectPoolEncoder<T> encoder;
+
+    /**
+     * Constructor
+     *
+     * @param encoder encoder of the indexed field
+     */
+    public ObjectPoolBitmapIndex(ObjectPoolEncoder<T> encoder) {
+        super(requireNonNull(encoder, "Encoder cannot be null").poolBits());
+
+        this.encoder = encoder;
+    }
+
+    /**
+     * Sets object for record of given index and updates the index
+     *
+     * @param position index of the record
+     * @param value    object
+     */
+    public void set(long position, T value) {
+        int previousIndex = isIndexed(position) ? encoder.getPoolIndex(position) : NOT_INDEXED;
+        encoder.set(position, value);
+        update(position, previousIndex, encoder.getPoolIndex(position));
+    }
+
+    /**
+     * Returns records with given value. Objects are compared using equals method
+     *
+     * @param value object
+     * @return records
+     */
+    public Bitmap equalTo(T value) {
+        return bitmapOf(encoder.poolIndexOf(value));
+    }
+
+    /**
+     * Returns records with any of given values. Objects are compared using equals method
+     *
+     * @param values objects
+     * @return records
+     */
+    public Bitmap in(Collection<? extends T> values) {
+        return bitmapOf(values.stream().mapToInt(encoder::poolIndexOf).toArray());
+    }
+
+    /**
+     * Returns number of records with given value
+     *
+     * @param value object
+     * @return records count
+     */
+    public long count(T value) {
+        return countOf(encoder.poolIndexOf(value));
+    }
+
+    /**
+     * Removes record from the index. It does not modify the data stored in the table
+     *
+     * @param position index of the record
+     */
+    public void remove(long position) {
+        if (isIndexed(position)) {
+            remove(position, encoder.getPoolIndex(position));
+        }
+    }
+
+    /**
+     * Recreates the index from the values stored in the table
+     *
+     * @param recordsCount number of records to index, starting from 0th
+     */
+    public void rebuild(long recordsCount) {
+        clear();
+        for (long position = 0; position < recordsCount; position++) {
+            add(position, encoder.getPoolIndex(position));
+        }
+    }
+}
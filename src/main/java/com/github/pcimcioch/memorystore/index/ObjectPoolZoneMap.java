@@ -0,0 +1,67 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.encoder.ObjectPoolEncoder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Zone map of the field stored by {@link ObjectPoolEncoder}. Statistics are kept for pool indexes, so the Bloom filter
+ * is the main source of zone skipping for equality filters
+ *
+ * @param <T> pooled object type
+ */
+public class ObjectPoolZoneMap<T> extends ZoneMap {
+
+    private final ObjectPoolEncoder<T> encoder;
+
+    /**
+     * Constructor. Each zone covers records stored in a single block of the underlying store
+     *
+     * @param encoder encoder of the field
+     */
+    public ObjectPoolZoneMap(ObjectPoolEncoder<T> encoder) {
+        this(encoder, requireNonNull(encoder, "Encoder cannot be null").recordsPerBlock());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param encoder  encoder of the field
+     * @param zoneSize number of consecutive records in a single zone
+     */
+    public ObjectPoolZoneMap(ObjectPoolEncoder<T> encoder, int zoneSize) {
+        super(zoneSize);
+
+        this.encoder = requireNonNull(encoder, "Encoder cannot be null");
+    }
+
+    /**
+     * Sets object for record of given index and updates the statistics
+     *
+     * @param position index of the record
+     * @param value    object
+     */
+    public void set(long position, T value) {
+        boolean indexed = isIndexed(position);
+        int previousIndex = indexed ? encoder.getPoolIndex(position) : 0;
+        encoder.set(position, value);
+        update(position, indexed, previousIndex, encoder.getPoolIndex(position));
+    }
+
+    /**
+     * Returns records with given value. Objects are compared using equals method. Only zones that may contain the
+     * value are scanned
+     *
+     * @param value object
+     * @return records
+     */
+    public Bitmap equalTo(T value) {
+        int poolIndex = encoder.poolIndexOf(value);
+        return poolIndex < 0 ? new Bitmap() : scanEqualTo(poolIndex);
+    }
+
+    @Override
+    protected int read(long position) {
+        return encoder.getPoolIndex(position);
+    }
+}
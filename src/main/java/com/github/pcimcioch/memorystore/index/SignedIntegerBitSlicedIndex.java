@@ -0,0 +1,34 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.encoder.SignedIntegerEncoder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bit-sliced index of the field stored by {@link SignedIntegerEncoder}
+ */
+public class SignedIntegerBitSlicedIndex extends BitSlicedIndex {
+
+    private final SignedIntegerEncoder encoder;
+
+    /**
+     * Constructor
+     *
+     * @param encoder encoder of the indexed field
+     */
+    public SignedIntegerBitSlicedIndex(SignedIntegerEncoder encoder) {
+        super(requireNonNull(encoder, "Encoder cannot be null").bitsCount(), encoder.minValue());
+
+        this.encoder = encoder;
+    }
+
+    @Override
+    protected int read(long position) {
+        return encoder.get(position);
+    }
+
+    @Override
+    protected void write(long position, int value) {
+        encoder.set(position, value);
+    }
+}
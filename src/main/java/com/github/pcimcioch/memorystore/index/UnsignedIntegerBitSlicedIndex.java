@@ -0,0 +1,34 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bit-sliced index of the field stored by {@link UnsignedIntegerEncoder}
+ */
+public class UnsignedIntegerBitSlicedIndex extends BitSlicedIndex {
+
+    private final UnsignedIntegerEncoder encoder;
+
+    /**
+     * Constructor
+     *
+     * @param encoder encoder of the indexed field
+     */
+    public UnsignedIntegerBitSlicedIndex(UnsignedIntegerEncoder encoder) {
+        super(requireNonNull(encoder, "Encoder cannot be null").bitsCount(), 0);
+
+        this.encoder = encoder;
+    }
+
+    @Override
+    protected int read(long position) {
+        return encoder.get(position);
+    }
+
+    @Override
+    protected void write(long position, int value) {
+        encoder.set(position, value);
+    }
+}
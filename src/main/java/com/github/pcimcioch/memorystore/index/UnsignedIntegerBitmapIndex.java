@@ -0,0 +1,90 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bitmap index of the field stored by {@link UnsignedIntegerEncoder}. Keeps one bitmap per each possible value, so it
+ * should be used only for small value ranges. Fields stored on up to {@value #MAX_BIT_COUNT} bits are supported
+ */
+public class UnsignedIntegerBitmapIndex extends BitmapIndex {
+
+    private final UnsignedIntegerEncoder encoder;
+
+    /**
+     * Constructor
+     *
+     * @param encoder encoder of the indexed field
+     */
+    public UnsignedIntegerBitmapIndex(UnsignedIntegerEncoder encoder) {
+        super(requireNonNull(encoder, "Encoder cannot be null").bitsCount());
+
+        this.encoder = encoder;
+    }
+
+    /**
+     * Sets integer for record of given index and updates the index
+     *
+     * @param position index of the record
+     * @param value    integer value
+     */
+    public void set(long position, int value) {
+        int previousIndex = isIndexed(position) ? encoder.get(position) : NOT_INDEXED;
+        encoder.set(position, value);
+        update(position, previousIndex, value);
+    }
+
+    /**
+     * Returns records with given value
+     *
+     * @param value integer value
+     * @return records
+     */
+    public Bitmap equalTo(int value) {
+        return bitmapOf(value);
+    }
+
+    /**
+     * Returns records with any of given values
+     *
+     * @param values integer values
+     * @return records
+     */
+    public Bitmap in(int... values) {
+        return bitmapOf(values);
+    }
+
+    /**
+     * Returns number of records with given value
+     *
+     * @param value integer value
+     * @return records count
+     */
+    public long count(int value) {
+        return countOf(value);
+    }
+
+    /**
+     * Removes record from the index. It does not modify the data stored in the table
+     *
+     * @param position index of the record
+     */
+    public void remove(long position) {
+        if (isIndexed(position)) {
+            remove(position, encoder.get(position));
+        }
+    }
+
+    /**
+     * Recreates the index from the values stored in the table
+     *
+     * @param recordsCount number of records to index, starting from 0th
+     */
+    public void rebuild(long recordsCount) {
+        clear();
+        for (long position = 0; position < recordsCount; position++) {
+            add(position, encoder.get(position));
+        }
+    }
+}
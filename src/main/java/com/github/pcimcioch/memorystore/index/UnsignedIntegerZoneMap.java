@@ -0,0 +1,73 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Zone map of the field stored by {@link UnsignedIntegerEncoder}
+ */
+public class UnsignedIntegerZoneMap extends ZoneMap {
+
+    private final UnsignedIntegerEncoder encoder;
+
+    /**
+     * Constructor. Each zone covers records stored in a single block of the underlying store
+     *
+     * @param encoder encoder of the field
+     */
+    public UnsignedIntegerZoneMap(UnsignedIntegerEncoder encoder) {
+        this(encoder, requireNonNull(encoder, "Encoder cannot be null").recordsPerBlock());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param encoder  encoder of the field
+     * @param zoneSize number of consecutive records in a single zone
+     */
+    public UnsignedIntegerZoneMap(UnsignedIntegerEncoder encoder, int zoneSize) {
+        super(zoneSize);
+
+        this.encoder = requireNonNull(encoder, "Encoder cannot be null");
+    }
+
+    /**
+     * Sets integer for record of given index and updates the statistics
+     *
+     * @param position index of the record
+     * @param value    integer value
+     */
+    public void set(long position, int value) {
+        boolean indexed = isIndexed(position);
+        int previousValue = indexed ? encoder.get(position) : 0;
+        encoder.set(position, value);
+        update(position, indexed, previousValue, value);
+    }
+
+    /**
+     * Returns records with given value. Only zones that may contain the value are scanned
+     *
+     * @param value integer value
+     * @return records
+     */
+    public Bitmap equalTo(int value) {
+        return scanEqualTo(value);
+    }
+
+    /**
+     * Returns records with value in range [from, to]. Only zones that may contain such values are scanned
+     *
+     * @param from minimum value, inclusive
+     * @param to   maximum value, inclusive
+     * @return records
+     */
+    public Bitmap between(int from, int to) {
+        return scanBetween(from, to);
+    }
+
+    @Override
+    protected int read(long position) {
+        return encoder.get(position);
+    }
+}
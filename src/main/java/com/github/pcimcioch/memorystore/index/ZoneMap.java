@@ -0,0 +1,322 @@
+package com.github.pcimcioch.memorystore.index;
+
+import java.util.Arrays;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Zone map of the integer field. Records are split into zones of consecutive positions and for each zone lightweight
+ * statistics are kept: min and max value, number of records, number of zero values and a small Bloom filter of the
+ * values. Filters use the statistics to skip whole zones that cannot contain matching records, so only the remaining
+ * zones are scanned. By default, zone covers records stored in a single block of the underlying {@code IntStore}.
+ * <p>
+ * Zone map is maintained incrementally when values are written through it. Statistics stay correct, but min and max
+ * can only widen on update: when the current min or max value is overwritten, bounds of the zone are not tightened
+ * until {@link #rebuild(long)} is called. The same applies to the Bloom filter, which never forgets values. If the data
+ * was modified directly by the encoder, or the table was loaded from persistence, use {@link #rebuild(long)} to
+ * recreate the statistics
+ */
+public abstract class ZoneMap {
+
+    private static final int BLOOM_HASH = 0x9E3779B9;
+
+    private final int zoneSize;
+    private Bitmap records = new Bitmap();
+    private int zonesCount = 0;
+
+    private int[] mins = new int[0];
+    private int[] maxs = new int[0];
+    private int[] counts = new int[0];
+    private int[] zeroCounts = new int[0];
+    private long[] blooms = new long[0];
+
+    /**
+     * Constructor
+     *
+     * @param zoneSize number of consecutive records in a single zone
+     */
+    protected ZoneMap(int zoneSize) {
+        assertArgument(zoneSize > 0, "Zone size must be greater than zero");
+
+        this.zoneSize = zoneSize;
+    }
+
+    /**
+     * Reads value of the record from the table
+     *
+     * @param position index of the record
+     * @return value
+     */
+    protected abstract int read(long position);
+
+    /**
+     * Returns number of consecutive records in a single zone
+     *
+     * @return zone size
+     */
+    public int zoneSize() {
+        return zoneSize;
+    }
+
+    /**
+     * Returns number of zones. Zones after the last written record are not counted
+     *
+     * @return zones count
+     */
+    public int zonesCount() {
+        return zonesCount;
+    }
+
+    /**
+     * Returns zone of given record
+     *
+     * @param position index of the record
+     * @return zone index
+     */
+    public int zoneOf(long position) {
+        return (int) (position / zoneSize);
+    }
+
+    /**
+     * Returns number of records in the zone
+     *
+     * @param zone zone index
+     * @return records count
+     */
+    public int count(int zone) {
+        return zone < zonesCount ? counts[zone] : 0;
+    }
+
+    /**
+     * Returns number of records with value equal to zero in the zone
+     *
+     * @param zone zone index
+     * @return zero values count
+     */
+    public int zeroCount(int zone) {
+        return zone < zonesCount ? zeroCounts[zone] : 0;
+    }
+
+    /**
+     * Returns lower bound of values in the zone. Result is undefined for empty zones
+     *
+     * @param zone zone index
+     * @return min value
+     */
+    public int min(int zone) {
+        return mins[zone];
+    }
+
+    /**
+     * Returns upper bound of values in the zone. Result is undefined for empty zones
+     *
+     * @param zone zone index
+     * @return max value
+     */
+    public int max(int zone) {
+        return maxs[zone];
+    }
+
+    /**
+     * Returns whether given zone may contain records with values in range [from, to]
+     *
+     * @param zone zone index
+     * @param from minimum value, inclusive
+     * @param to   maximum value, inclusive
+     * @return false if zone for sure does not contain such records
+     */
+    public boolean mayContain(int zone, int from, int to) {
+        return count(zone) > 0 && mins[zone] <= to && maxs[zone] >= from;
+    }
+
+    /**
+     * Returns whether given zone may contain records with given value
+     *
+     * @param zone  zone index
+     * @param value value
+     * @return false if zone for sure does not contain such records
+     */
+    public boolean mayContain(int zone, int value) {
+        if (!mayContain(zone, value, value)) {
+            return false;
+        }
+        if (value == 0) {
+            return zeroCounts[zone] > 0;
+        }
+        long bloomMask = bloomMask(value);
+        return (blooms[zone] & bloomMask) == bloomMask;
+    }
+
+    /**
+     * Returns records with value equal to given value. Only zones that may contain the value are scanned
+     *
+     * @param value value
+     * @return records
+     */
+    protected Bitmap scanEqualTo(int value) {
+        Bitmap result = new Bitmap();
+        for (int zone = 0; zone < zonesCount; zone++) {
+            if (mayContain(zone, value)) {
+                scanZone(zone, value, value, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns records with value in range [from, to]. Only zones that may contain such values are scanned. Zones that
+     * are fully within the range are added without reading the values
+     *
+     * @param from minimum value, inclusive
+     * @param to   maximum value, inclusive
+     * @return records
+     */
+    protected Bitmap scanBetween(int from, int to) {
+        Bitmap result = new Bitmap();
+        for (int zone = 0; zone < zonesCount; zone++) {
+            if (!mayContain(zone, from, to)) {
+                continue;
+            }
+            if (mins[zone] >= from && maxs[zone] <= to) {
+                addZone(zone, result);
+            } else {
+                scanZone(zone, from, to, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Updates statistics after the value of the record was written to the table
+     *
+     * @param position      index of the record
+     * @param indexed       whether record was part of the zone map before the write
+     * @param previousValue previous value. Ignored if record was not indexed
+     * @param currentValue  current value
+     */
+    protected void update(long position, boolean indexed, int previousValue, int currentValue) {
+        int zone = zoneOf(position);
+        ensureZone(zone);
+
+        if (indexed) {
+            if (previousValue == 0) {
+                zeroCounts[zone]--;
+            }
+        } else {
+            records.set(position);
+            counts[zone]++;
+        }
+
+        include(zone, currentValue, !indexed && counts[zone] == 1);
+    }
+
+    /**
+     * Returns whether given record is currently part of the zone map
+     *
+     * @param position index of the record
+     * @return whether record is indexed
+     */
+    public boolean isIndexed(long position) {
+        return records.get(position);
+    }
+
+    /**
+     * Removes record from the zone map. It does not modify the data stored in the table. Bounds of the zone are not
+     * tightened
+     *
+     * @param position index of the record
+     */
+    public void remove(long position) {
+        if (!isIndexed(position)) {
+            return;
+        }
+
+        int zone = zoneOf(position);
+        if (read(position) == 0) {
+            zeroCounts[zone]--;
+        }
+        counts[zone]--;
+        records.clear(position);
+    }
+
+    /**
+     * Recreates statistics from the values stored in the table
+     *
+     * @param recordsCount number of records to include, starting from 0th
+     */
+    public void rebuild(long recordsCount) {
+        zonesCount = (int) ((recordsCount + zoneSize - 1) / zoneSize);
+        records = Bitmap.range(recordsCount);
+        mins = new int[zonesCount];
+        maxs = new int[zonesCount];
+        counts = new int[zonesCount];
+        zeroCounts = new int[zonesCount];
+        blooms = new long[zonesCount];
+
+        for (long position = 0; position < recordsCount; position++) {
+            int zone = zoneOf(position);
+            counts[zone]++;
+            include(zone, read(position), counts[zone] == 1);
+        }
+    }
+
+    private void include(int zone, int value, boolean first) {
+        if (first) {
+            blooms[zone] = 0L;
+            mins[zone] = value;
+            maxs[zone] = value;
+        } else {
+            mins[zone] = Math.min(mins[zone], value);
+            maxs[zone] = Math.max(maxs[zone], value);
+        }
+
+        if (value == 0) {
+            zeroCounts[zone]++;
+        } else {
+            blooms[zone] |= bloomMask(value);
+        }
+    }
+
+    private void scanZone(int zone, int from, int to, Bitmap result) {
+        long end = zoneEnd(zone);
+        for (long position = records.nextSetBit((long) zone * zoneSize); position >= 0 && position < end; position = records.nextSetBit(position + 1)) {
+            int value = read(position);
+            if (value >= from && value <= to) {
+                result.set(position);
+            }
+        }
+    }
+
+    private void addZone(int zone, Bitmap result) {
+        long end = zoneEnd(zone);
+        for (long position = records.nextSetBit((long) zone * zoneSize); position >= 0 && position < end; position = records.nextSetBit(position + 1)) {
+            result.set(position);
+        }
+    }
+
+    private long zoneEnd(int zone) {
+        return (long) (zone + 1) * zoneSize;
+    }
+
+    private void ensureZone(int zone) {
+        if (zone < zonesCount) {
+            return;
+        }
+        zonesCount = zone + 1;
+        if (zone < counts.length) {
+            return;
+        }
+
+        int zones = Math.max(zone + 1, counts.length * 2);
+        mins = Arrays.copyOf(mins, zones);
+        maxs = Arrays.copyOf(maxs, zones);
+        counts = Arrays.copyOf(counts, zones);
+        zeroCounts = Arrays.copyOf(zeroCounts, zones);
+        blooms = Arrays.copyOf(blooms, zones);
+    }
+
+    private static long bloomMask(int value) {
+        int hash = value * BLOOM_HASH;
+        return (1L << (hash >>> 26)) | (1L << ((hash >>> 20) & 63));
+    }
+}
@@ -0,0 +1,253 @@
+package com.github.pcimcioch.memorystore.layout;
+
+import com.github.pcimcioch.memorystore.header.BitHeader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.reverseOrder;
+
+/**
+ * Creates memory layout based on the access affinity of the headers. Headers that are read together can be declared
+ * as affinity group. Each group is placed, if possible, in a single word. With cache line alignment enabled, group
+ * that does not fit into a single word is placed in a single cache line, and only if it is bigger than the cache line,
+ * it is spread across multiple lines. Headers without affinity are placed the same way one by one, so they do not
+ * straddle cache lines when it can be avoided. Without the alignment records do not start at the cache line boundary,
+ * so cache lines are not taken into account.
+ * <p>
+ * Hot headers are placed at the beginning of the record, before all other headers. Cold headers are placed at the end
+ * of the record and never share words with other headers. With cache line alignment enabled, cold headers start in a
+ * new cache line and the record size is padded to the multiple of the cache line, so every record starts at the cache
+ * line boundary relative to the beginning of the store block.
+ * <p>
+ * Example:
+ * <pre>
+ *     AffinityMemoryLayoutBuilder builder = AffinityMemoryLayoutBuilder.builder()
+ *         .hot(idHeader)
+ *         .group(latitudeHeader, longitudeHeader)
+ *         .cold(descriptionHeader)
+ *         .alignToCacheLine()
+ *         .build();
+ * </pre>
+ */
+public class AffinityMemoryLayoutBuilder implements MemoryLayoutBuilder {
+
+    /**
+     * Size of the cache line in bits
+     */
+    public static final int CACHE_LINE_BITS = 512;
+
+    private final List<BitHeader<?>> hot;
+    private final List<List<BitHeader<?>>> groups;
+    private final List<BitHeader<?>> cold;
+    private final boolean alignToCacheLine;
+
+    private AffinityMemoryLayoutBuilder(List<BitHeader<?>> hot,
+                                        List<List<BitHeader<?>>> groups,
+                                        List<BitHeader<?>> cold,
+                                        boolean alignToCacheLine) {
+        this.hot = hot;
+        this.groups = groups;
+        this.cold = cold;
+        this.alignToCacheLine = alignToCacheLine;
+    }
+
+    @Override
+    public MemoryLayout compute(int wordSize, Collection<? extends BitHeader<?>> headers) {
+        Words words = new Words(wordSize);
+        int[] windowSizes = alignToCacheLine ? new int[]{1, lineWords(wordSize)} : new int[]{1};
+        Map<BitHeader<?>, MemoryPosition> memoryPositions = new HashMap<>();
+        Set<BitHeader<?>> assigned = new HashSet<>();
+
+        place(words, windowSizes, 0, present(hot, headers, assigned), memoryPositions);
+        for (List<BitHeader<?>> group : groups) {
+            place(words, windowSizes, 0, present(group, headers, assigned), memoryPositions);
+        }
+
+        List<BitHeader<?>> coldHeaders = present(cold, headers, assigned);
+        List<BitHeader<?>> remaining = headers.stream()
+                .filter(header -> !assigned.contains(header))
+                .sorted(comparing(BitHeader::bitsCount, reverseOrder()))
+                .collect(Collectors.toList());
+        for (BitHeader<?> header : remaining) {
+            place(words, windowSizes, 0, List.of(header), memoryPositions);
+        }
+
+        int coldStart = recordSize(words);
+        for (BitHeader<?> header : coldHeaders) {
+            place(words, windowSizes, coldStart, List.of(header), memoryPositions);
+        }
+
+        return new MemoryLayout(recordSize(words), memoryPositions);
+    }
+
+    private int recordSize(Words words) {
+        if (!alignToCacheLine) {
+            return words.size();
+        }
+
+        int lineWords = lineWords(words.wordSize());
+        return (words.size() + lineWords - 1) / lineWords * lineWords;
+    }
+
+    private static int lineWords(int wordSize) {
+        return Math.max(1, CACHE_LINE_BITS / wordSize);
+    }
+
+    private static List<BitHeader<?>> present(List<BitHeader<?>> declared,
+                                              Collection<? extends BitHeader<?>> headers,
+                                              Set<BitHeader<?>> assigned) {
+        List<BitHeader<?>> present = declared.stream()
+                .filter(headers::contains)
+                .sorted(comparing(BitHeader::bitsCount, reverseOrder()))
+                .collect(Collectors.toList());
+        assigned.addAll(declared);
+        return present;
+    }
+
+    /**
+     * Places headers in the first window that can hold all of them, starting from the smallest one: single word, then
+     * single cache line if records are aligned to cache lines. If none of them fits, headers are placed one by one in
+     * the first free space
+     */
+    private static void place(Words words, int[] windowSizes, int minWord, List<BitHeader<?>> headers,
+                              Map<BitHeader<?>, MemoryPosition> memoryPositions) {
+        if (headers.isEmpty()) {
+            return;
+        }
+
+        for (int windowSize : windowSizes) {
+            for (int start = alignDown(minWord, windowSize); start < Math.max(words.size(), minWord) + windowSize; start += windowSize) {
+                Words candidate = words.copy();
+                Map<BitHeader<?>, MemoryPosition> positions = fill(candidate, headers, Math.max(start, minWord), start + windowSize);
+                if (positions != null) {
+                    words.set(candidate);
+                    memoryPositions.putAll(positions);
+                    return;
+                }
+            }
+        }
+
+        memoryPositions.putAll(fill(words, headers, minWord, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Places headers in first fitting words in range [from, to). Returns null, if headers do not fit
+     */
+    private static Map<BitHeader<?>, MemoryPosition> fill(Words words, List<BitHeader<?>> headers, int from, int to) {
+        Map<BitHeader<?>, MemoryPosition> positions = new HashMap<>();
+        for (BitHeader<?> header : headers) {
+            int wordIndex = firstFitting(words, header, from, to);
+            if (wordIndex < 0) {
+                return null;
+            }
+            positions.put(header, words.fill(header, wordIndex));
+        }
+        return positions;
+    }
+
+    private static int firstFitting(Words words, BitHeader<?> header, int from, int to) {
+        for (int i = from; i < to && i <= Math.max(words.size(), from); i++) {
+            if (words.fits(header, i, to)) {
+                return i;
+            }
+        }
+        if (to == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Header " + header.name() + " cannot be fitted into memory layout");
+        }
+        return -1;
+    }
+
+    private static int alignDown(int value, int alignment) {
+        return value - value % alignment;
+    }
+
+    /**
+     * Affinity layout builder
+     *
+     * @return new builder
+     */
+    public static AffinityBuilder builder() {
+        return new AffinityBuilder();
+    }
+
+    /**
+     * Used to build {@link AffinityMemoryLayoutBuilder} in more readable way
+     */
+    public static final class AffinityBuilder {
+        private final Set<BitHeader<?>> assigned = new HashSet<>();
+        private final List<BitHeader<?>> hot = new ArrayList<>();
+        private final List<List<BitHeader<?>>> groups = new ArrayList<>();
+        private final List<BitHeader<?>> cold = new ArrayList<>();
+        private boolean alignToCacheLine = false;
+
+        /**
+         * Marks headers as hot. They will be placed at the beginning of the record
+         *
+         * @param headers hot headers
+         * @return builder
+         */
+        public AffinityBuilder hot(BitHeader<?>... headers) {
+            hot.addAll(assign(headers));
+            return this;
+        }
+
+        /**
+         * Adds affinity group of headers that are accessed together
+         *
+         * @param headers headers in the group
+         * @return builder
+         */
+        public AffinityBuilder group(BitHeader<?>... headers) {
+            groups.add(assign(headers));
+            return this;
+        }
+
+        /**
+         * Marks headers as cold. They will be placed at the end of the record
+         *
+         * @param headers cold headers
+         * @return builder
+         */
+        public AffinityBuilder cold(BitHeader<?>... headers) {
+            cold.addAll(assign(headers));
+            return this;
+        }
+
+        /**
+         * Pads records to the multiple of the cache line size, keeps groups and headers within single cache lines
+         * where possible and starts cold headers in a new cache line
+         *
+         * @return builder
+         */
+        public AffinityBuilder alignToCacheLine() {
+            this.alignToCacheLine = true;
+            return this;
+        }
+
+        /**
+         * Build memory layout
+         *
+         * @return new memory layout
+         */
+        public AffinityMemoryLayoutBuilder build() {
+            return new AffinityMemoryLayoutBuilder(List.copyOf(hot), List.copyOf(groups), List.copyOf(cold), alignToCacheLine);
+        }
+
+        private List<BitHeader<?>> assign(BitHeader<?>[] headers) {
+            assertArgument(headers.length > 0, "Affinity must be assigned to at least one header");
+            for (BitHeader<?> header : headers) {
+                assertArgument(assigned.add(header), "Header %s already has affinity assigned", header.name());
+            }
+            return List.of(headers);
+        }
+    }
+}
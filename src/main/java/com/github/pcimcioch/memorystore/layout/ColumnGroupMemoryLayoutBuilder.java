@@ -0,0 +1,166 @@
+package com.github.pcimcioch.memorystore.layout;
+
+import com.github.pcimcioch.memorystore.header.BitHeader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Memory layout that splits headers into column groups. Each column group is stored in a separate store, with its own
+ * record size. Fields that are scanned alone can be stored densely in their own group, while fields that are accessed
+ * together stay packed in one record.
+ * <p>
+ * Headers that are not assigned to any group are stored in the default group. Each group is laid out by its own
+ * {@link MemoryLayoutBuilder}, {@link AutomaticMemoryLayoutBuilder} by default.
+ * <p>
+ * Example:
+ * <pre>
+ *     ColumnGroupMemoryLayoutBuilder builder = ColumnGroupMemoryLayoutBuilder.builder()
+ *         .group(surfaceHeader)
+ *         .group(speedHeader, lanesHeader)
+ *         .build();
+ * </pre>
+ * Surface will be stored densely in its own store. Speed and lanes will share another store, and remaining headers
+ * will be stored in the default group
+ */
+public class ColumnGroupMemoryLayoutBuilder implements MemoryLayoutBuilder {
+
+    private final MemoryLayoutBuilder defaultGroupBuilder;
+    private final List<Group> groups;
+
+    private ColumnGroupMemoryLayoutBuilder(MemoryLayoutBuilder defaultGroupBuilder, List<Group> groups) {
+        this.defaultGroupBuilder = defaultGroupBuilder;
+        this.groups = groups;
+    }
+
+    @Override
+    public MemoryLayout compute(int wordSize, Collection<? extends BitHeader<?>> headers) {
+        Set<BitHeader<?>> grouped = new HashSet<>();
+        List<List<BitHeader<?>>> groupHeaders = new ArrayList<>();
+        for (Group group : groups) {
+            List<BitHeader<?>> present = group.headers.stream()
+                    .filter(headers::contains)
+                    .collect(Collectors.toList());
+            groupHeaders.add(present);
+            grouped.addAll(present);
+        }
+        List<BitHeader<?>> defaultHeaders = headers.stream()
+                .filter(header -> !grouped.contains(header))
+                .collect(Collectors.toList());
+
+        List<Integer> recordSizes = new ArrayList<>();
+        Map<BitHeader<?>, MemoryPosition> memoryPositions = new HashMap<>();
+        if (!defaultHeaders.isEmpty()) {
+            addGroup(wordSize, defaultGroupBuilder, defaultHeaders, recordSizes, memoryPositions);
+        }
+        for (int i = 0; i < groups.size(); i++) {
+            if (!groupHeaders.get(i).isEmpty()) {
+                addGroup(wordSize, groups.get(i).builder, groupHeaders.get(i), recordSizes, memoryPositions);
+            }
+        }
+
+        return new MemoryLayout(recordSizes.stream().mapToInt(Integer::intValue).toArray(), memoryPositions);
+    }
+
+    private static void addGroup(int wordSize,
+                                 MemoryLayoutBuilder builder,
+                                 List<BitHeader<?>> headers,
+                                 List<Integer> recordSizes,
+                                 Map<BitHeader<?>, MemoryPosition> memoryPositions) {
+        MemoryLayout layout = builder.compute(wordSize, headers);
+        assertArgument(layout.groupsCount() == 1, "Column group layout must consist of single group");
+
+        int group = recordSizes.size();
+        recordSizes.add(layout.recordSize());
+        for (BitHeader<?> header : headers) {
+            MemoryPosition position = layout.memoryPositionFor(header);
+            assertArgument(position != null, "Cannot find Memory Position for header %s", header.name());
+            memoryPositions.put(header, new MemoryPosition(group, position.positionInRecord(), position.bitShift()));
+        }
+    }
+
+    /**
+     * Column groups builder
+     *
+     * @return new builder
+     */
+    public static ColumnGroupsBuilder builder() {
+        return new ColumnGroupsBuilder();
+    }
+
+    private static final class Group {
+        private final MemoryLayoutBuilder builder;
+        private final List<BitHeader<?>> headers;
+
+        private Group(MemoryLayoutBuilder builder, List<BitHeader<?>> headers) {
+            this.builder = builder;
+            this.headers = headers;
+        }
+    }
+
+    /**
+     * Used to build {@link ColumnGroupMemoryLayoutBuilder} in more readable way
+     */
+    public static final class ColumnGroupsBuilder {
+        private final Set<BitHeader<?>> assigned = new HashSet<>();
+        private final List<Group> groups = new ArrayList<>();
+        private MemoryLayoutBuilder defaultGroupBuilder = new AutomaticMemoryLayoutBuilder();
+
+        /**
+         * Adds column group laid out by {@link AutomaticMemoryLayoutBuilder}
+         *
+         * @param headers headers stored in the group
+         * @return builder
+         */
+        public ColumnGroupsBuilder group(BitHeader<?>... headers) {
+            return group(new AutomaticMemoryLayoutBuilder(), headers);
+        }
+
+        /**
+         * Adds column group
+         *
+         * @param builder memory layout of the group
+         * @param headers headers stored in the group
+         * @return builder
+         */
+        public ColumnGroupsBuilder group(MemoryLayoutBuilder builder, BitHeader<?>... headers) {
+            requireNonNull(builder, "Memory layout builder cannot be null");
+            assertArgument(headers.length > 0, "Column group must contain at least one header");
+            for (BitHeader<?> header : headers) {
+                assertArgument(assigned.add(header), "Header %s is already assigned to a column group", header.name());
+            }
+
+            groups.add(new Group(builder, List.of(headers)));
+            return this;
+        }
+
+        /**
+         * Sets memory layout of the default group, containing all headers not assigned to any group
+         *
+         * @param builder memory layout of the default group
+         * @return builder
+         */
+        public ColumnGroupsBuilder defaultGroup(MemoryLayoutBuilder builder) {
+            this.defaultGroupBuilder = requireNonNull(builder, "Memory layout builder cannot be null");
+            return this;
+        }
+
+        /**
+         * Build memory layout
+         *
+         * @return new memory layout
+         */
+        public ColumnGroupMemoryLayoutBuilder build() {
+            return new ColumnGroupMemoryLayoutBuilder(defaultGroupBuilder, new ArrayList<>(groups));
+        }
+    }
+}
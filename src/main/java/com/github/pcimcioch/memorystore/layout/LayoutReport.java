@@ -0,0 +1,126 @@
+package com.github.pcimcioch.memorystore.layout;
+
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryLayout;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryPosition;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Locale;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Describes how well the memory layout uses the memory. Bits of the record that are not used by any header are wasted.
+ * For layouts with multiple column groups, records of all groups are summed up
+ */
+public final class LayoutReport {
+
+    private final int wordSize;
+    private final long recordBits;
+    private final long usedBits;
+    private final long headerBits;
+
+    private LayoutReport(int wordSize, long recordBits, long usedBits, long headerBits) {
+        this.wordSize = wordSize;
+        this.recordBits = recordBits;
+        this.usedBits = usedBits;
+        this.headerBits = headerBits;
+    }
+
+    /**
+     * Computes report for given memory layout
+     *
+     * @param wordSize size of the word
+     * @param layout   memory layout
+     * @param headers  headers stored in the layout
+     * @return report
+     */
+    public static LayoutReport of(int wordSize, MemoryLayout layout, Collection<? extends BitHeader<?>> headers) {
+        assertArgument(wordSize > 0, "Word Size must be over 0");
+
+        BitSet[] used = new BitSet[layout.groupsCount()];
+        long recordBits = 0L;
+        for (int group = 0; group < used.length; group++) {
+            used[group] = new BitSet();
+            recordBits += (long) layout.recordSize(group) * wordSize;
+        }
+
+        long headerBits = 0L;
+        for (BitHeader<?> header : headers) {
+            MemoryPosition position = layout.memoryPositionFor(header);
+            assertArgument(position != null, "Cannot find Memory Position for header %s", header.name());
+
+            int fromBit = position.positionInRecord() * wordSize + position.bitShift();
+            used[position.group()].set(fromBit, fromBit + header.bitsCount());
+            headerBits += header.bitsCount();
+        }
+
+        long usedBits = 0L;
+        for (BitSet groupBits : used) {
+            usedBits += groupBits.cardinality();
+        }
+
+        return new LayoutReport(wordSize, recordBits, usedBits, headerBits);
+    }
+
+    /**
+     * Returns number of bits in the record
+     *
+     * @return record bits
+     */
+    public long recordBits() {
+        return recordBits;
+    }
+
+    /**
+     * Returns number of bits of the record used by at least one header
+     *
+     * @return used bits
+     */
+    public long usedBits() {
+        return usedBits;
+    }
+
+    /**
+     * Returns number of bits of the record not used by any header
+     *
+     * @return wasted bits
+     */
+    public long wastedBits() {
+        return recordBits - usedBits;
+    }
+
+    /**
+     * Returns part of the record not used by any header
+     *
+     * @return wasted bits ratio, from 0 to 1
+     */
+    public double wastedRatio() {
+        return recordBits == 0L ? 0d : (double) wastedBits() / recordBits;
+    }
+
+    /**
+     * Returns lower bound of the record size, if all headers were packed without any gaps
+     *
+     * @return minimum number of words in the record
+     */
+    public long minRecordSize() {
+        return (headerBits + wordSize - 1) / wordSize;
+    }
+
+    /**
+     * Returns number of bytes wasted when given number of records is stored
+     *
+     * @param recordsCount number of records
+     * @return wasted bytes
+     */
+    public long wastedBytes(long recordsCount) {
+        return wastedBits() * recordsCount / 8;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "Record of %d bits, %d bits used, %d bits wasted (%.2f%%)", recordBits, usedBits, wastedBits(), wastedRatio() * 100);
+    }
+}
@@ -2,11 +2,14 @@ package com.github.pcimcioch.memorystore.layout;
 
 import com.github.pcimcioch.memorystore.header.BitHeader;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
 /**
  * Used to determine how the static size data will be stored in the memory
  */
@@ -22,30 +25,62 @@ public interface MemoryLayoutBuilder {
     MemoryLayout compute(int wordSize, Collection<? extends BitHeader<?>> headers);
 
     /**
-     * Used to define position in the memory of multiple headers
+     * Used to define position in the memory of multiple headers. Headers can be split into column groups. Each column
+     * group is stored in a separate store and has its own record size
      */
     final class MemoryLayout {
-        private final int recordSize;
+        private final int[] recordSizes;
         private final Map<BitHeader<?>, MemoryPosition> memoryPositions;
 
         /**
-         * Constructs memory layout
+         * Constructs memory layout with single column group
          *
          * @param recordSize      number of words in one record
          * @param memoryPositions header to its memory position map
          */
         public MemoryLayout(int recordSize, Map<BitHeader<?>, MemoryPosition> memoryPositions) {
-            this.recordSize = recordSize;
+            this(new int[]{recordSize}, memoryPositions);
+        }
+
+        /**
+         * Constructs memory layout
+         *
+         * @param recordSizes     number of words in one record, for each column group
+         * @param memoryPositions header to its memory position map
+         */
+        public MemoryLayout(int[] recordSizes, Map<BitHeader<?>, MemoryPosition> memoryPositions) {
+            assertArgument(recordSizes.length > 0, "Memory layout must have at least one column group");
+
+            this.recordSizes = recordSizes.clone();
             this.memoryPositions = new HashMap<>(memoryPositions);
         }
 
         /**
-         * Number of words in one record
+         * Number of words in one record of the first column group
          *
          * @return record size
          */
         public int recordSize() {
-            return recordSize;
+            return recordSizes[0];
+        }
+
+        /**
+         * Number of words in one record of given column group
+         *
+         * @param group column group
+         * @return record size
+         */
+        public int recordSize(int group) {
+            return recordSizes[group];
+        }
+
+        /**
+         * Number of column groups. Each column group is stored in a separate store
+         *
+         * @return groups count
+         */
+        public int groupsCount() {
+            return recordSizes.length;
         }
 
         /**
@@ -63,12 +98,12 @@ public interface MemoryLayoutBuilder {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             MemoryLayout that = (MemoryLayout) o;
-            return recordSize == that.recordSize && memoryPositions.equals(that.memoryPositions);
+            return Arrays.equals(recordSizes, that.recordSizes) && memoryPositions.equals(that.memoryPositions);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(recordSize, memoryPositions);
+            return 31 * Arrays.hashCode(recordSizes) + memoryPositions.hashCode();
         }
     }
 
@@ -76,20 +111,42 @@ public interface MemoryLayoutBuilder {
      * Position in the memory
      */
     final class MemoryPosition {
+        private final int group;
         private final int positionInRecord;
         private final int bitShift;
 
         /**
-         * Constructs memory position
+         * Constructs memory position in the first column group
          *
          * @param positionInRecord first word in the record occupied by the data. Indexed form 0
          * @param bitShift         first bit in the first word in the record occupied by the data. Indexed form 0
          */
         public MemoryPosition(int positionInRecord, int bitShift) {
+            this(0, positionInRecord, bitShift);
+        }
+
+        /**
+         * Constructs memory position
+         *
+         * @param group            column group in which data is stored. Indexed from 0
+         * @param positionInRecord first word in the record occupied by the data. Indexed form 0
+         * @param bitShift         first bit in the first word in the record occupied by the data. Indexed form 0
+         */
+        public MemoryPosition(int group, int positionInRecord, int bitShift) {
+            this.group = group;
             this.positionInRecord = positionInRecord;
             this.bitShift = bitShift;
         }
 
+        /**
+         * Column group in which data is stored. Indexed from 0
+         *
+         * @return column group
+         */
+        public int group() {
+            return group;
+        }
+
         /**
          * First word in the record occupied by the data. Indexed form 0
          *
@@ -114,12 +171,12 @@ public interface MemoryLayoutBuilder {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             MemoryPosition that = (MemoryPosition) o;
-            return positionInRecord == that.positionInRecord && bitShift == that.bitShift;
+            return group == that.group && positionInRecord == that.positionInRecord && bitShift == that.bitShift;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(positionInRecord, bitShift);
+            return Objects.hash(group, positionInRecord, bitShift);
         }
     }
 }
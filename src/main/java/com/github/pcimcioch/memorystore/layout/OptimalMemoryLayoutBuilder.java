@@ -0,0 +1,242 @@
+package com.github.pcimcioch.memorystore.layout;
+
+import com.github.pcimcioch.memorystore.header.BitHeader;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.reverseOrder;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Creates memory layout with the minimal record size. Layout is first computed by {@link AutomaticMemoryLayoutBuilder}.
+ * If it is bigger than the lower bound, branch and bound search tries to pack the headers into fewer words. The search
+ * is limited by the time budget. If the budget is exceeded, the best layout found so far is used, which is the
+ * automatic layout in the worst case.
+ * <p>
+ * Like in other builders, header that spans multiple words is always continued in empty words. Within that model, the
+ * layout is optimal if the search finished in the time budget. Use {@link #isOptimal()} to check it and
+ * {@link #report()} to see how many bits are wasted in the record
+ */
+public class OptimalMemoryLayoutBuilder implements MemoryLayoutBuilder {
+
+    private static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(100);
+    private static final int NODES_BETWEEN_TIME_CHECKS = 1024;
+
+    private final long timeBudgetNanos;
+
+    private LayoutReport report;
+    private boolean optimal;
+
+    /**
+     * Constructor with default time budget of 100 milliseconds
+     */
+    public OptimalMemoryLayoutBuilder() {
+        this(DEFAULT_TIME_BUDGET);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param timeBudget maximum time spent on the search
+     */
+    public OptimalMemoryLayoutBuilder(Duration timeBudget) {
+        requireNonNull(timeBudget, "Time budget cannot be null");
+        assertArgument(!timeBudget.isNegative(), "Time budget cannot be negative");
+
+        this.timeBudgetNanos = timeBudget.toNanos();
+    }
+
+    @Override
+    public MemoryLayout compute(int wordSize, Collection<? extends BitHeader<?>> headers) {
+        MemoryLayout layout = new AutomaticMemoryLayoutBuilder().compute(wordSize, headers);
+        LayoutReport automaticReport = LayoutReport.of(wordSize, layout, headers);
+
+        optimal = layout.recordSize() <= automaticReport.minRecordSize();
+        if (!optimal) {
+            Search search = new Search(wordSize, headers, System.nanoTime() + timeBudgetNanos);
+            for (int recordSize = (int) automaticReport.minRecordSize(); recordSize < layout.recordSize(); recordSize++) {
+                MemoryLayout found = search.solve(recordSize);
+                if (found != null) {
+                    layout = found;
+                    optimal = true;
+                    break;
+                }
+                if (search.timedOut) {
+                    break;
+                }
+            }
+            optimal = optimal || !search.timedOut;
+        }
+
+        report = LayoutReport.of(wordSize, layout, headers);
+        return layout;
+    }
+
+    /**
+     * Returns report of the last computed layout
+     *
+     * @return report or null if no layout was computed yet
+     */
+    public LayoutReport report() {
+        return report;
+    }
+
+    /**
+     * Returns whether the last computed layout is proven to have the minimal record size
+     *
+     * @return false if the search exceeded the time budget
+     */
+    public boolean isOptimal() {
+        return optimal;
+    }
+
+    private static final class Search {
+        private final int wordSize;
+        private final List<BitHeader<?>> headers;
+        private final int[] bits;
+        private final int[] maxLastBit;
+        private final boolean[] canSpan;
+        private final long[] remainingBits;
+        private final long deadline;
+
+        private int[] filled;
+        private final int[] words;
+        private final int[] shifts;
+        private long nodes;
+        private boolean timedOut;
+
+        private Search(int wordSize, Collection<? extends BitHeader<?>> headers, long deadline) {
+            this.wordSize = wordSize;
+            this.headers = headers.stream()
+                    .sorted(comparing(BitHeader::bitsCount, reverseOrder()))
+                    .collect(Collectors.toList());
+            this.deadline = deadline;
+
+            int count = this.headers.size();
+            this.bits = new int[count];
+            this.maxLastBit = new int[count];
+            this.canSpan = new boolean[count + 1];
+            this.remainingBits = new long[count + 1];
+            this.words = new int[count];
+            this.shifts = new int[count];
+            for (int i = count - 1; i >= 0; i--) {
+                bits[i] = this.headers.get(i).bitsCount();
+                maxLastBit[i] = this.headers.get(i).maxLastBit();
+                canSpan[i] = canSpan[i + 1] || maxLastBit[i] > wordSize;
+                remainingBits[i] = remainingBits[i + 1] + bits[i];
+            }
+        }
+
+        private MemoryLayout solve(int recordSize) {
+            filled = new int[recordSize];
+            if (!place(0)) {
+                return null;
+            }
+
+            Map<BitHeader<?>, MemoryPosition> memoryPositions = new HashMap<>();
+            for (int i = 0; i < headers.size(); i++) {
+                memoryPositions.put(headers.get(i), new MemoryPosition(words[i], shifts[i]));
+            }
+            return new MemoryLayout(recordSize, memoryPositions);
+        }
+
+        private boolean place(int header) {
+            if (header == headers.size()) {
+                return true;
+            }
+            if (nodes++ % NODES_BETWEEN_TIME_CHECKS == 0 && System.nanoTime() >= deadline) {
+                timedOut = true;
+            }
+            if (timedOut || usableBits(bits[bits.length - 1]) < remainingBits[header]) {
+                return false;
+            }
+
+            // when no remaining header can span words, words with the same number of filled bits are interchangeable
+            boolean[] triedFills = canSpan[header] ? null : new boolean[wordSize + 1];
+            for (int word = 0; word < filled.length; word++) {
+                int shift = filled[word];
+                if (triedFills != null) {
+                    if (triedFills[shift]) {
+                        continue;
+                    }
+                    triedFills[shift] = true;
+                }
+
+                int wordsTaken = wordsTaken(header, word);
+                if (wordsTaken == 0) {
+                    continue;
+                }
+
+                fill(header, word, wordsTaken);
+                words[header] = word;
+                shifts[header] = shift;
+                if (place(header + 1)) {
+                    return true;
+                }
+                unfill(word, wordsTaken, shift);
+                if (timedOut) {
+                    return false;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Returns number of words taken by the header placed at given word or 0 if it does not fit there
+         */
+        private int wordsTaken(int header, int word) {
+            int shift = filled[word];
+            if (shift == wordSize) {
+                return 0;
+            }
+
+            int wordsTaken = (shift + bits[header] + wordSize - 1) / wordSize;
+            if (wordsTaken * wordSize > maxLastBit[header] || word + wordsTaken > filled.length) {
+                return 0;
+            }
+            for (int i = word + 1; i < word + wordsTaken; i++) {
+                if (filled[i] != 0) {
+                    return 0;
+                }
+            }
+            return wordsTaken;
+        }
+
+        private void fill(int header, int word, int wordsTaken) {
+            int lastBit = filled[word] + bits[header];
+            for (int i = 0; i < wordsTaken - 1; i++) {
+                filled[word + i] = wordSize;
+            }
+            filled[word + wordsTaken - 1] = lastBit - (wordsTaken - 1) * wordSize;
+        }
+
+        private void unfill(int word, int wordsTaken, int shift) {
+            for (int i = 1; i < wordsTaken; i++) {
+                filled[word + i] = 0;
+            }
+            filled[word] = shift;
+        }
+
+        /**
+         * Returns number of free bits in words that can still hold at least the smallest header
+         */
+        private long usableBits(int minBits) {
+            long usable = 0L;
+            for (int fill : filled) {
+                int free = wordSize - fill;
+                if (free >= minBits) {
+                    usable += free;
+                }
+            }
+            return usable;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.pcimcioch.memorystore.layout;
+
+import com.github.pcimcioch.memorystore.header.BitHeader;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Rounds record size of the memory layout up to the power of two. Records of such size are addressed by encoders with
+ * shifts instead of multiplication, and as store blocks are also of power of two size, records never cross store
+ * blocks.
+ * <p>
+ * Padding is added at the end of the record only if it costs no more than given threshold. For example with threshold
+ * 0.34, record of 3 words is padded to 4 words, while record of 5 words is kept as it is, as padding it to 8 words would
+ * cost 60% more memory. Each column group is padded independently
+ */
+public class PowerOfTwoMemoryLayoutBuilder implements MemoryLayoutBuilder {
+
+    private static final double DEFAULT_MAX_PADDING = 0.34;
+
+    private final MemoryLayoutBuilder delegate;
+    private final double maxPadding;
+
+    /**
+     * Constructor padding {@link AutomaticMemoryLayoutBuilder} layout with default threshold of 34%
+     */
+    public PowerOfTwoMemoryLayoutBuilder() {
+        this(new AutomaticMemoryLayoutBuilder(), DEFAULT_MAX_PADDING);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param delegate   builder computing the layout to pad
+     * @param maxPadding maximum size of the padding relative to the original record size. Use
+     *                   {@link Double#POSITIVE_INFINITY} to always pad
+     */
+    public PowerOfTwoMemoryLayoutBuilder(MemoryLayoutBuilder delegate, double maxPadding) {
+        assertArgument(maxPadding >= 0d, "Padding threshold must be greater or equal zero");
+
+        this.delegate = requireNonNull(delegate, "Memory layout builder cannot be null");
+        this.maxPadding = maxPadding;
+    }
+
+    @Override
+    public MemoryLayout compute(int wordSize, Collection<? extends BitHeader<?>> headers) {
+        MemoryLayout layout = delegate.compute(wordSize, headers);
+
+        int[] recordSizes = new int[layout.groupsCount()];
+        for (int group = 0; group < recordSizes.length; group++) {
+            recordSizes[group] = padded(layout.recordSize(group));
+        }
+
+        Map<BitHeader<?>, MemoryPosition> memoryPositions = new HashMap<>();
+        for (BitHeader<?> header : headers) {
+            memoryPositions.put(header, layout.memoryPositionFor(header));
+        }
+        return new MemoryLayout(recordSizes, memoryPositions);
+    }
+
+    private int padded(int recordSize) {
+        if (recordSize <= 1) {
+            return recordSize;
+        }
+
+        int powerOfTwo = Integer.highestOneBit(recordSize - 1) << 1;
+        return powerOfTwo - recordSize <= recordSize * maxPadding ? powerOfTwo : recordSize;
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.pcimcioch.memorystore.layout;
+
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryPosition;
+
+import java.util.Arrays;
+
+/**
+ * Keeps number of filled bits of each word of the record, used by memory layout builders to place headers one by one.
+ * Header is placed in the free bits of the first word and, if it does not fit there, continues only in empty words
+ */
+final class Words {
+    private final int wordSize;
+    private int[] filled;
+    private int size;
+
+    Words(int wordSize) {
+        this(wordSize, new int[16], 0);
+    }
+
+    private Words(int wordSize, int[] filled, int size) {
+        this.wordSize = wordSize;
+        this.filled = filled;
+        this.size = size;
+    }
+
+    int wordSize() {
+        return wordSize;
+    }
+
+    /**
+     * @return number of words that have at least one header placed
+     */
+    int size() {
+        return size;
+    }
+
+    int filledBits(int wordIndex) {
+        return wordIndex < size ? filled[wordIndex] : 0;
+    }
+
+    Words copy() {
+        return new Words(wordSize, filled.clone(), size);
+    }
+
+    void set(Words other) {
+        this.filled = other.filled;
+        this.size = other.size;
+    }
+
+    /**
+     * Checks whether header can be placed starting from given word, using only words before the limit
+     *
+     * @param header    header to place
+     * @param wordIndex index of the first word
+     * @param to        index of the first word that cannot be used
+     * @return whether header fits
+     */
+    boolean fits(BitHeader<?> header, int wordIndex, int to) {
+        int bitsCount = header.bitsCount();
+
+        for (int lastBit = wordSize; lastBit <= header.maxLastBit() && wordIndex < to; lastBit += wordSize, wordIndex++) {
+            int freeBits = wordSize - filledBits(wordIndex);
+            if (freeBits == 0) {
+                return false;
+            }
+            if (bitsCount != header.bitsCount() && freeBits != wordSize) {
+                return false;
+            }
+
+            bitsCount -= freeBits;
+            if (bitsCount <= 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Places header starting from given word. Header must fit there
+     *
+     * @param header    header to place
+     * @param wordIndex index of the first word
+     * @return position of the header
+     */
+    MemoryPosition fill(BitHeader<?> header, int wordIndex) {
+        MemoryPosition position = new MemoryPosition(wordIndex, filledBits(wordIndex));
+
+        for (int bitsCount = header.bitsCount(); bitsCount > 0; wordIndex++) {
+            ensureWord(wordIndex);
+            int toAdd = Math.min(bitsCount, wordSize - filled[wordIndex]);
+            filled[wordIndex] += toAdd;
+            bitsCount -= toAdd;
+        }
+
+        return position;
+    }
+
+    private void ensureWord(int wordIndex) {
+        if (wordIndex >= filled.length) {
+            filled = Arrays.copyOf(filled, Math.max(wordIndex + 1, filled.length * 2));
+        }
+        size = Math.max(size, wordIndex + 1);
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.pcimcioch.memorystore.layout;
+
+import com.github.pcimcioch.memorystore.header.BitHeader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.github.pcimcioch.memorystore.layout.AffinityMemoryLayoutBuilder.CACHE_LINE_BITS;
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+
+/**
+ * Creates memory layout in which headers written by different threads never share a word. Headers are split into
+ * writer domains, each domain is laid out by {@link AutomaticMemoryLayoutBuilder} in its own range of words of the
+ * record. Thread that writes only headers of its domain never modifies words written by other threads, so partial
+ * writes of different domains do not overwrite each other.
+ * <p>
+ * Optionally, each domain can be isolated in its own cache lines, to avoid false sharing. Then every domain starts at
+ * the cache line boundary and the record size is padded to the multiple of the cache line. Cache lines are counted from
+ * the beginning of the store block.
+ * <p>
+ * Headers that are not assigned to any domain form the default domain.
+ * <p>
+ * Example:
+ * <pre>
+ *     WriterDomainMemoryLayoutBuilder builder = WriterDomainMemoryLayoutBuilder.builder()
+ *         .domain(visitsHeader, clicksHeader)
+ *         .domain(statusHeader)
+ *         .isolateCacheLines()
+ *         .build();
+ * </pre>
+ */
+public class WriterDomainMemoryLayoutBuilder implements MemoryLayoutBuilder {
+
+    private final List<List<BitHeader<?>>> domains;
+    private final boolean isolateCacheLines;
+
+    private WriterDomainMemoryLayoutBuilder(List<List<BitHeader<?>>> domains, boolean isolateCacheLines) {
+        this.domains = domains;
+        this.isolateCacheLines = isolateCacheLines;
+    }
+
+    @Override
+    public MemoryLayout compute(int wordSize, Collection<? extends BitHeader<?>> headers) {
+        Set<BitHeader<?>> assigned = domains.stream().flatMap(List::stream).collect(Collectors.toSet());
+        List<List<BitHeader<?>>> domainHeaders = new ArrayList<>();
+        domainHeaders.add(headers.stream().filter(header -> !assigned.contains(header)).collect(Collectors.toList()));
+        for (List<BitHeader<?>> domain : domains) {
+            domainHeaders.add(domain.stream().filter(headers::contains).collect(Collectors.toList()));
+        }
+
+        int lineWords = Math.max(1, CACHE_LINE_BITS / wordSize);
+        int recordSize = 0;
+        Map<BitHeader<?>, MemoryPosition> memoryPositions = new HashMap<>();
+        for (List<BitHeader<?>> domain : domainHeaders) {
+            if (domain.isEmpty()) {
+                continue;
+            }
+
+            int start = isolateCacheLines ? align(recordSize, lineWords) : recordSize;
+            MemoryLayout layout = new AutomaticMemoryLayoutBuilder().compute(wordSize, domain);
+            for (BitHeader<?> header : domain) {
+                MemoryPosition position = layout.memoryPositionFor(header);
+                memoryPositions.put(header, new MemoryPosition(start + position.positionInRecord(), position.bitShift()));
+            }
+            recordSize = start + layout.recordSize();
+        }
+
+        return new MemoryLayout(isolateCacheLines ? align(recordSize, lineWords) : recordSize, memoryPositions);
+    }
+
+    private static int align(int value, int alignment) {
+        return (value + alignment - 1) / alignment * alignment;
+    }
+
+    /**
+     * Writer domains builder
+     *
+     * @return new builder
+     */
+    public static WriterDomainsBuilder builder() {
+        return new WriterDomainsBuilder();
+    }
+
+    /**
+     * Used to build {@link WriterDomainMemoryLayoutBuilder} in more readable way
+     */
+    public static final class WriterDomainsBuilder {
+        private final Set<BitHeader<?>> assigned = new HashSet<>();
+        private final List<List<BitHeader<?>>> domains = new ArrayList<>();
+        private boolean isolateCacheLines = false;
+
+        /**
+         * Adds writer domain
+         *
+         * @param headers headers written by the same thread
+         * @return builder
+         */
+        public WriterDomainsBuilder domain(BitHeader<?>... headers) {
+            assertArgument(headers.length > 0, "Writer domain must contain at least one header");
+            for (BitHeader<?> header : headers) {
+                assertArgument(assigned.add(header), "Header %s is already assigned to a writer domain", header.name());
+            }
+
+            domains.add(List.of(headers));
+            return this;
+        }
+
+        /**
+         * Places each domain in its own cache lines
+         *
+         * @return builder
+         */
+        public WriterDomainsBuilder isolateCacheLines() {
+            this.isolateCacheLines = true;
+            return this;
+        }
+
+        /**
+         * Build memory layout
+         *
+         * @return new memory layout
+         */
+        public WriterDomainMemoryLayoutBuilder build() {
+            return new WriterDomainMemoryLayoutBuilder(List.copyOf(domains), isolateCacheLines);
+        }
+    }
+}
@@ -4,8 +4,10 @@ import com.github.pcimcioch.memorystore.Table;
 import com.github.pcimcioch.memorystore.encoder.Encoder;
 import com.github.pcimcioch.memorystore.header.Header;
 import com.github.pcimcioch.memorystore.header.ObjectDirectHeader;
+import com.github.pcimcioch.memorystore.header.StoreOwnerHeader;
 import com.github.pcimcioch.memorystore.persistence.binary.LoaderMemoryLayout.LoaderMemoryLayoutSerializer;
 import com.github.pcimcioch.memorystore.persistence.binary.StoreSerializers.IntStoreSerializer;
+import com.github.pcimcioch.memorystore.store.IntStore;
 import com.github.pcimcioch.memorystore.store.ObjectPoolStore;
 import com.github.pcimcioch.memorystore.store.ObjectStore;
 import com.github.pcimcioch.memorystore.store.StoreFactory;
@@ -23,8 +25,10 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
@@ -48,6 +52,7 @@ public class BinaryPersistence extends Table.Accessor {
     private final IntStoreSerializer intStoreSerializer;
     private final Serializer<Map<String, ObjectStore<?>>> objectStoresSerializer;
     private final Serializer<Map<String, ObjectPoolStore<?>>> poolStoresSerializer;
+    private final Serializer<Map<String, IntStore>> ownedStoresSerializer;
 
     /**
      * Creates persistence that allows saving {@link Table} as binary stream.
@@ -73,6 +78,7 @@ public class BinaryPersistence extends Table.Accessor {
         this.intStoreSerializer = StoreSerializers.intStore();
         this.objectStoresSerializer = Serializers.mapOf(Serializers.string(), objectStoreSerializers::get);
         this.poolStoresSerializer = Serializers.mapOf(Serializers.string(), poolStoreSerializers::get);
+        this.ownedStoresSerializer = Serializers.mapOf(Serializers.string(), intStoreSerializer);
     }
 
     /**
@@ -147,10 +153,20 @@ public class BinaryPersistence extends Table.Accessor {
      */
     public void save(DataOutput stream, Table table) throws IOException {
         headersSerializer.serialize(stream, HeaderDefinition.from(table.headers()));
-        memoryLayoutSerializer.serialize(stream, memoryLayout(table));
-        intStoreSerializer.serialize(stream, intStore(table));
+        LoaderMemoryLayout memoryLayout = loaderMemoryLayout(table);
+        memoryLayoutSerializer.serialize(stream, memoryLayout);
+        if (memoryLayout.groupsCount() == 1) {
+            intStoreSerializer.serialize(stream, intStore(table));
+        } else {
+            for (IntStore intStore : intStores(table)) {
+                intStoreSerializer.serialize(stream, intStore);
+            }
+        }
         objectStoresSerializer.serialize(stream, objectStoresByName(table));
         poolStoresSerializer.serialize(stream, poolStoresByName(table));
+        if (!ownedStores(table).isEmpty()) {
+            ownedStoresSerializer.serialize(stream, ownedStoresByName(table));
+        }
     }
 
     /**
@@ -168,18 +184,25 @@ public class BinaryPersistence extends Table.Accessor {
                 "Incorrect headers. Data contains %s but provided %s", dataHeaders, tableHeaders);
 
         LoaderMemoryLayout memoryLayout = memoryLayoutSerializer.deserialize(stream);
+        int groupsCount = memoryLayout == null ? 1 : memoryLayout.groupsCount();
+        List<IntStore> intStores = new ArrayList<>(groupsCount);
+        for (int group = 0; group < groupsCount; group++) {
+            intStores.add(intStoreSerializer.deserialize(stream));
+        }
 
-        StoreFactory storeFactory = new LoaderStoreFactory(
-                intStoreSerializer.deserialize(stream),
-                objectStoresSerializer.deserialize(stream),
-                poolStoresSerializer.deserialize(stream)
-        );
+        Map<String, ObjectStore<?>> objectStores = objectStoresSerializer.deserialize(stream);
+        Map<String, ObjectPoolStore<?>> poolStores = poolStoresSerializer.deserialize(stream);
+        Map<String, IntStore> ownedStores = headers.stream().anyMatch(StoreOwnerHeader.class::isInstance)
+                ? ownedStoresSerializer.deserialize(stream)
+                : Map.of();
+
+        StoreFactory storeFactory = new LoaderStoreFactory(intStores, objectStores, poolStores, ownedStores);
 
         return buildTable(memoryLayout, storeFactory, headers);
     }
 
-    private LoaderMemoryLayout memoryLayout(Table table) {
-        return new LoaderMemoryLayout(32, encoders(table));
+    private LoaderMemoryLayout loaderMemoryLayout(Table table) {
+        return new LoaderMemoryLayout(32, memoryLayout(table), encoders(table).keySet());
     }
 
     private Map<String, ObjectStore<?>> objectStoresByName(Table table) {
@@ -196,6 +219,13 @@ public class BinaryPersistence extends Table.Accessor {
         );
     }
 
+    private Map<String, IntStore> ownedStoresByName(Table table) {
+        return Utils.remap(ownedStores(table),
+                Header::name,
+                Function.identity()
+        );
+    }
+
     /**
      * Persistence builder
      *
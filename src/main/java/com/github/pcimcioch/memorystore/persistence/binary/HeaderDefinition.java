@@ -5,6 +5,7 @@ import com.github.pcimcioch.memorystore.header.BitHeader;
 import com.github.pcimcioch.memorystore.header.Header;
 import com.github.pcimcioch.memorystore.header.ObjectDirectHeader;
 import com.github.pcimcioch.memorystore.header.ObjectPoolHeader;
+import com.github.pcimcioch.memorystore.header.StoreOwnerHeader;
 import com.github.pcimcioch.serializer.Serializer;
 import com.github.pcimcioch.serializer.common.MultiTypeSerializer;
 import com.github.pcimcioch.serializer.common.MultiTypeSerializer.TypeMapping;
@@ -17,6 +18,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.github.pcimcioch.serializer.Serializers.multiTypeOf;
 import static com.github.pcimcioch.serializer.Serializers.string;
@@ -26,7 +28,8 @@ abstract class HeaderDefinition {
     static final MultiTypeSerializer<HeaderDefinition> SERIALIZER = multiTypeOf(List.of(
             new TypeMapping<>(ObjectPoolHeaderDefinition.class, new ObjectPoolHeaderDefinitionSerializer()),
             new TypeMapping<>(ObjectDirectHeaderDefinition.class, new ObjectDirectHeaderDefinitionSerializer()),
-            new TypeMapping<>(BitHeaderDefinition.class, new BitHeaderDefinitionSerializer())
+            new TypeMapping<>(BitHeaderDefinition.class, new BitHeaderDefinitionSerializer()),
+            new TypeMapping<>(StoreOwnerHeaderDefinition.class, new StoreOwnerHeaderDefinitionSerializer())
     ));
 
     protected final String name;
@@ -74,6 +77,13 @@ abstract class HeaderDefinition {
                     new BitHeaderDefinition(poolHeader.poolIndexHeader())
             );
         }
+        if (header instanceof StoreOwnerHeader) {
+            StoreOwnerHeader<?> storeOwnerHeader = (StoreOwnerHeader<?>) header;
+            return Stream.concat(
+                    Stream.of(new StoreOwnerHeaderDefinition(storeOwnerHeader)),
+                    storeOwnerHeader.recordHeaders().stream().map(BitHeaderDefinition::new)
+            ).collect(Collectors.toList());
+        }
         if (header instanceof ObjectDirectHeader) {
             return List.of(new ObjectDirectHeaderDefinition((ObjectDirectHeader<?>) header));
         }
@@ -147,6 +157,23 @@ abstract class HeaderDefinition {
         }
     }
 
+    static final class StoreOwnerHeaderDefinition extends HeaderDefinition {
+        StoreOwnerHeaderDefinition(String name) {
+            super(name);
+        }
+
+        StoreOwnerHeaderDefinition(StoreOwnerHeader<?> header) {
+            this(header.name());
+        }
+
+        @Override
+        public String toString() {
+            return "StoreOwnerHeaderDefinition{" +
+                    "name='" + name + '\'' +
+                    '}';
+        }
+    }
+
     static final class BitHeaderDefinition extends HeaderDefinition {
         private final int bitsCount;
         private final int maxLastBit;
@@ -225,6 +252,20 @@ abstract class HeaderDefinition {
         }
     }
 
+    private static final class StoreOwnerHeaderDefinitionSerializer implements Serializer<StoreOwnerHeaderDefinition> {
+        @Override
+        public void serialize(DataOutput encoder, StoreOwnerHeaderDefinition object) throws IOException {
+            string().serialize(encoder, object.name);
+        }
+
+        @Override
+        public StoreOwnerHeaderDefinition deserialize(DataInput decoder) throws IOException {
+            return new StoreOwnerHeaderDefinition(
+                    string().deserialize(decoder)
+            );
+        }
+    }
+
     private static final class BitHeaderDefinitionSerializer implements Serializer<BitHeaderDefinition> {
         @Override
         public void serialize(DataOutput encoder, BitHeaderDefinition object) throws IOException {
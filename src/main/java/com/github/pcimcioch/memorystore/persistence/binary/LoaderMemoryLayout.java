@@ -1,6 +1,5 @@
 package com.github.pcimcioch.memorystore.persistence.binary;
 
-import com.github.pcimcioch.memorystore.encoder.BitEncoder;
 import com.github.pcimcioch.memorystore.encoder.Encoder;
 import com.github.pcimcioch.memorystore.header.BitHeader;
 import com.github.pcimcioch.memorystore.header.Header;
@@ -13,7 +12,6 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
 import static com.github.pcimcioch.serializer.Serializers.mapOf;
@@ -23,20 +21,30 @@ class LoaderMemoryLayout implements MemoryLayoutBuilder {
 
     static final LoaderMemoryLayoutSerializer SERIALIZER = new LoaderMemoryLayoutSerializer();
 
-    private final int recordSize;
+    private static final int GROUPED_FORMAT = -2;
+
+    private final int[] recordSizes;
     private final int wordSize;
     private final Map<String, MemoryPosition> headerMemoryPositions;
 
-    LoaderMemoryLayout(int wordSize, Map<Header<? extends Encoder>, Encoder> encoders) {
-        this(wordSize, recordSize(encoders), headerMemoryPositions(encoders));
+    LoaderMemoryLayout(int wordSize, MemoryLayout memoryLayout, Collection<? extends Header<? extends Encoder>> headers) {
+        this(wordSize, recordSizes(memoryLayout), headerMemoryPositions(memoryLayout, headers));
     }
 
     LoaderMemoryLayout(int wordSize, int recordSize, Map<String, MemoryPosition> headerMemoryPositions) {
+        this(wordSize, new int[]{recordSize}, headerMemoryPositions);
+    }
+
+    LoaderMemoryLayout(int wordSize, int[] recordSizes, Map<String, MemoryPosition> headerMemoryPositions) {
         this.wordSize = wordSize;
-        this.recordSize = recordSize;
+        this.recordSizes = recordSizes;
         this.headerMemoryPositions = headerMemoryPositions;
     }
 
+    int groupsCount() {
+        return recordSizes.length;
+    }
+
     @Override
     public MemoryLayout compute(int wordSize, Collection<? extends BitHeader<?>> headers) {
         assertArgument(this.wordSize == wordSize, "This memory layout supports %d word size, but %d requested", this.wordSize, wordSize);
@@ -48,29 +56,36 @@ class LoaderMemoryLayout implements MemoryLayoutBuilder {
                         HashMap::putAll
                 );
 
-        return new MemoryLayout(recordSize, memoryPositions);
+        return new MemoryLayout(recordSizes, memoryPositions);
     }
 
-    private static int recordSize(Map<Header<? extends Encoder>, Encoder> encoders) {
-        return encoders.values().stream()
-                .filter(BitEncoder.class::isInstance)
-                .map(BitEncoder.class::cast)
-                .mapToInt(BitEncoder::recordSize)
-                .findFirst()
-                .orElse(0);
+    private boolean isGrouped() {
+        return recordSizes.length > 1 || headerMemoryPositions.values().stream()
+                .anyMatch(position -> position != null && position.group() != 0);
     }
 
-    private static Map<String, MemoryPosition> headerMemoryPositions(Map<Header<? extends Encoder>, Encoder> encoders) {
-        return encoders.entrySet().stream()
-                .filter(e -> e.getValue() instanceof BitEncoder)
-                .collect(Collectors.toMap(
-                        e -> e.getKey().name(),
-                        e -> memoryPosition((BitEncoder) e.getValue())
-                ));
+    private static int[] recordSizes(MemoryLayout memoryLayout) {
+        if (memoryLayout == null) {
+            return new int[]{0};
+        }
+
+        int[] recordSizes = new int[memoryLayout.groupsCount()];
+        for (int group = 0; group < recordSizes.length; group++) {
+            recordSizes[group] = memoryLayout.recordSize(group);
+        }
+        return recordSizes;
     }
 
-    private static MemoryPosition memoryPosition(BitEncoder encoder) {
-        return new MemoryPosition(encoder.positionInRecord(), encoder.bitShift());
+    private static Map<String, MemoryPosition> headerMemoryPositions(MemoryLayout memoryLayout,
+                                                                     Collection<? extends Header<? extends Encoder>> headers) {
+        Map<String, MemoryPosition> positions = new HashMap<>();
+        if (memoryLayout != null) {
+            headers.stream()
+                    .filter(BitHeader.class::isInstance)
+                    .map(BitHeader.class::cast)
+                    .forEach(header -> positions.put(header.name(), memoryLayout.memoryPositionFor(header)));
+        }
+        return positions;
     }
 
     static final class LoaderMemoryLayoutSerializer implements Serializer<LoaderMemoryLayout> {
@@ -78,15 +93,27 @@ class LoaderMemoryLayout implements MemoryLayoutBuilder {
                 string(),
                 new MemoryPositionSerializer()
         );
+        private final Serializer<Map<String, MemoryPosition>> groupedPositionsSerializer = mapOf(
+                string(),
+                new GroupedMemoryPositionSerializer()
+        );
 
         @Override
         public void serialize(DataOutput encoder, LoaderMemoryLayout layout) throws IOException {
             if (layout == null) {
                 encoder.writeInt(-1);
-            } else {
-                encoder.writeInt(layout.recordSize);
+            } else if (!layout.isGrouped()) {
+                encoder.writeInt(layout.recordSizes[0]);
                 encoder.writeInt(layout.wordSize);
                 positionsSerializer.serialize(encoder, layout.headerMemoryPositions);
+            } else {
+                encoder.writeInt(GROUPED_FORMAT);
+                encoder.writeInt(layout.recordSizes.length);
+                for (int recordSize : layout.recordSizes) {
+                    encoder.writeInt(recordSize);
+                }
+                encoder.writeInt(layout.wordSize);
+                groupedPositionsSerializer.serialize(encoder, layout.headerMemoryPositions);
             }
         }
 
@@ -96,10 +123,21 @@ class LoaderMemoryLayout implements MemoryLayoutBuilder {
             if (recordSize == -1) {
                 return null;
             }
+            if (recordSize != GROUPED_FORMAT) {
+                int wordSize = decoder.readInt();
+                Map<String, MemoryPosition> positions = positionsSerializer.deserialize(decoder);
+
+                return new LoaderMemoryLayout(wordSize, recordSize, positions);
+            }
+
+            int[] recordSizes = new int[decoder.readInt()];
+            for (int group = 0; group < recordSizes.length; group++) {
+                recordSizes[group] = decoder.readInt();
+            }
             int wordSize = decoder.readInt();
-            Map<String, MemoryPosition> positions = positionsSerializer.deserialize(decoder);
+            Map<String, MemoryPosition> positions = groupedPositionsSerializer.deserialize(decoder);
 
-            return new LoaderMemoryLayout(wordSize, recordSize, positions);
+            return new LoaderMemoryLayout(wordSize, recordSizes, positions);
         }
     }
 
@@ -125,4 +163,29 @@ class LoaderMemoryLayout implements MemoryLayoutBuilder {
             return new MemoryPosition(positionInRecord, bitShift);
         }
     }
+
+    static final class GroupedMemoryPositionSerializer implements Serializer<MemoryPosition> {
+        @Override
+        public void serialize(DataOutput encoder, MemoryPosition memoryPosition) throws IOException {
+            if (memoryPosition == null) {
+                encoder.writeInt(-1);
+            } else {
+                encoder.writeInt(memoryPosition.group());
+                encoder.writeInt(memoryPosition.positionInRecord());
+                encoder.writeInt(memoryPosition.bitShift());
+            }
+        }
+
+        @Override
+        public MemoryPosition deserialize(DataInput decoder) throws IOException {
+            int group = decoder.readInt();
+            if (group == -1) {
+                return null;
+            }
+            int positionInRecord = decoder.readInt();
+            int bitShift = decoder.readInt();
+
+            return new MemoryPosition(group, positionInRecord, bitShift);
+        }
+    }
 }
@@ -2,31 +2,41 @@ package com.github.pcimcioch.memorystore.persistence.binary;
 
 import com.github.pcimcioch.memorystore.header.ObjectDirectHeader;
 import com.github.pcimcioch.memorystore.header.ObjectPoolHeader.PoolDefinition;
+import com.github.pcimcioch.memorystore.header.StoreOwnerHeader;
 import com.github.pcimcioch.memorystore.store.IntStore;
 import com.github.pcimcioch.memorystore.store.ObjectPoolStore;
 import com.github.pcimcioch.memorystore.store.ObjectStore;
 import com.github.pcimcioch.memorystore.store.StoreFactory;
 
+import java.util.List;
 import java.util.Map;
 
 @SuppressWarnings("unchecked")
 class LoaderStoreFactory implements StoreFactory {
 
-    private final IntStore intStore;
+    private final List<IntStore> intStores;
     private final Map<String, ObjectStore<?>> objectStores;
     private final Map<String, ObjectPoolStore<?>> poolStores;
+    private final Map<String, IntStore> ownedStores;
 
-    LoaderStoreFactory(IntStore intStore,
+    LoaderStoreFactory(List<IntStore> intStores,
                        Map<String, ObjectStore<?>> objectStores,
-                       Map<String, ObjectPoolStore<?>> poolStores) {
-        this.intStore = intStore;
+                       Map<String, ObjectPoolStore<?>> poolStores,
+                       Map<String, IntStore> ownedStores) {
+        this.intStores = intStores;
         this.objectStores = objectStores;
         this.poolStores = poolStores;
+        this.ownedStores = ownedStores;
     }
 
     @Override
     public IntStore buildIntStore() {
-        return intStore;
+        return buildIntStore(0);
+    }
+
+    @Override
+    public IntStore buildIntStore(int group) {
+        return group < intStores.size() ? intStores.get(group) : null;
     }
 
     @Override
@@ -38,4 +48,9 @@ class LoaderStoreFactory implements StoreFactory {
     public <T> ObjectPoolStore<T> buildObjectPoolStore(PoolDefinition poolDefinition) {
         return (ObjectPoolStore<T>) poolStores.get(poolDefinition.name());
     }
+
+    @Override
+    public IntStore buildOwnedStore(StoreOwnerHeader<?> header) {
+        return ownedStores.get(header.name());
+    }
 }
@@ -30,10 +30,23 @@ class StoreSerializers {
 
     static final class IntStoreSerializer implements Serializer<IntStore> {
 
+        private static final long RECORD_ALIGNED = -2;
+
         @Override
         public void serialize(DataOutput encoder, IntStore store) throws IOException {
             if (store == null) {
                 encoder.writeLong(-1);
+            } else if (store.isRecordAligned()) {
+                long effectiveSize = effectiveAlignedSize(store);
+
+                encoder.writeLong(RECORD_ALIGNED);
+                encoder.writeInt(store.recordSize());
+                encoder.writeLong(store.size());
+                encoder.writeLong(effectiveSize);
+                encoder.writeInt(store.minBlockSize());
+                for (long i = 0; i < effectiveSize; i++) {
+                    encoder.writeInt(store.getInt(alignedIndex(store, i)));
+                }
             } else {
                 long effectiveSize = effectiveSize(store);
 
@@ -52,13 +65,14 @@ class StoreSerializers {
             if (size == -1) {
                 return null;
             }
+            if (size == RECORD_ALIGNED) {
+                return deserializeAligned(decoder);
+            }
             long effectiveSize = decoder.readLong();
             int blockSize = decoder.readInt();
 
             IntStore store = new IntStore(blockSize);
-            if (size > 0) {
-                store.setInt(size - 1, 0);
-            }
+            store.ensureCapacity(size);
             for (long i = 0; i < effectiveSize; i++) {
                 store.setInt(i, decoder.readInt());
             }
@@ -66,6 +80,39 @@ class StoreSerializers {
             return store;
         }
 
+        private IntStore deserializeAligned(DataInput decoder) throws IOException {
+            int recordSize = decoder.readInt();
+            long size = decoder.readLong();
+            long effectiveSize = decoder.readLong();
+            int minBlockSize = decoder.readInt();
+
+            IntStore store = new IntStore(minBlockSize, recordSize);
+            store.ensureCapacity(size);
+            for (long i = 0; i < effectiveSize; i++) {
+                store.setInt(alignedIndex(store, i), decoder.readInt());
+            }
+
+            return store;
+        }
+
+        /**
+         * Record aligned store has gaps at the end of each block. Data is serialized without them
+         */
+        private long effectiveAlignedSize(IntStore store) {
+            long dataSize = (long) store.blocksCount() * store.blockSize();
+            for (long lastIndex = dataSize - 1; lastIndex >= 0; lastIndex--) {
+                if (store.getInt(alignedIndex(store, lastIndex)) != 0) {
+                    return lastIndex + 1;
+                }
+            }
+
+            return 0;
+        }
+
+        private static long alignedIndex(IntStore store, long dataIndex) {
+            return (dataIndex / store.blockSize() << store.numberOfIndexBits()) + dataIndex % store.blockSize();
+        }
+
         private long effectiveSize(IntStore store) {
             for (long lastIndex = store.size() - 1; lastIndex >= 0; lastIndex--) {
                 if (store.getInt(lastIndex) != 0) {
@@ -0,0 +1,237 @@
+package com.github.pcimcioch.memorystore.sort;
+
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.store.IntStore;
+
+import java.util.NoSuchElementException;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Binary min-heap of records, ordered by the {@link SortKey}. Priority is read straight from the record fields, and
+ * the position of each record in the heap is kept in an {@link UnsignedIntegerEncoder} field of the same record. Thanks
+ * to that, priority of the record that is already in the heap can be changed in O(log n), without searching for it,
+ * and the heap does not allocate any objects per element. Positions in the heap are stored increased by one, so zero
+ * means that the record is not in the heap. Field must be zero for all records before they are added.
+ * <br>
+ * <p>
+ * Example of shortest path search:
+ * <pre>
+ *     IndexedHeap queue = new IndexedHeap(heapPositionEncoder, SortKey.of(distanceEncoder));
+ *     queue.add(source);
+ *     while (!queue.isEmpty()) {
+ *         long junction = queue.poll();
+ *         for each road from junction to neighbour:
+ *             if (distance(junction) + length(road) &lt; distance(neighbour)) {
+ *                 distanceEncoder.set(neighbour, distance(junction) + length(road));
+ *                 if (queue.contains(neighbour)) queue.decreaseKey(neighbour); else queue.add(neighbour);
+ *             }
+ *     }
+ * </pre>
+ * The heap is not thread safe
+ */
+public class IndexedHeap {
+
+    private final UnsignedIntegerEncoder heapPosition;
+    private final SortKey priority;
+    private final IntStore heap = new IntStore();
+    private int size = 0;
+
+    /**
+     * Constructor
+     *
+     * @param heapPosition field storing position of the record in the heap
+     * @param priority     priority of the record. Record with the smallest key is polled first
+     */
+    public IndexedHeap(UnsignedIntegerEncoder heapPosition, SortKey priority) {
+        this.heapPosition = requireNonNull(heapPosition, "Heap position encoder cannot be null");
+        this.priority = requireNonNull(priority, "Priority cannot be null");
+    }
+
+    /**
+     * Returns number of records in the heap
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the heap is empty
+     *
+     * @return true if there are no records in the heap
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether the record is in the heap
+     *
+     * @param position index of the record
+     * @return true if record is in the heap
+     */
+    public boolean contains(long position) {
+        return heapPosition.get(position) != 0;
+    }
+
+    /**
+     * Adds record to the heap
+     *
+     * @param position index of the record
+     */
+    public void add(long position) {
+        assertArgument(position >= 0 && position <= Integer.MAX_VALUE, "Position must be between 0 and %d", Integer.MAX_VALUE);
+        assertArgument(!contains(position), "Record %d is already in the heap", position);
+
+        place((int) position, size++);
+        siftUp(size - 1);
+    }
+
+    /**
+     * Returns record with the smallest priority, without removing it
+     *
+     * @return index of the record
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long peek() {
+        assertNotEmpty();
+        return heap.getInt(0);
+    }
+
+    /**
+     * Removes and returns record with the smallest priority
+     *
+     * @return index of the record
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long poll() {
+        assertNotEmpty();
+
+        int first = heap.getInt(0);
+        removeAt(0);
+        return first;
+    }
+
+    /**
+     * Removes record from the heap
+     *
+     * @param position index of the record
+     */
+    public void remove(long position) {
+        removeAt(indexOf(position));
+    }
+
+    /**
+     * Restores heap order after priority of the record was decreased
+     *
+     * @param position index of the record
+     */
+    public void decreaseKey(long position) {
+        siftUp(indexOf(position));
+    }
+
+    /**
+     * Restores heap order after priority of the record was changed in any direction
+     *
+     * @param position index of the record
+     */
+    public void update(long position) {
+        int index = indexOf(position);
+        if (siftUp(index) == index) {
+            siftDown(index);
+        }
+    }
+
+    /**
+     * Removes all records from the heap
+     */
+    public void clear() {
+        for (int index = 0; index < size; index++) {
+            heapPosition.set(heap.getInt(index), 0);
+        }
+        size = 0;
+    }
+
+    private int indexOf(long position) {
+        int index = heapPosition.get(position) - 1;
+        assertArgument(index >= 0, "Record %d is not in the heap", position);
+        return index;
+    }
+
+    private void removeAt(int index) {
+        int removed = heap.getInt(index);
+        heapPosition.set(removed, 0);
+
+        size--;
+        if (index == size) {
+            return;
+        }
+
+        place(heap.getInt(size), index);
+        if (siftUp(index) == index) {
+            siftDown(index);
+        }
+    }
+
+    private int siftUp(int index) {
+        int record = heap.getInt(index);
+        long key = priority.key(record);
+
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            int parent = heap.getInt(parentIndex);
+            if (Long.compareUnsigned(key, priority.key(parent)) >= 0) {
+                break;
+            }
+            place(parent, index);
+            index = parentIndex;
+        }
+
+        place(record, index);
+        return index;
+    }
+
+    private void siftDown(int index) {
+        int record = heap.getInt(index);
+        long key = priority.key(record);
+
+        while (true) {
+            int childIndex = 2 * index + 1;
+            if (childIndex >= size) {
+                break;
+            }
+            int child = heap.getInt(childIndex);
+            long childKey = priority.key(child);
+            if (childIndex + 1 < size) {
+                int right = heap.getInt(childIndex + 1);
+                long rightKey = priority.key(right);
+                if (Long.compareUnsigned(rightKey, childKey) < 0) {
+                    childIndex++;
+                    child = right;
+                    childKey = rightKey;
+                }
+            }
+            if (Long.compareUnsigned(key, childKey) <= 0) {
+                break;
+            }
+            place(child, index);
+            index = childIndex;
+        }
+
+        place(record, index);
+    }
+
+    private void place(int record, int index) {
+        heap.setInt(index, record);
+        heapPosition.set(record, index + 1);
+    }
+
+    private void assertNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.github.pcimcioch.memorystore.sort;
+
+import java.util.Arrays;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Sorts record positions by {@link SortKey sort keys}. Keys are extracted once per record and sorted with stable LSD
+ * radix sort. Consecutive keys that together fit in 64 bits are packed into a single composite key, and the number of
+ * radix passes depends on the number of key bits, so narrow bit-packed fields are sorted in few passes.
+ * <p>
+ * Records are ordered by the first key, then by the second key, and so on. Records with equal keys keep their
+ * original relative order
+ */
+public final class RecordSorter {
+
+    private static final int DIGIT_BITS = 8;
+    private static final int DIGIT_VALUES = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = DIGIT_VALUES - 1;
+
+    private RecordSorter() {
+    }
+
+    /**
+     * Sorts positions in place
+     *
+     * @param positions record positions
+     * @param keys      sort keys, the most significant first
+     */
+    public static void sort(long[] positions, SortKey... keys) {
+        assertKeys(keys);
+        requireNonNull(positions, "Positions cannot be null");
+
+        long[] composite = new long[positions.length];
+        long[] compositeBuffer = new long[positions.length];
+        long[] positionsBuffer = new long[positions.length];
+
+        int[] groups = groups(keys);
+        for (int group = groups.length - 2; group >= 0; group--) {
+            int bitsCount = fillComposite(positions, keys, groups[group], groups[group + 1], composite);
+            radixSort(composite, positions, compositeBuffer, positionsBuffer, bitsCount);
+        }
+    }
+
+    /**
+     * Sorts positions in place
+     *
+     * @param positions record positions
+     * @param keys      sort keys, the most significant first
+     */
+    public static void sort(int[] positions, SortKey... keys) {
+        requireNonNull(positions, "Positions cannot be null");
+
+        long[] longPositions = toLong(positions);
+        sort(longPositions, keys);
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = (int) longPositions[i];
+        }
+    }
+
+    /**
+     * Returns k first positions in the order defined by keys, without sorting all the positions. Result is the same
+     * as the first k elements of the fully sorted array. Partial sort is used if all keys fit in 64 bits, otherwise
+     * all positions are sorted
+     *
+     * @param positions record positions. Not modified
+     * @param k         number of positions to return
+     * @param keys      sort keys, the most significant first
+     * @return sorted k first positions
+     */
+    public static long[] topK(long[] positions, int k, SortKey... keys) {
+        assertKeys(keys);
+        requireNonNull(positions, "Positions cannot be null");
+        assertArgument(k >= 0, "K must be greater or equal zero");
+
+        if (k >= positions.length) {
+            long[] result = positions.clone();
+            sort(result, keys);
+            return result;
+        }
+
+        int[] groups = groups(keys);
+        if (groups.length > 2) {
+            long[] result = positions.clone();
+            sort(result, keys);
+            return Arrays.copyOf(result, k);
+        }
+
+        int[] selected = selectSmallest(positions, k, keys);
+        Arrays.sort(selected);
+        long[] result = new long[k];
+        for (int i = 0; i < k; i++) {
+            result[i] = positions[selected[i]];
+        }
+        sort(result, keys);
+        return result;
+    }
+
+    /**
+     * Returns k first positions in the order defined by keys, without sorting all the positions. Result is the same
+     * as the first k elements of the fully sorted array
+     *
+     * @param positions record positions. Not modified
+     * @param k         number of positions to return
+     * @param keys      sort keys, the most significant first
+     * @return sorted k first positions
+     */
+    public static int[] topK(int[] positions, int k, SortKey... keys) {
+        requireNonNull(positions, "Positions cannot be null");
+
+        long[] result = topK(toLong(positions), k, keys);
+        int[] intResult = new int[result.length];
+        for (int i = 0; i < result.length; i++) {
+            intResult[i] = (int) result[i];
+        }
+        return intResult;
+    }
+
+    /**
+     * Selects indexes of k smallest composite keys using bounded max-heap. Equal keys are ordered by index
+     */
+    private static int[] selectSmallest(long[] positions, int k, SortKey[] keys) {
+        long[] heapKeys = new long[k];
+        int[] heapIndexes = new int[k];
+        int size = 0;
+
+        for (int index = 0; index < positions.length; index++) {
+            long key = composite(positions[index], keys, 0, keys.length);
+            if (size < k) {
+                heapKeys[size] = key;
+                heapIndexes[size] = index;
+                siftUp(heapKeys, heapIndexes, size++);
+            } else if (k > 0 && Long.compareUnsigned(key, heapKeys[0]) < 0) {
+                heapKeys[0] = key;
+                heapIndexes[0] = index;
+                siftDown(heapKeys, heapIndexes, size);
+            }
+        }
+
+        return heapIndexes;
+    }
+
+    private static void siftUp(long[] keys, int[] indexes, int element) {
+        while (element > 0) {
+            int parent = (element - 1) >>> 1;
+            if (!greater(keys, indexes, element, parent)) {
+                return;
+            }
+            swap(keys, indexes, element, parent);
+            element = parent;
+        }
+    }
+
+    private static void siftDown(long[] keys, int[] indexes, int size) {
+        int element = 0;
+        while (true) {
+            int largest = element;
+            int left = 2 * element + 1;
+            int right = left + 1;
+            if (left < size && greater(keys, indexes, left, largest)) {
+                largest = left;
+            }
+            if (right < size && greater(keys, indexes, right, largest)) {
+                largest = right;
+            }
+            if (largest == element) {
+                return;
+            }
+            swap(keys, indexes, element, largest);
+            element = largest;
+        }
+    }
+
+    private static boolean greater(long[] keys, int[] indexes, int first, int second) {
+        int compare = Long.compareUnsigned(keys[first], keys[second]);
+        return compare > 0 || (compare == 0 && indexes[first] > indexes[second]);
+    }
+
+    private static void swap(long[] keys, int[] indexes, int first, int second) {
+        long key = keys[first];
+        keys[first] = keys[second];
+        keys[second] = key;
+        int index = indexes[first];
+        indexes[first] = indexes[second];
+        indexes[second] = index;
+    }
+
+    private static void radixSort(long[] keys, long[] positions, long[] keysBuffer, long[] positionsBuffer, int bitsCount) {
+        if (keys.length == 0) {
+            return;
+        }
+
+        int[] counts = new int[DIGIT_VALUES];
+        long[] sourceKeys = keys;
+        long[] sourcePositions = positions;
+        long[] targetKeys = keysBuffer;
+        long[] targetPositions = positionsBuffer;
+
+        for (int shift = 0; shift < bitsCount; shift += DIGIT_BITS) {
+            Arrays.fill(counts, 0);
+            for (long key : sourceKeys) {
+                counts[(int) (key >>> shift) & DIGIT_MASK]++;
+            }
+            if (counts[(int) (sourceKeys[0] >>> shift) & DIGIT_MASK] == sourceKeys.length) {
+                continue;
+            }
+
+            int offset = 0;
+            for (int digit = 0; digit < DIGIT_VALUES; digit++) {
+                int count = counts[digit];
+                counts[digit] = offset;
+                offset += count;
+            }
+            for (int i = 0; i < sourceKeys.length; i++) {
+                int target = counts[(int) (sourceKeys[i] >>> shift) & DIGIT_MASK]++;
+                targetKeys[target] = sourceKeys[i];
+                targetPositions[target] = sourcePositions[i];
+            }
+
+            long[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+            long[] swapPositions = sourcePositions;
+            sourcePositions = targetPositions;
+            targetPositions = swapPositions;
+        }
+
+        if (sourcePositions != positions) {
+            System.arraycopy(sourcePositions, 0, positions, 0, positions.length);
+        }
+    }
+
+    private static int fillComposite(long[] positions, SortKey[] keys, int from, int to, long[] composite) {
+        for (int i = 0; i < positions.length; i++) {
+            composite[i] = composite(positions[i], keys, from, to);
+        }
+
+        int bitsCount = 0;
+        for (int i = from; i < to; i++) {
+            bitsCount += keys[i].bitsCount();
+        }
+        return bitsCount;
+    }
+
+    private static long composite(long position, SortKey[] keys, int from, int to) {
+        long composite = 0L;
+        for (int i = from; i < to; i++) {
+            SortKey key = keys[i];
+            composite = key.bitsCount() == 64 ? key.key(position) : (composite << key.bitsCount()) | key.key(position);
+        }
+        return composite;
+    }
+
+    /**
+     * Splits keys into groups that fit in 64 bits. Returns boundaries of the groups: group i contains keys from
+     * groups[i] inclusive to groups[i + 1] exclusive
+     */
+    private static int[] groups(SortKey[] keys) {
+        int[] groups = new int[keys.length + 1];
+        int groupsCount = 1;
+        int bitsCount = 0;
+        for (int i = 0; i < keys.length; i++) {
+            bitsCount += keys[i].bitsCount();
+            if (bitsCount > 64) {
+                groups[groupsCount++] = i;
+                bitsCount = keys[i].bitsCount();
+            }
+        }
+        groups[groupsCount++] = keys.length;
+
+        return Arrays.copyOf(groups, groupsCount);
+    }
+
+    private static long[] toLong(int[] positions) {
+        long[] result = new long[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            result[i] = positions[i];
+        }
+        return result;
+    }
+
+    private static void assertKeys(SortKey[] keys) {
+        assertArgument(keys != null && keys.length > 0, "At least one sort key is required");
+        for (SortKey key : keys) {
+            requireNonNull(key, "Sort key cannot be null");
+        }
+    }
+}
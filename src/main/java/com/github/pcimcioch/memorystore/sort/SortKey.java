@@ -0,0 +1,280 @@
+package com.github.pcimcioch.memorystore.sort;
+
+import com.github.pcimcioch.memorystore.encoder.BooleanEncoder;
+import com.github.pcimcioch.memorystore.encoder.ByteEncoder;
+import com.github.pcimcioch.memorystore.encoder.CharEncoder;
+import com.github.pcimcioch.memorystore.encoder.DecimalEncoder;
+import com.github.pcimcioch.memorystore.encoder.DoubleEncoder;
+import com.github.pcimcioch.memorystore.encoder.EnumEncoder;
+import com.github.pcimcioch.memorystore.encoder.FloatEncoder;
+import com.github.pcimcioch.memorystore.encoder.IntEncoder;
+import com.github.pcimcioch.memorystore.encoder.LongEncoder;
+import com.github.pcimcioch.memorystore.encoder.QuantizedFloatEncoder;
+import com.github.pcimcioch.memorystore.encoder.ShortEncoder;
+import com.github.pcimcioch.memorystore.encoder.SignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.encoder.SignedLongEncoder;
+import com.github.pcimcioch.memorystore.encoder.TemporalEncoderBase;
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.encoder.UnsignedLongEncoder;
+
+import java.util.function.LongUnaryOperator;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Normalised sort key of the record. Key is an unsigned integer stored on {@link #bitsCount()} lowest bits, whose
+ * unsigned order is the same as the order of the field values. Keys are extracted straight from the bit-packed
+ * fields, without creating field values
+ */
+public final class SortKey {
+
+    private final int bitsCount;
+    private final LongUnaryOperator keyExtractor;
+
+    private SortKey(int bitsCount, LongUnaryOperator keyExtractor) {
+        assertArgument(bitsCount > 0 && bitsCount <= 64, "Sort key must be stored on 1 to 64 bits");
+
+        this.bitsCount = bitsCount;
+        this.keyExtractor = requireNonNull(keyExtractor, "Key extractor cannot be null");
+    }
+
+    /**
+     * Number of lowest bits of the key that can be set
+     *
+     * @return bits count
+     */
+    public int bitsCount() {
+        return bitsCount;
+    }
+
+    /**
+     * Returns key of given record
+     *
+     * @param position index of the record
+     * @return normalised key
+     */
+    public long key(long position) {
+        return keyExtractor.applyAsLong(position);
+    }
+
+    /**
+     * Returns sort key with reversed order
+     *
+     * @return descending key
+     */
+    public SortKey descending() {
+        long mask = mask(bitsCount);
+        return new SortKey(bitsCount, position -> ~keyExtractor.applyAsLong(position) & mask);
+    }
+
+    /**
+     * Finds the first record in range [fromPosition, toPosition) with key greater or equal to given key. Records in the
+     * range must be sorted by this sort key, for example using {@link TableReorder#clusterBy}
+     *
+     * @param fromPosition first record position, inclusive
+     * @param toPosition   last record position, exclusive
+     * @param key          normalised key
+     * @return position of the found record or toPosition if all keys are smaller
+     */
+    public long lowerBound(long fromPosition, long toPosition, long key) {
+        return search(fromPosition, toPosition, key, false);
+    }
+
+    /**
+     * Finds the first record in range [fromPosition, toPosition) with key greater than given key. Records in the range
+     * must be sorted by this sort key, for example using {@link TableReorder#clusterBy}
+     *
+     * @param fromPosition first record position, inclusive
+     * @param toPosition   last record position, exclusive
+     * @param key          normalised key
+     * @return position of the found record or toPosition if all keys are smaller or equal
+     */
+    public long upperBound(long fromPosition, long toPosition, long key) {
+        return search(fromPosition, toPosition, key, true);
+    }
+
+    /**
+     * Creates custom sort key
+     *
+     * @param bitsCount    number of lowest bits of the key that can be set
+     * @param keyExtractor function returning unsigned key of given record
+     * @return sort key
+     */
+    public static SortKey of(int bitsCount, LongUnaryOperator keyExtractor) {
+        return new SortKey(bitsCount, keyExtractor);
+    }
+
+    /**
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(UnsignedIntegerEncoder encoder) {
+        return new SortKey(encoder.bitsCount(), encoder::get);
+    }
+
+    /**
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(SignedIntegerEncoder encoder) {
+        long minValue = encoder.minValue();
+        return new SortKey(encoder.bitsCount(), position -> encoder.get(position) - minValue);
+    }
+
+    /**
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(UnsignedLongEncoder encoder) {
+        return new SortKey(encoder.bitsCount(), encoder::get);
+    }
+
+    /**
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(SignedLongEncoder encoder) {
+        long minValue = encoder.minValue();
+        return new SortKey(encoder.bitsCount(), position -> encoder.get(position) - minValue);
+    }
+
+    /**
+     * Creates sort key ordering decimals by their unscaled value, without creating {@link java.math.BigDecimal}
+     *
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(DecimalEncoder encoder) {
+        long minUnscaled = encoder.minUnscaled();
+        return new SortKey(encoder.bitsCount(), position -> encoder.getUnscaled(position) - minUnscaled);
+    }
+
+    /**
+     * Creates sort key ordering quantized floats by their step number
+     *
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(QuantizedFloatEncoder encoder) {
+        return new SortKey(encoder.bitsCount(), encoder::getQuantized);
+    }
+
+    /**
+     * Creates sort key ordering dates and times chronologically, without creating temporal objects
+     *
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(TemporalEncoderBase encoder) {
+        long minEpochUnits = encoder.minEpochUnits();
+        return new SortKey(encoder.bitsCount(), position -> encoder.getEpochUnits(position) - minEpochUnits);
+    }
+
+    /**
+     * Creates sort key ordering enums by their index
+     *
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(EnumEncoder<?> encoder) {
+        return new SortKey(encoder.bitsCount(), encoder::getIndex);
+    }
+
+    /**
+     * Creates sort key ordering false before true
+     *
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(BooleanEncoder encoder) {
+        return new SortKey(1, position -> encoder.get(position) ? 1L : 0L);
+    }
+
+    /**
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(ByteEncoder encoder) {
+        return new SortKey(8, position -> (encoder.get(position) ^ 0x80) & 0xFF);
+    }
+
+    /**
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(ShortEncoder encoder) {
+        return new SortKey(16, position -> (encoder.get(position) ^ 0x8000) & 0xFFFF);
+    }
+
+    /**
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(CharEncoder encoder) {
+        return new SortKey(16, encoder::get);
+    }
+
+    /**
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(IntEncoder encoder) {
+        return new SortKey(32, position -> (encoder.get(position) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(LongEncoder encoder) {
+        return new SortKey(64, position -> encoder.get(position) ^ Long.MIN_VALUE);
+    }
+
+    /**
+     * Creates sort key ordering floats the same way as {@link Float#compare(float, float)}
+     *
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(FloatEncoder encoder) {
+        return new SortKey(32, position -> {
+            int bits = Float.floatToIntBits(encoder.get(position));
+            return (bits ^ ((bits >> 31) | Integer.MIN_VALUE)) & 0xFFFFFFFFL;
+        });
+    }
+
+    /**
+     * Creates sort key ordering doubles the same way as {@link Double#compare(double, double)}
+     *
+     * @param encoder encoder
+     * @return sort key
+     */
+    public static SortKey of(DoubleEncoder encoder) {
+        return new SortKey(64, position -> {
+            long bits = Double.doubleToLongBits(encoder.get(position));
+            return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        });
+    }
+
+    private long search(long fromPosition, long toPosition, long key, boolean inclusive) {
+        assertArgument(fromPosition >= 0 && fromPosition <= toPosition, "Incorrect positions range");
+
+        long low = fromPosition;
+        long high = toPosition;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            int compare = Long.compareUnsigned(key(middle), key);
+            if (compare < 0 || (inclusive && compare == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    static long mask(int bitsCount) {
+        return bitsCount == 64 ? -1L : (1L << bitsCount) - 1;
+    }
+}
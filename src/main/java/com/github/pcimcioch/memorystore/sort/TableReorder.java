@@ -0,0 +1,200 @@
+package com.github.pcimcioch.memorystore.sort;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.Encoder;
+import com.github.pcimcioch.memorystore.encoder.RecordLinkEncoder;
+import com.github.pcimcioch.memorystore.index.Bitmap;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import com.github.pcimcioch.memorystore.store.ObjectStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Physically reorders records of the {@link Table}. Records are moved in place, following the cycles of the
+ * permutation, so each record is copied once. Moves the data of all bit encoders in all column groups, the references
+ * kept in object stores and remaps positions stored by {@link RecordLinkEncoder record link encoders}, like lists and
+ * hash indexes.
+ * <p>
+ * Pool stores are not modified, as records keep only indexes to the pool. Other indexes built on the table become
+ * invalid after reorder and should be rebuilt
+ */
+public class TableReorder extends Table.Accessor {
+
+    /**
+     * Moves records so that they are sorted by given keys
+     *
+     * @param table        table to reorder
+     * @param recordsCount number of records, starting from 0th
+     * @param keys         sort keys, the most significant first
+     * @return mapping from old to new position. Element under old position contains new position
+     */
+    public long[] clusterBy(Table table, long recordsCount, SortKey... keys) {
+        assertArgument(recordsCount >= 0 && recordsCount <= Integer.MAX_VALUE, "Records count must be between 0 and %d", Integer.MAX_VALUE);
+        long[] order = LongStream.range(0, recordsCount).toArray();
+        RecordSorter.sort(order, keys);
+
+        return reorder(table, order);
+    }
+
+    /**
+     * Moves records to the given order
+     *
+     * @param table table to reorder
+     * @param order permutation of record positions. Element under new position contains old position of the record
+     * @return mapping from old to new position. Element under old position contains new position
+     */
+    public long[] reorder(Table table, long[] order) {
+        requireNonNull(table, "Table cannot be null");
+        requireNonNull(order, "Order cannot be null");
+        long[] mapping = mappingOf(order);
+        if (order.length == 0) {
+            return mapping;
+        }
+
+        for (RecordMover mover : movers(table, order.length)) {
+            permute(mover, order);
+        }
+
+        LongUnaryOperator remap = position -> position >= 0 && position < mapping.length ? mapping[(int) position] : position;
+        for (Encoder encoder : encoders(table).values()) {
+            if (encoder instanceof RecordLinkEncoder) {
+                ((RecordLinkEncoder) encoder).remapAllLinks(order.length, remap);
+            }
+        }
+
+        return mapping;
+    }
+
+    private List<RecordMover> movers(Table table, long recordsCount) {
+        List<RecordMover> movers = new ArrayList<>();
+
+        List<IntStore> intStores = intStores(table);
+        for (int group = 0; group < intStores.size(); group++) {
+            int recordSize = memoryLayout(table).recordSize(group);
+            movers.add(new IntStoreMover(intStores.get(group), recordSize, recordsCount));
+        }
+        for (ObjectStore<?> objectStore : objectStores(table).values()) {
+            movers.add(new ObjectStoreMover<>(objectStore));
+        }
+
+        return movers;
+    }
+
+    private static void permute(RecordMover mover, long[] order) {
+        Bitmap moved = new Bitmap();
+        for (int start = 0; start < order.length; start++) {
+            if (moved.get(start) || order[start] == start) {
+                continue;
+            }
+
+            mover.save(start);
+            int target = start;
+            while (true) {
+                moved.set(target);
+                int source = (int) order[target];
+                if (source == start) {
+                    mover.restore(target);
+                    break;
+                }
+                mover.move(source, target);
+                target = source;
+            }
+        }
+    }
+
+    private static long[] mappingOf(long[] order) {
+        long[] mapping = new long[order.length];
+        Bitmap seen = new Bitmap();
+        for (int position = 0; position < order.length; position++) {
+            long oldPosition = order[position];
+            assertArgument(oldPosition >= 0 && oldPosition < order.length && !seen.get(oldPosition),
+                    "Order must be a permutation of record positions");
+            seen.set(oldPosition);
+            mapping[(int) oldPosition] = position;
+        }
+
+        return mapping;
+    }
+
+    private interface RecordMover {
+        void save(long position);
+
+        void move(long from, long to);
+
+        void restore(long position);
+    }
+
+    private static final class IntStoreMover implements RecordMover {
+        private final IntStore store;
+        private final int recordSize;
+        private final int[] saved;
+
+        private IntStoreMover(IntStore store, int recordSize, long recordsCount) {
+            this.store = store;
+            this.recordSize = recordSize;
+            this.saved = new int[recordSize];
+
+            store.ensureCapacity(store.recordIndex(recordsCount - 1, recordSize) + recordSize);
+        }
+
+        @Override
+        public void save(long position) {
+            long index = store.recordIndex(position, recordSize);
+            for (int i = 0; i < recordSize; i++) {
+                saved[i] = store.getInt(index + i);
+            }
+        }
+
+        @Override
+        public void move(long from, long to) {
+            long fromIndex = store.recordIndex(from, recordSize);
+            long toIndex = store.recordIndex(to, recordSize);
+            for (int i = 0; i < recordSize; i++) {
+                store.setInt(toIndex + i, store.getInt(fromIndex + i));
+            }
+        }
+
+        @Override
+        public void restore(long position) {
+            long index = store.recordIndex(position, recordSize);
+            for (int i = 0; i < recordSize; i++) {
+                store.setInt(index + i, saved[i]);
+            }
+        }
+    }
+
+    private static final class ObjectStoreMover<T> implements RecordMover {
+        private final ObjectStore<T> store;
+        private T saved;
+
+        private ObjectStoreMover(ObjectStore<T> store) {
+            this.store = store;
+        }
+
+        @Override
+        public void save(long position) {
+            saved = get(position);
+        }
+
+        @Override
+        public void move(long from, long to) {
+            store.set(to, get(from));
+        }
+
+        @Override
+        public void restore(long position) {
+            store.set(position, saved);
+            saved = null;
+        }
+
+        private T get(long position) {
+            return position < store.size() ? store.get(position) : null;
+        }
+    }
+}
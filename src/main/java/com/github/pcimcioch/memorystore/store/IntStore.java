@@ -7,13 +7,25 @@ import java.util.Arrays;
 import static com.github.pcimcioch.memorystore.util.Utils.assertArgument;
 import static com.github.pcimcioch.memorystore.util.Utils.buildLong;
 
+/**
+ * Stores ints in blocks of memory. Index of the int is split into the block index and the position in the block using
+ * shift and mask, so the index space of each block is the power of two.
+ * <p>
+ * In record aligned mode, each block holds power of two number of records and its length is a multiple of the record
+ * size. Blocks do not fill their whole index space then: the rest of it is a gap that is never allocated. Record never
+ * crosses block boundary, so multi-word fields of the record are always resolved in a single block. Use
+ * {@link #recordIndex(long, int)} to compute index of the record in such store
+ */
 public class IntStore {
 
-    private static final int DEFAULT_BLOCK_SIZE = 131072; // 128 KB
+    public static final int DEFAULT_BLOCK_SIZE = 131072; // 128 KB
 
+    private final int minBlockSize;
     private final int blockSize;
     private final int numberOfIndexBits;
     private final int indexMask;
+    private final int recordSize;
+    private final int recordsPerBlockBits;
 
     private int[][] blocks = new int[0][];
 
@@ -22,9 +34,31 @@ public class IntStore {
     }
 
     public IntStore(int minBlockSize) {
+        this.minBlockSize = minBlockSize;
         this.numberOfIndexBits = countBits(minBlockSize);       // 10
         this.blockSize = 1 << this.numberOfIndexBits;           // 1024
         this.indexMask = this.blockSize - 1;                    // 0x000...001111111111
+        this.recordSize = 0;
+        this.recordsPerBlockBits = -1;
+    }
+
+    /**
+     * Creates record aligned store. Each block holds the smallest power of two number of records, that is at least
+     * minBlockSize long
+     *
+     * @param minBlockSize minimum number of ints in the block
+     * @param recordSize   number of ints in one record
+     */
+    public IntStore(int minBlockSize, int recordSize) {
+        countBits(minBlockSize);
+        assertArgument(recordSize > 0, "Record size must be greater then 0");
+
+        this.minBlockSize = minBlockSize;
+        this.recordSize = recordSize;
+        this.recordsPerBlockBits = Utils.countBits(Math.max(2, (minBlockSize + recordSize - 1) / recordSize));
+        this.blockSize = recordSize << recordsPerBlockBits;
+        this.numberOfIndexBits = Utils.countBits(this.blockSize);
+        this.indexMask = (1 << this.numberOfIndexBits) - 1;
     }
 
     public void setInt(long index, int value) {
@@ -79,6 +113,92 @@ public class IntStore {
                 : buildLong(blocks[block][element], blocks[block + 1][0]);
     }
 
+    /**
+     * Reads long that does not cross the block boundary. It is always true for 64-bit fields of records stored in
+     * record aligned store, or in a store which block size is a multiple of the record size
+     *
+     * @param index index of the first int
+     * @return long value
+     */
+    public long getLongInBlock(long index) {
+        int[] block = blocks[(int) (index >>> numberOfIndexBits)];
+        int element = (int) (index & indexMask);
+
+        return buildLong(block[element], block[element + 1]);
+    }
+
+    /**
+     * Sets long that does not cross the block boundary. It is always true for 64-bit fields of records stored in
+     * record aligned store, or in a store which block size is a multiple of the record size
+     *
+     * @param index index of the first int
+     * @param value long value
+     */
+    public void setLongInBlock(long index, long value) {
+        ensureSize(index);
+
+        int[] block = blocks[(int) (index >>> numberOfIndexBits)];
+        int element = (int) (index & indexMask);
+
+        block[element] = (int) (value >> 32);
+        block[element + 1] = (int) value;
+    }
+
+    /**
+     * Returns index of the first int of given record
+     *
+     * @param position   index of the record
+     * @param recordSize number of ints in one record. Ignored by record aligned store, which uses its own record size
+     * @return index of the record
+     */
+    public long recordIndex(long position, int recordSize) {
+        if (recordsPerBlockBits < 0) {
+            return position * recordSize;
+        }
+
+        long block = position >>> recordsPerBlockBits;
+        long record = position & ((1L << recordsPerBlockBits) - 1);
+        return (block << numberOfIndexBits) + record * this.recordSize;
+    }
+
+    /**
+     * Returns whether records never cross block boundary in this store
+     *
+     * @return whether store is record aligned
+     */
+    public boolean isRecordAligned() {
+        return recordsPerBlockBits >= 0;
+    }
+
+    /**
+     * Returns number of ints in one record of record aligned store
+     *
+     * @return record size or 0 if store is not record aligned
+     */
+    public int recordSize() {
+        return recordSize;
+    }
+
+    /**
+     * Returns number of records in one block of record aligned store
+     *
+     * @return records per block or 0 if store is not record aligned
+     */
+    public int recordsPerBlock() {
+        return recordsPerBlockBits < 0 ? 0 : 1 << recordsPerBlockBits;
+    }
+
+    /**
+     * Allocates blocks, so that all ints of index lower than given size can be read and written
+     *
+     * @param size number of ints to allocate
+     */
+    public void ensureCapacity(long size) {
+        if (size > 0) {
+            ensureSize(size - 1);
+        }
+    }
+
     private void ensureSize(long size) {
         int block = (int) (size >>> numberOfIndexBits);
         if (blocks.length > block) {
@@ -92,6 +212,15 @@ public class IntStore {
         }
     }
 
+    /**
+     * Returns minimum block size this store was created with. Actual block size may be bigger
+     *
+     * @return min block size
+     */
+    public int minBlockSize() {
+        return minBlockSize;
+    }
+
     public int blockSize() {
         return blockSize;
     }
@@ -108,8 +237,14 @@ public class IntStore {
         return blocks.length;
     }
 
+    /**
+     * Returns size of the index space of allocated blocks. In record aligned store it includes gaps at the end of
+     * each block
+     *
+     * @return size
+     */
     public long size() {
-        return (long) blockSize * blocks.length;
+        return (long) blocks.length << numberOfIndexBits;
     }
 
     private static int countBits(int blockSize) {
@@ -17,6 +17,10 @@ public class ObjectPoolStore<T> {
         return elements.size() - 1;
     }
 
+    public int indexOf(T value) {
+        return elements.indexOf(value);
+    }
+
     public T get(int index) {
         return elements.get(index);
     }
@@ -0,0 +1,24 @@
+package com.github.pcimcioch.memorystore.store;
+
+import static com.github.pcimcioch.memorystore.store.IntStore.DEFAULT_BLOCK_SIZE;
+
+/**
+ * Creates record aligned int stores, in which records never cross block boundary. See {@link IntStore}
+ */
+public class RecordAlignedStoreFactory extends DefaultStoreFactory {
+
+    private final int minBlockSize;
+
+    public RecordAlignedStoreFactory() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    public RecordAlignedStoreFactory(int minBlockSize) {
+        this.minBlockSize = minBlockSize;
+    }
+
+    @Override
+    public IntStore buildIntStore(int group, int recordSize) {
+        return new IntStore(minBlockSize, recordSize);
+    }
+}
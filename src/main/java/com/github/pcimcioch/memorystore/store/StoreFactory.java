@@ -3,12 +3,25 @@ package com.github.pcimcioch.memorystore.store;
 import com.github.pcimcioch.memorystore.header.ObjectDirectHeader;
 import com.github.pcimcioch.memorystore.header.ObjectPoolHeader;
 import com.github.pcimcioch.memorystore.header.ObjectPoolHeader.PoolDefinition;
+import com.github.pcimcioch.memorystore.header.StoreOwnerHeader;
 
 public interface StoreFactory {
 
     IntStore buildIntStore();
 
+    default IntStore buildIntStore(int group) {
+        return buildIntStore();
+    }
+
+    default IntStore buildIntStore(int group, int recordSize) {
+        return buildIntStore(group);
+    }
+
     <T> ObjectStore<T> buildObjectStore(ObjectDirectHeader<T> header);
 
     <T> ObjectPoolStore<T> buildObjectPoolStore(PoolDefinition poolDefinition);
+
+    default IntStore buildOwnedStore(StoreOwnerHeader<?> header) {
+        return new IntStore();
+    }
 }
@@ -1,21 +1,32 @@
 package com.github.pcimcioch.memorystore;
 
+import com.github.pcimcioch.memorystore.encoder.AdjacencyEncoder;
 import com.github.pcimcioch.memorystore.encoder.BooleanEncoder;
 import com.github.pcimcioch.memorystore.encoder.ByteEncoder;
 import com.github.pcimcioch.memorystore.encoder.Encoder;
+import com.github.pcimcioch.memorystore.encoder.HashIndexEncoder;
+import com.github.pcimcioch.memorystore.encoder.IntArrayEncoder;
 import com.github.pcimcioch.memorystore.encoder.IntEncoder;
+import com.github.pcimcioch.memorystore.encoder.LongEncoder;
 import com.github.pcimcioch.memorystore.encoder.ObjectDirectEncoder;
 import com.github.pcimcioch.memorystore.encoder.ObjectPoolEncoder;
 import com.github.pcimcioch.memorystore.encoder.ShortEncoder;
+import com.github.pcimcioch.memorystore.header.AdjacencyHeader;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.header.HashIndexHeader;
 import com.github.pcimcioch.memorystore.header.Header;
+import com.github.pcimcioch.memorystore.header.IntArrayHeader;
 import com.github.pcimcioch.memorystore.header.ObjectDirectHeader;
 import com.github.pcimcioch.memorystore.header.ObjectPoolHeader;
+import com.github.pcimcioch.memorystore.layout.AutomaticMemoryLayoutBuilder;
+import com.github.pcimcioch.memorystore.layout.ColumnGroupMemoryLayoutBuilder;
 import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder;
 import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryPosition;
 import com.github.pcimcioch.memorystore.layout.NonOverlappingMemoryLayoutBuilder;
 import com.github.pcimcioch.memorystore.store.IntStore;
 import com.github.pcimcioch.memorystore.store.ObjectPoolStore;
 import com.github.pcimcioch.memorystore.store.ObjectStore;
+import com.github.pcimcioch.memorystore.store.RecordAlignedStoreFactory;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -23,10 +34,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+import static com.github.pcimcioch.memorystore.header.Headers.adjacencyOnBits;
 import static com.github.pcimcioch.memorystore.header.Headers.bool;
 import static com.github.pcimcioch.memorystore.header.Headers.byte8;
 import static com.github.pcimcioch.memorystore.header.Headers.char16;
+import static com.github.pcimcioch.memorystore.header.Headers.hashIndex;
 import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.intArrayOnBits;
 import static com.github.pcimcioch.memorystore.header.Headers.long64;
 import static com.github.pcimcioch.memorystore.header.Headers.object;
 import static com.github.pcimcioch.memorystore.header.Headers.objectPool;
@@ -170,6 +184,69 @@ class TableTest extends Table.Accessor {
         assertThat(boolEncoder.get(1)).isFalse();
     }
 
+    @Test
+    void createTableWithRecordAlignedStores() {
+        // given
+        Table testee = new Table(new AutomaticMemoryLayoutBuilder(), new RecordAlignedStoreFactory(1024), List.of(
+                long64("header1"),
+                int32("header2")
+        ));
+        LongEncoder longEncoder = testee.encoderFor(long64("header1"));
+        IntEncoder intEncoder = testee.encoderFor(int32("header2"));
+
+        // when
+        for (int i = 0; i < 2000; i++) {
+            longEncoder.set(i, -i * 10_000_000_000L);
+            intEncoder.set(i, i);
+        }
+
+        // then
+        assertThat(intStore(testee).isRecordAligned()).isTrue();
+        assertThat(intStore(testee).recordSize()).isEqualTo(3);
+        assertThat(intStore(testee).blocksCount()).isEqualTo(4);
+        for (int i = 0; i < 2000; i++) {
+            assertThat(longEncoder.get(i)).isEqualTo(-i * 10_000_000_000L);
+            assertThat(intEncoder.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void createTableWithColumnGroups() {
+        // given
+        MemoryLayoutBuilder builder = ColumnGroupMemoryLayoutBuilder.builder()
+                .group(bool("header4"))
+                .build();
+
+        Table testee = new Table(builder, List.of(
+                int32("header1"),
+                byte8("header2"),
+                bool("header4")
+        ));
+        IntEncoder intEncoder = testee.encoderFor(int32("header1"));
+        ByteEncoder byteEncoder = testee.encoderFor(byte8("header2"));
+        BooleanEncoder boolEncoder = testee.encoderFor(bool("header4"));
+
+        // when
+        intEncoder.set(0, 12345);
+        byteEncoder.set(0, (byte) 12);
+        boolEncoder.set(0, true);
+        intEncoder.set(1, 54321);
+        byteEncoder.set(1, (byte) 21);
+        boolEncoder.set(1, true);
+
+        // then
+        assertThat(intStores(testee)).hasSize(2);
+        assertThat(memoryLayout(testee).groupsCount()).isEqualTo(2);
+        assertIntStore(testee, 12345, 12, 54321, 21);
+        assertThat(intStores(testee).get(1).getInt(0)).isEqualTo(1);
+        assertThat(intStores(testee).get(1).getInt(1)).isEqualTo(1);
+        assertThat(intStores(testee).get(1).getInt(2)).isEqualTo(0);
+
+        assertThat(intEncoder.get(1)).isEqualTo(54321);
+        assertThat(byteEncoder.get(1)).isEqualTo((byte) 21);
+        assertThat(boolEncoder.get(1)).isTrue();
+    }
+
     @Test
     void createObjectStores() {
         // given
@@ -245,6 +322,69 @@ class TableTest extends Table.Accessor {
         assertThat(obj2Encoder.get(2)).isSameAs(val3);
     }
 
+    @Test
+    void createAdjacencyStores() {
+        // given
+        AdjacencyHeader roads = adjacencyOnBits("roads", 4);
+        BitHeader<IntEncoder> idHeader = int32("id");
+
+        Table testee = new Table(List.of(roads, idHeader));
+        AdjacencyEncoder roadsEncoder = testee.encoderFor(roads);
+
+        // when
+        roadsEncoder.build(3, new long[]{0, 0, 2}, new long[]{1, 2, 1});
+
+        // then
+        assertHeaders(testee, roads, roads.offsetHeader(), roads.degreeHeader(), idHeader);
+        assertThat(ownedStores(testee)).containsOnlyKeys(roads);
+        IntStore edges = ownedStores(testee).get(roads);
+        assertThat(edges.getInt(0)).isEqualTo(1);
+        assertThat(edges.getInt(1)).isEqualTo(2);
+        assertThat(edges.getInt(2)).isEqualTo(1);
+        assertThat(roadsEncoder.neighbours(0)).containsExactly(1L, 2L);
+        assertThat(roadsEncoder.neighbours(2)).containsExactly(1L);
+    }
+
+    @Test
+    void createHashIndexStores() {
+        // given
+        HashIndexHeader idIndex = hashIndex("id-index");
+        BitHeader<IntEncoder> idHeader = int32("id");
+
+        Table testee = new Table(List.of(idIndex, idHeader));
+        HashIndexEncoder idIndexEncoder = testee.encoderFor(idIndex);
+
+        // when
+        idIndexEncoder.put(42, 1);
+
+        // then
+        assertHeaders(testee, idIndex, idHeader);
+        assertThat(ownedStores(testee)).containsOnlyKeys(idIndex);
+        assertThat(ownedStores(testee).get(idIndex).size()).isGreaterThan(0);
+        assertThat(idIndexEncoder.get(42)).isEqualTo(1);
+    }
+
+    @Test
+    void createIntArrayStores() {
+        // given
+        IntArrayHeader lanes = intArrayOnBits("lanes", 8);
+        BitHeader<IntEncoder> idHeader = int32("id");
+
+        Table testee = new Table(List.of(lanes, idHeader));
+        IntArrayEncoder lanesEncoder = testee.encoderFor(lanes);
+
+        // when
+        lanesEncoder.set(0, new int[]{2, 3});
+        lanesEncoder.append(1, 4);
+
+        // then
+        assertHeaders(testee, lanes, lanes.offsetHeader(), lanes.lengthHeader(), idHeader);
+        assertThat(ownedStores(testee)).containsOnlyKeys(lanes);
+        assertThat(ownedStores(testee).get(lanes).size()).isGreaterThan(0);
+        assertThat(lanesEncoder.get(0)).containsExactly(2, 3);
+        assertThat(lanesEncoder.get(1)).containsExactly(4);
+    }
+
     @Test
     void duplicatePoolName() {
         // when
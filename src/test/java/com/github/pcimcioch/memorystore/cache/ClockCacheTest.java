@@ -0,0 +1,207 @@
+package com.github.pcimcioch.memorystore.cache;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.BooleanEncoder;
+import com.github.pcimcioch.memorystore.encoder.HashIndexEncoder;
+import com.github.pcimcioch.memorystore.encoder.IntEncoder;
+import com.github.pcimcioch.memorystore.encoder.LongEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.header.HashIndexHeader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.github.pcimcioch.memorystore.cache.ClockCache.NONE;
+import static com.github.pcimcioch.memorystore.header.Headers.bool;
+import static com.github.pcimcioch.memorystore.header.Headers.hashIndex;
+import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.long64;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class ClockCacheTest {
+
+    private static final HashIndexHeader INDEX = hashIndex("index");
+    private static final BitHeader<LongEncoder> KEY = long64("key");
+    private static final BitHeader<BooleanEncoder> REFERENCED = bool("referenced");
+    private static final BitHeader<IntEncoder> VALUE = int32("value");
+
+    private final Table table = new Table(List.of(INDEX, KEY, REFERENCED, VALUE));
+    private final HashIndexEncoder index = table.encoderFor(INDEX);
+    private final LongEncoder key = table.encoderFor(KEY);
+    private final BooleanEncoder referenced = table.encoderFor(REFERENCED);
+    private final IntEncoder value = table.encoderFor(VALUE);
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, -1L, 4294967296L, Long.MAX_VALUE})
+    void incorrectCapacity(long capacity) {
+        // when
+        Throwable thrown = catchThrowable(() -> new ClockCache(index, key, referenced, capacity));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Capacity must be between 1 and 4294967295");
+    }
+
+    @Test
+    void indexNotEmpty() {
+        // given
+        index.put(1L, 0);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new ClockCache(index, key, referenced, 10));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Index must be empty");
+    }
+
+    @Test
+    void nullEncoders() {
+        // when
+        Throwable thrownIndex = catchThrowable(() -> new ClockCache(null, key, referenced, 10));
+        Throwable thrownKey = catchThrowable(() -> new ClockCache(index, null, referenced, 10));
+        Throwable thrownReference = catchThrowable(() -> new ClockCache(index, key, null, 10));
+
+        // then
+        assertThat(thrownIndex).isInstanceOf(NullPointerException.class).hasMessage("Index cannot be null");
+        assertThat(thrownKey).isInstanceOf(NullPointerException.class).hasMessage("Key Encoder cannot be null");
+        assertThat(thrownReference).isInstanceOf(NullPointerException.class).hasMessage("Reference Encoder cannot be null");
+    }
+
+    @Test
+    void empty() {
+        // given
+        ClockCache testee = new ClockCache(index, key, referenced, 10);
+
+        // then
+        assertThat(testee.size()).isEqualTo(0);
+        assertThat(testee.capacity()).isEqualTo(10);
+        assertThat(testee.contains(1L)).isFalse();
+        assertThat(testee.hitRatio()).isEqualTo(0d);
+    }
+
+    @Test
+    void putAndGet() {
+        // given
+        ClockCache testee = new ClockCache(index, key, referenced, 10);
+
+        // when
+        long position1 = testee.put(100L);
+        value.set(position1, 1);
+        long position2 = testee.put(200L);
+        value.set(position2, 2);
+
+        // then
+        assertThat(position1).isEqualTo(0);
+        assertThat(position2).isEqualTo(1);
+        assertThat(testee.put(100L)).isEqualTo(position1);
+        assertThat(value.get(testee.get(100L))).isEqualTo(1);
+        assertThat(value.get(testee.get(200L))).isEqualTo(2);
+        assertThat(testee.get(300L)).isEqualTo(NONE);
+        assertThat(key.get(position2)).isEqualTo(200L);
+        assertThat(testee.size()).isEqualTo(2);
+        assertThat(testee.hits()).isEqualTo(2);
+        assertThat(testee.misses()).isEqualTo(1);
+        assertThat(testee.evictions()).isEqualTo(0);
+        assertThat(testee.hitRatio()).isEqualTo(2d / 3);
+    }
+
+    @Test
+    void evictsNotReferenced() {
+        // given
+        ClockCache testee = new ClockCache(index, key, referenced, 3);
+        testee.put(1L);
+        testee.put(2L);
+        testee.put(3L);
+
+        // when
+        long position4 = testee.put(4L); // nothing referenced yet, so the first record is evicted
+        testee.get(2L);
+        long position5 = testee.put(5L); // 2 is referenced, so 3 is evicted
+
+        // then
+        assertThat(position4).isEqualTo(0);
+        assertThat(position5).isEqualTo(2);
+        assertThat(testee.contains(1L)).isFalse();
+        assertThat(testee.contains(2L)).isTrue();
+        assertThat(testee.contains(3L)).isFalse();
+        assertThat(testee.contains(4L)).isTrue();
+        assertThat(testee.contains(5L)).isTrue();
+        assertThat(testee.size()).isEqualTo(3);
+        assertThat(testee.evictions()).isEqualTo(2);
+    }
+
+    @Test
+    void remove() {
+        // given
+        ClockCache testee = new ClockCache(index, key, referenced, 2);
+        testee.put(1L);
+        testee.put(2L);
+
+        // when
+        long removed = testee.remove(1L);
+        long notCached = testee.remove(1L);
+        long reused = testee.put(3L);
+
+        // then
+        assertThat(removed).isEqualTo(0);
+        assertThat(notCached).isEqualTo(NONE);
+        assertThat(reused).isEqualTo(0);
+        assertThat(testee.contains(2L)).isTrue();
+        assertThat(testee.contains(3L)).isTrue();
+        assertThat(testee.size()).isEqualTo(2);
+        assertThat(testee.evictions()).isEqualTo(0);
+    }
+
+    @Test
+    void keepsHotKeys() {
+        // given
+        ClockCache testee = new ClockCache(index, key, referenced, 100);
+        Set<Long> hot = new HashSet<>();
+        for (long hotKey = 0; hotKey < 10; hotKey++) {
+            testee.put(hotKey);
+            hot.add(hotKey);
+        }
+
+        // when
+        for (long coldKey = 1000; coldKey < 2000; coldKey++) {
+            for (long hotKey : hot) {
+                testee.get(hotKey);
+            }
+            testee.put(coldKey);
+        }
+
+        // then
+        assertThat(hot).allMatch(testee::contains);
+        assertThat(testee.size()).isEqualTo(100);
+        assertThat(index.size()).isEqualTo(100);
+        assertThat(testee.misses()).isEqualTo(0);
+        assertThat(testee.evictions()).isEqualTo(910);
+    }
+
+    @Test
+    void resetCounters() {
+        // given
+        ClockCache testee = new ClockCache(index, key, referenced, 1);
+        testee.put(1L);
+        testee.put(2L);
+        testee.get(1L);
+        testee.get(2L);
+
+        // when
+        testee.resetCounters();
+
+        // then
+        assertThat(testee.hits()).isEqualTo(0);
+        assertThat(testee.misses()).isEqualTo(0);
+        assertThat(testee.evictions()).isEqualTo(0);
+        assertThat(testee.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,291 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class AdjacencyEncoderTest {
+
+    private final IntStore records = new IntStore();
+    private final IntStore edges = new IntStore();
+    private final UnsignedIntegerEncoder offsetEncoder = new UnsignedIntegerEncoder(new Config(records, 2, 0, 0, 31));
+    private final UnsignedIntegerEncoder degreeEncoder = new UnsignedIntegerEncoder(new Config(records, 2, 1, 0, 8));
+
+    private final AdjacencyEncoder testee = new AdjacencyEncoder(edges, offsetEncoder, degreeEncoder);
+
+    @Test
+    void nullEdges() {
+        // when
+        Throwable thrown = catchThrowable(() -> new AdjacencyEncoder(null, offsetEncoder, degreeEncoder));
+
+        // then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void nullOffsetEncoder() {
+        // when
+        Throwable thrown = catchThrowable(() -> new AdjacencyEncoder(edges, null, degreeEncoder));
+
+        // then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void nullDegreeEncoder() {
+        // when
+        Throwable thrown = catchThrowable(() -> new AdjacencyEncoder(edges, offsetEncoder, null));
+
+        // then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void build() {
+        // given
+        long[] sources = {2, 0, 2, 3, 0, 2};
+        long[] targets = {1, 3, 0, 1, 1, 3};
+
+        // when
+        testee.build(5, sources, targets);
+
+        // then
+        assertThat(testee.neighbours(0)).containsExactly(3L, 1L);
+        assertThat(testee.neighbours(1)).isEmpty();
+        assertThat(testee.neighbours(2)).containsExactly(1L, 0L, 3L);
+        assertThat(testee.neighbours(3)).containsExactly(1L);
+        assertThat(testee.neighbours(4)).isEmpty();
+
+        assertThat(testee.degree(0)).isEqualTo(2);
+        assertThat(testee.degree(1)).isZero();
+        assertThat(testee.degree(2)).isEqualTo(3);
+        assertThat(testee.neighbour(2, 0)).isEqualTo(1L);
+        assertThat(testee.neighbour(2, 2)).isEqualTo(3L);
+
+        assertThat(offsetEncoder.get(0)).isEqualTo(0);
+        assertThat(offsetEncoder.get(2)).isEqualTo(2);
+        assertThat(offsetEncoder.get(3)).isEqualTo(5);
+        assertThat(edges.getInt(0)).isEqualTo(3);
+        assertThat(edges.getInt(5)).isEqualTo(1);
+    }
+
+    @Test
+    void build_replacesPreviousGraph() {
+        // given
+        testee.build(3, new long[]{0, 0, 1}, new long[]{1, 2, 2});
+
+        // when
+        testee.build(3, new long[]{2}, new long[]{0});
+
+        // then
+        assertThat(testee.neighbours(0)).isEmpty();
+        assertThat(testee.neighbours(1)).isEmpty();
+        assertThat(testee.neighbours(2)).containsExactly(0L);
+    }
+
+    @Test
+    void build_differentLengths() {
+        // when
+        Throwable thrown = catchThrowable(() -> testee.build(3, new long[]{0, 1}, new long[]{1}));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Edge lists must have the same length");
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, 3})
+    void build_edgeOutsideOfRange(long target) {
+        // when
+        Throwable thrown = catchThrowable(() -> testee.build(3, new long[]{0, 1}, new long[]{1, target}));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Edge 1 -> %d outside of records range [0, 3)", target);
+    }
+
+    @Test
+    void build_degreeTooBig() {
+        // given
+        long[] sources = new long[256];
+        long[] targets = new long[256];
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.build(1, sources, targets));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Degree 256 of record 0 must be between 0 and 255");
+    }
+
+    @Test
+    void build_degreeTooBigKeepsPreviousGraph() {
+        // given
+        testee.build(2, new long[]{0, 1}, new long[]{1, 0});
+        long[] sources = new long[257];
+        long[] targets = new long[257];
+        Arrays.fill(sources, 1, sources.length, 1);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.build(2, sources, targets));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Degree 256 of record 1 must be between 0 and 255");
+        assertThat(testee.maxDegree()).isEqualTo(255);
+        assertThat(testee.neighbours(0)).containsExactly(1L);
+        assertThat(testee.neighbours(1)).containsExactly(0L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 2})
+    void neighbour_outsideOfDegree(int index) {
+        // given
+        testee.build(2, new long[]{0, 0}, new long[]{1, 0});
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.neighbour(0, index));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Neighbour index %d outside of degree 2", index);
+    }
+
+    @Test
+    void forEachNeighbour() {
+        // given
+        testee.build(3, new long[]{1, 0, 1}, new long[]{2, 1, 0});
+        List<Long> neighbours = new ArrayList<>();
+
+        // when
+        testee.forEachNeighbour(1, neighbours::add);
+
+        // then
+        assertThat(neighbours).containsExactly(2L, 0L);
+    }
+
+    @Test
+    void expand() {
+        // given
+        // 0 -> 1, 0 -> 2, 1 -> 3, 2 -> 3, 3 -> 0
+        testee.build(4, new long[]{0, 0, 1, 2, 3}, new long[]{1, 2, 3, 3, 0});
+        BitSet visited = new BitSet();
+        visited.set(0);
+
+        // when
+        long[] frontier = testee.expand(new long[]{0}, record -> visitFirstTime(visited, record), false);
+        long[] nextFrontier = testee.expand(frontier, record -> visitFirstTime(visited, record), false);
+        long[] lastFrontier = testee.expand(nextFrontier, record -> visitFirstTime(visited, record), false);
+
+        // then
+        assertThat(frontier).containsExactly(1L, 2L);
+        assertThat(nextFrontier).containsExactly(3L);
+        assertThat(lastFrontier).isEmpty();
+    }
+
+    @Test
+    void expand_parallel() {
+        // given
+        testee.build(5, new long[]{0, 0, 0, 1, 2, 3}, new long[]{1, 2, 3, 4, 4, 4});
+        Set<Long> visited = ConcurrentHashMap.newKeySet();
+
+        // when
+        long[] frontier = testee.expand(new long[]{0}, visited::add, true);
+        long[] nextFrontier = testee.expand(frontier, visited::add, true);
+
+        // then
+        assertThat(frontier).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(nextFrontier).containsExactly(4L);
+    }
+
+    @Test
+    void bfs() {
+        // given
+        // 0 -> 1 -> 2 -> 3, 0 -> 2, 4 -> 0
+        testee.build(5, new long[]{0, 1, 2, 0, 4}, new long[]{1, 2, 3, 2, 0});
+
+        // when
+        int[] distances = testee.bfs(0, 5, false);
+
+        // then
+        assertThat(distances).containsExactly(0, 1, 1, 2, -1);
+    }
+
+    @Test
+    void bfs_incorrectSource() {
+        // given
+        testee.build(2, new long[]{0}, new long[]{1});
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.bfs(2, 2, false));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Source 2 outside of records range [0, 2)");
+    }
+
+    @Test
+    void bfs_parallelMatchesSequential() {
+        // given
+        int recordsCount = 10_000;
+        Random random = new Random(0);
+        long[] sources = new long[4 * recordsCount];
+        long[] targets = new long[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = random.nextInt(recordsCount);
+            targets[i] = random.nextInt(recordsCount);
+        }
+        AdjacencyEncoder graph = new AdjacencyEncoder(new IntStore(), offsetEncoder, degreeEncoder);
+        graph.build(recordsCount, sources, targets);
+
+        // when
+        int[] sequential = graph.bfs(0, recordsCount, false);
+        int[] parallel = graph.bfs(0, recordsCount, true);
+
+        // then
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    @Test
+    void remapLinks() {
+        // given
+        testee.build(3, new long[]{0, 0, 2}, new long[]{1, 2, 0});
+
+        // when
+        for (long position = 0; position < 3; position++) {
+            testee.remapLinks(position, p -> 2 - p);
+        }
+
+        // then
+        assertThat(testee.neighbours(0)).containsExactly(1L, 0L);
+        assertThat(testee.neighbours(1)).isEmpty();
+        assertThat(testee.neighbours(2)).containsExactly(2L);
+    }
+
+    private static boolean visitFirstTime(BitSet visited, long record) {
+        if (visited.get((int) record)) {
+            return false;
+        }
+        visited.set((int) record);
+        return true;
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class BFloat16EncoderTest {
+
+    private static final String BITS_COUNT_EX = "Bits Count outside of defined bounds";
+    private static final String BIT_SHIFT_EX = "Bit Shift over a limit";
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @MethodSource("incorrectConfigs")
+    void incorrectConfig(int bitShift, int bitsCount, String message) {
+        // given
+        Config config = new Config(store, 2, 0, bitShift, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new BFloat16Encoder(config));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> incorrectConfigs() {
+        return Stream.of(
+                Arguments.of(32, 16, BIT_SHIFT_EX),
+                Arguments.of(17, 16, BIT_SHIFT_EX),
+                Arguments.of(0, 15, BITS_COUNT_EX),
+                Arguments.of(0, 17, BITS_COUNT_EX)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("exactValues")
+    void savesExactValues(float value, int bfloat16) {
+        // given
+        BFloat16Encoder testee = new BFloat16Encoder(new Config(store, 1, 0, 0, 16));
+
+        // when
+        testee.set(0, value);
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(value);
+        assertThat(store.getInt(0)).isEqualTo(bfloat16);
+    }
+
+    private static Stream<Arguments> exactValues() {
+        return Stream.of(
+                Arguments.of(0f, 0x0000),
+                Arguments.of(-0f, 0x8000),
+                Arguments.of(1f, 0x3f80),
+                Arguments.of(-2f, 0xc000),
+                Arguments.of(0x1p100f, 0x7180),
+                Arguments.of(Float.POSITIVE_INFINITY, 0x7f80),
+                Arguments.of(Float.NEGATIVE_INFINITY, 0xff80)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("roundedValues")
+    void roundsValues(float value, float expected) {
+        // given
+        BFloat16Encoder testee = new BFloat16Encoder(new Config(store, 1, 0, 0, 16));
+
+        // when
+        testee.set(0, value);
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(expected);
+    }
+
+    private static Stream<Arguments> roundedValues() {
+        return Stream.of(
+                Arguments.of(0.1f, 0.10009765625f),
+                Arguments.of(1f + 0x1p-8f, 1f),
+                Arguments.of(1f + 0x3p-8f, 1f + 0x1p-6f),
+                Arguments.of(1f + 0x1p-8f + 0x1p-20f, 1f + 0x1p-7f),
+                Arguments.of(257f, 256f),
+                Arguments.of(-259f, -260f),
+                Arguments.of(Float.MAX_VALUE, Float.POSITIVE_INFINITY),
+                Arguments.of(Float.MIN_VALUE, 0f)
+        );
+    }
+
+    @Test
+    void nan() {
+        // given
+        BFloat16Encoder testee = new BFloat16Encoder(new Config(store, 1, 0, 0, 16));
+
+        // when
+        testee.set(0, Float.NaN);
+        testee.set(1, Float.intBitsToFloat(0x7f800001));
+        testee.set(2, Float.intBitsToFloat(0xffffffff));
+
+        // then
+        assertThat(testee.get(0)).isNaN();
+        assertThat(testee.get(1)).isNaN();
+        assertThat(testee.get(2)).isNaN();
+    }
+
+    @Test
+    void keepsOtherBits() {
+        // given
+        store.setInt(0, 0xffffffff);
+        BFloat16Encoder testee = new BFloat16Encoder(new Config(store, 1, 0, 8, 16));
+
+        // when
+        testee.set(0, 0f);
+
+        // then
+        assertThat(store.getInt(0)).isEqualTo(0xff0000ff);
+        assertThat(testee.get(0)).isEqualTo(0f);
+    }
+
+    @Test
+    void multipleRecords() {
+        // given
+        BFloat16Encoder testee = new BFloat16Encoder(new Config(store, 1, 0, 16, 16));
+
+        // when
+        testee.set(0, 1.5f);
+        testee.set(1, -3.25f);
+        testee.set(2, 1e30f);
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(1.5f);
+        assertThat(testee.get(1)).isEqualTo(-3.25f);
+        assertThat(testee.get(2)).isEqualTo(BFloat16Encoder.toFloat(BFloat16Encoder.toBFloat16(1e30f)));
+    }
+}
@@ -74,4 +74,83 @@ class BitEncoderTest {
                 Arguments.of(5, 5, 0, 1, FIT_EX)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void recordSizeDifferentThanAlignedStore() {
+        // when
+        Throwable thrown = catchThrowable(() -> new IntEncoder(new Config(new IntStore(1024, 3), 4, 0, 0, 32)));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Store is aligned to records of 3 words, but record size is 4");
+    }
+
+    @ParameterizedTest
+    @MethodSource("recordSizes")
+    void storeIndexInRecordAlignedStore(int recordSize) {
+        // given
+        IntStore store = new IntStore(1024, recordSize);
+        LongEncoder testee = new LongEncoder(new Config(store, recordSize, recordSize - 2, 0, 64));
+
+        // when
+        for (int position = 0; position < 3000; position++) {
+            testee.set(position, position * 1_000_000_007L);
+        }
+
+        // then
+        for (int position = 0; position < 3000; position++) {
+            assertThat(testee.get(position)).isEqualTo(position * 1_000_000_007L);
+            assertThat(store.getLong(store.recordIndex(position, recordSize) + recordSize - 2)).isEqualTo(position * 1_000_000_007L);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("recordSizes")
+    void storeIndex(int recordSize) {
+        // given
+        IntStore store = new IntStore();
+        IntEncoder testee = new IntEncoder(new Config(store, recordSize, recordSize - 1, 0, 32));
+
+        // when
+        testee.set(0, 10);
+        testee.set(7, 20);
+        testee.set(100_000, 30);
+
+        // then
+        assertThat(store.getInt(recordSize - 1)).isEqualTo(10);
+        assertThat(store.getInt(7L * recordSize + recordSize - 1)).isEqualTo(20);
+        assertThat(store.getInt(100_000L * recordSize + recordSize - 1)).isEqualTo(30);
+        assertThat(testee.get(0)).isEqualTo(10);
+        assertThat(testee.get(7)).isEqualTo(20);
+        assertThat(testee.get(100_000)).isEqualTo(30);
+    }
+
+    @Test
+    void isAllocated() {
+        // given
+        IntStore store = new IntStore(1024);
+        LongEncoder testee = new LongEncoder(new Config(store, 3, 1, 0, 64));
+
+        // when
+        boolean emptyStore = testee.isAllocated(0);
+        testee.set(0, 1L);
+
+        // then
+        assertThat(emptyStore).isFalse();
+        assertThat(testee.isAllocated(0)).isTrue();
+        assertThat(testee.isAllocated(340)).isTrue();
+        assertThat(testee.isAllocated(341)).isFalse();
+    }
+
+    private static Stream<Arguments> recordSizes() {
+        return Stream.of(
+                Arguments.of(2),
+                Arguments.of(3),
+                Arguments.of(4),
+                Arguments.of(5),
+                Arguments.of(8),
+                Arguments.of(16)
+        );
+    }
+}
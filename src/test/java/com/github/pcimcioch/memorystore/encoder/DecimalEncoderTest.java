@@ -0,0 +1,314 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class DecimalEncoderTest {
+
+    private static final String BITS_COUNT_EX = "Bits Count outside of defined bounds";
+    private static final String BIT_SHIFT_EX = "Bit Shift over a limit";
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @MethodSource("incorrectConfigs")
+    void incorrectConfig(int bitShift, int bitsCount, String message) {
+        // given
+        Config config = new Config(store, 4, 0, bitShift, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new DecimalEncoder(config, 2, 0L));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> incorrectConfigs() {
+        return Stream.of(
+                Arguments.of(40, 60, BIT_SHIFT_EX),
+                Arguments.of(96, 1, BIT_SHIFT_EX),
+                Arguments.of(0, 63, BITS_COUNT_EX)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 19, 100})
+    void incorrectScale(int scale) {
+        // given
+        Config config = new Config(store, 3, 0, 0, 10);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new DecimalEncoder(config, scale, 0L));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Scale must be between 0 and 18");
+    }
+
+    @Test
+    void valueRange() {
+        // given
+        Config config = new Config(store, 3, 0, 0, 24);
+
+        // when
+        DecimalEncoder testee = new DecimalEncoder(config, 2, -500L);
+
+        // then
+        assertThat(testee.scale()).isEqualTo(2);
+        assertThat(testee.minUnscaled()).isEqualTo(-500L);
+        assertThat(testee.maxUnscaled()).isEqualTo(16776715L);
+        assertThat(testee.minValue()).isEqualTo(new BigDecimal("-5.00"));
+        assertThat(testee.maxValue()).isEqualTo(new BigDecimal("167767.15"));
+    }
+
+    @Test
+    void valueRangeOverflow() {
+        // given
+        Config config = new Config(store, 3, 0, 0, 62);
+
+        // when
+        DecimalEncoder testee = new DecimalEncoder(config, 0, Long.MAX_VALUE - 10);
+
+        // then
+        assertThat(testee.maxUnscaled()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @ParameterizedTest
+    @MethodSource("layouts")
+    void setAndGet(int bitShift, int bitsCount, int scale, long minUnscaled) {
+        // given
+        DecimalEncoder testee = new DecimalEncoder(new Config(store, 3, 0, bitShift, bitsCount), scale, minUnscaled);
+        long maxUnscaled = testee.maxUnscaled();
+
+        // when
+        testee.setUnscaled(0, minUnscaled);
+        testee.setUnscaled(1, maxUnscaled);
+        testee.setUnscaled(2, minUnscaled + 1);
+
+        // then
+        assertThat(testee.getUnscaled(0)).isEqualTo(minUnscaled);
+        assertThat(testee.getUnscaled(1)).isEqualTo(maxUnscaled);
+        assertThat(testee.getUnscaled(2)).isEqualTo(minUnscaled + 1);
+        assertThat(testee.get(1)).isEqualTo(BigDecimal.valueOf(maxUnscaled, scale));
+    }
+
+    private static Stream<Arguments> layouts() {
+        return Stream.of(
+                Arguments.of(0, 1, 0, 0L),
+                Arguments.of(5, 24, 2, 0L),
+                Arguments.of(20, 24, 2, -1000L),
+                Arguments.of(0, 32, 3, Integer.MIN_VALUE),
+                Arguments.of(16, 40, 4, -1L),
+                Arguments.of(31, 62, 18, Long.MIN_VALUE),
+                Arguments.of(0, 62, 0, 0L)
+        );
+    }
+
+    @Test
+    void keepsOtherBits() {
+        // given
+        store.setInt(0, 0xffffffff);
+        store.setInt(1, 0xffffffff);
+        store.setInt(2, 0xffffffff);
+        DecimalEncoder testee = new DecimalEncoder(new Config(store, 3, 0, 20, 50), 2, 0L);
+
+        // when
+        testee.setUnscaled(0, 0L);
+
+        // then
+        assertThat(store.getInt(0)).isEqualTo(0x000fffff);
+        assertThat(store.getInt(1)).isEqualTo(0x00000000);
+        assertThat(store.getInt(2)).isEqualTo(0xffffffc0);
+    }
+
+    @Test
+    void bigDecimal() {
+        // given
+        DecimalEncoder testee = new DecimalEncoder(new Config(store, 3, 0, 0, 24), 2, 0L);
+
+        // when
+        testee.set(0, new BigDecimal("12.34"));
+        testee.set(1, new BigDecimal("100000"));
+        testee.set(2, new BigDecimal("0.1000"));
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(new BigDecimal("12.34"));
+        assertThat(testee.get(1)).isEqualTo(new BigDecimal("100000.00"));
+        assertThat(testee.get(2)).isEqualTo(new BigDecimal("0.10"));
+        assertThat(testee.getUnscaled(0)).isEqualTo(1234L);
+        assertThat(testee.getDouble(0)).isEqualTo(12.34d);
+    }
+
+    @Test
+    void bigDecimalTooPrecise() {
+        // given
+        DecimalEncoder testee = new DecimalEncoder(new Config(store, 3, 0, 0, 24), 2, 0L);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, new BigDecimal("1.234")));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value 1.234 has more than 2 decimal places");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-0.01", "167772.16", "1E+10"})
+    void bigDecimalOutOfRange(String value) {
+        // given
+        DecimalEncoder testee = new DecimalEncoder(new Config(store, 3, 0, 0, 24), 2, 0L);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, new BigDecimal(value)));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [0.00, 167772.15]");
+    }
+
+    @Test
+    void doubleRounding() {
+        // given
+        DecimalEncoder testee = new DecimalEncoder(new Config(store, 3, 0, 0, 24), 2, -10000L);
+
+        // when
+        testee.setDouble(0, 0.29d);
+        testee.setDouble(1, 1.005d);
+        testee.setDouble(2, -12.344d);
+        testee.setDouble(3, 99.999d);
+
+        // then
+        assertThat(testee.getUnscaled(0)).isEqualTo(29L);
+        assertThat(testee.getDouble(0)).isEqualTo(0.29d);
+        assertThat(testee.getUnscaled(1)).isEqualTo(100L);
+        assertThat(testee.getDouble(2)).isEqualTo(-12.34d);
+        assertThat(testee.getDouble(3)).isEqualTo(100d);
+    }
+
+    @ParameterizedTest
+    @MethodSource("roundedDoubles")
+    void doubleRoundingHalfEven(double value, long expectedUnscaled) {
+        // given
+        DecimalEncoder testee = new DecimalEncoder(new Config(store, 3, 0, 0, 24), 2, -10000L);
+
+        // when
+        testee.setDouble(0, value);
+
+        // then
+        assertThat(testee.getUnscaled(0)).isEqualTo(expectedUnscaled);
+    }
+
+    private static Stream<Arguments> roundedDoubles() {
+        return Stream.of(
+                Arguments.of(0.125d, 12L),
+                Arguments.of(0.375d, 38L),
+                Arguments.of(-0.125d, -12L),
+                Arguments.of(-0.375d, -38L),
+                Arguments.of(0.025d, 3L),
+                Arguments.of(-0.025d, -3L),
+                Arguments.of(0.075d, 7L),
+                Arguments.of(-0.075d, -7L),
+                Arguments.of(1.005d, 100L),
+                Arguments.of(-1.005d, -100L),
+                Arguments.of(2.675d, 267L),
+                Arguments.of(-2.675d, -267L),
+                Arguments.of(-12.346d, -1235L),
+                Arguments.of(-0.004d, 0L)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-0.006d, 167772.16d, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+    void doubleOutOfRange(double value) {
+        // given
+        DecimalEncoder testee = new DecimalEncoder(new Config(store, 3, 0, 0, 24), 2, 0L);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.setDouble(0, value));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [0.00, 167772.15]");
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1L, 16777216L, Long.MIN_VALUE, Long.MAX_VALUE})
+    void unscaledOutOfRange(long value) {
+        // given
+        DecimalEncoder testee = new DecimalEncoder(new Config(store, 3, 0, 0, 24), 2, 0L);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.setUnscaled(0, value));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [0.00, 167772.15]");
+    }
+
+    @Test
+    void sum() {
+        // given
+        DecimalEncoder testee = new DecimalEncoder(new Config(store, 3, 0, 0, 24), 2, -10000L);
+        testee.setDouble(0, 10.25d);
+        testee.setDouble(1, -0.5d);
+        testee.setDouble(2, 3.01d);
+        testee.setDouble(3, 1000d);
+
+        // when
+        long unscaled = testee.sumUnscaled(0, 3);
+        BigDecimal sum = testee.sum(1, 4);
+        long empty = testee.sumUnscaled(2, 2);
+
+        // then
+        assertThat(unscaled).isEqualTo(1276L);
+        assertThat(sum).isEqualTo(new BigDecimal("1002.51"));
+        assertThat(empty).isEqualTo(0L);
+    }
+
+    @Test
+    void sumIncorrectRange() {
+        // given
+        DecimalEncoder testee = new DecimalEncoder(new Config(store, 3, 0, 0, 24), 2, 0L);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.sumUnscaled(5, 2));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Incorrect range [5, 2)");
+    }
+
+    @Test
+    void equality() {
+        // given
+        DecimalEncoder testee = new DecimalEncoder(new Config(store, 3, 0, 0, 24), 2, 0L);
+        DecimalEncoder same = new DecimalEncoder(new Config(store, 3, 0, 0, 24), 2, 0L);
+        DecimalEncoder otherScale = new DecimalEncoder(new Config(store, 3, 0, 0, 24), 3, 0L);
+        DecimalEncoder otherMin = new DecimalEncoder(new Config(store, 3, 0, 0, 24), 2, 1L);
+
+        // then
+        assertThat(testee).isEqualTo(same);
+        assertThat(testee).hasSameHashCodeAs(same);
+        assertThat(testee).isNotEqualTo(otherScale);
+        assertThat(testee).isNotEqualTo(otherMin);
+    }
+}
@@ -0,0 +1,748 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.DoublyLinkedListEncoder.ListIterator;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class DoublyLinkedListEncoderTest {
+
+    private static final String BITS_COUNT_EX = "Bits Count outside of defined bounds";
+    private static final String BIT_SHIFT_EX = "Bit Shift over a limit";
+    private static final String EVEN_BITS_COUNT_EX = "Bits Count must be even";
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @MethodSource("incorrectConfigs")
+    void incorrectConfig(int bitShift, int bitsCount, String message) {
+        // given
+        BitEncoder.Config config = new BitEncoder.Config(store, 3, 0, bitShift, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new DoublyLinkedListEncoder(config));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> incorrectConfigs() {
+        return Stream.of(
+                Arguments.of(15, 50, BIT_SHIFT_EX),
+                Arguments.of(4, 62, BIT_SHIFT_EX),
+                Arguments.of(63, 2, BIT_SHIFT_EX),
+                Arguments.of(0, 64, BITS_COUNT_EX),
+                Arguments.of(0, 1, BITS_COUNT_EX),
+                Arguments.of(0, 31, EVEN_BITS_COUNT_EX)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("correctConfigs")
+    void correctConfig(int bitShift, int bitsCount) {
+        // given
+        BitEncoder.Config config = new BitEncoder.Config(store, 2, 0, bitShift, bitsCount);
+
+        // when
+        new DoublyLinkedListEncoder(config);
+
+        // then
+        // no exception thrown
+    }
+
+    private static Stream<Arguments> correctConfigs() {
+        return Stream.of(
+                Arguments.of(15, 48),
+                Arguments.of(2, 62),
+                Arguments.of(0, 62),
+                Arguments.of(62, 2)
+        );
+    }
+
+    @Test
+    void init() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+
+        // when
+        testee.init(0);
+        testee.init(1);
+        testee.init(2);
+
+        // then
+        assertPrevNext(testee, 0, 0, 0);
+        assertPrevNext(testee, 1, 1, 1);
+        assertPrevNext(testee, 2, 2, 2);
+    }
+
+    @Test
+    void addNext() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        testee.init(0);
+
+        // when
+        testee.addNext(0, 2);
+        testee.addNext(2, 4);
+        testee.addNext(2, 3);
+
+        // then
+        // 0 -> 2 -> 3 -> 4
+        assertPrevNext(testee, 0, 4, 2);
+        assertPrevNext(testee, 2, 0, 3);
+        assertPrevNext(testee, 3, 2, 4);
+        assertPrevNext(testee, 4, 3, 0);
+    }
+
+    @Test
+    void addPrevious() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        testee.init(3);
+
+        // when
+        testee.addPrevious(3, 2);
+        testee.addPrevious(3, 5);
+        testee.addPrevious(2, 1);
+
+        // then
+        // 1 -> 2 -> 5 -> 3
+        assertPrevNext(testee, 1, 3, 2);
+        assertPrevNext(testee, 2, 1, 5);
+        assertPrevNext(testee, 5, 2, 3);
+        assertPrevNext(testee, 3, 5, 1);
+    }
+
+    @Test
+    void remove() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 0 -> 1 -> 2 -> 3 -> 4
+        testee.init(0);
+        testee.addNext(0, 1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+        testee.addNext(3, 4);
+
+        // when
+        testee.remove(1);
+
+        // then
+        // 0 -> 2 -> 3 -> 4
+        assertPrevNext(testee, 0, 4, 2);
+        assertPrevNext(testee, 2, 0, 3);
+        assertPrevNext(testee, 3, 2, 4);
+        assertPrevNext(testee, 4, 3, 0);
+        // 1 -> 1
+        assertPrevNext(testee, 1, 1, 1);
+    }
+
+    @Test
+    void remove_singleElementList() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        testee.init(0);
+
+        // when
+        testee.remove(0);
+
+        // then
+        assertPrevNext(testee, 0, 0, 0);
+    }
+
+    @Test
+    void merge_singleElementLists() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        testee.init(0);
+        testee.init(2);
+
+        // when
+        testee.merge(0, 2);
+
+        // then
+        // 0 -> 2
+        assertPrevNext(testee, 0, 2, 2);
+        assertPrevNext(testee, 2, 0, 0);
+    }
+
+    @Test
+    void merge() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 0 -> 1 -> 2
+        testee.init(0);
+        testee.addNext(0, 1);
+        testee.addPrevious(0, 2);
+        // 3 -> 4
+        testee.init(3);
+        testee.addNext(3, 4);
+
+        // when
+        testee.merge(1, 4);
+
+        // then
+        // 0 -> 1 -> 4 -> 3 -> 2
+        assertPrevNext(testee, 0, 2, 1);
+        assertPrevNext(testee, 1, 0, 4);
+        assertPrevNext(testee, 4, 1, 3);
+        assertPrevNext(testee, 3, 4, 2);
+        assertPrevNext(testee, 2, 3, 0);
+    }
+
+    @Test
+    void splice_differentList() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 0 -> 1 -> 2 -> 3 -> 4
+        testee.init(0);
+        testee.addNext(0, 1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+        testee.addNext(3, 4);
+        // 5 -> 6
+        testee.init(5);
+        testee.addNext(5, 6);
+
+        // when
+        testee.splice(5, 1, 3);
+
+        // then
+        // 0 -> 4
+        assertPrevNext(testee, 0, 4, 4);
+        assertPrevNext(testee, 4, 0, 0);
+        // 5 -> 1 -> 2 -> 3 -> 6
+        assertPrevNext(testee, 5, 6, 1);
+        assertPrevNext(testee, 1, 5, 2);
+        assertPrevNext(testee, 2, 1, 3);
+        assertPrevNext(testee, 3, 2, 6);
+        assertPrevNext(testee, 6, 3, 5);
+    }
+
+    @Test
+    void splice_sameList() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 0 -> 1 -> 2 -> 3 -> 4
+        testee.init(0);
+        testee.addNext(0, 1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+        testee.addNext(3, 4);
+
+        // when
+        testee.splice(3, 0, 1);
+
+        // then
+        // 2 -> 3 -> 0 -> 1 -> 4
+        assertThat(testee.stream(2)).containsExactly(2L, 3L, 0L, 1L, 4L);
+        assertPrevNext(testee, 2, 4, 3);
+        assertPrevNext(testee, 3, 2, 0);
+        assertPrevNext(testee, 0, 3, 1);
+        assertPrevNext(testee, 1, 0, 4);
+        assertPrevNext(testee, 4, 1, 2);
+    }
+
+    @Test
+    void splice_singleElement() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 0 -> 1 -> 2
+        testee.init(0);
+        testee.addNext(0, 1);
+        testee.addNext(1, 2);
+
+        // when
+        testee.splice(2, 1, 1);
+
+        // then
+        // 0 -> 2 -> 1
+        assertPrevNext(testee, 0, 1, 2);
+        assertPrevNext(testee, 2, 0, 1);
+        assertPrevNext(testee, 1, 2, 0);
+    }
+
+    @Test
+    void incorrectValue() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 8));
+        testee.init(0);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.addNext(0, 16));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [0, 15]");
+    }
+
+    @Test
+    void doesNotOverrideNeighbourBits() {
+        // given
+        store.setInt(0, -1);
+        store.setInt(1, -1);
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+
+        // when
+        testee.init(0);
+
+        // then
+        assertThat(store.getInt(0)).isEqualTo(0x000fffff);
+        assertThat(store.getInt(1)).isEqualTo(0xfff00000);
+        assertPrevNext(testee, 0, 0, 0);
+    }
+
+    @Test
+    void remapLinks() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 0 -> 1 -> 2
+        testee.init(0);
+        testee.addNext(0, 1);
+        testee.addNext(1, 2);
+
+        // when
+        for (long position = 0; position < 3; position++) {
+            testee.remapLinks(position, position == 2 ? p -> p : p -> p + 10);
+        }
+
+        // then
+        assertPrevNext(testee, 0, 12, 11);
+        assertPrevNext(testee, 1, 10, 12);
+        assertPrevNext(testee, 2, 1, 0);
+    }
+
+    @Test
+    void iterator_singleElementList() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        testee.init(1);
+
+        // when
+        ListIterator iterator = testee.iterator(1);
+
+        // then
+        assertThat(iterator).toIterable().containsExactly(1L);
+    }
+
+    @Test
+    void iterator() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 1 -> 2 -> 3 -> 4 -> 5
+        testee.init(1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+        testee.addNext(3, 4);
+        testee.addNext(4, 5);
+
+        // when
+        ListIterator iterator1 = testee.iterator(1);
+        ListIterator iterator4 = testee.iterator(4);
+
+        // then
+        assertThat(toList(iterator1)).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(toList(iterator4)).containsExactly(4L, 5L, 1L, 2L, 3L);
+    }
+
+    @Test
+    void iterator_remove_singleElementList() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        testee.init(1);
+
+        // when
+        ListIterator iterator = testee.iterator(1);
+        while (iterator.hasNext()) {
+            long value = iterator.nextLong();
+            if (value == 1) {
+                iterator.remove();
+            }
+        }
+
+        // then
+        assertPrevNext(testee, 1, 1, 1);
+    }
+
+    @Test
+    void iterator_removeTwice_singleElementList() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        testee.init(1);
+
+        // when
+        ListIterator iterator = testee.iterator(1);
+        while (iterator.hasNext()) {
+            long value = iterator.nextLong();
+            if (value == 1) {
+                iterator.remove();
+                iterator.remove();
+            }
+        }
+
+        // then
+        assertPrevNext(testee, 1, 1, 1);
+    }
+
+    @Test
+    void iterator_removeWithoutNext_singleElementList() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        testee.init(1);
+
+        // when
+        ListIterator iterator = testee.iterator(1);
+        Throwable thrown = catchThrowable(iterator::remove);
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+        assertPrevNext(testee, 1, 1, 1);
+    }
+
+    @Test
+    void iterator_removeTwice() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 1 -> 2 -> 3
+        testee.init(1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+
+        // when
+        ListIterator iterator = testee.iterator(1);
+        while (iterator.hasNext()) {
+            long value = iterator.nextLong();
+            if (value == 2) {
+                iterator.remove();
+                iterator.remove();
+            }
+        }
+
+        // then
+        // 1 -> 3
+        assertPrevNext(testee, 1, 3, 3);
+        assertPrevNext(testee, 3, 1, 1);
+        // 2 -> 2
+        assertPrevNext(testee, 2, 2, 2);
+    }
+
+    @Test
+    void iterator_removeFromTheMiddle() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 1 -> 2 -> 3
+        testee.init(1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+
+        // when
+        ListIterator iterator = testee.iterator(1);
+        while (iterator.hasNext()) {
+            long value = iterator.nextLong();
+            if (value == 2) {
+                iterator.remove();
+            }
+        }
+
+        // then
+        // 1 -> 3
+        assertPrevNext(testee, 1, 3, 3);
+        assertPrevNext(testee, 3, 1, 1);
+        // 2 -> 2
+        assertPrevNext(testee, 2, 2, 2);
+    }
+
+    @Test
+    void iterator_removeNextToEachOtherInTheMiddle() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 1 -> 2 -> 3 -> 4
+        testee.init(1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+        testee.addNext(3, 4);
+
+        // when
+        ListIterator iterator = testee.iterator(1);
+        while (iterator.hasNext()) {
+            long value = iterator.nextLong();
+            if (value == 2 || value == 3) {
+                iterator.remove();
+            }
+        }
+
+        // then
+        // 1 -> 4
+        assertPrevNext(testee, 1, 4, 4);
+        assertPrevNext(testee, 4, 1, 1);
+        // 2 -> 2
+        assertPrevNext(testee, 2, 2, 2);
+        // 3 -> 3
+        assertPrevNext(testee, 3, 3, 3);
+    }
+
+    @Test
+    void iterator_removeAtTheEnd() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 1 -> 2 -> 3 -> 4
+        testee.init(1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+        testee.addNext(3, 4);
+
+        // when
+        ListIterator iterator = testee.iterator(1);
+        while (iterator.hasNext()) {
+            long value = iterator.nextLong();
+            if (value == 4) {
+                iterator.remove();
+            }
+        }
+
+        // then
+        // 1 -> 2 -> 3
+        assertPrevNext(testee, 1, 3, 2);
+        assertPrevNext(testee, 2, 1, 3);
+        assertPrevNext(testee, 3, 2, 1);
+        // 4 -> 4
+        assertPrevNext(testee, 4, 4, 4);
+    }
+
+    @Test
+    void iterator_removeNextToEachOtherAtTheEnd() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 1 -> 2 -> 3 -> 4
+        testee.init(1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+        testee.addNext(3, 4);
+
+        // when
+        ListIterator iterator = testee.iterator(1);
+        while (iterator.hasNext()) {
+            long value = iterator.nextLong();
+            if (value == 3 || value == 4) {
+                iterator.remove();
+            }
+        }
+
+        // then
+        // 1 -> 2
+        assertPrevNext(testee, 1, 2, 2);
+        assertPrevNext(testee, 2, 1, 1);
+        // 3 -> 3
+        assertPrevNext(testee, 3, 3, 3);
+        // 4 -> 4
+        assertPrevNext(testee, 4, 4, 4);
+    }
+
+    @Test
+    void iterator_removeAtTheBeginning() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 1 -> 2 -> 3 -> 4
+        testee.init(1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+        testee.addNext(3, 4);
+
+        // when
+        ListIterator iterator = testee.iterator(1);
+        while (iterator.hasNext()) {
+            long value = iterator.nextLong();
+            if (value == 1) {
+                iterator.remove();
+            }
+        }
+
+        // then
+        // 2 -> 3 -> 4
+        assertPrevNext(testee, 2, 4, 3);
+        assertPrevNext(testee, 3, 2, 4);
+        assertPrevNext(testee, 4, 3, 2);
+        // 1 -> 1
+        assertPrevNext(testee, 1, 1, 1);
+    }
+
+    @Test
+    void iterator_removeNextToEachOtherAtTheBeginning() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 1 -> 2 -> 3 -> 4
+        testee.init(1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+        testee.addNext(3, 4);
+
+        // when
+        ListIterator iterator = testee.iterator(1);
+        while (iterator.hasNext()) {
+            long value = iterator.nextLong();
+            if (value == 1 || value == 2) {
+                iterator.remove();
+            }
+        }
+
+        // then
+        // 3 -> 4
+        assertPrevNext(testee, 3, 4, 4);
+        assertPrevNext(testee, 4, 3, 3);
+        // 1 -> 1
+        assertPrevNext(testee, 1, 1, 1);
+        // 2 -> 2
+        assertPrevNext(testee, 2, 2, 2);
+    }
+
+    @Test
+    void iterator_removeAll() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 1 -> 2 -> 3
+        testee.init(1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+
+        // when
+        ListIterator iterator = testee.iterator(1);
+        while (iterator.hasNext()) {
+            iterator.nextLong();
+            iterator.remove();
+        }
+
+        // then
+        assertPrevNext(testee, 1, 1, 1);
+        assertPrevNext(testee, 2, 2, 2);
+        assertPrevNext(testee, 3, 3, 3);
+    }
+
+    @Test
+    void iterator_removeDifferent() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 1 -> 2 -> 3 -> 4 -> 5 -> 6 -> 7 -> 8 -> 9
+        testee.init(1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+        testee.addNext(3, 4);
+        testee.addNext(4, 5);
+        testee.addNext(5, 6);
+        testee.addNext(6, 7);
+        testee.addNext(7, 8);
+        testee.addNext(8, 9);
+
+        // when
+        ListIterator iterator = testee.iterator(1);
+        while (iterator.hasNext()) {
+            long value = iterator.nextLong();
+            if (value == 1 || value == 2 || value == 5 || value == 8 || value == 9) {
+                iterator.remove();
+            }
+        }
+
+        // then
+        // 3 -> 4 -> 6 -> 7
+        assertPrevNext(testee, 3, 7, 4);
+        assertPrevNext(testee, 4, 3, 6);
+        assertPrevNext(testee, 6, 4, 7);
+        assertPrevNext(testee, 7, 6, 3);
+        // removed
+        assertPrevNext(testee, 1, 1, 1);
+        assertPrevNext(testee, 2, 2, 2);
+        assertPrevNext(testee, 5, 5, 5);
+        assertPrevNext(testee, 8, 8, 8);
+        assertPrevNext(testee, 9, 9, 9);
+    }
+
+    @Test
+    void iterable_singleElementList() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        testee.init(1);
+
+        // when
+        Iterable<Long> iterable = testee.iterable(1);
+
+        // then
+        assertThat(iterable).containsExactly(1L);
+    }
+
+    @Test
+    void iterable() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 1 -> 2 -> 3 -> 4 -> 5
+        testee.init(1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+        testee.addNext(3, 4);
+        testee.addNext(4, 5);
+
+        // when
+        Iterable<Long> iterable1 = testee.iterable(1);
+        Iterable<Long> iterable4 = testee.iterable(4);
+
+        // then
+        assertThat(iterable1).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(iterable4).containsExactly(4L, 5L, 1L, 2L, 3L);
+    }
+
+    @Test
+    void stream_singleElementList() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        testee.init(1);
+
+        // when
+        LongStream stream = testee.stream(1);
+
+        // then
+        assertThat(stream).containsExactly(1L);
+    }
+
+    @Test
+    void stream() {
+        // given
+        DoublyLinkedListEncoder testee = new DoublyLinkedListEncoder(new BitEncoder.Config(store, 2, 0, 20, 32));
+        // 1 -> 2 -> 3 -> 4
+        testee.init(1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+        testee.addNext(3, 4);
+
+        // when
+        LongStream stream = testee.stream(3);
+
+        // then
+        assertThat(stream).containsExactly(3L, 4L, 1L, 2L);
+    }
+
+    private static void assertPrevNext(DoublyLinkedListEncoder testee, int listPosition, int previous, int next) {
+        assertThat(testee.previous(listPosition)).isEqualTo(previous);
+        assertThat(testee.next(listPosition)).isEqualTo(next);
+    }
+
+    private static <T> List<T> toList(Iterator<T> iterator) {
+        List<T> list = new ArrayList<>();
+        while (iterator.hasNext()) {
+            list.add(iterator.next());
+        }
+
+        return list;
+    }
+}
\ No newline at end of file
@@ -114,6 +114,8 @@ class EnumEncoderTest {
 
         // then
         assertThat(testee.get(0)).isEqualTo(value);
+        assertThat(testee.getIndex(0)).isEqualTo(value.ordinal());
+        assertThat(testee.indexOf(value)).isEqualTo(value.ordinal());
         assertThat(store.getInt(0)).isEqualTo(value.ordinal());
     }
 
@@ -0,0 +1,168 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class HalfFloatEncoderTest {
+
+    private static final String BITS_COUNT_EX = "Bits Count outside of defined bounds";
+    private static final String BIT_SHIFT_EX = "Bit Shift over a limit";
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @MethodSource("incorrectConfigs")
+    void incorrectConfig(int bitShift, int bitsCount, String message) {
+        // given
+        Config config = new Config(store, 2, 0, bitShift, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new HalfFloatEncoder(config));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> incorrectConfigs() {
+        return Stream.of(
+                Arguments.of(32, 16, BIT_SHIFT_EX),
+                Arguments.of(17, 16, BIT_SHIFT_EX),
+                Arguments.of(0, 15, BITS_COUNT_EX),
+                Arguments.of(0, 17, BITS_COUNT_EX)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("exactValues")
+    void savesExactValues(float value, int half) {
+        // given
+        HalfFloatEncoder testee = new HalfFloatEncoder(new Config(store, 1, 0, 0, 16));
+
+        // when
+        testee.set(0, value);
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(value);
+        assertThat(store.getInt(0)).isEqualTo(half);
+    }
+
+    private static Stream<Arguments> exactValues() {
+        return Stream.of(
+                Arguments.of(0f, 0x0000),
+                Arguments.of(-0f, 0x8000),
+                Arguments.of(1f, 0x3c00),
+                Arguments.of(-2f, 0xc000),
+                Arguments.of(0.5f, 0x3800),
+                Arguments.of(65504f, 0x7bff),
+                Arguments.of(0x1p-14f, 0x0400),
+                Arguments.of(0x1p-24f, 0x0001),
+                Arguments.of(0x3ffp-24f, 0x03ff),
+                Arguments.of(Float.POSITIVE_INFINITY, 0x7c00),
+                Arguments.of(Float.NEGATIVE_INFINITY, 0xfc00)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("roundedValues")
+    void roundsValues(float value, float expected) {
+        // given
+        HalfFloatEncoder testee = new HalfFloatEncoder(new Config(store, 1, 0, 0, 16));
+
+        // when
+        testee.set(0, value);
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(expected);
+    }
+
+    private static Stream<Arguments> roundedValues() {
+        return Stream.of(
+                Arguments.of(0.1f, 0.099975586f),
+                Arguments.of(1f + 0x1p-11f, 1f),
+                Arguments.of(1f + 0x3p-11f, 1f + 0x1p-9f),
+                Arguments.of(1f + 0x1p-11f + 0x1p-20f, 1f + 0x1p-10f),
+                Arguments.of(2049f, 2048f),
+                Arguments.of(2051f, 2052f),
+                Arguments.of(65519f, 65504f),
+                Arguments.of(65520f, Float.POSITIVE_INFINITY),
+                Arguments.of(-1e10f, Float.NEGATIVE_INFINITY),
+                Arguments.of(0x1p-25f, 0f),
+                Arguments.of(0x3p-26f, 0x1p-24f),
+                Arguments.of(1e-10f, 0f),
+                Arguments.of(-1e-10f, -0f)
+        );
+    }
+
+    @Test
+    void nan() {
+        // given
+        HalfFloatEncoder testee = new HalfFloatEncoder(new Config(store, 1, 0, 0, 16));
+
+        // when
+        testee.set(0, Float.NaN);
+        testee.set(1, Float.intBitsToFloat(0x7f800001));
+
+        // then
+        assertThat(testee.get(0)).isNaN();
+        assertThat(testee.get(1)).isNaN();
+    }
+
+    @Test
+    void allHalfValuesRoundTrip() {
+        for (int half = 0; half <= 0xffff; half++) {
+            // given
+            float value = HalfFloatEncoder.toFloat(half);
+
+            // when
+            int result = HalfFloatEncoder.toHalf(value);
+
+            // then
+            if (Float.isNaN(value)) {
+                assertThat(HalfFloatEncoder.toFloat(result)).isNaN();
+            } else {
+                assertThat(result).isEqualTo(half);
+            }
+        }
+    }
+
+    @Test
+    void keepsOtherBits() {
+        // given
+        store.setInt(0, 0xffffffff);
+        HalfFloatEncoder testee = new HalfFloatEncoder(new Config(store, 1, 0, 8, 16));
+
+        // when
+        testee.set(0, 0f);
+
+        // then
+        assertThat(store.getInt(0)).isEqualTo(0xff0000ff);
+        assertThat(testee.get(0)).isEqualTo(0f);
+    }
+
+    @Test
+    void multipleRecords() {
+        // given
+        HalfFloatEncoder testee = new HalfFloatEncoder(new Config(store, 1, 0, 16, 16));
+
+        // when
+        testee.set(0, 1.5f);
+        testee.set(1, -3.25f);
+        testee.set(2, 1024f);
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(1.5f);
+        assertThat(testee.get(1)).isEqualTo(-3.25f);
+        assertThat(testee.get(2)).isEqualTo(1024f);
+    }
+}
@@ -0,0 +1,340 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.github.pcimcioch.memorystore.encoder.HashIndexEncoder.NONE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class HashIndexEncoderTest {
+
+    private final IntStore store = new IntStore();
+    private final HashIndexEncoder testee = new HashIndexEncoder(store);
+
+    @Test
+    void nullStore() {
+        // when
+        Throwable thrown = catchThrowable(() -> new HashIndexEncoder(null));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Store cannot be null");
+    }
+
+    @Test
+    void empty() {
+        // then
+        assertThat(testee.get(42L)).isEqualTo(NONE);
+        assertThat(testee.containsKey(42L)).isFalse();
+        assertThat(testee.remove(42L)).isEqualTo(NONE);
+        assertThat(testee.size()).isEqualTo(0);
+        assertThat(testee.isEmpty()).isTrue();
+        assertThat(testee.capacity()).isEqualTo(0);
+        assertThat(store.size()).isEqualTo(0);
+    }
+
+    @Test
+    void put() {
+        // when
+        long previous1 = testee.put(10L, 0);
+        long previous2 = testee.put(-20L, 5);
+        long previous3 = testee.put(Long.MAX_VALUE, HashIndexEncoder.MAX_POSITION);
+
+        // then
+        assertThat(previous1).isEqualTo(NONE);
+        assertThat(previous2).isEqualTo(NONE);
+        assertThat(previous3).isEqualTo(NONE);
+        assertThat(testee.get(10L)).isEqualTo(0);
+        assertThat(testee.get(-20L)).isEqualTo(5);
+        assertThat(testee.get(Long.MAX_VALUE)).isEqualTo(HashIndexEncoder.MAX_POSITION);
+        assertThat(testee.get(20L)).isEqualTo(NONE);
+        assertThat(testee.containsKey(-20L)).isTrue();
+        assertThat(testee.size()).isEqualTo(3);
+        assertThat(testee.isEmpty()).isFalse();
+        assertThat(testee.capacity()).isEqualTo(16);
+    }
+
+    @Test
+    void putReplaces() {
+        // given
+        testee.put(10L, 1);
+
+        // when
+        long previous = testee.put(10L, 2);
+
+        // then
+        assertThat(previous).isEqualTo(1);
+        assertThat(testee.get(10L)).isEqualTo(2);
+        assertThat(testee.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1L, -100L, 0xFFFFFFFFL, Long.MAX_VALUE, Long.MIN_VALUE})
+    void putIncorrectPosition(long position) {
+        // when
+        Throwable thrown = catchThrowable(() -> testee.put(1L, position));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Position must be between 0 and 4294967294");
+    }
+
+    @Test
+    void putReplacesWithoutResizeAtThreshold() {
+        // given
+        for (long key = 0; key < 12; key++) {
+            testee.put(key, key);
+        }
+
+        // when
+        long previous = testee.put(5L, 100);
+
+        // then
+        assertThat(previous).isEqualTo(5);
+        assertThat(testee.get(5L)).isEqualTo(100);
+        assertThat(testee.size()).isEqualTo(12);
+        assertThat(testee.capacity()).isEqualTo(16);
+
+        // when
+        testee.put(12L, 12);
+
+        // then
+        assertThat(testee.capacity()).isEqualTo(32);
+        assertThat(testee.size()).isEqualTo(13);
+    }
+
+    @Test
+    void remove() {
+        // given
+        testee.put(10L, 1);
+        testee.put(20L, 2);
+
+        // when
+        long removed1 = testee.remove(10L);
+        long removed2 = testee.remove(10L);
+
+        // then
+        assertThat(removed1).isEqualTo(1);
+        assertThat(removed2).isEqualTo(NONE);
+        assertThat(testee.get(10L)).isEqualTo(NONE);
+        assertThat(testee.get(20L)).isEqualTo(2);
+        assertThat(testee.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeShiftsCollidingKeys() {
+        // given
+        for (long key = 0; key < 12; key++) {
+            testee.put(key * 16, key);
+        }
+
+        // when
+        for (long key = 0; key < 12; key += 2) {
+            testee.remove(key * 16);
+        }
+
+        // then
+        for (long key = 0; key < 12; key++) {
+            assertThat(testee.get(key * 16)).isEqualTo(key % 2 == 0 ? NONE : key);
+        }
+        assertThat(testee.size()).isEqualTo(6);
+    }
+
+    @Test
+    void resize() {
+        // when
+        for (long key = 0; key < 13; key++) {
+            testee.put(key, key + 100);
+        }
+
+        // then
+        assertThat(testee.capacity()).isEqualTo(32);
+        assertThat(testee.size()).isEqualTo(13);
+        for (long key = 0; key < 13; key++) {
+            assertThat(testee.get(key)).isEqualTo(key + 100);
+        }
+    }
+
+    @Test
+    void randomOperations() {
+        // given
+        Random random = new Random(0);
+        Map<Long, Long> expected = new HashMap<>();
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(5_000) - 2_500L;
+            if (random.nextInt(3) == 0) {
+                assertThat(testee.remove(key)).isEqualTo(expected.getOrDefault(key, NONE));
+                expected.remove(key);
+            } else {
+                long position = random.nextInt(1_000_000);
+                assertThat(testee.put(key, position)).isEqualTo(expected.getOrDefault(key, NONE));
+                expected.put(key, position);
+            }
+        }
+
+        // then
+        assertThat(testee.size()).isEqualTo(expected.size());
+        for (long key = -2_500L; key < 2_500L; key++) {
+            assertThat(testee.get(key)).isEqualTo(expected.getOrDefault(key, NONE));
+        }
+    }
+
+    @Test
+    void clear() {
+        // given
+        for (long key = 0; key < 100; key++) {
+            testee.put(key, key);
+        }
+
+        // when
+        testee.clear();
+
+        // then
+        assertThat(testee.size()).isEqualTo(0);
+        assertThat(testee.capacity()).isEqualTo(256);
+        for (long key = 0; key < 100; key++) {
+            assertThat(testee.get(key)).isEqualTo(NONE);
+        }
+    }
+
+    @Test
+    void clearAndReuse() {
+        // given
+        testee.put(1L, 1);
+        testee.clear();
+
+        // when
+        testee.put(2L, 2);
+
+        // then
+        assertThat(testee.get(1L)).isEqualTo(NONE);
+        assertThat(testee.get(2L)).isEqualTo(2);
+        assertThat(testee.size()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuild() {
+        // given
+        testee.put(-1L, 7);
+        long[] keys = {100L, 200L, 300L, 200L};
+
+        // when
+        testee.rebuild(keys.length, position -> keys[(int) position]);
+
+        // then
+        assertThat(testee.get(-1L)).isEqualTo(NONE);
+        assertThat(testee.get(100L)).isEqualTo(0);
+        assertThat(testee.get(200L)).isEqualTo(3);
+        assertThat(testee.get(300L)).isEqualTo(2);
+        assertThat(testee.size()).isEqualTo(3);
+    }
+
+    @Test
+    void rebuildPreallocates() {
+        // when
+        testee.rebuild(1000, position -> position * 31);
+
+        // then
+        assertThat(testee.capacity()).isEqualTo(2048);
+        assertThat(testee.size()).isEqualTo(1000);
+        assertThat(testee.get(31L * 999)).isEqualTo(999);
+    }
+
+    @Test
+    void rebuildIncorrectRecordsCount() {
+        // when
+        Throwable thrown = catchThrowable(() -> testee.rebuild(-1, position -> position));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Records count must be between 0 and 4294967295");
+    }
+
+    @Test
+    void remapAllLinks() {
+        // given
+        testee.put(100L, 0);
+        testee.put(200L, 1);
+        testee.put(300L, 2);
+        long[] mapping = {2, 0, 1};
+
+        // when
+        testee.remapAllLinks(mapping.length, position -> mapping[(int) position]);
+
+        // then
+        assertThat(testee.get(100L)).isEqualTo(2);
+        assertThat(testee.get(200L)).isEqualTo(0);
+        assertThat(testee.get(300L)).isEqualTo(1);
+        assertThat(testee.size()).isEqualTo(3);
+    }
+
+    @Test
+    void concurrentReaders() throws Exception {
+        // given
+        for (long key = 0; key < 1_000; key++) {
+            testee.put(key, key);
+        }
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<Boolean>> readers = new ArrayList<>();
+        for (int reader = 0; reader < 3; reader++) {
+            readers.add(executor.submit(() -> {
+                boolean consistent = true;
+                while (writing.get()) {
+                    for (long key = 0; key < 1_000; key++) {
+                        consistent &= testee.get(key) == key;
+                    }
+                }
+                return consistent;
+            }));
+        }
+        executor.submit(() -> {
+            for (long key = 1_000; key < 200_000; key++) {
+                testee.put(key, key);
+                if (key >= 1_100) {
+                    testee.remove(key - 100);
+                }
+            }
+            writing.set(false);
+        }).get();
+
+        // then
+        for (Future<Boolean> reader : readers) {
+            assertThat(reader.get()).isTrue();
+        }
+        executor.shutdown();
+        assertThat(testee.size()).isEqualTo(1_100);
+    }
+
+    @Test
+    void equality() {
+        // given
+        HashIndexEncoder same = new HashIndexEncoder(store);
+        HashIndexEncoder other = new HashIndexEncoder(new IntStore());
+
+        // then
+        assertThat(testee).isEqualTo(same);
+        assertThat(testee).hasSameHashCodeAs(same);
+        assertThat(testee).isNotEqualTo(other);
+    }
+}
@@ -0,0 +1,214 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.Stream;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class InstantEncoderTest {
+
+    private static final String BITS_COUNT_EX = "Bits Count outside of defined bounds";
+    private static final String BIT_SHIFT_EX = "Bit Shift over a limit";
+    private static final Instant BASE = Instant.parse("2020-01-01T00:00:00Z");
+    private static final long BASE_MINUTES = BASE.getEpochSecond() / 60;
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @MethodSource("incorrectConfigs")
+    void incorrectConfig(int bitShift, int bitsCount, String message) {
+        // given
+        Config config = new Config(store, 4, 0, bitShift, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new InstantEncoder(config, MINUTES, BASE_MINUTES));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> incorrectConfigs() {
+        return Stream.of(
+                Arguments.of(34, 63, BIT_SHIFT_EX),
+                Arguments.of(96, 1, BIT_SHIFT_EX),
+                Arguments.of(0, 64, BITS_COUNT_EX)
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChronoUnit.class, names = {"NANOS", "MICROS", "HALF_DAYS", "WEEKS", "MONTHS", "YEARS", "FOREVER"})
+    void incorrectGranularity(ChronoUnit granularity) {
+        // given
+        Config config = new Config(store, 1, 0, 0, 26);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new InstantEncoder(config, granularity, 0L));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Granularity must be one of [Millis, Seconds, Minutes, Hours, Days]");
+    }
+
+    @Test
+    void nullGranularity() {
+        // given
+        Config config = new Config(store, 1, 0, 0, 26);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new InstantEncoder(config, null, 0L));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Granularity cannot be null");
+    }
+
+    @Test
+    void valueRange() {
+        // when
+        InstantEncoder testee = new InstantEncoder(new Config(store, 1, 0, 0, 26), MINUTES, BASE_MINUTES);
+
+        // then
+        assertThat(testee.granularity()).isEqualTo(MINUTES);
+        assertThat(testee.minEpochUnits()).isEqualTo(BASE_MINUTES);
+        assertThat(testee.maxEpochUnits()).isEqualTo(BASE_MINUTES + (1L << 26) - 1);
+    }
+
+    @Test
+    void setAndGet() {
+        // given
+        InstantEncoder testee = new InstantEncoder(new Config(store, 1, 0, 3, 26), MINUTES, BASE_MINUTES);
+
+        // when
+        testee.set(0, BASE);
+        testee.set(1, Instant.parse("2024-02-29T13:45:00Z"));
+        testee.set(2, Instant.parse("2147-08-06T09:03:00Z"));
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(BASE);
+        assertThat(testee.get(1)).isEqualTo(Instant.parse("2024-02-29T13:45:00Z"));
+        assertThat(testee.get(2)).isEqualTo(Instant.parse("2147-08-06T09:03:00Z"));
+        assertThat(testee.getEpochUnits(0)).isEqualTo(BASE_MINUTES);
+        assertThat(testee.getEpochMilli(1)).isEqualTo(Instant.parse("2024-02-29T13:45:00Z").toEpochMilli());
+    }
+
+    @Test
+    void roundsDown() {
+        // given
+        InstantEncoder testee = new InstantEncoder(new Config(store, 1, 0, 0, 26), MINUTES, BASE_MINUTES);
+
+        // when
+        testee.set(0, Instant.parse("2024-02-29T13:45:59.999Z"));
+        testee.setEpochMilli(1, BASE.toEpochMilli() + 119_999L);
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(Instant.parse("2024-02-29T13:45:00Z"));
+        assertThat(testee.getEpochMilli(1)).isEqualTo(BASE.toEpochMilli() + 60_000L);
+    }
+
+    @Test
+    void beforeEpoch() {
+        // given
+        InstantEncoder testee = new InstantEncoder(new Config(store, 2, 0, 0, 40), MILLIS, -1_000_000L);
+
+        // when
+        testee.setEpochMilli(0, -1_000_000L);
+        testee.setEpochMilli(1, -1L);
+        testee.set(2, Instant.ofEpochMilli(123_456_789L));
+
+        // then
+        assertThat(testee.getEpochMilli(0)).isEqualTo(-1_000_000L);
+        assertThat(testee.getEpochMilli(1)).isEqualTo(-1L);
+        assertThat(testee.get(2)).isEqualTo(Instant.ofEpochMilli(123_456_789L));
+    }
+
+    @Test
+    void daysGranularity() {
+        // given
+        InstantEncoder testee = new InstantEncoder(new Config(store, 1, 0, 0, 16), DAYS, 0L);
+
+        // when
+        testee.set(0, Instant.parse("1970-01-02T23:59:59Z"));
+
+        // then
+        assertThat(testee.getEpochUnits(0)).isEqualTo(1L);
+        assertThat(testee.get(0)).isEqualTo(Instant.parse("1970-01-02T00:00:00Z"));
+    }
+
+    @Test
+    void outOfRange() {
+        // given
+        InstantEncoder testee = new InstantEncoder(new Config(store, 1, 0, 0, 10), SECONDS, BASE.getEpochSecond());
+
+        // when
+        Throwable thrownBefore = catchThrowable(() -> testee.set(0, BASE.minusMillis(1)));
+        Throwable thrownAfter = catchThrowable(() -> testee.set(0, BASE.plusSeconds(1024)));
+        Throwable thrownUnits = catchThrowable(() -> testee.setEpochUnits(0, Long.MIN_VALUE));
+
+        // then
+        assertThat(thrownBefore)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [2020-01-01T00:00:00Z, 2020-01-01T00:17:03Z]");
+        assertThat(thrownAfter)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [2020-01-01T00:00:00Z, 2020-01-01T00:17:03Z]");
+        assertThat(thrownUnits)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [2020-01-01T00:00:00Z, 2020-01-01T00:17:03Z]");
+    }
+
+    @Test
+    void rangeOutsideOfInstant() {
+        // when
+        InstantEncoder testee = new InstantEncoder(new Config(store, 2, 0, 0, 63), DAYS, 0L);
+
+        // then
+        assertThat(testee.maxEpochUnits()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void nullValue() {
+        // given
+        InstantEncoder testee = new InstantEncoder(new Config(store, 1, 0, 0, 26), MINUTES, BASE_MINUTES);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, null));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Value cannot be null");
+    }
+
+    @Test
+    void equality() {
+        // given
+        InstantEncoder testee = new InstantEncoder(new Config(store, 1, 0, 0, 26), MINUTES, BASE_MINUTES);
+        InstantEncoder same = new InstantEncoder(new Config(store, 1, 0, 0, 26), MINUTES, BASE_MINUTES);
+        InstantEncoder otherGranularity = new InstantEncoder(new Config(store, 1, 0, 0, 26), SECONDS, BASE_MINUTES);
+        InstantEncoder otherMin = new InstantEncoder(new Config(store, 1, 0, 0, 26), MINUTES, 0L);
+
+        // then
+        assertThat(testee).isEqualTo(same);
+        assertThat(testee).hasSameHashCodeAs(same);
+        assertThat(testee).isNotEqualTo(otherGranularity);
+        assertThat(testee).isNotEqualTo(otherMin);
+    }
+}
@@ -0,0 +1,464 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class IntArrayEncoderTest {
+
+    private final IntStore records = new IntStore();
+    private final IntStore arena = new IntStore();
+    private final UnsignedIntegerEncoder offsetEncoder = new UnsignedIntegerEncoder(new Config(records, 2, 0, 0, 31));
+    private final UnsignedIntegerEncoder lengthEncoder = new UnsignedIntegerEncoder(new Config(records, 2, 1, 0, 8));
+
+    private final IntArrayEncoder testee = new IntArrayEncoder(arena, offsetEncoder, lengthEncoder);
+
+    @Test
+    void nullStores() {
+        // when
+        Throwable thrownArena = catchThrowable(() -> new IntArrayEncoder(null, offsetEncoder, lengthEncoder));
+        Throwable thrownOffset = catchThrowable(() -> new IntArrayEncoder(arena, null, lengthEncoder));
+        Throwable thrownLength = catchThrowable(() -> new IntArrayEncoder(arena, offsetEncoder, null));
+
+        // then
+        assertThat(thrownArena).isInstanceOf(NullPointerException.class).hasMessage("Arena Store cannot be null");
+        assertThat(thrownOffset).isInstanceOf(NullPointerException.class).hasMessage("Offset Encoder cannot be null");
+        assertThat(thrownLength).isInstanceOf(NullPointerException.class).hasMessage("Length Encoder cannot be null");
+    }
+
+    @Test
+    void empty() {
+        // when
+        testee.clear(0);
+
+        // then
+        assertThat(testee.maxLength()).isEqualTo(255);
+        assertThat(testee.length(0)).isEqualTo(0);
+        assertThat(testee.get(0)).isEmpty();
+        assertThat(testee.stream(0)).isEmpty();
+        assertThat(testee.arenaSize()).isEqualTo(0);
+        assertThat(testee.garbage()).isEqualTo(0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 511L, 512L, 100_000L})
+    void freshRecordIsEmpty(long position) {
+        // given
+        testee.set(1, new int[]{1, 2});
+        List<Integer> elements = new ArrayList<>();
+
+        // when
+        testee.forEach(position + 2, elements::add);
+
+        // then
+        assertThat(elements).isEmpty();
+        assertThat(testee.length(position + 2)).isEqualTo(0);
+        assertThat(testee.get(position + 2)).isEmpty();
+        assertThat(testee.stream(position + 2)).isEmpty();
+        assertThat(testee.read(position + 2, new int[0], 0)).isEqualTo(0);
+        assertThat(catchThrowable(() -> testee.get(position + 2, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Index 0 outside of array length 0");
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 511L, 512L, 100_000L})
+    void appendToFreshRecord(long position) {
+        // when
+        testee.append(position, 7);
+        testee.append(position, 8);
+
+        // then
+        assertThat(testee.get(position)).containsExactly(7, 8);
+        assertThat(testee.length(position)).isEqualTo(2);
+        assertThat(testee.arenaSize()).isEqualTo(2);
+    }
+
+    @Test
+    void setAndGet() {
+        // when
+        testee.set(0, new int[]{1, 2, 3});
+        testee.set(1, new int[]{});
+        testee.set(2, new int[]{-1, Integer.MAX_VALUE});
+
+        // then
+        assertThat(testee.get(0)).containsExactly(1, 2, 3);
+        assertThat(testee.get(1)).isEmpty();
+        assertThat(testee.get(2)).containsExactly(-1, Integer.MAX_VALUE);
+        assertThat(testee.length(0)).isEqualTo(3);
+        assertThat(testee.get(0, 1)).isEqualTo(2);
+        assertThat(testee.get(2, 0)).isEqualTo(-1);
+        assertThat(testee.arenaSize()).isEqualTo(5);
+    }
+
+    @Test
+    void setPartOfValues() {
+        // when
+        testee.set(0, new int[]{1, 2, 3, 4, 5}, 1, 3);
+
+        // then
+        assertThat(testee.get(0)).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    void setIncorrectRange() {
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, new int[]{1, 2, 3}, 2, 2));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Range [2, 4) outside of values length 3");
+    }
+
+    @Test
+    void setTooLong() {
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, new int[256]));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Array length must be between 0 and 255");
+    }
+
+    @Test
+    void setElement() {
+        // given
+        testee.set(0, new int[]{1, 2, 3});
+
+        // when
+        testee.set(0, 2, 30);
+
+        // then
+        assertThat(testee.get(0)).containsExactly(1, 2, 30);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 3, 100})
+    void incorrectIndex(int index) {
+        // given
+        testee.set(0, new int[]{1, 2, 3});
+
+        // when
+        Throwable thrownGet = catchThrowable(() -> testee.get(0, index));
+        Throwable thrownSet = catchThrowable(() -> testee.set(0, index, 1));
+
+        // then
+        assertThat(thrownGet).isInstanceOf(IllegalArgumentException.class).hasMessage("Index " + index + " outside of array length 3");
+        assertThat(thrownSet).isInstanceOf(IllegalArgumentException.class).hasMessage("Index " + index + " outside of array length 3");
+    }
+
+    @Test
+    void shorterArrayIsWrittenInPlace() {
+        // given
+        testee.set(0, new int[]{1, 2, 3, 4});
+        testee.set(1, new int[]{5, 6});
+
+        // when
+        testee.set(0, new int[]{7, 8});
+
+        // then
+        assertThat(testee.get(0)).containsExactly(7, 8);
+        assertThat(testee.get(1)).containsExactly(5, 6);
+        assertThat(testee.arenaSize()).isEqualTo(6);
+        assertThat(testee.garbage()).isEqualTo(2);
+    }
+
+    @Test
+    void longerArrayIsMoved() {
+        // given
+        testee.set(0, new int[]{1, 2});
+        testee.set(1, new int[]{5, 6});
+
+        // when
+        testee.set(0, new int[]{7, 8, 9});
+
+        // then
+        assertThat(testee.get(0)).containsExactly(7, 8, 9);
+        assertThat(testee.get(1)).containsExactly(5, 6);
+        assertThat(testee.arenaSize()).isEqualTo(7);
+        assertThat(testee.garbage()).isEqualTo(2);
+    }
+
+    @Test
+    void arrayAtTheEndIsResizedInPlace() {
+        // given
+        testee.set(0, new int[]{1, 2});
+        testee.set(1, new int[]{5, 6});
+
+        // when
+        testee.set(1, new int[]{7, 8, 9});
+        testee.set(0, new int[]{1});
+
+        // then
+        assertThat(testee.get(0)).containsExactly(1);
+        assertThat(testee.get(1)).containsExactly(7, 8, 9);
+        assertThat(testee.arenaSize()).isEqualTo(5);
+        assertThat(testee.garbage()).isEqualTo(1);
+    }
+
+    @Test
+    void appendGrowsInPlace() {
+        // when
+        for (int position = 0; position < 3; position++) {
+            for (int i = 0; i < 4; i++) {
+                testee.append(position, position * 10 + i);
+            }
+        }
+
+        // then
+        assertThat(testee.get(0)).containsExactly(0, 1, 2, 3);
+        assertThat(testee.get(1)).containsExactly(10, 11, 12, 13);
+        assertThat(testee.get(2)).containsExactly(20, 21, 22, 23);
+        assertThat(testee.arenaSize()).isEqualTo(12);
+        assertThat(testee.garbage()).isEqualTo(0);
+    }
+
+    @Test
+    void appendMovesArray() {
+        // given
+        testee.set(0, new int[]{1, 2});
+        testee.set(1, new int[]{5, 6});
+
+        // when
+        testee.append(0, 3);
+        testee.append(0, 4);
+
+        // then
+        assertThat(testee.get(0)).containsExactly(1, 2, 3, 4);
+        assertThat(testee.get(1)).containsExactly(5, 6);
+        assertThat(testee.arenaSize()).isEqualTo(8);
+        assertThat(testee.garbage()).isEqualTo(2);
+    }
+
+    @Test
+    void appendTooMany() {
+        // given
+        testee.set(0, new int[255]);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.append(0, 1));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Array length must be between 0 and 255");
+    }
+
+    @Test
+    void clear() {
+        // given
+        testee.set(0, new int[]{1, 2});
+        testee.set(1, new int[]{5, 6});
+        testee.set(2, new int[]{7});
+
+        // when
+        testee.clear(0);
+        testee.clear(2);
+
+        // then
+        assertThat(testee.get(0)).isEmpty();
+        assertThat(testee.get(1)).containsExactly(5, 6);
+        assertThat(testee.get(2)).isEmpty();
+        assertThat(testee.arenaSize()).isEqualTo(4);
+        assertThat(testee.garbage()).isEqualTo(2);
+    }
+
+    @Test
+    void read() {
+        // given
+        testee.set(0, new int[]{1, 2, 3});
+        int[] buffer = new int[5];
+
+        // when
+        int length = testee.read(0, buffer, 1);
+
+        // then
+        assertThat(length).isEqualTo(3);
+        assertThat(buffer).containsExactly(0, 1, 2, 3, 0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 3, 6})
+    void readBufferTooSmall(int bufferOffset) {
+        // given
+        testee.set(0, new int[]{1, 2, 3});
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.read(0, new int[5], bufferOffset));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Array of length 3 does not fit into buffer of length 5 at offset " + bufferOffset);
+    }
+
+    @Test
+    void forEachAndStream() {
+        // given
+        testee.set(0, new int[]{4, 5});
+        testee.set(1, new int[]{1, 2, 3});
+        List<Integer> elements = new ArrayList<>();
+
+        // when
+        testee.forEach(1, elements::add);
+
+        // then
+        assertThat(elements).containsExactly(1, 2, 3);
+        assertThat(testee.stream(1)).containsExactly(1, 2, 3);
+        assertThat(testee.stream(0).sum()).isEqualTo(9);
+    }
+
+    @Test
+    void compact() {
+        // given
+        testee.set(0, new int[]{1, 2});
+        testee.set(1, new int[]{3, 4, 5});
+        testee.set(2, new int[]{6});
+        testee.set(3, new int[]{7, 8});
+        testee.append(0, 9);
+        testee.clear(2);
+        testee.set(1, new int[]{10});
+
+        // when
+        testee.compact(4);
+
+        // then
+        assertThat(testee.get(0)).containsExactly(1, 2, 9);
+        assertThat(testee.get(1)).containsExactly(10);
+        assertThat(testee.get(2)).isEmpty();
+        assertThat(testee.get(3)).containsExactly(7, 8);
+        assertThat(testee.arenaSize()).isEqualTo(6);
+        assertThat(testee.garbage()).isEqualTo(0);
+    }
+
+    @Test
+    void compactDropsRecordsOutsideOfRange() {
+        // given
+        testee.set(0, new int[]{1, 2});
+        testee.set(1, new int[]{3});
+        testee.set(2, new int[]{4, 5, 6});
+        testee.set(1000, new int[]{11});
+        testee.append(0, 9);
+
+        // when
+        testee.compact(2);
+
+        // then
+        assertThat(testee.get(0)).containsExactly(1, 2, 9);
+        assertThat(testee.get(1)).containsExactly(3);
+        assertThat(testee.get(2)).isEmpty();
+        assertThat(testee.get(1000)).isEmpty();
+        assertThat(testee.arenaSize()).isEqualTo(4);
+        assertThat(testee.garbage()).isEqualTo(0);
+
+        // when
+        testee.append(2, 7);
+        testee.set(1000, new int[]{12, 13});
+
+        // then
+        assertThat(testee.get(2)).containsExactly(7);
+        assertThat(testee.get(1000)).containsExactly(12, 13);
+        assertThat(testee.get(0)).containsExactly(1, 2, 9);
+        assertThat(testee.get(1)).containsExactly(3);
+        assertThat(testee.arenaSize()).isEqualTo(7);
+    }
+
+    @Test
+    void compactEmpty() {
+        // when
+        testee.compact(0);
+
+        // then
+        assertThat(testee.arenaSize()).isEqualTo(0);
+        assertThat(testee.garbage()).isEqualTo(0);
+    }
+
+    @Test
+    void compactIncorrectRecordsCount() {
+        // when
+        Throwable thrown = catchThrowable(() -> testee.compact(-1));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Records count must be between 0 and 2147483647");
+    }
+
+    @Test
+    void randomOperations() {
+        // given
+        Random random = new Random(42);
+        List<List<Integer>> expected = new ArrayList<>();
+        for (int position = 0; position < 100; position++) {
+            expected.add(new ArrayList<>());
+            testee.clear(position);
+        }
+
+        // when
+        for (int operation = 0; operation < 10_000; operation++) {
+            int position = random.nextInt(100);
+            List<Integer> array = expected.get(position);
+            switch (random.nextInt(4)) {
+                case 0:
+                    if (array.size() < testee.maxLength()) {
+                        int value = random.nextInt();
+                        testee.append(position, value);
+                        array.add(value);
+                    }
+                    break;
+                case 1:
+                    int[] values = random.ints(random.nextInt(10)).toArray();
+                    testee.set(position, values);
+                    array.clear();
+                    for (int value : values) {
+                        array.add(value);
+                    }
+                    break;
+                case 2:
+                    testee.clear(position);
+                    array.clear();
+                    break;
+                default:
+                    if (operation % 100 == 0) {
+                        testee.compact(100);
+                    }
+            }
+        }
+
+        // then
+        long liveSize = 0;
+        for (int position = 0; position < 100; position++) {
+            assertThat(testee.stream(position).boxed()).containsExactlyElementsOf(expected.get(position));
+            liveSize += expected.get(position).size();
+        }
+        assertThat(testee.arenaSize()).isEqualTo(liveSize + testee.garbage());
+        testee.compact(100);
+        assertThat(testee.arenaSize()).isEqualTo(liveSize);
+        for (int position = 0; position < 100; position++) {
+            assertThat(testee.stream(position).boxed()).containsExactlyElementsOf(expected.get(position));
+        }
+    }
+
+    @Test
+    void equality() {
+        // given
+        IntArrayEncoder same = new IntArrayEncoder(arena, offsetEncoder, lengthEncoder);
+        IntArrayEncoder other = new IntArrayEncoder(new IntStore(), offsetEncoder, lengthEncoder);
+
+        // then
+        assertThat(testee).isEqualTo(same);
+        assertThat(testee).hasSameHashCodeAs(same);
+        assertThat(testee).isNotEqualTo(other);
+    }
+}
@@ -6,10 +6,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -201,6 +204,216 @@ class ListEncoderTest {
         assertPrevNext(testee, 2, 3, 0);
     }
 
+    @Test
+    void spliceAfter_differentList() {
+        // given
+        ListEncoder testee = new ListEncoder(new BitEncoder.Config(store, 1, 0, 0, 16));
+        // 0 -> 1 -> 2 -> 3 -> 4
+        testee.init(0);
+        testee.addNext(0, 1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+        testee.addNext(3, 4);
+        // 5 -> 6
+        testee.init(5);
+        testee.addNext(5, 6);
+
+        // when
+        testee.spliceAfter(5, 0, 3);
+
+        // then
+        assertThat(testee.stream(0)).containsExactly(0L, 4L);
+        assertThat(testee.stream(5)).containsExactly(5L, 1L, 2L, 3L, 6L);
+    }
+
+    @Test
+    void spliceAfter_sameList() {
+        // given
+        ListEncoder testee = new ListEncoder(new BitEncoder.Config(store, 1, 0, 0, 16));
+        // 0 -> 1 -> 2 -> 3 -> 4
+        testee.init(0);
+        testee.addNext(0, 1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+        testee.addNext(3, 4);
+
+        // when
+        testee.spliceAfter(3, 4, 1);
+
+        // then
+        assertThat(testee.stream(2)).containsExactly(2L, 3L, 0L, 1L, 4L);
+    }
+
+    @Test
+    void spliceAfter_afterPreviousElement() {
+        // given
+        ListEncoder testee = new ListEncoder(new BitEncoder.Config(store, 1, 0, 0, 16));
+        // 0 -> 1 -> 2 -> 3
+        testee.init(0);
+        testee.addNext(0, 1);
+        testee.addNext(1, 2);
+        testee.addNext(2, 3);
+
+        // when
+        testee.spliceAfter(0, 0, 2);
+
+        // then
+        assertThat(testee.stream(0)).containsExactly(0L, 1L, 2L, 3L);
+    }
+
+    @Test
+    void groupBy() {
+        // given
+        ListEncoder testee = new ListEncoder(new BitEncoder.Config(store, 1, 0, 0, 16));
+        int[] keys = {2, 3, 2, 2, 3, 4, 0};
+
+        // when
+        long[] heads = testee.groupBy(0, keys.length, 5, p -> keys[(int) p]);
+
+        // then
+        assertThat(heads).containsExactly(6L, -1L, 0L, 1L, 5L);
+        assertThat(testee.stream(0)).containsExactly(0L, 2L, 3L);
+        assertThat(testee.stream(1)).containsExactly(1L, 4L);
+        assertThat(testee.stream(5)).containsExactly(5L);
+        assertThat(testee.stream(6)).containsExactly(6L);
+    }
+
+    @Test
+    void groupBy_range() {
+        // given
+        ListEncoder testee = new ListEncoder(new BitEncoder.Config(store, 1, 0, 0, 16));
+        testee.init(0);
+        testee.init(4);
+
+        // when
+        long[] heads = testee.groupBy(1, 4, 1, p -> 0);
+
+        // then
+        assertThat(heads).containsExactly(1L);
+        assertThat(testee.stream(1)).containsExactly(1L, 2L, 3L);
+        assertThat(testee.stream(0)).containsExactly(0L);
+        assertThat(testee.stream(4)).containsExactly(4L);
+    }
+
+    @Test
+    void groupBy_emptyRange() {
+        // given
+        ListEncoder testee = new ListEncoder(new BitEncoder.Config(store, 1, 0, 0, 16));
+
+        // when
+        long[] heads = testee.groupBy(3, 3, 2, p -> 0);
+
+        // then
+        assertThat(heads).containsExactly(-1L, -1L);
+    }
+
+    @Test
+    void groupBy_incorrectRange() {
+        // given
+        ListEncoder testee = new ListEncoder(new BitEncoder.Config(store, 1, 0, 0, 16));
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.groupBy(3, 2, 1, p -> 0));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Incorrect range [3, 2)");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 2})
+    void groupBy_incorrectKey(int key) {
+        // given
+        ListEncoder testee = new ListEncoder(new BitEncoder.Config(store, 1, 0, 0, 16));
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.groupBy(0, 1, 2, p -> key));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Key " + key + " must be between 0 and 1");
+    }
+
+    @Test
+    void sort_singleElementList() {
+        // given
+        ListEncoder testee = new ListEncoder(new BitEncoder.Config(store, 1, 0, 0, 16));
+        testee.init(3);
+
+        // when
+        long first = testee.sort(3, p -> p);
+
+        // then
+        assertThat(first).isEqualTo(3L);
+        assertPrevNext(testee, 3, 3, 3);
+    }
+
+    @Test
+    void sort() {
+        // given
+        ListEncoder testee = new ListEncoder(new BitEncoder.Config(store, 1, 0, 0, 16));
+        long[] keys = {30, 10, 20, 10, 50, 0};
+        // 0 -> 1 -> 2 -> 3 -> 4 -> 5
+        testee.init(0);
+        for (int i = 1; i < keys.length; i++) {
+            testee.addNext(i - 1, i);
+        }
+
+        // when
+        long first = testee.sort(2, p -> keys[(int) p]);
+
+        // then
+        assertThat(first).isEqualTo(5L);
+        assertThat(testee.stream(first)).containsExactly(5L, 3L, 1L, 2L, 0L, 4L);
+    }
+
+    @Test
+    void sort_random() {
+        // given
+        ListEncoder testee = new ListEncoder(new BitEncoder.Config(store, 1, 0, 0, 16));
+        Random random = new Random(0);
+        long[] keys = new long[1000];
+        testee.init(0);
+        for (int i = 1; i < keys.length; i++) {
+            testee.addPrevious(0, i);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(100);
+        }
+
+        // when
+        long first = testee.sort(0, p -> keys[(int) p]);
+
+        // then
+        Long[] expected = LongStream.range(0, keys.length)
+                .boxed()
+                .sorted(Comparator.comparingLong(p -> keys[p.intValue()]))
+                .toArray(Long[]::new);
+        assertThat(testee.stream(first)).containsExactly(expected);
+    }
+
+    @Test
+    void remapLinks() {
+        // given
+        ListEncoder testee = new ListEncoder(new BitEncoder.Config(store, 1, 0, 0, 16));
+        // 0 -> 1 -> 2
+        testee.init(0);
+        testee.addNext(0, 1);
+        testee.addNext(1, 2);
+
+        // when
+        for (long position = 0; position < 3; position++) {
+            testee.remapLinks(position, position == 2 ? p -> p : p -> p + 10);
+        }
+
+        // then
+        assertThat(testee.next(0)).isEqualTo(11);
+        assertThat(testee.next(1)).isEqualTo(12);
+        assertThat(testee.next(2)).isEqualTo(0);
+    }
+
     @Test
     void iterator_singleElementList() {
         // given
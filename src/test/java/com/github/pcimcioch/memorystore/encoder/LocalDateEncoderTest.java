@@ -0,0 +1,93 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class LocalDateEncoderTest {
+
+    private static final LocalDate BASE = LocalDate.of(2020, 1, 1);
+
+    private final IntStore store = new IntStore();
+
+    @Test
+    void valueRange() {
+        // when
+        LocalDateEncoder testee = new LocalDateEncoder(new Config(store, 1, 0, 0, 15), BASE.toEpochDay());
+
+        // then
+        assertThat(testee.granularity()).isEqualTo(DAYS);
+        assertThat(testee.minEpochUnits()).isEqualTo(BASE.toEpochDay());
+        assertThat(testee.maxEpochUnits()).isEqualTo(BASE.toEpochDay() + 32767);
+    }
+
+    @Test
+    void setAndGet() {
+        // given
+        LocalDateEncoder testee = new LocalDateEncoder(new Config(store, 1, 0, 10, 15), BASE.toEpochDay());
+
+        // when
+        testee.set(0, BASE);
+        testee.set(1, LocalDate.of(2024, 2, 29));
+        testee.setEpochDay(2, LocalDate.of(2109, 9, 16).toEpochDay());
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(BASE);
+        assertThat(testee.get(1)).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(testee.get(2)).isEqualTo(LocalDate.of(2109, 9, 16));
+        assertThat(testee.getEpochDay(1)).isEqualTo(LocalDate.of(2024, 2, 29).toEpochDay());
+        assertThat(store.getInt(0)).isEqualTo(0);
+    }
+
+    @Test
+    void outOfRange() {
+        // given
+        LocalDateEncoder testee = new LocalDateEncoder(new Config(store, 1, 0, 0, 5), BASE.toEpochDay());
+
+        // when
+        Throwable thrownBefore = catchThrowable(() -> testee.set(0, BASE.minusDays(1)));
+        Throwable thrownAfter = catchThrowable(() -> testee.set(0, BASE.plusDays(32)));
+
+        // then
+        assertThat(thrownBefore)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [2020-01-01, 2020-02-01]");
+        assertThat(thrownAfter)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [2020-01-01, 2020-02-01]");
+    }
+
+    @Test
+    void rangeOutsideOfLocalDate() {
+        // given
+        LocalDateEncoder testee = new LocalDateEncoder(new Config(store, 2, 0, 0, 63), 0L);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.setEpochDay(0, -1L));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [1970-01-01, 9223372036854775807 days]");
+    }
+
+    @Test
+    void nullValue() {
+        // given
+        LocalDateEncoder testee = new LocalDateEncoder(new Config(store, 1, 0, 0, 15), BASE.toEpochDay());
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, null));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Value cannot be null");
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class LocalDateTimeEncoderTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final long BASE_SECONDS = LocalDateTimeEncoder.toEpochMilli(BASE) / 1000;
+
+    private final IntStore store = new IntStore();
+
+    @Test
+    void setAndGet() {
+        // given
+        LocalDateTimeEncoder testee = new LocalDateTimeEncoder(new Config(store, 2, 0, 20, 34), SECONDS, BASE_SECONDS);
+
+        // when
+        testee.set(0, BASE);
+        testee.set(1, LocalDateTime.of(2024, 2, 29, 13, 45, 30));
+        testee.set(2, LocalDateTime.of(2500, 12, 31, 23, 59, 59));
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(BASE);
+        assertThat(testee.get(1)).isEqualTo(LocalDateTime.of(2024, 2, 29, 13, 45, 30));
+        assertThat(testee.get(2)).isEqualTo(LocalDateTime.of(2500, 12, 31, 23, 59, 59));
+        assertThat(testee.getEpochUnits(0)).isEqualTo(BASE_SECONDS);
+        assertThat(testee.getEpochMilli(1)).isEqualTo(1709214330000L);
+    }
+
+    @Test
+    void roundsDown() {
+        // given
+        LocalDateTimeEncoder testee = new LocalDateTimeEncoder(new Config(store, 1, 0, 0, 20), HOURS, BASE_SECONDS / 3600);
+
+        // when
+        testee.set(0, LocalDateTime.of(2024, 2, 29, 13, 59, 59, 999_999_999));
+        testee.setEpochMilli(1, LocalDateTimeEncoder.toEpochMilli(BASE) + 3_599_999L);
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(LocalDateTime.of(2024, 2, 29, 13, 0));
+        assertThat(testee.get(1)).isEqualTo(BASE);
+    }
+
+    @Test
+    void outOfRange() {
+        // given
+        LocalDateTimeEncoder testee = new LocalDateTimeEncoder(new Config(store, 1, 0, 0, 4), HOURS, BASE_SECONDS / 3600);
+
+        // when
+        Throwable thrownBefore = catchThrowable(() -> testee.set(0, BASE.minusNanos(1)));
+        Throwable thrownAfter = catchThrowable(() -> testee.set(0, BASE.plusHours(16)));
+
+        // then
+        assertThat(thrownBefore)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [2020-01-01T00:00, 2020-01-01T15:00]");
+        assertThat(thrownAfter)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [2020-01-01T00:00, 2020-01-01T15:00]");
+    }
+
+    @Test
+    void nullValue() {
+        // given
+        LocalDateTimeEncoder testee = new LocalDateTimeEncoder(new Config(store, 1, 0, 0, 20), HOURS, 0L);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, null));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Value cannot be null");
+    }
+
+    @Test
+    void equality() {
+        // given
+        LocalDateTimeEncoder testee = new LocalDateTimeEncoder(new Config(store, 1, 0, 0, 20), HOURS, 0L);
+        LocalDateTimeEncoder same = new LocalDateTimeEncoder(new Config(store, 1, 0, 0, 20), HOURS, 0L);
+        LocalDateTimeEncoder otherGranularity = new LocalDateTimeEncoder(new Config(store, 1, 0, 0, 20), SECONDS, 0L);
+
+        // then
+        assertThat(testee).isEqualTo(same);
+        assertThat(testee).hasSameHashCodeAs(same);
+        assertThat(testee).isNotEqualTo(otherGranularity);
+    }
+}
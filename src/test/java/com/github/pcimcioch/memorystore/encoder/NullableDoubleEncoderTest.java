@@ -0,0 +1,83 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class NullableDoubleEncoderTest {
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @ValueSource(ints = {64, 66})
+    void incorrectBitsCount(int bitsCount) {
+        // given
+        Config config = new Config(store, 3, 0, 0, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new NullableDoubleEncoder(config));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bits Count outside of defined bounds");
+    }
+
+    @Test
+    void nullByDefault() {
+        // given
+        NullableDoubleEncoder testee = new NullableDoubleEncoder(new Config(store, 3, 0, 0, 65));
+        testee.set(1, 5d);
+
+        // then
+        assertThat(testee.isNull(0)).isTrue();
+        assertThat(testee.get(0)).isEqualTo(0d);
+        assertThat(testee.getOrDefault(0, Double.NaN)).isNaN();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 17, 31})
+    void setAndGet(int bitShift) {
+        // given
+        NullableDoubleEncoder testee = new NullableDoubleEncoder(new Config(store, 3, 0, bitShift, 65));
+
+        // when
+        testee.set(0, 0d);
+        testee.set(1, -0d);
+        testee.set(2, Double.NaN);
+        testee.set(3, Double.NEGATIVE_INFINITY);
+        testee.set(4, -12.5d);
+        testee.set(5, Double.MIN_VALUE);
+
+        // then
+        assertThat(testee.isNull(0)).isFalse();
+        assertThat(testee.get(0)).isEqualTo(0d);
+        assertThat(Double.doubleToRawLongBits(testee.get(1))).isEqualTo(Double.doubleToRawLongBits(-0d));
+        assertThat(testee.get(2)).isNaN();
+        assertThat(testee.get(3)).isEqualTo(Double.NEGATIVE_INFINITY);
+        assertThat(testee.getOrDefault(4, 1d)).isEqualTo(-12.5d);
+        assertThat(testee.get(5)).isEqualTo(Double.MIN_VALUE);
+        assertThat(testee.isNull(6)).isTrue();
+    }
+
+    @Test
+    void clear() {
+        // given
+        NullableDoubleEncoder testee = new NullableDoubleEncoder(new Config(store, 3, 0, 10, 65));
+        testee.set(0, 1.5d);
+        testee.set(1, 2.5d);
+
+        // when
+        testee.clear(0);
+
+        // then
+        assertThat(testee.isNull(0)).isTrue();
+        assertThat(testee.getOrDefault(0, -1d)).isEqualTo(-1d);
+        assertThat(testee.get(1)).isEqualTo(2.5d);
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class NullableFloatEncoderTest {
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @ValueSource(ints = {32, 34})
+    void incorrectBitsCount(int bitsCount) {
+        // given
+        Config config = new Config(store, 2, 0, 0, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new NullableFloatEncoder(config));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bits Count outside of defined bounds");
+    }
+
+    @Test
+    void nullByDefault() {
+        // given
+        NullableFloatEncoder testee = new NullableFloatEncoder(new Config(store, 2, 0, 0, 33));
+        testee.set(1, 5f);
+
+        // then
+        assertThat(testee.isNull(0)).isTrue();
+        assertThat(testee.get(0)).isEqualTo(0f);
+        assertThat(testee.getOrDefault(0, Float.NaN)).isNaN();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 17, 31})
+    void setAndGet(int bitShift) {
+        // given
+        NullableFloatEncoder testee = new NullableFloatEncoder(new Config(store, 2, 0, bitShift, 33));
+
+        // when
+        testee.set(0, 0f);
+        testee.set(1, -0f);
+        testee.set(2, Float.NaN);
+        testee.set(3, Float.NEGATIVE_INFINITY);
+        testee.set(4, -12.5f);
+        testee.set(5, Float.MIN_VALUE);
+
+        // then
+        assertThat(testee.isNull(0)).isFalse();
+        assertThat(testee.get(0)).isEqualTo(0f);
+        assertThat(Float.floatToRawIntBits(testee.get(1))).isEqualTo(Float.floatToRawIntBits(-0f));
+        assertThat(testee.get(2)).isNaN();
+        assertThat(testee.get(3)).isEqualTo(Float.NEGATIVE_INFINITY);
+        assertThat(testee.getOrDefault(4, 1f)).isEqualTo(-12.5f);
+        assertThat(testee.get(5)).isEqualTo(Float.MIN_VALUE);
+        assertThat(testee.isNull(6)).isTrue();
+    }
+
+    @Test
+    void clear() {
+        // given
+        NullableFloatEncoder testee = new NullableFloatEncoder(new Config(store, 2, 0, 10, 33));
+        testee.set(0, 1.5f);
+        testee.set(1, 2.5f);
+
+        // when
+        testee.clear(0);
+
+        // then
+        assertThat(testee.isNull(0)).isTrue();
+        assertThat(testee.getOrDefault(0, -1f)).isEqualTo(-1f);
+        assertThat(testee.get(1)).isEqualTo(2.5f);
+    }
+}
@@ -0,0 +1,187 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class NullableIntEncoderTest {
+
+    private static final String BITS_COUNT_EX = "Bits Count outside of defined bounds";
+    private static final String BIT_SHIFT_EX = "Bit Shift over a limit";
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @MethodSource("incorrectConfigs")
+    void incorrectConfig(int bitShift, int bitsCount, String message) {
+        // given
+        Config config = new Config(store, 4, 0, bitShift, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new NullableIntEncoder(config));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> incorrectConfigs() {
+        return Stream.of(
+                Arguments.of(0, 32, BITS_COUNT_EX),
+                Arguments.of(0, 34, BITS_COUNT_EX),
+                Arguments.of(32, 33, BIT_SHIFT_EX)
+        );
+    }
+
+    @Test
+    void nullByDefault() {
+        // given
+        NullableIntEncoder testee = new NullableIntEncoder(new Config(store, 2, 0, 0, 33));
+        testee.set(1, 5);
+
+        // then
+        assertThat(testee.isNull(0)).isTrue();
+        assertThat(testee.get(0)).isEqualTo(0);
+        assertThat(testee.getOrDefault(0, -1)).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 17, 31})
+    void setAndGet(int bitShift) {
+        // given
+        NullableIntEncoder testee = new NullableIntEncoder(new Config(store, 2, 0, bitShift, 33));
+
+        // when
+        testee.set(0, 0);
+        testee.set(1, Integer.MIN_VALUE);
+        testee.set(2, Integer.MAX_VALUE);
+        testee.set(3, -1);
+
+        // then
+        assertThat(testee.isNull(0)).isFalse();
+        assertThat(testee.get(0)).isEqualTo(0);
+        assertThat(testee.getOrDefault(0, -1)).isEqualTo(0);
+        assertThat(testee.get(1)).isEqualTo(Integer.MIN_VALUE);
+        assertThat(testee.get(2)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(testee.get(3)).isEqualTo(-1);
+        assertThat(testee.getOrDefault(3, 5)).isEqualTo(-1);
+        assertThat(testee.isNull(4)).isTrue();
+    }
+
+    @Test
+    void clear() {
+        // given
+        NullableIntEncoder testee = new NullableIntEncoder(new Config(store, 2, 0, 10, 33));
+        testee.set(0, 123);
+        testee.set(1, 456);
+
+        // when
+        testee.clear(0);
+
+        // then
+        assertThat(testee.isNull(0)).isTrue();
+        assertThat(testee.get(0)).isEqualTo(0);
+        assertThat(testee.getOrDefault(0, 7)).isEqualTo(7);
+        assertThat(testee.get(1)).isEqualTo(456);
+    }
+
+    @Test
+    void keepsOtherBits() {
+        // given
+        store.setInt(0, 0xffffffff);
+        store.setInt(1, 0xffffffff);
+        NullableIntEncoder testee = new NullableIntEncoder(new Config(store, 2, 0, 20, 33));
+
+        // when
+        testee.clear(0);
+
+        // then
+        assertThat(store.getInt(0)).isEqualTo(0x000fffff);
+        assertThat(store.getInt(1)).isEqualTo(0xffe00000);
+    }
+
+    @Test
+    void nextPresent() {
+        // given
+        NullableIntEncoder testee = new NullableIntEncoder(new Config(store, 2, 0, 0, 33));
+        testee.set(2, 0);
+        testee.set(5, 10);
+
+        // when
+        long first = testee.nextPresent(0, 10);
+        long second = testee.nextPresent(3, 10);
+        long none = testee.nextPresent(6, 10);
+        long outOfRange = testee.nextPresent(3, 5);
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(5);
+        assertThat(none).isEqualTo(NullableEncoderBase.NONE);
+        assertThat(outOfRange).isEqualTo(NullableEncoderBase.NONE);
+    }
+
+    @Test
+    void forEachPresent() {
+        // given
+        NullableIntEncoder testee = new NullableIntEncoder(new Config(store, 2, 0, 0, 33));
+        testee.set(1, 0);
+        testee.set(4, -1);
+        testee.set(7, 3);
+        testee.clear(4);
+        List<Long> positions = new ArrayList<>();
+
+        // when
+        testee.forEachPresent(0, 7, positions::add);
+
+        // then
+        assertThat(positions).containsExactly(1L);
+    }
+
+    @Test
+    void countPresent() {
+        // given
+        NullableIntEncoder testee = new NullableIntEncoder(new Config(store, 2, 0, 0, 33));
+        testee.set(1, 0);
+        testee.set(4, -1);
+        testee.set(7, 3);
+
+        // when
+        long all = testee.countPresent(0, 10);
+        long part = testee.countPresent(2, 7);
+        long empty = testee.countPresent(3, 3);
+
+        // then
+        assertThat(all).isEqualTo(3);
+        assertThat(part).isEqualTo(1);
+        assertThat(empty).isEqualTo(0);
+    }
+
+    @Test
+    void incorrectRange() {
+        // given
+        NullableIntEncoder testee = new NullableIntEncoder(new Config(store, 2, 0, 0, 33));
+
+        // when
+        Throwable thrownNext = catchThrowable(() -> testee.nextPresent(5, 2));
+        Throwable thrownForEach = catchThrowable(() -> testee.forEachPresent(-1, 2, position -> {
+        }));
+        Throwable thrownCount = catchThrowable(() -> testee.countPresent(5, 2));
+
+        // then
+        assertThat(thrownNext).isInstanceOf(IllegalArgumentException.class).hasMessage("Incorrect range [5, 2)");
+        assertThat(thrownForEach).isInstanceOf(IllegalArgumentException.class).hasMessage("Incorrect range [-1, 2)");
+        assertThat(thrownCount).isInstanceOf(IllegalArgumentException.class).hasMessage("Incorrect range [5, 2)");
+    }
+}
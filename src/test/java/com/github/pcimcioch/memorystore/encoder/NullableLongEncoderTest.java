@@ -0,0 +1,131 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class NullableLongEncoderTest {
+
+    private static final String BITS_COUNT_EX = "Bits Count outside of defined bounds";
+    private static final String BIT_SHIFT_EX = "Bit Shift over a limit";
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @MethodSource("incorrectConfigs")
+    void incorrectConfig(int bitShift, int bitsCount, String message) {
+        // given
+        Config config = new Config(store, 4, 0, bitShift, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new NullableLongEncoder(config));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> incorrectConfigs() {
+        return Stream.of(
+                Arguments.of(0, 64, BITS_COUNT_EX),
+                Arguments.of(0, 66, BITS_COUNT_EX),
+                Arguments.of(32, 65, BIT_SHIFT_EX)
+        );
+    }
+
+    @Test
+    void nullByDefault() {
+        // given
+        NullableLongEncoder testee = new NullableLongEncoder(new Config(store, 3, 0, 0, 65));
+        testee.set(1, 5L);
+
+        // then
+        assertThat(testee.isNull(0)).isTrue();
+        assertThat(testee.get(0)).isEqualTo(0L);
+        assertThat(testee.getOrDefault(0, -1L)).isEqualTo(-1L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 17, 31})
+    void setAndGet(int bitShift) {
+        // given
+        NullableLongEncoder testee = new NullableLongEncoder(new Config(store, 3, 0, bitShift, 65));
+
+        // when
+        testee.set(0, 0L);
+        testee.set(1, Long.MIN_VALUE);
+        testee.set(2, Long.MAX_VALUE);
+        testee.set(3, -1L);
+        testee.set(4, 0x123456789abcdefL);
+
+        // then
+        assertThat(testee.isNull(0)).isFalse();
+        assertThat(testee.get(0)).isEqualTo(0L);
+        assertThat(testee.get(1)).isEqualTo(Long.MIN_VALUE);
+        assertThat(testee.get(2)).isEqualTo(Long.MAX_VALUE);
+        assertThat(testee.get(3)).isEqualTo(-1L);
+        assertThat(testee.getOrDefault(4, 5L)).isEqualTo(0x123456789abcdefL);
+        assertThat(testee.isNull(5)).isTrue();
+    }
+
+    @Test
+    void clear() {
+        // given
+        NullableLongEncoder testee = new NullableLongEncoder(new Config(store, 3, 0, 10, 65));
+        testee.set(0, -1L);
+        testee.set(1, 456L);
+
+        // when
+        testee.clear(0);
+
+        // then
+        assertThat(testee.isNull(0)).isTrue();
+        assertThat(testee.get(0)).isEqualTo(0L);
+        assertThat(testee.getOrDefault(0, 7L)).isEqualTo(7L);
+        assertThat(testee.get(1)).isEqualTo(456L);
+    }
+
+    @Test
+    void keepsOtherBits() {
+        // given
+        store.setInt(0, 0xffffffff);
+        store.setInt(1, 0xffffffff);
+        store.setInt(2, 0xffffffff);
+        NullableLongEncoder testee = new NullableLongEncoder(new Config(store, 3, 0, 20, 65));
+
+        // when
+        testee.clear(0);
+
+        // then
+        assertThat(store.getInt(0)).isEqualTo(0x000fffff);
+        assertThat(store.getInt(1)).isEqualTo(0x00000000);
+        assertThat(store.getInt(2)).isEqualTo(0xffe00000);
+    }
+
+    @Test
+    void countPresent() {
+        // given
+        NullableLongEncoder testee = new NullableLongEncoder(new Config(store, 3, 0, 31, 65));
+        testee.set(1, 0L);
+        testee.set(4, -1L);
+        testee.set(7, 3L);
+
+        // when
+        long count = testee.countPresent(0, 10);
+        long next = testee.nextPresent(2, 10);
+
+        // then
+        assertThat(count).isEqualTo(3);
+        assertThat(next).isEqualTo(4);
+    }
+}
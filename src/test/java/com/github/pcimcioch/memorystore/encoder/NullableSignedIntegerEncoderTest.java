@@ -0,0 +1,145 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class NullableSignedIntegerEncoderTest {
+
+    private static final String BITS_COUNT_EX = "Bits Count outside of defined bounds";
+    private static final String BIT_SHIFT_EX = "Bit Shift over a limit";
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @MethodSource("incorrectConfigs")
+    void incorrectConfig(int bitShift, int bitsCount, String message) {
+        // given
+        Config config = new Config(store, 4, 0, bitShift, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new NullableSignedIntegerEncoder(config, 0));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> incorrectConfigs() {
+        return Stream.of(
+                Arguments.of(0, 1, BITS_COUNT_EX),
+                Arguments.of(0, 33, BITS_COUNT_EX),
+                Arguments.of(40, 32, BIT_SHIFT_EX)
+        );
+    }
+
+    @Test
+    void valueRange() {
+        // given
+        Config config = new Config(store, 2, 0, 0, 11);
+
+        // when
+        NullableSignedIntegerEncoder testee = new NullableSignedIntegerEncoder(config, -100);
+
+        // then
+        assertThat(testee.minValue()).isEqualTo(-100);
+        assertThat(testee.maxValue()).isEqualTo(923);
+    }
+
+    @Test
+    void valueRangeOverflow() {
+        // given
+        Config config = new Config(store, 2, 0, 0, 32);
+
+        // when
+        NullableSignedIntegerEncoder testee = new NullableSignedIntegerEncoder(config, 10);
+
+        // then
+        assertThat(testee.maxValue()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @ParameterizedTest
+    @MethodSource("layouts")
+    void setAndGet(int bitShift, int bitsCount, int minValue) {
+        // given
+        NullableSignedIntegerEncoder testee = new NullableSignedIntegerEncoder(new Config(store, 2, 0, bitShift, bitsCount), minValue);
+        int maxValue = testee.maxValue();
+
+        // when
+        testee.set(0, minValue);
+        testee.set(1, maxValue);
+
+        // then
+        assertThat(testee.isNull(0)).isFalse();
+        assertThat(testee.get(0)).isEqualTo(minValue);
+        assertThat(testee.get(1)).isEqualTo(maxValue);
+        assertThat(testee.isNull(2)).isTrue();
+        assertThat(testee.get(2)).isEqualTo(minValue);
+        assertThat(testee.getOrDefault(2, 42)).isEqualTo(42);
+    }
+
+    private static Stream<Arguments> layouts() {
+        return Stream.of(
+                Arguments.of(0, 2, 0),
+                Arguments.of(5, 11, -100),
+                Arguments.of(25, 20, 1000),
+                Arguments.of(0, 32, Integer.MIN_VALUE),
+                Arguments.of(32, 32, -1)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-101, 924, Integer.MIN_VALUE, Integer.MAX_VALUE})
+    void incorrectValue(int value) {
+        // given
+        NullableSignedIntegerEncoder testee = new NullableSignedIntegerEncoder(new Config(store, 2, 0, 0, 11), -100);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, value));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [-100, 923]");
+    }
+
+    @Test
+    void clear() {
+        // given
+        NullableSignedIntegerEncoder testee = new NullableSignedIntegerEncoder(new Config(store, 2, 0, 28, 11), -100);
+        testee.set(0, 500);
+        testee.set(1, -50);
+
+        // when
+        testee.clear(0);
+
+        // then
+        assertThat(testee.isNull(0)).isTrue();
+        assertThat(testee.getOrDefault(0, 0)).isEqualTo(0);
+        assertThat(testee.get(1)).isEqualTo(-50);
+        assertThat(testee.countPresent(0, 2)).isEqualTo(1);
+    }
+
+    @Test
+    void equality() {
+        // given
+        NullableSignedIntegerEncoder testee = new NullableSignedIntegerEncoder(new Config(store, 2, 0, 0, 11), -100);
+        NullableSignedIntegerEncoder same = new NullableSignedIntegerEncoder(new Config(store, 2, 0, 0, 11), -100);
+        NullableSignedIntegerEncoder other = new NullableSignedIntegerEncoder(new Config(store, 2, 0, 0, 11), -99);
+
+        // then
+        assertThat(testee).isEqualTo(same);
+        assertThat(testee).hasSameHashCodeAs(same);
+        assertThat(testee).isNotEqualTo(other);
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class NullableSignedLongEncoderTest {
+
+    private static final String BITS_COUNT_EX = "Bits Count outside of defined bounds";
+    private static final String BIT_SHIFT_EX = "Bit Shift over a limit";
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @MethodSource("incorrectConfigs")
+    void incorrectConfig(int bitShift, int bitsCount, String message) {
+        // given
+        Config config = new Config(store, 4, 0, bitShift, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new NullableSignedLongEncoder(config, 0L));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> incorrectConfigs() {
+        return Stream.of(
+                Arguments.of(0, 1, BITS_COUNT_EX),
+                Arguments.of(0, 65, BITS_COUNT_EX),
+                Arguments.of(40, 64, BIT_SHIFT_EX)
+        );
+    }
+
+    @Test
+    void valueRange() {
+        // given
+        Config config = new Config(store, 3, 0, 0, 41);
+
+        // when
+        NullableSignedLongEncoder testee = new NullableSignedLongEncoder(config, -1000L);
+
+        // then
+        assertThat(testee.minValue()).isEqualTo(-1000L);
+        assertThat(testee.maxValue()).isEqualTo(1099511626775L);
+    }
+
+    @Test
+    void valueRangeOverflow() {
+        // given
+        Config config = new Config(store, 3, 0, 0, 64);
+
+        // when
+        NullableSignedLongEncoder testee = new NullableSignedLongEncoder(config, 10L);
+
+        // then
+        assertThat(testee.maxValue()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @ParameterizedTest
+    @MethodSource("layouts")
+    void setAndGet(int bitShift, int bitsCount, long minValue) {
+        // given
+        NullableSignedLongEncoder testee = new NullableSignedLongEncoder(new Config(store, 3, 0, bitShift, bitsCount), minValue);
+        long maxValue = testee.maxValue();
+
+        // when
+        testee.set(0, minValue);
+        testee.set(1, maxValue);
+
+        // then
+        assertThat(testee.isNull(0)).isFalse();
+        assertThat(testee.get(0)).isEqualTo(minValue);
+        assertThat(testee.get(1)).isEqualTo(maxValue);
+        assertThat(testee.isNull(2)).isTrue();
+        assertThat(testee.get(2)).isEqualTo(minValue);
+        assertThat(testee.getOrDefault(2, 42L)).isEqualTo(42L);
+    }
+
+    private static Stream<Arguments> layouts() {
+        return Stream.of(
+                Arguments.of(0, 2, 0L),
+                Arguments.of(5, 41, -1000L),
+                Arguments.of(31, 41, 1000L),
+                Arguments.of(0, 64, Long.MIN_VALUE),
+                Arguments.of(32, 64, -1L),
+                Arguments.of(20, 50, Long.MAX_VALUE - 10)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1001L, 1099511626776L, Long.MIN_VALUE, Long.MAX_VALUE})
+    void incorrectValue(long value) {
+        // given
+        NullableSignedLongEncoder testee = new NullableSignedLongEncoder(new Config(store, 3, 0, 0, 41), -1000L);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, value));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [-1000, 1099511626775]");
+    }
+
+    @Test
+    void keepsOtherBits() {
+        // given
+        store.setInt(0, 0xffffffff);
+        store.setInt(1, 0xffffffff);
+        store.setInt(2, 0xffffffff);
+        NullableSignedLongEncoder testee = new NullableSignedLongEncoder(new Config(store, 3, 0, 20, 50), 0L);
+
+        // when
+        testee.clear(0);
+
+        // then
+        assertThat(store.getInt(0)).isEqualTo(0x000fffff);
+        assertThat(store.getInt(1)).isEqualTo(0x00000000);
+        assertThat(store.getInt(2)).isEqualTo(0xffffffc0);
+    }
+
+    @Test
+    void equality() {
+        // given
+        NullableSignedLongEncoder testee = new NullableSignedLongEncoder(new Config(store, 3, 0, 0, 41), -1000L);
+        NullableSignedLongEncoder same = new NullableSignedLongEncoder(new Config(store, 3, 0, 0, 41), -1000L);
+        NullableSignedLongEncoder other = new NullableSignedLongEncoder(new Config(store, 3, 0, 0, 41), 0L);
+
+        // then
+        assertThat(testee).isEqualTo(same);
+        assertThat(testee).hasSameHashCodeAs(same);
+        assertThat(testee).isNotEqualTo(other);
+    }
+}
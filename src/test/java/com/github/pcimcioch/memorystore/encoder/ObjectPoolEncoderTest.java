@@ -51,4 +51,22 @@ class ObjectPoolEncoderTest {
         assertThat(testee.get(0)).isEqualTo("First");
         assertThat(testee.get(1)).isEqualTo("Second");
     }
-}
\ No newline at end of file
+
+    @Test
+    void poolIndexes() {
+        // given
+        ObjectPoolEncoder<String> testee = new ObjectPoolEncoder<>(store, indexEncoder);
+        store.set("Some");
+
+        // when
+        testee.set(0, "First");
+        testee.set(1, "Some");
+
+        // then
+        assertThat(testee.getPoolIndex(0)).isEqualTo(1);
+        assertThat(testee.getPoolIndex(1)).isEqualTo(0);
+        assertThat(testee.poolIndexOf("First")).isEqualTo(1);
+        assertThat(testee.poolIndexOf("Missing")).isEqualTo(-1);
+        assertThat(testee.poolBits()).isEqualTo(31);
+    }
+}
@@ -0,0 +1,312 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class PackedArrayEncoderTest {
+
+    private static final String BITS_COUNT_EX = "Bits Count outside of defined bounds";
+    private static final String BIT_SHIFT_EX = "Bit Shift over a limit";
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @MethodSource("incorrectConfigs")
+    void incorrectConfig(int bitShift, int bitsCount, String message) {
+        // given
+        Config config = new Config(store, 40, 0, bitShift, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new PackedArrayEncoder(config, 1));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> incorrectConfigs() {
+        return Stream.of(
+                Arguments.of(0, 1025, BITS_COUNT_EX),
+                Arguments.of(33, 1024, BIT_SHIFT_EX),
+                Arguments.of(1056, 1, BIT_SHIFT_EX)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MIN_VALUE, -1, 0, 32, Integer.MAX_VALUE})
+    void incorrectElementBits(int elementBits) {
+        // given
+        Config config = new Config(store, 2, 0, 0, 64);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new PackedArrayEncoder(config, elementBits));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Element Bits Count must be between 1 and 31");
+    }
+
+    @Test
+    void bitsCountNotMultipleOfElementBits() {
+        // given
+        Config config = new Config(store, 2, 0, 0, 20);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new PackedArrayEncoder(config, 3));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bits Count must be a multiple of Element Bits Count");
+    }
+
+    @Test
+    void properties() {
+        // when
+        PackedArrayEncoder testee = new PackedArrayEncoder(new Config(store, 6, 0, 0, 168), 7);
+
+        // then
+        assertThat(testee.length()).isEqualTo(24);
+        assertThat(testee.elementBits()).isEqualTo(7);
+        assertThat(testee.maxValue()).isEqualTo(127);
+    }
+
+    @ParameterizedTest
+    @MethodSource("layouts")
+    void setAndGet(int bitShift, int length, int elementBits) {
+        // given
+        PackedArrayEncoder testee = new PackedArrayEncoder(new Config(store, 34, 0, bitShift, length * elementBits), elementBits);
+
+        // when
+        for (int i = 0; i < length; i++) {
+            testee.set(0, i, value(i, testee.maxValue()));
+            testee.set(1, i, testee.maxValue() - value(i, testee.maxValue()));
+        }
+
+        // then
+        for (int i = 0; i < length; i++) {
+            assertThat(testee.get(0, i)).isEqualTo(value(i, testee.maxValue()));
+            assertThat(testee.get(1, i)).isEqualTo(testee.maxValue() - value(i, testee.maxValue()));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("layouts")
+    void packAndUnpack(int bitShift, int length, int elementBits) {
+        // given
+        PackedArrayEncoder testee = new PackedArrayEncoder(new Config(store, 34, 0, bitShift, length * elementBits), elementBits);
+        int[] values = new int[length + 2];
+        for (int i = 0; i < length; i++) {
+            values[i + 2] = value(i, testee.maxValue());
+        }
+        int[] buffer = new int[length + 1];
+
+        // when
+        testee.pack(0, values, 2);
+        testee.unpack(0, buffer, 1);
+
+        // then
+        for (int i = 0; i < length; i++) {
+            assertThat(testee.get(0, i)).isEqualTo(values[i + 2]);
+            assertThat(buffer[i + 1]).isEqualTo(values[i + 2]);
+        }
+    }
+
+    private static Stream<Arguments> layouts() {
+        return Stream.of(
+                Arguments.of(0, 1, 1),
+                Arguments.of(0, 32, 1),
+                Arguments.of(5, 8, 3),
+                Arguments.of(31, 24, 7),
+                Arguments.of(0, 4, 8),
+                Arguments.of(20, 5, 13),
+                Arguments.of(1, 3, 31),
+                Arguments.of(0, 1024, 1),
+                Arguments.of(32, 33, 31),
+                Arguments.of(17, 128, 8)
+        );
+    }
+
+    @Test
+    void packAndUnpackBytes() {
+        // given
+        PackedArrayEncoder testee = new PackedArrayEncoder(new Config(store, 3, 0, 12, 64), 8);
+        byte[] values = {1, 2, (byte) 200, 4, 5, 6, 7, (byte) 255};
+        byte[] buffer = new byte[8];
+
+        // when
+        testee.pack(0, values, 0);
+        testee.unpack(0, buffer, 0);
+
+        // then
+        assertThat(buffer).containsExactly(values);
+        assertThat(testee.get(0, 2)).isEqualTo(200);
+        assertThat(testee.get(0, 7)).isEqualTo(255);
+    }
+
+    @Test
+    void packBytesOutOfRange() {
+        // given
+        PackedArrayEncoder testee = new PackedArrayEncoder(new Config(store, 1, 0, 0, 9), 3);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.pack(0, new byte[]{1, 8, 2}, 0));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [0, 7]");
+    }
+
+    @Test
+    void bytesTooNarrow() {
+        // given
+        PackedArrayEncoder testee = new PackedArrayEncoder(new Config(store, 1, 0, 0, 18), 9);
+
+        // when
+        Throwable packThrown = catchThrowable(() -> testee.pack(0, new byte[2], 0));
+        Throwable unpackThrown = catchThrowable(() -> testee.unpack(0, new byte[2], 0));
+
+        // then
+        assertThat(packThrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Elements of 9 bits do not fit into bytes");
+        assertThat(unpackThrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Elements of 9 bits do not fit into bytes");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 1, 4})
+    void bufferTooSmall(int bufferOffset) {
+        // given
+        PackedArrayEncoder testee = new PackedArrayEncoder(new Config(store, 1, 0, 0, 9), 3);
+
+        // when
+        Throwable packThrown = catchThrowable(() -> testee.pack(0, new int[3], bufferOffset));
+        Throwable unpackThrown = catchThrowable(() -> testee.unpack(0, new int[3], bufferOffset));
+
+        // then
+        assertThat(packThrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Array of length 3 does not fit into buffer of length 3 at offset %d", bufferOffset);
+        assertThat(unpackThrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Array of length 3 does not fit into buffer of length 3 at offset %d", bufferOffset);
+    }
+
+    @Test
+    void packValidatesBeforeWriting() {
+        // given
+        PackedArrayEncoder testee = new PackedArrayEncoder(new Config(store, 1, 0, 0, 9), 3);
+        testee.pack(0, new int[]{1, 2, 3}, 0);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.pack(0, new int[]{4, 5, 8}, 0));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [0, 7]");
+        assertThat(testee.get(0, 0)).isEqualTo(1);
+        assertThat(testee.get(0, 1)).isEqualTo(2);
+        assertThat(testee.get(0, 2)).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 8, Integer.MIN_VALUE, Integer.MAX_VALUE})
+    void valueOutOfRange(int value) {
+        // given
+        PackedArrayEncoder testee = new PackedArrayEncoder(new Config(store, 1, 0, 0, 9), 3);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, 1, value));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [0, 7]");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 3, Integer.MIN_VALUE, Integer.MAX_VALUE})
+    void indexOutOfRange(int index) {
+        // given
+        PackedArrayEncoder testee = new PackedArrayEncoder(new Config(store, 1, 0, 0, 9), 3);
+        testee.set(0, 0, 1);
+
+        // when
+        Throwable getThrown = catchThrowable(() -> testee.get(0, index));
+        Throwable setThrown = catchThrowable(() -> testee.set(0, index, 1));
+
+        // then
+        assertThat(getThrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Index must be between [0, 2]");
+        assertThat(setThrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Index must be between [0, 2]");
+    }
+
+    @Test
+    void keepsOtherBits() {
+        // given
+        store.setInt(0, 0xffffffff);
+        store.setInt(1, 0xffffffff);
+        store.setInt(2, 0xffffffff);
+        PackedArrayEncoder testee = new PackedArrayEncoder(new Config(store, 3, 0, 20, 50), 5);
+
+        // when
+        testee.pack(0, new int[10], 0);
+
+        // then
+        assertThat(store.getInt(0)).isEqualTo(0x000fffff);
+        assertThat(store.getInt(1)).isEqualTo(0x00000000);
+        assertThat(store.getInt(2)).isEqualTo(0xffffffc0);
+    }
+
+    @Test
+    void keepsOtherBitsOnSet() {
+        // given
+        store.setInt(0, 0xffffffff);
+        store.setInt(1, 0xffffffff);
+        PackedArrayEncoder testee = new PackedArrayEncoder(new Config(store, 2, 0, 28, 24), 6);
+
+        // when
+        testee.set(0, 0, 0);
+        testee.set(0, 3, 0);
+
+        // then
+        assertThat(store.getInt(0)).isEqualTo(0x0fffffff);
+        assertThat(store.getInt(1)).isEqualTo(0xfff03ffc);
+    }
+
+    @Test
+    void equality() {
+        // given
+        PackedArrayEncoder testee = new PackedArrayEncoder(new Config(store, 2, 0, 0, 24), 3);
+        PackedArrayEncoder same = new PackedArrayEncoder(new Config(store, 2, 0, 0, 24), 3);
+        PackedArrayEncoder otherElementBits = new PackedArrayEncoder(new Config(store, 2, 0, 0, 24), 6);
+
+        // then
+        assertThat(testee).isEqualTo(same);
+        assertThat(testee).hasSameHashCodeAs(same);
+        assertThat(testee).isNotEqualTo(otherElementBits);
+    }
+
+    private static int value(int index, int maxValue) {
+        return (int) ((index * 0x9E3779B9L + 7) & maxValue);
+    }
+}
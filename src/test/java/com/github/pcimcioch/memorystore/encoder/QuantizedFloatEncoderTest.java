@@ -0,0 +1,223 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.encoder.QuantizedFloatEncoder.Rounding;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static com.github.pcimcioch.memorystore.encoder.QuantizedFloatEncoder.Rounding.DOWN;
+import static com.github.pcimcioch.memorystore.encoder.QuantizedFloatEncoder.Rounding.NEAREST;
+import static com.github.pcimcioch.memorystore.encoder.QuantizedFloatEncoder.Rounding.UP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.data.Offset.offset;
+
+class QuantizedFloatEncoderTest {
+
+    private static final String BITS_COUNT_EX = "Bits Count outside of defined bounds";
+    private static final String BIT_SHIFT_EX = "Bit Shift over a limit";
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @MethodSource("incorrectConfigs")
+    void incorrectConfig(int bitShift, int bitsCount, String message) {
+        // given
+        Config config = new Config(store, 2, 0, bitShift, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new QuantizedFloatEncoder(config, 0f, 1f, NEAREST));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> incorrectConfigs() {
+        return Stream.of(
+                Arguments.of(32, 1, BIT_SHIFT_EX),
+                Arguments.of(10, 24, BIT_SHIFT_EX),
+                Arguments.of(0, 25, BITS_COUNT_EX)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1,   1,        Min Value must be lower than Max Value",
+            "1,   0,        Min Value must be lower than Max Value",
+            "NaN, 1,        Min and Max Value must be finite",
+            "0,   Infinity, Min and Max Value must be finite"
+    })
+    void incorrectRange(float minValue, float maxValue, String message) {
+        // given
+        Config config = new Config(store, 1, 0, 0, 8);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new QuantizedFloatEncoder(config, minValue, maxValue, NEAREST));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    @Test
+    void nullRounding() {
+        // given
+        Config config = new Config(store, 1, 0, 0, 8);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new QuantizedFloatEncoder(config, 0f, 1f, null));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Rounding cannot be null");
+    }
+
+    @ParameterizedTest
+    @MethodSource("layouts")
+    void storesMinAndMaxExactly(int bitShift, int bitsCount, float minValue, float maxValue) {
+        // given
+        QuantizedFloatEncoder testee = new QuantizedFloatEncoder(new Config(store, 1, 0, bitShift, bitsCount), minValue, maxValue, NEAREST);
+
+        // when
+        testee.set(0, minValue);
+        testee.set(1, maxValue);
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(minValue);
+        assertThat(testee.get(1)).isEqualTo(maxValue);
+        assertThat(testee.getQuantized(0)).isEqualTo(0);
+        assertThat(testee.getQuantized(1)).isEqualTo((1 << bitsCount) - 1);
+    }
+
+    private static Stream<Arguments> layouts() {
+        return Stream.of(
+                Arguments.of(0, 1, 0f, 1f),
+                Arguments.of(3, 8, -40f, 85f),
+                Arguments.of(20, 12, -1f, 1f),
+                Arguments.of(8, 24, 0.1f, 0.3f),
+                Arguments.of(0, 16, -3.4e38f, 3.4e38f)
+        );
+    }
+
+    @Test
+    void step() {
+        // when
+        QuantizedFloatEncoder testee = new QuantizedFloatEncoder(new Config(store, 1, 0, 0, 8), 0f, 255f, NEAREST);
+
+        // then
+        assertThat(testee.step()).isEqualTo(1d);
+        assertThat(testee.minValue()).isEqualTo(0f);
+        assertThat(testee.maxValue()).isEqualTo(255f);
+        assertThat(testee.rounding()).isEqualTo(NEAREST);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "NEAREST, 10.2, 10",
+            "NEAREST, 10.5, 10",
+            "NEAREST, 11.5, 12",
+            "NEAREST, 10.7, 11",
+            "DOWN,    10.7, 10",
+            "DOWN,    10,   10",
+            "UP,      10.2, 11",
+            "UP,      10,   10",
+            "UP,      254.1, 255"
+    })
+    void rounding(Rounding rounding, float value, float expected) {
+        // given
+        QuantizedFloatEncoder testee = new QuantizedFloatEncoder(new Config(store, 1, 0, 0, 8), 0f, 255f, rounding);
+
+        // when
+        testee.set(0, value);
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(expected);
+    }
+
+    @Test
+    void precision() {
+        // given
+        QuantizedFloatEncoder testee = new QuantizedFloatEncoder(new Config(store, 1, 0, 0, 12), -40f, 85f, NEAREST);
+
+        // when
+        for (int i = 0; i <= 1250; i++) {
+            testee.set(i, -40f + i * 0.1f);
+        }
+
+        // then
+        for (int i = 0; i <= 1250; i++) {
+            assertThat((double) testee.get(i)).isCloseTo(-40d + i * 0.1d, offset(testee.step() / 2 + 1e-4));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(floats = {-40.01f, 85.01f, Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY})
+    void valueOutOfRange(float value) {
+        // given
+        QuantizedFloatEncoder testee = new QuantizedFloatEncoder(new Config(store, 1, 0, 0, 12), -40f, 85f, NEAREST);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, value));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [-40.0, 85.0]");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 16, Integer.MAX_VALUE})
+    void quantizedOutOfRange(int quantized) {
+        // given
+        QuantizedFloatEncoder testee = new QuantizedFloatEncoder(new Config(store, 1, 0, 0, 4), 0f, 1f, NEAREST);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.setQuantized(0, quantized));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Quantized value must be between [0, 15]");
+    }
+
+    @Test
+    void keepsOtherBits() {
+        // given
+        store.setInt(0, 0xffffffff);
+        QuantizedFloatEncoder testee = new QuantizedFloatEncoder(new Config(store, 1, 0, 4, 8), 0f, 1f, NEAREST);
+
+        // when
+        testee.set(0, 0f);
+
+        // then
+        assertThat(store.getInt(0)).isEqualTo(0xfffff00f);
+        assertThat(testee.get(0)).isEqualTo(0f);
+    }
+
+    @Test
+    void equality() {
+        // given
+        QuantizedFloatEncoder testee = new QuantizedFloatEncoder(new Config(store, 1, 0, 0, 8), 0f, 1f, NEAREST);
+        QuantizedFloatEncoder same = new QuantizedFloatEncoder(new Config(store, 1, 0, 0, 8), 0f, 1f, NEAREST);
+        QuantizedFloatEncoder otherRange = new QuantizedFloatEncoder(new Config(store, 1, 0, 0, 8), 0f, 2f, NEAREST);
+        QuantizedFloatEncoder otherRounding = new QuantizedFloatEncoder(new Config(store, 1, 0, 0, 8), 0f, 1f, DOWN);
+
+        // then
+        assertThat(testee).isEqualTo(same);
+        assertThat(testee).hasSameHashCodeAs(same);
+        assertThat(testee).isNotEqualTo(otherRange);
+        assertThat(testee).isNotEqualTo(otherRounding);
+        assertThat(testee).isNotEqualTo(new QuantizedFloatEncoder(new Config(store, 1, 0, 0, 8), 0f, 1f, UP));
+    }
+}
@@ -2,6 +2,7 @@ package com.github.pcimcioch.memorystore.encoder;
 
 import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
 import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -59,6 +60,19 @@ class SignedIntegerEncoderTest {
         // no exception thrown
     }
 
+    @Test
+    void valueRange() {
+        // given
+        Config config = new Config(store, 2, 0, 0, 4);
+
+        // when
+        SignedIntegerEncoder testee = new SignedIntegerEncoder(config, -5);
+
+        // then
+        assertThat(testee.minValue()).isEqualTo(-5);
+        assertThat(testee.maxValue()).isEqualTo(10);
+    }
+
     private static Stream<Arguments> correctConfigs() {
         return Stream.of(
                 Arguments.of(15, 17, -10),
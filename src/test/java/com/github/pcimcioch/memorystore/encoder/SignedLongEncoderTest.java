@@ -0,0 +1,169 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class SignedLongEncoderTest {
+
+    private static final String BITS_COUNT_EX = "Bits Count outside of defined bounds";
+    private static final String BIT_SHIFT_EX = "Bit Shift over a limit";
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @MethodSource("incorrectConfigs")
+    void incorrectConfig(int bitShift, int bitsCount, String message) {
+        // given
+        Config config = new Config(store, 4, 0, bitShift, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new SignedLongEncoder(config, -10L));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> incorrectConfigs() {
+        return Stream.of(
+                Arguments.of(34, 63, BIT_SHIFT_EX),
+                Arguments.of(96, 1, BIT_SHIFT_EX),
+                Arguments.of(0, 64, BITS_COUNT_EX)
+        );
+    }
+
+    @Test
+    void valueRange() {
+        // given
+        Config config = new Config(store, 2, 0, 0, 40);
+
+        // when
+        SignedLongEncoder testee = new SignedLongEncoder(config, -(1L << 39));
+
+        // then
+        assertThat(testee.minValue()).isEqualTo(-(1L << 39));
+        assertThat(testee.maxValue()).isEqualTo((1L << 39) - 1);
+    }
+
+    @Test
+    void valueRangeOverflow() {
+        // given
+        Config config = new Config(store, 2, 0, 0, 40);
+
+        // when
+        SignedLongEncoder testee = new SignedLongEncoder(config, Long.MAX_VALUE - 10);
+
+        // then
+        assertThat(testee.maxValue()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @ParameterizedTest
+    @MethodSource("layouts")
+    void savesMinAndMaxValues(int bitShift, int bitsCount, long minValue) {
+        // given
+        SignedLongEncoder testee = new SignedLongEncoder(new Config(store, 3, 0, bitShift, bitsCount), minValue);
+        long maxValue = testee.maxValue();
+
+        // when
+        testee.set(0, minValue);
+        testee.set(1, maxValue);
+        testee.set(2, minValue + 1);
+
+        // then
+        assertThat(testee.get(0)).isEqualTo(minValue);
+        assertThat(testee.get(1)).isEqualTo(maxValue);
+        assertThat(testee.get(2)).isEqualTo(minValue + 1);
+    }
+
+    private static Stream<Arguments> layouts() {
+        return Stream.of(
+                Arguments.of(0, 1, -1L),
+                Arguments.of(5, 20, 1000L),
+                Arguments.of(31, 33, -(1L << 32)),
+                Arguments.of(24, 40, -1L),
+                Arguments.of(0, 63, Long.MIN_VALUE),
+                Arguments.of(33, 63, 0L),
+                Arguments.of(0, 50, Long.MAX_VALUE - 100)
+        );
+    }
+
+    @Test
+    void storesOffsetFromMinValue() {
+        // given
+        SignedLongEncoder testee = new SignedLongEncoder(new Config(store, 2, 0, 0, 40), -100L);
+
+        // when
+        testee.set(0, -100L);
+        testee.set(1, (1L << 32) - 100);
+
+        // then
+        assertThat(store.getInt(0)).isEqualTo(0);
+        assertThat(store.getInt(1)).isEqualTo(0);
+        assertThat(store.getInt(2)).isEqualTo(0);
+        assertThat(store.getInt(3)).isEqualTo(1);
+    }
+
+    @Test
+    void keepsOtherBits() {
+        // given
+        store.setInt(0, 0xffffffff);
+        store.setInt(1, 0xffffffff);
+        SignedLongEncoder testee = new SignedLongEncoder(new Config(store, 2, 0, 8, 40), 0L);
+
+        // when
+        testee.set(0, 0L);
+
+        // then
+        assertThat(store.getInt(0)).isEqualTo(0x000000ff);
+        assertThat(store.getInt(1)).isEqualTo(0xffff0000);
+        assertThat(testee.get(0)).isEqualTo(0L);
+    }
+
+    @ParameterizedTest
+    @MethodSource("incorrectValues")
+    void rejectsIncorrectValues(int bitsCount, long minValue, long value, String message) {
+        // given
+        SignedLongEncoder testee = new SignedLongEncoder(new Config(store, 2, 0, 0, bitsCount), minValue);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, value));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+        assertThat(store.blocksCount()).isEqualTo(0);
+    }
+
+    private static Stream<Arguments> incorrectValues() {
+        return Stream.of(
+                Arguments.of(40, -100L, -101L, "Value must be between [-100, 1099511627675]"),
+                Arguments.of(40, -100L, 1099511627676L, "Value must be between [-100, 1099511627675]"),
+                Arguments.of(63, Long.MIN_VALUE, 0L, "Value must be between [-9223372036854775808, -1]"),
+                Arguments.of(10, Long.MAX_VALUE, 0L, "Value must be between [9223372036854775807, 9223372036854775807]")
+        );
+    }
+
+    @Test
+    void equality() {
+        // given
+        SignedLongEncoder testee = new SignedLongEncoder(new Config(store, 2, 0, 0, 40), 0L);
+        SignedLongEncoder same = new SignedLongEncoder(new Config(store, 2, 0, 0, 40), 0L);
+        SignedLongEncoder otherMin = new SignedLongEncoder(new Config(store, 2, 0, 0, 40), 1L);
+
+        // then
+        assertThat(testee).isEqualTo(same);
+        assertThat(testee).hasSameHashCodeAs(same);
+        assertThat(testee).isNotEqualTo(otherMin);
+    }
+}
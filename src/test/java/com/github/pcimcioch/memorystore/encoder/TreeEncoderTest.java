@@ -0,0 +1,357 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.TreeEncoder.TreeIterator;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import static com.github.pcimcioch.memorystore.encoder.TreeEncoder.NONE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class TreeEncoderTest {
+
+    private static final String BITS_COUNT_EX = "Bits Count outside of defined bounds";
+    private static final String BIT_SHIFT_EX = "Bit Shift over a limit";
+    private static final String DIVISIBLE_BITS_COUNT_EX = "Bits Count must be divisible by 3";
+
+    //         0
+    //       / | \
+    //      1  2  3
+    //     / \     \
+    //    4   5     6
+    //        |
+    //        7
+    private static final long[] PARENTS = {NONE, 0, 0, 0, 1, 1, 3, 5};
+
+    private final IntStore store = new IntStore();
+    private final TreeEncoder testee = new TreeEncoder(new BitEncoder.Config(store, 3, 0, 20, 48));
+
+    @ParameterizedTest
+    @MethodSource("incorrectConfigs")
+    void incorrectConfig(int bitShift, int bitsCount, String message) {
+        // given
+        BitEncoder.Config config = new BitEncoder.Config(store, 4, 0, bitShift, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new TreeEncoder(config));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> incorrectConfigs() {
+        return Stream.of(
+                Arguments.of(4, 93, BIT_SHIFT_EX),
+                Arguments.of(94, 3, BIT_SHIFT_EX),
+                Arguments.of(0, 96, BITS_COUNT_EX),
+                Arguments.of(0, 2, BITS_COUNT_EX),
+                Arguments.of(0, 32, DIVISIBLE_BITS_COUNT_EX)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("correctConfigs")
+    void correctConfig(int bitShift, int bitsCount) {
+        // given
+        BitEncoder.Config config = new BitEncoder.Config(store, 4, 0, bitShift, bitsCount);
+
+        // when
+        new TreeEncoder(config);
+
+        // then
+        // no exception thrown
+    }
+
+    private static Stream<Arguments> correctConfigs() {
+        return Stream.of(
+                Arguments.of(0, 93),
+                Arguments.of(3, 93),
+                Arguments.of(93, 3),
+                Arguments.of(10, 48)
+        );
+    }
+
+    @Test
+    void init() {
+        // given
+        store.setInt(0, -1);
+        store.setInt(1, -1);
+        store.setInt(2, -1);
+
+        // when
+        testee.init(0);
+
+        // then
+        assertLinks(0, NONE, NONE, NONE);
+        assertThat(testee.isRoot(0)).isTrue();
+        assertThat(testee.isLeaf(0)).isTrue();
+        assertThat(store.getInt(0)).isEqualTo(0x000fffff);
+        assertThat(store.getInt(1)).isZero();
+        assertThat(store.getInt(2)).isEqualTo(0xfffffff0);
+    }
+
+    @Test
+    void addChild() {
+        // given
+        initRecords(4);
+
+        // when
+        testee.addChild(0, 2);
+        testee.addChild(0, 1);
+        testee.addChild(1, 3);
+
+        // then
+        assertLinks(0, NONE, 1, NONE);
+        assertLinks(1, 0, 3, 2);
+        assertLinks(2, 0, NONE, NONE);
+        assertLinks(3, 1, NONE, NONE);
+    }
+
+    @Test
+    void addChild_alreadyHasParent() {
+        // given
+        initRecords(3);
+        testee.addChild(0, 1);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.addChild(2, 1));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Record 1 already has a parent");
+    }
+
+    @Test
+    void addChild_itself() {
+        // given
+        initRecords(2);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.addChild(1, 1));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Record 1 cannot be its own child");
+    }
+
+    @Test
+    void incorrectValue() {
+        // given
+        TreeEncoder small = new TreeEncoder(new BitEncoder.Config(store, 1, 0, 0, 12));
+        small.init(0);
+        small.init(15);
+
+        // when
+        Throwable thrown = catchThrowable(() -> small.addChild(0, 15));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [0, 14]");
+    }
+
+    @Test
+    void build() {
+        // when
+        testee.build(PARENTS);
+
+        // then
+        assertLinks(0, NONE, 1, NONE);
+        assertLinks(1, 0, 4, 2);
+        assertLinks(2, 0, NONE, 3);
+        assertLinks(3, 0, 6, NONE);
+        assertLinks(4, 1, NONE, 5);
+        assertLinks(5, 1, 7, NONE);
+        assertLinks(6, 3, NONE, NONE);
+        assertLinks(7, 5, NONE, NONE);
+    }
+
+    @Test
+    void build_incorrectParent() {
+        // when
+        Throwable thrown = catchThrowable(() -> testee.build(new long[]{NONE, 0, 3}));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Incorrect parent 3 of record 2");
+    }
+
+    @Test
+    void detach() {
+        // given
+        testee.build(PARENTS);
+
+        // when
+        testee.detach(2);
+        testee.detach(1);
+
+        // then
+        assertLinks(0, NONE, 3, NONE);
+        assertLinks(1, NONE, 4, NONE);
+        assertLinks(2, NONE, NONE, NONE);
+        assertThat(testee.subtree(0)).containsExactly(0L, 3L, 6L);
+        assertThat(testee.subtree(1)).containsExactly(1L, 4L, 5L, 7L);
+    }
+
+    @Test
+    void detach_root() {
+        // given
+        testee.build(PARENTS);
+
+        // when
+        testee.detach(0);
+
+        // then
+        assertThat(testee.subtreeSize(0)).isEqualTo(8L);
+    }
+
+    @Test
+    void rootAndDepth() {
+        // given
+        testee.build(PARENTS);
+
+        // then
+        assertThat(testee.root(7)).isEqualTo(0L);
+        assertThat(testee.root(0)).isEqualTo(0L);
+        assertThat(testee.depth(0)).isZero();
+        assertThat(testee.depth(3)).isEqualTo(1);
+        assertThat(testee.depth(7)).isEqualTo(3);
+    }
+
+    @Test
+    void subtreeSize() {
+        // given
+        testee.build(PARENTS);
+
+        // then
+        assertThat(testee.subtreeSize(0)).isEqualTo(8L);
+        assertThat(testee.subtreeSize(1)).isEqualTo(4L);
+        assertThat(testee.subtreeSize(3)).isEqualTo(2L);
+        assertThat(testee.subtreeSize(7)).isEqualTo(1L);
+    }
+
+    @Test
+    void forEachChild() {
+        // given
+        testee.build(PARENTS);
+        List<Long> children = new ArrayList<>();
+
+        // when
+        testee.forEachChild(0, children::add);
+
+        // then
+        assertThat(children).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void forEachPreorder() {
+        // given
+        testee.build(PARENTS);
+        List<Long> whole = new ArrayList<>();
+        List<Long> subtree = new ArrayList<>();
+
+        // when
+        testee.forEachPreorder(0, whole::add);
+        testee.forEachPreorder(1, subtree::add);
+
+        // then
+        assertThat(whole).containsExactly(0L, 1L, 4L, 5L, 7L, 2L, 3L, 6L);
+        assertThat(subtree).containsExactly(1L, 4L, 5L, 7L);
+    }
+
+    @Test
+    void forEachPostorder() {
+        // given
+        testee.build(PARENTS);
+        List<Long> whole = new ArrayList<>();
+        List<Long> subtree = new ArrayList<>();
+
+        // when
+        testee.forEachPostorder(0, whole::add);
+        testee.forEachPostorder(1, subtree::add);
+
+        // then
+        assertThat(whole).containsExactly(4L, 7L, 5L, 1L, 2L, 6L, 3L, 0L);
+        assertThat(subtree).containsExactly(4L, 7L, 5L, 1L);
+    }
+
+    @Test
+    void preorder() {
+        // given
+        testee.build(PARENTS);
+
+        // when
+        TreeIterator iterator = testee.preorder(3);
+
+        // then
+        assertThat(iterator.nextLong()).isEqualTo(3L);
+        assertThat(iterator.nextLong()).isEqualTo(6L);
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(catchThrowable(iterator::nextLong)).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void postorder() {
+        // given
+        testee.build(PARENTS);
+
+        // when
+        TreeIterator iterator = testee.postorder(0);
+
+        // then
+        assertThat(iterator).toIterable().containsExactly(4L, 7L, 5L, 1L, 2L, 6L, 3L, 0L);
+    }
+
+    @Test
+    void subtree_singleRecord() {
+        // given
+        testee.init(5);
+
+        // when
+        Stream<Long> subtree = testee.subtree(5).boxed();
+
+        // then
+        assertThat(subtree).containsExactly(5L);
+    }
+
+    @Test
+    void remapLinks() {
+        // given
+        testee.build(new long[]{NONE, 0, 0});
+
+        // when
+        for (long position = 0; position < 3; position++) {
+            testee.remapLinks(position, p -> p + 10);
+        }
+
+        // then
+        assertLinks(0, NONE, 11, NONE);
+        assertLinks(1, 10, NONE, 12);
+        assertLinks(2, 10, NONE, NONE);
+    }
+
+    private void initRecords(int count) {
+        for (long position = 0; position < count; position++) {
+            testee.init(position);
+        }
+    }
+
+    private void assertLinks(long position, long parent, long firstChild, long nextSibling) {
+        assertThat(testee.parent(position)).isEqualTo(parent);
+        assertThat(testee.firstChild(position)).isEqualTo(firstChild);
+        assertThat(testee.nextSibling(position)).isEqualTo(nextSibling);
+    }
+}
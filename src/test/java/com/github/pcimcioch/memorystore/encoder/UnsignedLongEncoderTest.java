@@ -0,0 +1,169 @@
+package com.github.pcimcioch.memorystore.encoder;
+
+import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
+import com.github.pcimcioch.memorystore.store.IntStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class UnsignedLongEncoderTest {
+
+    private static final String BITS_COUNT_EX = "Bits Count outside of defined bounds";
+    private static final String BIT_SHIFT_EX = "Bit Shift over a limit";
+
+    private final IntStore store = new IntStore();
+
+    @ParameterizedTest
+    @MethodSource("incorrectConfigs")
+    void incorrectConfig(int bitShift, int bitsCount, String message) {
+        // given
+        Config config = new Config(store, 4, 0, bitShift, bitsCount);
+
+        // when
+        Throwable thrown = catchThrowable(() -> new UnsignedLongEncoder(config));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> incorrectConfigs() {
+        return Stream.of(
+                Arguments.of(34, 63, BIT_SHIFT_EX),
+                Arguments.of(96, 1, BIT_SHIFT_EX),
+                Arguments.of(0, 64, BITS_COUNT_EX)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("layouts")
+    void savesMinAndMaxValues(int bitShift, int bitsCount) {
+        // given
+        UnsignedLongEncoder testee = new UnsignedLongEncoder(new Config(store, 3, 0, bitShift, bitsCount));
+        long maxValue = (1L << bitsCount) - 1;
+
+        // when
+        testee.set(0, 0L);
+        testee.set(1, maxValue);
+        testee.set(2, maxValue >>> 1);
+
+        // then
+        assertThat(testee.maxValue()).isEqualTo(maxValue);
+        assertThat(testee.get(0)).isEqualTo(0L);
+        assertThat(testee.get(1)).isEqualTo(maxValue);
+        assertThat(testee.get(2)).isEqualTo(maxValue >>> 1);
+    }
+
+    private static Stream<Arguments> layouts() {
+        return Stream.of(
+                Arguments.of(0, 1),
+                Arguments.of(5, 20),
+                Arguments.of(0, 33),
+                Arguments.of(31, 33),
+                Arguments.of(0, 63),
+                Arguments.of(1, 63),
+                Arguments.of(33, 63),
+                Arguments.of(20, 40),
+                Arguments.of(56, 40)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("layouts")
+    void savesRandomValues(int bitShift, int bitsCount) {
+        // given
+        UnsignedLongEncoder testee = new UnsignedLongEncoder(new Config(store, 3, 0, bitShift, bitsCount));
+        long[] values = new Random(bitShift * 64L + bitsCount).longs(1000, 0, testee.maxValue()).toArray();
+
+        // when
+        for (int i = 0; i < values.length; i++) {
+            testee.set(i, values[i]);
+        }
+
+        // then
+        for (int i = 0; i < values.length; i++) {
+            assertThat(testee.get(i)).isEqualTo(values[i]);
+        }
+    }
+
+    @Test
+    void storesValueInThreeWords() {
+        // given
+        UnsignedLongEncoder testee = new UnsignedLongEncoder(new Config(store, 3, 0, 16, 63));
+
+        // when
+        testee.set(0, 0x7123456789abcdefL);
+
+        // then
+        assertThat(store.getInt(0)).isEqualTo(0xcdef0000);
+        assertThat(store.getInt(1)).isEqualTo(0x456789ab);
+        assertThat(store.getInt(2)).isEqualTo(0x00007123);
+    }
+
+    @Test
+    void keepsOtherBits() {
+        // given
+        store.setInt(0, 0xffffffff);
+        store.setInt(1, 0xffffffff);
+        store.setInt(2, 0xffffffff);
+        UnsignedLongEncoder testee = new UnsignedLongEncoder(new Config(store, 3, 0, 20, 50));
+
+        // when
+        testee.set(0, 0L);
+
+        // then
+        assertThat(store.getInt(0)).isEqualTo(0x000fffff);
+        assertThat(store.getInt(1)).isEqualTo(0x00000000);
+        assertThat(store.getInt(2)).isEqualTo(0xffffffc0);
+        assertThat(testee.get(0)).isEqualTo(0L);
+    }
+
+    @Test
+    void recordAlignedStore() {
+        // given
+        IntStore alignedStore = new IntStore(1024, 3);
+        UnsignedLongEncoder testee = new UnsignedLongEncoder(new Config(alignedStore, 3, 1, 8, 40));
+
+        // when
+        for (int position = 0; position < 3000; position++) {
+            testee.set(position, position * 100_000_007L);
+        }
+
+        // then
+        for (int position = 0; position < 3000; position++) {
+            assertThat(testee.get(position)).isEqualTo(position * 100_000_007L);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("incorrectValues")
+    void rejectsIncorrectValues(int bitsCount, long value, String message) {
+        // given
+        UnsignedLongEncoder testee = new UnsignedLongEncoder(new Config(store, 2, 0, 0, bitsCount));
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, value));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+        assertThat(store.blocksCount()).isEqualTo(0);
+    }
+
+    private static Stream<Arguments> incorrectValues() {
+        return Stream.of(
+                Arguments.of(40, -1L, "Value must be between [0, 1099511627775]"),
+                Arguments.of(40, 1L << 40, "Value must be between [0, 1099511627775]"),
+                Arguments.of(63, Long.MIN_VALUE, "Value must be between [0, 9223372036854775807]")
+        );
+    }
+}
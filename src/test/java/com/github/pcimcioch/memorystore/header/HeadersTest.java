@@ -1,19 +1,37 @@
 package com.github.pcimcioch.memorystore.header;
 
+import com.github.pcimcioch.memorystore.encoder.BFloat16Encoder;
 import com.github.pcimcioch.memorystore.encoder.BitSetEncoder;
 import com.github.pcimcioch.memorystore.encoder.BooleanEncoder;
 import com.github.pcimcioch.memorystore.encoder.ByteEncoder;
 import com.github.pcimcioch.memorystore.encoder.CharEncoder;
+import com.github.pcimcioch.memorystore.encoder.DecimalEncoder;
 import com.github.pcimcioch.memorystore.encoder.DoubleEncoder;
+import com.github.pcimcioch.memorystore.encoder.DoublyLinkedListEncoder;
 import com.github.pcimcioch.memorystore.encoder.EnumBitSetEncoder;
 import com.github.pcimcioch.memorystore.encoder.EnumEncoder;
 import com.github.pcimcioch.memorystore.encoder.FloatEncoder;
+import com.github.pcimcioch.memorystore.encoder.HalfFloatEncoder;
+import com.github.pcimcioch.memorystore.encoder.InstantEncoder;
 import com.github.pcimcioch.memorystore.encoder.IntEncoder;
 import com.github.pcimcioch.memorystore.encoder.ListEncoder;
+import com.github.pcimcioch.memorystore.encoder.LocalDateEncoder;
+import com.github.pcimcioch.memorystore.encoder.LocalDateTimeEncoder;
 import com.github.pcimcioch.memorystore.encoder.LongEncoder;
+import com.github.pcimcioch.memorystore.encoder.NullableDoubleEncoder;
+import com.github.pcimcioch.memorystore.encoder.NullableFloatEncoder;
+import com.github.pcimcioch.memorystore.encoder.NullableIntEncoder;
+import com.github.pcimcioch.memorystore.encoder.NullableLongEncoder;
+import com.github.pcimcioch.memorystore.encoder.NullableSignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.encoder.NullableSignedLongEncoder;
+import com.github.pcimcioch.memorystore.encoder.PackedArrayEncoder;
+import com.github.pcimcioch.memorystore.encoder.QuantizedFloatEncoder;
 import com.github.pcimcioch.memorystore.encoder.ShortEncoder;
 import com.github.pcimcioch.memorystore.encoder.SignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.encoder.SignedLongEncoder;
+import com.github.pcimcioch.memorystore.encoder.TreeEncoder;
 import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.encoder.UnsignedLongEncoder;
 import com.github.pcimcioch.memorystore.header.ObjectPoolHeader.PoolDefinition;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -22,6 +40,11 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -77,6 +100,179 @@ class HeadersTest {
         assertHeader(header, 32);
     }
 
+    @Test
+    void float16() {
+        // when
+        BitHeader<HalfFloatEncoder> header = Headers.float16(HEADER_NAME);
+
+        // then
+        assertHeader(header, 16);
+    }
+
+    @Test
+    void bfloat16() {
+        // when
+        BitHeader<BFloat16Encoder> header = Headers.bfloat16(HEADER_NAME);
+
+        // then
+        assertHeader(header, 16);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 12, 24})
+    void quantizedFloatCorrect(int bitsCount) {
+        // when
+        BitHeader<QuantizedFloatEncoder> header = Headers.quantizedFloat(HEADER_NAME, bitsCount, -40f, 85f);
+
+        // then
+        assertHeader(header, bitsCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 25, 32})
+    void quantizedFloatIncorrectBitsCount(int bitsCount) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.quantizedFloat(HEADER_NAME, bitsCount, -40f, 85f));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bits Count must be between 1 and 24");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1,         1,         Min Value must be lower than Max Value",
+            "2,         1,         Min Value must be lower than Max Value",
+            "NaN,       1,         Min and Max Value must be finite",
+            "0,         Infinity,  Min and Max Value must be finite",
+            "-Infinity, 0,         Min and Max Value must be finite"
+    })
+    void quantizedFloatIncorrectRange(float minValue, float maxValue, String message) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.quantizedFloat(HEADER_NAME, 8, minValue, maxValue));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    @Test
+    void quantizedFloatNullRounding() {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.quantizedFloat(HEADER_NAME, 8, 0f, 1f, null));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Rounding cannot be null");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "2020-01-01T00:00:00Z, 2100-01-01T00:00:00Z, MINUTES, 26",
+            "2020-01-01T00:00:00Z, 2100-01-01T00:00:00Z, DAYS,    15",
+            "2020-01-01T00:00:00Z, 2020-01-01T00:00:01Z, SECONDS, 1",
+            "2020-01-01T00:00:30Z, 2020-01-01T00:01:00Z, MINUTES, 1",
+            "1900-01-01T00:00:00Z, 2100-01-01T00:00:00Z, MILLIS,  43",
+    })
+    void instantCorrect(String minValue, String maxValue, ChronoUnit granularity, int bitsCount) {
+        // when
+        BitHeader<InstantEncoder> header = Headers.instant(HEADER_NAME, Instant.parse(minValue), Instant.parse(maxValue), granularity);
+
+        // then
+        assertHeader(header, bitsCount);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "2020-01-01T00:00:00Z, 2020-01-01T00:00:00Z, SECONDS",
+            "2020-01-01T00:00:00Z, 2020-01-01T00:00:59Z, MINUTES",
+            "2020-01-01T00:00:00Z, 2019-01-01T00:00:00Z, DAYS",
+    })
+    void instantIncorrectRange(String minValue, String maxValue, ChronoUnit granularity) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.instant(HEADER_NAME, Instant.parse(minValue), Instant.parse(maxValue), granularity));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Number of possible values must be between 2 and 9223372036854775808");
+    }
+
+    @Test
+    void instantIncorrectGranularity() {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.instant(HEADER_NAME, Instant.EPOCH, Instant.now(), ChronoUnit.WEEKS));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Granularity must be one of [Millis, Seconds, Minutes, Hours, Days]");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "2020-01-01, 2100-01-01, 15",
+            "2020-01-01, 2020-01-02, 1",
+            "1970-01-01, 1970-01-08, 3",
+    })
+    void localDateCorrect(String minValue, String maxValue, int bitsCount) {
+        // when
+        BitHeader<LocalDateEncoder> header = Headers.localDate(HEADER_NAME, LocalDate.parse(minValue), LocalDate.parse(maxValue));
+
+        // then
+        assertHeader(header, bitsCount);
+    }
+
+    @Test
+    void localDateIncorrectRange() {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.localDate(HEADER_NAME, LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 1)));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Number of possible values must be between 2 and 9223372036854775808");
+    }
+
+    @Test
+    void localDateNullValue() {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.localDate(HEADER_NAME, null, LocalDate.of(2020, 1, 1)));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Min Value cannot be null");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "2020-01-01T00:00, 2100-01-01T00:00, MINUTES, 26",
+            "2020-01-01T00:00, 2100-01-01T00:00, HOURS,   20",
+            "2020-01-01T00:00, 2020-01-01T00:00:01, SECONDS, 1",
+    })
+    void localDateTimeCorrect(String minValue, String maxValue, ChronoUnit granularity, int bitsCount) {
+        // when
+        BitHeader<LocalDateTimeEncoder> header = Headers.localDateTime(HEADER_NAME, LocalDateTime.parse(minValue), LocalDateTime.parse(maxValue), granularity);
+
+        // then
+        assertHeader(header, bitsCount);
+    }
+
+    @Test
+    void localDateTimeNullGranularity() {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.localDateTime(HEADER_NAME, LocalDateTime.MIN, LocalDateTime.MAX, null));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Granularity cannot be null");
+    }
+
     @Test
     void int32() {
         // when
@@ -195,6 +391,146 @@ class HeadersTest {
                 .hasMessage("Number of possible values must be between 2 and 2147483648");
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 33, 40, 63})
+    void longOnBitsCorrect(int bitsCount) {
+        // when
+        BitHeader<SignedLongEncoder> header = Headers.longOnBits(HEADER_NAME, -100L, bitsCount);
+
+        // then
+        assertHeader(header, bitsCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 64, 100})
+    void longOnBitsIncorrect(int bitsCount) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.longOnBits(HEADER_NAME, -100L, bitsCount));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bits Count must be between 1 and 63");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            " 0,                    1,                   1",
+            " 0,                    7,                   3",
+            " 0,                    8,                   4",
+            "-100,                 -93,                  3",
+            " 0,                    2147483647,          31",
+            " 0,                    2147483648,          32",
+            " 0,                    1099511627775,       40",
+            "-1099511627776,        0,                   41",
+            " 1000000000000,        1000000000001,       1",
+            " 0,                    9223372036854775807, 63",
+            "-9223372036854775808, -1,                   63",
+    })
+    void longRangeCorrect(long minValue, long maxValue, int bitsCount) {
+        // when
+        BitHeader<SignedLongEncoder> header = Headers.longRange(HEADER_NAME, minValue, maxValue);
+
+        // then
+        assertHeader(header, bitsCount);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            " 0,                   -1",
+            " 0,                    0",
+            " 100,                 -100",
+            "-1,                    9223372036854775807",
+            "-9223372036854775808,  0",
+            " 9223372036854775807, -2",
+    })
+    void longRangeIncorrect(long minValue, long maxValue) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.longRange(HEADER_NAME, minValue, maxValue));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Number of possible values must be between 2 and 9223372036854775808");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0,  0,        1,       1",
+            "2,  0,        100000,  24",
+            "2, -100,      100,     15",
+            "0, -1,        0,       1",
+            "3,  0.5,      0.75,    8",
+            "18, 0,        4,       62",
+    })
+    void decimalCorrect(int scale, String minValue, String maxValue, int bitsCount) {
+        // when
+        BitHeader<DecimalEncoder> header = Headers.decimal(HEADER_NAME, scale, new BigDecimal(minValue), new BigDecimal(maxValue));
+
+        // then
+        assertHeader(header, bitsCount);
+    }
+
+    @Test
+    void decimalOfDoubles() {
+        // when
+        BitHeader<DecimalEncoder> header = Headers.decimal(HEADER_NAME, 2, 0.01d, 99.99d);
+
+        // then
+        assertHeader(header, 14);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "2,  1,   0",
+            "2,  1,   1",
+            "18, 0,   5",
+            "0,  0,   4611686018427387904",
+    })
+    void decimalIncorrectRange(int scale, String minValue, String maxValue) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.decimal(HEADER_NAME, scale, new BigDecimal(minValue), new BigDecimal(maxValue)));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Number of possible values must be between 2 and 4611686018427387904");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 19})
+    void decimalIncorrectScale(int scale) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.decimal(HEADER_NAME, scale, BigDecimal.ZERO, BigDecimal.TEN));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Scale must be between 0 and 18");
+    }
+
+    @Test
+    void decimalTooPrecise() {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.decimal(HEADER_NAME, 1, new BigDecimal("0.05"), BigDecimal.TEN));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value 0.05 has more than 1 decimal places");
+    }
+
+    @Test
+    void decimalNotFinite() {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.decimal(HEADER_NAME, 1, 0d, Double.POSITIVE_INFINITY));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Min and Max Value must be finite");
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 10, 31})
     void unsignedIntOnBitsCorrect(int bitsCount) {
@@ -245,6 +581,133 @@ class HeadersTest {
                 .hasMessage("Max Value must be between 1 and 2147483647");
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 32, 33, 63})
+    void unsignedLongOnBitsCorrect(int bitsCount) {
+        // given
+        BitHeader<UnsignedLongEncoder> header = Headers.unsignedLongOnBits(HEADER_NAME, bitsCount);
+
+        // then
+        assertHeader(header, bitsCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-100, 0, 64, 100})
+    void unsignedLongOnBitsIncorrect(int bitsCount) {
+        // given
+        Throwable thrown = catchThrowable(() -> Headers.unsignedLongOnBits(HEADER_NAME, bitsCount));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bits Count must be between 1 and 63");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 1",
+            "2, 2",
+            "7, 3",
+            "8, 4",
+            "4294967296, 33",
+            "1099511627775, 40",
+            "9223372036854775807, 63",
+    })
+    void unsignedLongMaxValueCorrect(long maxValue, int bitsCount) {
+        // given
+        BitHeader<UnsignedLongEncoder> header = Headers.unsignedLongMaxValue(HEADER_NAME, maxValue);
+
+        // then
+        assertHeader(header, bitsCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-100L, -1L, 0L, Long.MIN_VALUE})
+    void unsignedLongMaxValueIncorrect(long maxValue) {
+        // given
+        Throwable thrown = catchThrowable(() -> Headers.unsignedLongMaxValue(HEADER_NAME, maxValue));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Max Value must be between 1 and 9223372036854775807");
+    }
+
+    @Test
+    void nullablePrimitives() {
+        // when
+        BitHeader<NullableIntEncoder> int32 = Headers.nullableInt32(HEADER_NAME);
+        BitHeader<NullableLongEncoder> long64 = Headers.nullableLong64(HEADER_NAME);
+        BitHeader<NullableFloatEncoder> float32 = Headers.nullableFloat32(HEADER_NAME);
+        BitHeader<NullableDoubleEncoder> double64 = Headers.nullableDouble64(HEADER_NAME);
+
+        // then
+        assertHeader(int32, 33);
+        assertHeader(long64, 65);
+        assertHeader(float32, 33);
+        assertHeader(double64, 65);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            " 100,  101,        2",
+            " 100,  108,        5",
+            "-100, -93,         4",
+            " 0,    2147483647, 32",
+    })
+    void nullableIntRangeCorrect(int minValue, int maxValue, int bitsCount) {
+        // when
+        BitHeader<NullableSignedIntegerEncoder> header = Headers.nullableIntRange(HEADER_NAME, minValue, maxValue);
+
+        // then
+        assertHeader(header, bitsCount);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            " 0,   -1",
+            " 100,  100",
+            "-1,    2147483647",
+    })
+    void nullableIntRangeIncorrect(int minValue, int maxValue) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.nullableIntRange(HEADER_NAME, minValue, maxValue));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Number of possible values must be between 2 and 2147483648");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            " 0,                    1,                   2",
+            "-1099511627776,        0,                   42",
+            " 0,                    9223372036854775807, 64",
+    })
+    void nullableLongRangeCorrect(long minValue, long maxValue, int bitsCount) {
+        // when
+        BitHeader<NullableSignedLongEncoder> header = Headers.nullableLongRange(HEADER_NAME, minValue, maxValue);
+
+        // then
+        assertHeader(header, bitsCount);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            " 0,                    0",
+            "-1,                    9223372036854775807",
+    })
+    void nullableLongRangeIncorrect(long minValue, long maxValue) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.nullableLongRange(HEADER_NAME, minValue, maxValue));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Number of possible values must be between 2 and 9223372036854775808");
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 10, 100, 1024})
     void bitSetCorrect(int bitsCount) {
@@ -267,6 +730,92 @@ class HeadersTest {
                 .hasMessage("Bits Count must be between 1 and 1024");
     }
 
+    @ParameterizedTest
+    @MethodSource("packedArrayCorrectValues")
+    void packedArrayCorrect(int length, int elementBits) {
+        // given
+        BitHeader<PackedArrayEncoder> header = Headers.packedArray(HEADER_NAME, length, elementBits);
+
+        // then
+        assertHeader(header, length * elementBits);
+    }
+
+    private static Stream<Arguments> packedArrayCorrectValues() {
+        return Stream.of(
+                Arguments.of(1, 1),
+                Arguments.of(8, 3),
+                Arguments.of(24, 7),
+                Arguments.of(1024, 1),
+                Arguments.of(33, 31)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MIN_VALUE, -1, 0, 32, Integer.MAX_VALUE})
+    void packedArrayIncorrectElementBits(int elementBits) {
+        // given
+        Throwable thrown = catchThrowable(() -> Headers.packedArray(HEADER_NAME, 1, elementBits));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bits Count must be between 1 and 31");
+    }
+
+    @ParameterizedTest
+    @MethodSource("packedArrayIncorrectLengthValues")
+    void packedArrayIncorrectLength(int length, int elementBits, String message) {
+        // given
+        Throwable thrown = catchThrowable(() -> Headers.packedArray(HEADER_NAME, length, elementBits));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+
+    private static Stream<Arguments> packedArrayIncorrectLengthValues() {
+        return Stream.of(
+                Arguments.of(0, 1, "Length must be between 1 and 1024"),
+                Arguments.of(-1, 7, "Length must be between 1 and 146"),
+                Arguments.of(1025, 1, "Length must be between 1 and 1024"),
+                Arguments.of(147, 7, "Length must be between 1 and 146"),
+                Arguments.of(Integer.MAX_VALUE, 31, "Length must be between 1 and 33")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("packedArrayMaxValueCorrectValues")
+    void packedArrayMaxValueCorrect(int length, int maxValue, int bitsCount) {
+        // given
+        BitHeader<PackedArrayEncoder> header = Headers.packedArrayMaxValue(HEADER_NAME, length, maxValue);
+
+        // then
+        assertHeader(header, bitsCount);
+    }
+
+    private static Stream<Arguments> packedArrayMaxValueCorrectValues() {
+        return Stream.of(
+                Arguments.of(1, 1, 1),
+                Arguments.of(8, 5, 24),
+                Arguments.of(24, 120, 168),
+                Arguments.of(24, 128, 192),
+                Arguments.of(2, Integer.MAX_VALUE, 62)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MIN_VALUE, -1, 0})
+    void packedArrayMaxValueIncorrect(int maxValue) {
+        // given
+        Throwable thrown = catchThrowable(() -> Headers.packedArrayMaxValue(HEADER_NAME, 1, maxValue));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Max Value must be between 1 and 2147483647");
+    }
+
     @ParameterizedTest
     @MethodSource("enumBitSetCorrectValues")
     <E extends Enum<E>> void enumBitSetCorrect(Class<E> type, int bitsCount) {
@@ -560,6 +1109,224 @@ class HeadersTest {
                 .hasMessage("Number of possible values must be between 2 and 2147483648");
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 31})
+    void doublyLinkedListOnBitsCorrect(int bitsCount) {
+        // when
+        BitHeader<DoublyLinkedListEncoder> header = Headers.doublyLinkedListOnBits(HEADER_NAME, bitsCount);
+
+        // then
+        assertHeader(header, 2 * bitsCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-100, -1, 0, 32})
+    void doublyLinkedListOnBitsIncorrect(int bitsCount) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.doublyLinkedListOnBits(HEADER_NAME, bitsCount));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bits Count must be between 1 and 31");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "2,          2",
+            "3,          4",
+            "9,          8",
+            "2147483648, 62"
+    })
+    void doublyLinkedListSizeCorrect(long size, int bitsCount) {
+        // when
+        BitHeader<DoublyLinkedListEncoder> header = Headers.doublyLinkedListOfSize(HEADER_NAME, size);
+
+        // then
+        assertHeader(header, bitsCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-100, -1, 0, 1, 2147483649L})
+    void doublyLinkedListSizeIncorrect(long size) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.doublyLinkedListOfSize(HEADER_NAME, size));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Number of possible values must be between 2 and 2147483648");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 31})
+    void treeOnBitsCorrect(int bitsCount) {
+        // when
+        BitHeader<TreeEncoder> header = Headers.treeOnBits(HEADER_NAME, bitsCount);
+
+        // then
+        assertHeader(header, 3 * bitsCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-100, -1, 0, 32})
+    void treeOnBitsIncorrect(int bitsCount) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.treeOnBits(HEADER_NAME, bitsCount));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bits Count must be between 1 and 31");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1,          3",
+            "2,          6",
+            "3,          6",
+            "7,          9",
+            "8,          12",
+            "2147483647, 93"
+    })
+    void treeSizeCorrect(long size, int bitsCount) {
+        // when
+        BitHeader<TreeEncoder> header = Headers.treeOfSize(HEADER_NAME, size);
+
+        // then
+        assertHeader(header, bitsCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-100, -1, 0, 2147483648L})
+    void treeSizeIncorrect(long size) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.treeOfSize(HEADER_NAME, size));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Number of possible values must be between 2 and 2147483648");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 31})
+    void adjacencyOnBitsCorrect(int bitsCount) {
+        // when
+        AdjacencyHeader header = Headers.adjacencyOnBits(HEADER_NAME, bitsCount);
+
+        // then
+        assertHeader(header);
+        assertThat(header.offsetHeader().name()).isEqualTo(HEADER_NAME + "-offset");
+        assertThat(header.offsetHeader().bitsCount()).isEqualTo(31);
+        assertThat(header.degreeHeader().name()).isEqualTo(HEADER_NAME + "-degree");
+        assertThat(header.degreeHeader().bitsCount()).isEqualTo(bitsCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-100, -1, 0, 32})
+    void adjacencyOnBitsIncorrect(int bitsCount) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.adjacencyOnBits(HEADER_NAME, bitsCount));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bits Count must be between 1 and 31");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1,          1",
+            "2,          2",
+            "7,          3",
+            "8,          4",
+            "2147483647, 31"
+    })
+    void adjacencyMaxDegreeCorrect(int maxDegree, int bitsCount) {
+        // when
+        AdjacencyHeader header = Headers.adjacencyMaxDegree(HEADER_NAME, maxDegree);
+
+        // then
+        assertHeader(header);
+        assertThat(header.degreeHeader().bitsCount()).isEqualTo(bitsCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-100, -1, 0, Integer.MIN_VALUE})
+    void adjacencyMaxDegreeIncorrect(int maxDegree) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.adjacencyMaxDegree(HEADER_NAME, maxDegree));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Max Value must be between 1 and 2147483647");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 31})
+    void intArrayOnBitsCorrect(int bitsCount) {
+        // when
+        IntArrayHeader header = Headers.intArrayOnBits(HEADER_NAME, bitsCount);
+
+        // then
+        assertHeader(header);
+        assertThat(header.offsetHeader().name()).isEqualTo(HEADER_NAME + "-offset");
+        assertThat(header.offsetHeader().bitsCount()).isEqualTo(31);
+        assertThat(header.lengthHeader().name()).isEqualTo(HEADER_NAME + "-length");
+        assertThat(header.lengthHeader().bitsCount()).isEqualTo(bitsCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-100, -1, 0, 32})
+    void intArrayOnBitsIncorrect(int bitsCount) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.intArrayOnBits(HEADER_NAME, bitsCount));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bits Count must be between 1 and 31");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1,          1",
+            "7,          3",
+            "8,          4",
+            "2147483647, 31"
+    })
+    void intArrayMaxLengthCorrect(int maxLength, int bitsCount) {
+        // when
+        IntArrayHeader header = Headers.intArrayMaxLength(HEADER_NAME, maxLength);
+
+        // then
+        assertHeader(header);
+        assertThat(header.lengthHeader().bitsCount()).isEqualTo(bitsCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-100, -1, 0, Integer.MIN_VALUE})
+    void intArrayMaxLengthIncorrect(int maxLength) {
+        // when
+        Throwable thrown = catchThrowable(() -> Headers.intArrayMaxLength(HEADER_NAME, maxLength));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Max Value must be between 1 and 2147483647");
+    }
+
+    @Test
+    void hashIndex() {
+        // when
+        HashIndexHeader header = Headers.hashIndex(HEADER_NAME);
+
+        // then
+        assertHeader(header);
+    }
+
     private static void assertHeader(Header<?> header) {
         assertThat(header.name()).isEqualTo(HEADER_NAME);
     }
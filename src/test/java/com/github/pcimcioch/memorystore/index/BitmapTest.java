@@ -0,0 +1,186 @@
+package com.github.pcimcioch.memorystore.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class BitmapTest {
+
+    @Test
+    void emptyBitmap() {
+        // when
+        Bitmap testee = new Bitmap();
+
+        // then
+        assertThat(testee.isEmpty()).isTrue();
+        assertThat(testee.cardinality()).isZero();
+        assertThat(testee.get(0)).isFalse();
+        assertThat(testee.get(1_000_000)).isFalse();
+        assertThat(testee.nextSetBit(0)).isEqualTo(-1L);
+        assertThat(testee.stream()).isEmpty();
+    }
+
+    @Test
+    void incorrectPosition() {
+        // given
+        Bitmap testee = new Bitmap();
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(-1));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Position must be greater or equal zero");
+    }
+
+    @Test
+    void setAndClear() {
+        // given
+        Bitmap testee = new Bitmap();
+
+        // when
+        testee.set(0);
+        testee.set(63);
+        testee.set(64);
+        testee.set(65536);
+        testee.set(10_000_000);
+        testee.set(64);
+        testee.clear(63);
+        testee.clear(5);
+        testee.clear(100_000_000);
+
+        // then
+        assertThat(testee.cardinality()).isEqualTo(4);
+        assertThat(testee.get(0)).isTrue();
+        assertThat(testee.get(63)).isFalse();
+        assertThat(testee.get(64)).isTrue();
+        assertThat(testee.get(65536)).isTrue();
+        assertThat(testee.get(10_000_000)).isTrue();
+        assertThat(testee.stream()).containsExactly(0L, 64L, 65536L, 10_000_000L);
+    }
+
+    @Test
+    void clearAll() {
+        // given
+        Bitmap testee = new Bitmap();
+        testee.set(10);
+        testee.set(100_000);
+
+        // when
+        testee.clear();
+
+        // then
+        assertThat(testee.isEmpty()).isTrue();
+        assertThat(testee.get(10)).isFalse();
+        assertThat(testee).isEqualTo(new Bitmap());
+    }
+
+    @Test
+    void nextSetBit() {
+        // given
+        Bitmap testee = bitmap(3, 64, 200_000, 200_001);
+
+        // when then
+        assertThat(testee.nextSetBit(0)).isEqualTo(3L);
+        assertThat(testee.nextSetBit(3)).isEqualTo(3L);
+        assertThat(testee.nextSetBit(4)).isEqualTo(64L);
+        assertThat(testee.nextSetBit(65)).isEqualTo(200_000L);
+        assertThat(testee.nextSetBit(200_001)).isEqualTo(200_001L);
+        assertThat(testee.nextSetBit(200_002)).isEqualTo(-1L);
+    }
+
+    @Test
+    void iterateAndForEach() {
+        // given
+        Bitmap testee = bitmap(1, 2, 127, 128, 70_000);
+        List<Long> visited = new ArrayList<>();
+        List<Long> iterated = new ArrayList<>();
+
+        // when
+        testee.forEach(visited::add);
+        PrimitiveIterator.OfLong iterator = testee.iterator();
+        while (iterator.hasNext()) {
+            iterated.add(iterator.nextLong());
+        }
+
+        // then
+        assertThat(visited).containsExactly(1L, 2L, 127L, 128L, 70_000L);
+        assertThat(iterated).containsExactly(1L, 2L, 127L, 128L, 70_000L);
+    }
+
+    @Test
+    void logicalOperations() {
+        // given
+        Bitmap first = bitmap(1, 2, 3, 100_000, 300_000);
+        Bitmap second = bitmap(2, 3, 4, 300_000, 500_000);
+
+        // when then
+        assertThat(first.and(second).stream()).containsExactly(2L, 3L, 300_000L);
+        assertThat(first.or(second).stream()).containsExactly(1L, 2L, 3L, 4L, 100_000L, 300_000L, 500_000L);
+        assertThat(first.andNot(second).stream()).containsExactly(1L, 100_000L);
+        assertThat(first.xor(second).stream()).containsExactly(1L, 4L, 100_000L, 500_000L);
+        assertThat(first.and(second).cardinality()).isEqualTo(3);
+        assertThat(first.stream()).containsExactly(1L, 2L, 3L, 100_000L, 300_000L);
+        assertThat(second.stream()).containsExactly(2L, 3L, 4L, 300_000L, 500_000L);
+    }
+
+    @Test
+    void emptyResultsAreEqual() {
+        // given
+        Bitmap first = bitmap(1, 100_000);
+        Bitmap second = bitmap(2, 200_000);
+
+        // when
+        Bitmap result = first.and(second);
+
+        // then
+        assertThat(result).isEqualTo(new Bitmap());
+        assertThat(result.hashCode()).isEqualTo(new Bitmap().hashCode());
+    }
+
+    @Test
+    void copyIsIndependent() {
+        // given
+        Bitmap testee = bitmap(1, 2);
+
+        // when
+        Bitmap copy = testee.copy();
+        copy.set(3);
+
+        // then
+        assertThat(testee.stream()).containsExactly(1L, 2L);
+        assertThat(copy.stream()).containsExactly(1L, 2L, 3L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 63L, 64L, 65L, 65535L, 65536L, 65537L, 200_000L})
+    void range(long size) {
+        // when
+        Bitmap testee = Bitmap.range(size);
+
+        // then
+        assertThat(testee.cardinality()).isEqualTo(size);
+        assertThat(testee.stream().count()).isEqualTo(size);
+        assertThat(testee.get(size)).isFalse();
+        if (size > 0) {
+            assertThat(testee.get(size - 1)).isTrue();
+            assertThat(testee.get(0)).isTrue();
+        }
+    }
+
+    private static Bitmap bitmap(long... positions) {
+        Bitmap bitmap = new Bitmap();
+        for (long position : positions) {
+            bitmap.set(position);
+        }
+        return bitmap;
+    }
+}
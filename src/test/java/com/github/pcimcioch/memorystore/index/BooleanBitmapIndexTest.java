@@ -0,0 +1,54 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.BooleanEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.pcimcioch.memorystore.header.Headers.bool;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BooleanBitmapIndexTest {
+
+    private static final BitHeader<BooleanEncoder> ACCESSIBLE = bool("accessible");
+
+    private final Table table = new Table(List.of(ACCESSIBLE));
+    private final BooleanEncoder encoder = table.encoderFor(ACCESSIBLE);
+
+    @Test
+    void setValues() {
+        // given
+        BooleanBitmapIndex testee = new BooleanBitmapIndex(encoder);
+
+        // when
+        testee.set(0, true);
+        testee.set(1, false);
+        testee.set(2, true);
+        testee.set(0, false);
+
+        // then
+        assertThat(encoder.get(2)).isTrue();
+        assertThat(testee.equalTo(true).stream()).containsExactly(2L);
+        assertThat(testee.equalTo(false).stream()).containsExactly(0L, 1L);
+        assertThat(testee.count(true)).isEqualTo(1);
+        assertThat(testee.count(false)).isEqualTo(2);
+    }
+
+    @Test
+    void rebuild() {
+        // given
+        encoder.set(0, true);
+        encoder.set(1, false);
+        encoder.set(2, true);
+        BooleanBitmapIndex testee = new BooleanBitmapIndex(encoder);
+
+        // when
+        testee.rebuild(3);
+
+        // then
+        assertThat(testee.equalTo(true).stream()).containsExactly(0L, 2L);
+        assertThat(testee.equalTo(false).stream()).containsExactly(1L);
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.EnumEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.pcimcioch.memorystore.header.Headers.enumType;
+import static com.github.pcimcioch.memorystore.header.Headers.nullableEnumType;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnumBitmapIndexTest {
+
+    private enum Surface {
+        ASPHALT,
+        CONCRETE,
+        GRAVEL,
+        SAND
+    }
+
+    private static final BitHeader<EnumEncoder<Surface>> SURFACE = enumType("surface", Surface.class);
+    private static final BitHeader<EnumEncoder<Surface>> NULLABLE_SURFACE = nullableEnumType("nullableSurface", Surface.class);
+
+    private final Table table = new Table(List.of(SURFACE, NULLABLE_SURFACE));
+    private final EnumEncoder<Surface> encoder = table.encoderFor(SURFACE);
+    private final EnumEncoder<Surface> nullableEncoder = table.encoderFor(NULLABLE_SURFACE);
+
+    @Test
+    void emptyIndex() {
+        // when
+        EnumBitmapIndex<Surface> testee = new EnumBitmapIndex<>(encoder);
+
+        // then
+        assertThat(testee.recordsCount()).isZero();
+        assertThat(testee.count(Surface.ASPHALT)).isZero();
+        assertThat(testee.equalTo(Surface.ASPHALT).isEmpty()).isTrue();
+    }
+
+    @Test
+    void setValues() {
+        // given
+        EnumBitmapIndex<Surface> testee = new EnumBitmapIndex<>(encoder);
+
+        // when
+        testee.set(0, Surface.ASPHALT);
+        testee.set(1, Surface.GRAVEL);
+        testee.set(2, Surface.ASPHALT);
+        testee.set(3, Surface.SAND);
+        testee.set(100_000, Surface.GRAVEL);
+
+        // then
+        assertThat(encoder.get(1)).isEqualTo(Surface.GRAVEL);
+        assertThat(testee.equalTo(Surface.ASPHALT).stream()).containsExactly(0L, 2L);
+        assertThat(testee.equalTo(Surface.GRAVEL).stream()).containsExactly(1L, 100_000L);
+        assertThat(testee.equalTo(Surface.CONCRETE).stream()).isEmpty();
+        assertThat(testee.in(List.of(Surface.SAND, Surface.ASPHALT)).stream()).containsExactly(0L, 2L, 3L);
+        assertThat(testee.count(Surface.ASPHALT)).isEqualTo(2);
+        assertThat(testee.count(Surface.CONCRETE)).isZero();
+        assertThat(testee.recordsCount()).isEqualTo(5);
+    }
+
+    @Test
+    void overrideValues() {
+        // given
+        EnumBitmapIndex<Surface> testee = new EnumBitmapIndex<>(encoder);
+        testee.set(0, Surface.ASPHALT);
+        testee.set(1, Surface.ASPHALT);
+
+        // when
+        testee.set(1, Surface.SAND);
+
+        // then
+        assertThat(testee.equalTo(Surface.ASPHALT).stream()).containsExactly(0L);
+        assertThat(testee.equalTo(Surface.SAND).stream()).containsExactly(1L);
+        assertThat(testee.recordsCount()).isEqualTo(2);
+    }
+
+    @Test
+    void removeRecord() {
+        // given
+        EnumBitmapIndex<Surface> testee = new EnumBitmapIndex<>(encoder);
+        testee.set(0, Surface.ASPHALT);
+        testee.set(1, Surface.ASPHALT);
+
+        // when
+        testee.remove(1);
+        testee.remove(5);
+
+        // then
+        assertThat(testee.equalTo(Surface.ASPHALT).stream()).containsExactly(0L);
+        assertThat(testee.isIndexed(1)).isFalse();
+        assertThat(encoder.get(1)).isEqualTo(Surface.ASPHALT);
+    }
+
+    @Test
+    void nullableValues() {
+        // given
+        EnumBitmapIndex<Surface> testee = new EnumBitmapIndex<>(nullableEncoder);
+
+        // when
+        testee.set(0, null);
+        testee.set(1, Surface.CONCRETE);
+        testee.set(2, null);
+
+        // then
+        assertThat(testee.equalTo(null).stream()).containsExactly(0L, 2L);
+        assertThat(testee.equalTo(Surface.CONCRETE).stream()).containsExactly(1L);
+    }
+
+    @Test
+    void rebuild() {
+        // given
+        encoder.set(0, Surface.SAND);
+        encoder.set(1, Surface.GRAVEL);
+        encoder.set(2, Surface.SAND);
+        EnumBitmapIndex<Surface> testee = new EnumBitmapIndex<>(encoder);
+        testee.set(10, Surface.ASPHALT);
+
+        // when
+        testee.rebuild(3);
+
+        // then
+        assertThat(testee.equalTo(Surface.SAND).stream()).containsExactly(0L, 2L);
+        assertThat(testee.equalTo(Surface.GRAVEL).stream()).containsExactly(1L);
+        assertThat(testee.equalTo(Surface.ASPHALT).stream()).isEmpty();
+        assertThat(testee.recordsCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.ObjectPoolEncoder;
+import com.github.pcimcioch.memorystore.header.ObjectPoolHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.pcimcioch.memorystore.header.Headers.objectPool;
+import static com.github.pcimcioch.memorystore.header.Headers.poolOnBits;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectPoolBitmapIndexTest {
+
+    private static final ObjectPoolHeader<String> CITY = objectPool("city", poolOnBits("cities", 4));
+
+    private final Table table = new Table(List.of(CITY));
+    private final ObjectPoolEncoder<String> encoder = table.encoderFor(CITY);
+
+    @Test
+    void setValues() {
+        // given
+        ObjectPoolBitmapIndex<String> testee = new ObjectPoolBitmapIndex<>(encoder);
+
+        // when
+        testee.set(0, "Warsaw");
+        testee.set(1, "Cracow");
+        testee.set(2, "Warsaw");
+        testee.set(3, "Gdansk");
+        testee.set(3, "Cracow");
+
+        // then
+        assertThat(encoder.get(3)).isEqualTo("Cracow");
+        assertThat(testee.equalTo("Warsaw").stream()).containsExactly(0L, 2L);
+        assertThat(testee.equalTo("Gdansk").stream()).isEmpty();
+        assertThat(testee.equalTo("Poznan").stream()).isEmpty();
+        assertThat(testee.in(List.of("Cracow", "Poznan")).stream()).containsExactly(1L, 3L);
+        assertThat(testee.count("Warsaw")).isEqualTo(2);
+        assertThat(testee.count("Poznan")).isZero();
+    }
+
+    @Test
+    void rebuild() {
+        // given
+        encoder.set(0, "Warsaw");
+        encoder.set(1, "Cracow");
+        ObjectPoolBitmapIndex<String> testee = new ObjectPoolBitmapIndex<>(encoder);
+
+        // when
+        testee.rebuild(2);
+
+        // then
+        assertThat(testee.equalTo("Warsaw").stream()).containsExactly(0L);
+        assertThat(testee.equalTo("Cracow").stream()).containsExactly(1L);
+    }
+}
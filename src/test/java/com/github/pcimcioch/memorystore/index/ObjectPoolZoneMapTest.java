@@ -0,0 +1,65 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.ObjectPoolEncoder;
+import com.github.pcimcioch.memorystore.header.ObjectPoolHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.pcimcioch.memorystore.header.Headers.objectPool;
+import static com.github.pcimcioch.memorystore.header.Headers.poolOnBits;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectPoolZoneMapTest {
+
+    private static final ObjectPoolHeader<String> CITY = objectPool("city", poolOnBits("cities", 8));
+
+    private final Table table = new Table(List.of(CITY));
+    private final ObjectPoolEncoder<String> encoder = table.encoderFor(CITY);
+
+    @Test
+    void zoneAlignedWithStoreBlock() {
+        // when
+        ObjectPoolZoneMap<String> testee = new ObjectPoolZoneMap<>(encoder);
+
+        // then
+        assertThat(testee.zoneSize()).isEqualTo(encoder.recordsPerBlock());
+    }
+
+    @Test
+    void filters() {
+        // given
+        ObjectPoolZoneMap<String> testee = new ObjectPoolZoneMap<>(encoder, 2);
+
+        // when
+        testee.set(0, "Warsaw");
+        testee.set(1, "Cracow");
+        testee.set(2, "Gdansk");
+        testee.set(3, "Gdansk");
+        testee.set(4, "Warsaw");
+
+        // then
+        assertThat(testee.equalTo("Warsaw").stream()).containsExactly(0L, 4L);
+        assertThat(testee.equalTo("Gdansk").stream()).containsExactly(2L, 3L);
+        assertThat(testee.equalTo("Poznan").stream()).isEmpty();
+        assertThat(testee.mayContain(1, encoder.poolIndexOf("Gdansk"))).isTrue();
+        assertThat(testee.mayContain(2, encoder.poolIndexOf("Gdansk"))).isFalse();
+    }
+
+    @Test
+    void rebuild() {
+        // given
+        ObjectPoolZoneMap<String> testee = new ObjectPoolZoneMap<>(encoder, 2);
+        encoder.set(0, "Warsaw");
+        encoder.set(1, "Cracow");
+        encoder.set(2, "Warsaw");
+
+        // when
+        testee.rebuild(3);
+
+        // then
+        assertThat(testee.count(0)).isEqualTo(2);
+        assertThat(testee.equalTo("Warsaw").stream()).containsExactly(0L, 2L);
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.SignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.pcimcioch.memorystore.header.Headers.intRange;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignedIntegerBitSlicedIndexTest {
+
+    private static final BitHeader<SignedIntegerEncoder> TEMPERATURE = intRange("temperature", -50, 50);
+
+    private final Table table = new Table(List.of(TEMPERATURE));
+    private final SignedIntegerBitSlicedIndex testee = new SignedIntegerBitSlicedIndex(table.encoderFor(TEMPERATURE));
+
+    @Test
+    void negativeValues() {
+        // given
+        testee.set(0, -50);
+        testee.set(1, -10);
+        testee.set(2, 0);
+        testee.set(3, 25);
+        testee.set(4, -10);
+
+        // then
+        assertThat(testee.equalTo(-10).stream()).containsExactly(1L, 4L);
+        assertThat(testee.lessThan(0).stream()).containsExactly(0L, 1L, 4L);
+        assertThat(testee.greaterThanOrEqual(-10).stream()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(testee.between(-20, 20).stream()).containsExactly(1L, 2L, 4L);
+        assertThat(testee.lessThan(-100).stream()).isEmpty();
+        assertThat(testee.greaterThan(-100).stream()).containsExactly(0L, 1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void sum() {
+        // given
+        testee.set(0, -50);
+        testee.set(1, -10);
+        testee.set(2, 25);
+
+        // then
+        assertThat(testee.sum()).isEqualTo(-35L);
+        assertThat(testee.sum(testee.lessThan(0))).isEqualTo(-60L);
+    }
+
+    @Test
+    void topK() {
+        // given
+        testee.set(0, -50);
+        testee.set(1, -10);
+        testee.set(2, 25);
+        testee.set(3, 0);
+
+        // then
+        assertThat(testee.topK(2).stream()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void rebuild() {
+        // given
+        table.encoderFor(TEMPERATURE).set(0, -20);
+        table.encoderFor(TEMPERATURE).set(1, 20);
+
+        // when
+        testee.rebuild(2);
+
+        // then
+        assertThat(testee.lessThan(0).stream()).containsExactly(0L);
+        assertThat(testee.sum()).isEqualTo(0L);
+    }
+}
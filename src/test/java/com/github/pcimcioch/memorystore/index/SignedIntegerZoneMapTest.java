@@ -0,0 +1,53 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.SignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.pcimcioch.memorystore.header.Headers.intRange;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignedIntegerZoneMapTest {
+
+    private static final BitHeader<SignedIntegerEncoder> TEMPERATURE = intRange("temperature", -50, 50);
+
+    private final Table table = new Table(List.of(TEMPERATURE));
+    private final SignedIntegerZoneMap testee = new SignedIntegerZoneMap(table.encoderFor(TEMPERATURE), 2);
+
+    @Test
+    void negativeValues() {
+        // given
+        testee.set(0, -50);
+        testee.set(1, -10);
+        testee.set(2, 0);
+        testee.set(3, 25);
+
+        // then
+        assertThat(testee.min(0)).isEqualTo(-50);
+        assertThat(testee.max(0)).isEqualTo(-10);
+        assertThat(testee.zeroCount(1)).isEqualTo(1);
+        assertThat(testee.mayContain(0, 0, 50)).isFalse();
+        assertThat(testee.between(-20, 10).stream()).containsExactly(1L, 2L);
+        assertThat(testee.equalTo(-50).stream()).containsExactly(0L);
+    }
+
+    @Test
+    void rebuild() {
+        // given
+        table.encoderFor(TEMPERATURE).set(0, -20);
+        table.encoderFor(TEMPERATURE).set(1, 20);
+        table.encoderFor(TEMPERATURE).set(2, 30);
+
+        // when
+        testee.rebuild(3);
+
+        // then
+        assertThat(testee.zonesCount()).isEqualTo(2);
+        assertThat(testee.min(0)).isEqualTo(-20);
+        assertThat(testee.max(1)).isEqualTo(30);
+        assertThat(testee.between(0, 25).stream()).containsExactly(1L);
+    }
+}
@@ -0,0 +1,221 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import java.util.stream.LongStream;
+
+import static com.github.pcimcioch.memorystore.header.Headers.unsignedIntOnBits;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class UnsignedIntegerBitSlicedIndexTest {
+
+    private static final BitHeader<UnsignedIntegerEncoder> PRICE = unsignedIntOnBits("price", 10);
+
+    private final Table table = new Table(List.of(PRICE));
+    private final UnsignedIntegerBitSlicedIndex testee = new UnsignedIntegerBitSlicedIndex(table.encoderFor(PRICE));
+
+    @Test
+    void emptyIndex() {
+        // then
+        assertThat(testee.records().isEmpty()).isTrue();
+        assertThat(testee.equalTo(0).isEmpty()).isTrue();
+        assertThat(testee.lessThan(1023).isEmpty()).isTrue();
+        assertThat(testee.sum()).isEqualTo(0L);
+        assertThat(testee.topK(10).isEmpty()).isTrue();
+    }
+
+    @Test
+    void rangePredicates() {
+        // given
+        testee.set(0, 10);
+        testee.set(1, 20);
+        testee.set(2, 30);
+        testee.set(3, 20);
+        testee.set(4, 0);
+        testee.set(5, 1023);
+
+        // then
+        assertThat(testee.equalTo(20).stream()).containsExactly(1L, 3L);
+        assertThat(testee.lessThan(20).stream()).containsExactly(0L, 4L);
+        assertThat(testee.lessThanOrEqual(20).stream()).containsExactly(0L, 1L, 3L, 4L);
+        assertThat(testee.greaterThan(20).stream()).containsExactly(2L, 5L);
+        assertThat(testee.greaterThanOrEqual(20).stream()).containsExactly(1L, 2L, 3L, 5L);
+        assertThat(testee.between(10, 20).stream()).containsExactly(0L, 1L, 3L);
+        assertThat(testee.between(20, 10).stream()).isEmpty();
+    }
+
+    @Test
+    void valuesOutsideOfRange() {
+        // given
+        testee.set(0, 0);
+        testee.set(1, 1023);
+
+        // then
+        assertThat(testee.equalTo(-1).stream()).isEmpty();
+        assertThat(testee.equalTo(1024).stream()).isEmpty();
+        assertThat(testee.lessThan(0).stream()).isEmpty();
+        assertThat(testee.lessThan(2000).stream()).containsExactly(0L, 1L);
+        assertThat(testee.lessThanOrEqual(-5).stream()).isEmpty();
+        assertThat(testee.lessThanOrEqual(1023).stream()).containsExactly(0L, 1L);
+        assertThat(testee.greaterThan(1023).stream()).isEmpty();
+        assertThat(testee.greaterThan(-1).stream()).containsExactly(0L, 1L);
+        assertThat(testee.greaterThanOrEqual(2000).stream()).isEmpty();
+        assertThat(testee.greaterThanOrEqual(0).stream()).containsExactly(0L, 1L);
+    }
+
+    @Test
+    void updateValue() {
+        // given
+        testee.set(0, 10);
+        testee.set(1, 20);
+
+        // when
+        testee.set(0, 30);
+
+        // then
+        assertThat(table.encoderFor(PRICE).get(0)).isEqualTo(30);
+        assertThat(testee.equalTo(10).stream()).isEmpty();
+        assertThat(testee.equalTo(30).stream()).containsExactly(0L);
+        assertThat(testee.sum()).isEqualTo(50L);
+    }
+
+    @Test
+    void incorrectValueDoesNotModifyIndex() {
+        // given
+        testee.set(0, 10);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, 1024));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must be between [0, 1023]");
+        assertThat(testee.equalTo(10).stream()).containsExactly(0L);
+    }
+
+    @Test
+    void removeRecord() {
+        // given
+        testee.set(0, 10);
+        testee.set(1, 20);
+
+        // when
+        testee.remove(0);
+
+        // then
+        assertThat(testee.records().stream()).containsExactly(1L);
+        assertThat(testee.lessThan(100).stream()).containsExactly(1L);
+        assertThat(table.encoderFor(PRICE).get(0)).isEqualTo(10);
+    }
+
+    @Test
+    void sum() {
+        // given
+        testee.set(0, 10);
+        testee.set(1, 20);
+        testee.set(2, 30);
+        testee.set(100_000, 1000);
+        Bitmap filter = new Bitmap();
+        filter.set(1);
+        filter.set(100_000);
+        filter.set(200_000);
+
+        // then
+        assertThat(testee.sum()).isEqualTo(1060L);
+        assertThat(testee.sum(filter)).isEqualTo(1020L);
+    }
+
+    @Test
+    void topK() {
+        // given
+        testee.set(0, 10);
+        testee.set(1, 50);
+        testee.set(2, 30);
+        testee.set(3, 50);
+        testee.set(4, 30);
+        testee.set(5, 30);
+
+        // then
+        assertThat(testee.topK(0).stream()).isEmpty();
+        assertThat(testee.topK(1).stream()).containsExactly(1L);
+        assertThat(testee.topK(2).stream()).containsExactly(1L, 3L);
+        assertThat(testee.topK(3).stream()).containsExactly(1L, 2L, 3L);
+        assertThat(testee.topK(5).stream()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(testee.topK(10).stream()).containsExactly(0L, 1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void topKOfFiltered() {
+        // given
+        testee.set(0, 10);
+        testee.set(1, 50);
+        testee.set(2, 30);
+        testee.set(3, 40);
+
+        // when
+        Bitmap result = testee.topK(2, testee.lessThan(50));
+
+        // then
+        assertThat(result.stream()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void incorrectK() {
+        // when
+        Throwable thrown = catchThrowable(() -> testee.topK(-1));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("K must be greater or equal zero");
+    }
+
+    @Test
+    void rebuild() {
+        // given
+        UnsignedIntegerEncoder encoder = table.encoderFor(PRICE);
+        encoder.set(0, 5);
+        encoder.set(1, 15);
+        encoder.set(2, 25);
+
+        // when
+        testee.rebuild(3);
+
+        // then
+        assertThat(testee.records().stream()).containsExactly(0L, 1L, 2L);
+        assertThat(testee.greaterThan(10).stream()).containsExactly(1L, 2L);
+        assertThat(testee.sum()).isEqualTo(45L);
+    }
+
+    @Test
+    void matchesFullScan() {
+        // given
+        Random random = new Random(42);
+        int count = 200_000;
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextInt(1024);
+            testee.set(i, values[i]);
+        }
+
+        // then
+        for (int value : new int[]{0, 1, 100, 511, 512, 1000, 1023}) {
+            assertThat(testee.lessThan(value).stream().toArray()).containsExactly(expected(values, v -> v < value));
+            assertThat(testee.equalTo(value).stream().toArray()).containsExactly(expected(values, v -> v == value));
+            assertThat(testee.greaterThan(value).stream().toArray()).containsExactly(expected(values, v -> v > value));
+        }
+        assertThat(testee.sum()).isEqualTo(LongStream.range(0, count).map(i -> values[(int) i]).sum());
+    }
+
+    private static long[] expected(int[] values, IntPredicate predicate) {
+        return LongStream.range(0, values.length).filter(i -> predicate.test(values[(int) i])).toArray();
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.pcimcioch.memorystore.header.Headers.unsignedIntOnBits;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class UnsignedIntegerBitmapIndexTest {
+
+    private static final BitHeader<UnsignedIntegerEncoder> LANES = unsignedIntOnBits("lanes", 3);
+    private static final BitHeader<UnsignedIntegerEncoder> WIDE = unsignedIntOnBits("wide", 17);
+
+    private final Table table = new Table(List.of(LANES, WIDE));
+
+    @Test
+    void tooManyValues() {
+        // when
+        Throwable thrown = catchThrowable(() -> new UnsignedIntegerBitmapIndex(table.encoderFor(WIDE)));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bitmap index supports fields stored on 1 to 16 bits");
+    }
+
+    @Test
+    void setValues() {
+        // given
+        UnsignedIntegerBitmapIndex testee = new UnsignedIntegerBitmapIndex(table.encoderFor(LANES));
+
+        // when
+        testee.set(0, 1);
+        testee.set(1, 2);
+        testee.set(2, 2);
+        testee.set(3, 7);
+
+        // then
+        assertThat(testee.equalTo(2).stream()).containsExactly(1L, 2L);
+        assertThat(testee.in(1, 7).stream()).containsExactly(0L, 3L);
+        assertThat(testee.equalTo(100).stream()).isEmpty();
+        assertThat(testee.count(2)).isEqualTo(2);
+    }
+
+    @Test
+    void incorrectValueDoesNotModifyIndex() {
+        // given
+        UnsignedIntegerBitmapIndex testee = new UnsignedIntegerBitmapIndex(table.encoderFor(LANES));
+        testee.set(0, 1);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(0, 8));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+        assertThat(testee.equalTo(1).stream()).containsExactly(0L);
+    }
+}
@@ -0,0 +1,194 @@
+package com.github.pcimcioch.memorystore.index;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.github.pcimcioch.memorystore.header.Headers.unsignedIntOnBits;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class UnsignedIntegerZoneMapTest {
+
+    private static final BitHeader<UnsignedIntegerEncoder> TIMESTAMP = unsignedIntOnBits("timestamp", 20);
+    private static final BitHeader<UnsignedIntegerEncoder> FLAGS = unsignedIntOnBits("flags", 30);
+
+    private final Table table = new Table(List.of(TIMESTAMP, FLAGS));
+    private final UnsignedIntegerEncoder encoder = table.encoderFor(TIMESTAMP);
+
+    @Test
+    void incorrectZoneSize() {
+        // when
+        Throwable thrown = catchThrowable(() -> new UnsignedIntegerZoneMap(encoder, 0));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Zone size must be greater than zero");
+    }
+
+    @Test
+    void zoneAlignedWithStoreBlock() {
+        // when
+        UnsignedIntegerZoneMap testee = new UnsignedIntegerZoneMap(encoder);
+
+        // then
+        assertThat(testee.zoneSize()).isEqualTo(65536);
+        assertThat(encoder.recordsPerBlock()).isEqualTo(65536);
+    }
+
+    @Test
+    void collectsStatistics() {
+        // given
+        UnsignedIntegerZoneMap testee = new UnsignedIntegerZoneMap(encoder, 4);
+
+        // when
+        testee.set(0, 10);
+        testee.set(1, 0);
+        testee.set(2, 30);
+        testee.set(5, 100);
+        testee.set(6, 200);
+
+        // then
+        assertThat(testee.zonesCount()).isEqualTo(2);
+        assertThat(testee.zoneOf(5)).isEqualTo(1);
+        assertThat(testee.count(0)).isEqualTo(3);
+        assertThat(testee.zeroCount(0)).isEqualTo(1);
+        assertThat(testee.min(0)).isEqualTo(0);
+        assertThat(testee.max(0)).isEqualTo(30);
+        assertThat(testee.count(1)).isEqualTo(2);
+        assertThat(testee.zeroCount(1)).isZero();
+        assertThat(testee.min(1)).isEqualTo(100);
+        assertThat(testee.max(1)).isEqualTo(200);
+        assertThat(testee.count(5)).isZero();
+    }
+
+    @Test
+    void skipsZones() {
+        // given
+        UnsignedIntegerZoneMap testee = new UnsignedIntegerZoneMap(encoder, 4);
+        testee.set(0, 10);
+        testee.set(1, 20);
+        testee.set(4, 100);
+        testee.set(5, 200);
+
+        // then
+        assertThat(testee.mayContain(0, 15, 50)).isTrue();
+        assertThat(testee.mayContain(0, 21, 50)).isFalse();
+        assertThat(testee.mayContain(1, 21, 50)).isFalse();
+        assertThat(testee.mayContain(1, 150, 300)).isTrue();
+        assertThat(testee.mayContain(2, 0, 1000)).isFalse();
+        assertThat(testee.mayContain(0, 10)).isTrue();
+        assertThat(testee.mayContain(0, 0)).isFalse();
+    }
+
+    @Test
+    void filters() {
+        // given
+        UnsignedIntegerZoneMap testee = new UnsignedIntegerZoneMap(encoder, 4);
+        testee.set(0, 10);
+        testee.set(1, 20);
+        testee.set(2, 0);
+        testee.set(4, 100);
+        testee.set(5, 200);
+        testee.set(9, 20);
+
+        // then
+        assertThat(testee.equalTo(20).stream()).containsExactly(1L, 9L);
+        assertThat(testee.equalTo(0).stream()).containsExactly(2L);
+        assertThat(testee.equalTo(50).stream()).isEmpty();
+        assertThat(testee.between(15, 150).stream()).containsExactly(1L, 4L, 9L);
+        assertThat(testee.between(0, 1000).stream()).containsExactly(0L, 1L, 2L, 4L, 5L, 9L);
+    }
+
+    @Test
+    void updateWidensBounds() {
+        // given
+        UnsignedIntegerZoneMap testee = new UnsignedIntegerZoneMap(encoder, 4);
+        testee.set(0, 10);
+        testee.set(1, 0);
+
+        // when
+        testee.set(0, 50);
+        testee.set(1, 20);
+
+        // then
+        assertThat(testee.count(0)).isEqualTo(2);
+        assertThat(testee.zeroCount(0)).isZero();
+        assertThat(testee.min(0)).isEqualTo(0);
+        assertThat(testee.max(0)).isEqualTo(50);
+        assertThat(testee.equalTo(10).stream()).isEmpty();
+        assertThat(testee.equalTo(50).stream()).containsExactly(0L);
+    }
+
+    @Test
+    void incorrectValueDoesNotModifyStatistics() {
+        // given
+        UnsignedIntegerZoneMap testee = new UnsignedIntegerZoneMap(encoder, 4);
+        testee.set(0, 10);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.set(1, -1));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+        assertThat(testee.count(0)).isEqualTo(1);
+        assertThat(testee.min(0)).isEqualTo(10);
+    }
+
+    @Test
+    void removeRecord() {
+        // given
+        UnsignedIntegerZoneMap testee = new UnsignedIntegerZoneMap(encoder, 4);
+        testee.set(0, 0);
+        testee.set(1, 20);
+
+        // when
+        testee.remove(0);
+        testee.remove(2);
+
+        // then
+        assertThat(testee.count(0)).isEqualTo(1);
+        assertThat(testee.zeroCount(0)).isZero();
+        assertThat(testee.equalTo(0).stream()).isEmpty();
+        assertThat(testee.between(0, 100).stream()).containsExactly(1L);
+    }
+
+    @Test
+    void emptiedZoneResetsBounds() {
+        // given
+        UnsignedIntegerZoneMap testee = new UnsignedIntegerZoneMap(encoder, 4);
+        testee.set(0, 10);
+        testee.remove(0);
+
+        // when
+        testee.set(1, 500);
+
+        // then
+        assertThat(testee.min(0)).isEqualTo(500);
+        assertThat(testee.max(0)).isEqualTo(500);
+    }
+
+    @Test
+    void rebuild() {
+        // given
+        UnsignedIntegerZoneMap testee = new UnsignedIntegerZoneMap(encoder, 1000);
+        LongStream.range(0, 10_000).forEach(position -> encoder.set(position, (int) position));
+
+        // when
+        testee.rebuild(10_000);
+
+        // then
+        assertThat(testee.zonesCount()).isEqualTo(10);
+        assertThat(testee.min(3)).isEqualTo(3000);
+        assertThat(testee.max(3)).isEqualTo(3999);
+        assertThat(testee.count(9)).isEqualTo(1000);
+        assertThat(testee.zeroCount(0)).isEqualTo(1);
+        assertThat(testee.between(2500, 4500).stream()).containsExactly(LongStream.rangeClosed(2500, 4500).boxed().toArray(Long[]::new));
+        assertThat(testee.equalTo(7777).stream()).containsExactly(7777L);
+    }
+}
@@ -0,0 +1,273 @@
+package com.github.pcimcioch.memorystore.layout;
+
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryLayout;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.github.pcimcioch.memorystore.header.Headers.bool;
+import static com.github.pcimcioch.memorystore.header.Headers.byte8;
+import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.long64;
+import static com.github.pcimcioch.memorystore.header.Headers.short16;
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+class AffinityMemoryLayoutBuilderTest {
+
+    @Test
+    void headerWithMultipleAffinities() {
+        // when
+        Throwable thrown = catchThrowable(() -> AffinityMemoryLayoutBuilder.builder()
+                .hot(int32("header1"))
+                .cold(int32("header1")));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Header header1 already has affinity assigned");
+    }
+
+    @Test
+    void emptyGroup() {
+        // when
+        Throwable thrown = catchThrowable(() -> AffinityMemoryLayoutBuilder.builder().group());
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Affinity must be assigned to at least one header");
+    }
+
+    @Test
+    void noAffinity() {
+        // given
+        List<BitHeader<?>> headers = List.of(int32("header1"), byte8("header2"), long64("header3"), bool("header4"));
+        AffinityMemoryLayoutBuilder testee = AffinityMemoryLayoutBuilder.builder().build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout).isEqualTo(new AutomaticMemoryLayoutBuilder().compute(32, headers));
+    }
+
+    @Test
+    void groupInSingleWord() {
+        // given
+        List<BitHeader<?>> headers = List.of(int32("header1"), byte8("header2"), int32("header3"), short16("header4"));
+        AffinityMemoryLayoutBuilder testee = AffinityMemoryLayoutBuilder.builder()
+                .group(byte8("header2"), short16("header4"))
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout.recordSize()).isEqualTo(3);
+        assertThat(layout.memoryPositionFor(short16("header4"))).isEqualTo(new MemoryPosition(0, 0));
+        assertThat(layout.memoryPositionFor(byte8("header2"))).isEqualTo(new MemoryPosition(0, 16));
+        assertThat(layout.memoryPositionFor(int32("header1"))).isEqualTo(new MemoryPosition(1, 0));
+        assertThat(layout.memoryPositionFor(int32("header3"))).isEqualTo(new MemoryPosition(2, 0));
+    }
+
+    @Test
+    void groupInAdjacentWords() {
+        // given
+        List<BitHeader<?>> headers = List.of(long64("header1"), int32("header2"), int32("header3"), byte8("header4"));
+        AffinityMemoryLayoutBuilder testee = AffinityMemoryLayoutBuilder.builder()
+                .group(long64("header1"), byte8("header4"))
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout.recordSize()).isEqualTo(5);
+        assertThat(layout.memoryPositionFor(long64("header1"))).isEqualTo(new MemoryPosition(0, 0));
+        assertThat(layout.memoryPositionFor(byte8("header4"))).isEqualTo(new MemoryPosition(2, 0));
+        assertThat(layout.memoryPositionFor(int32("header2"))).isEqualTo(new MemoryPosition(3, 0));
+        assertThat(layout.memoryPositionFor(int32("header3"))).isEqualTo(new MemoryPosition(4, 0));
+    }
+
+    @Test
+    void hotHeadersFirst() {
+        // given
+        List<BitHeader<?>> headers = List.of(long64("header1"), int32("header2"), bool("header3"));
+        AffinityMemoryLayoutBuilder testee = AffinityMemoryLayoutBuilder.builder()
+                .hot(bool("header3"))
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout.recordSize()).isEqualTo(4);
+        assertThat(layout.memoryPositionFor(bool("header3"))).isEqualTo(new MemoryPosition(0, 0));
+        assertThat(layout.memoryPositionFor(long64("header1"))).isEqualTo(new MemoryPosition(1, 0));
+        assertThat(layout.memoryPositionFor(int32("header2"))).isEqualTo(new MemoryPosition(3, 0));
+    }
+
+    @Test
+    void coldHeadersLast() {
+        // given
+        List<BitHeader<?>> headers = List.of(byte8("header1"), byte8("header2"), byte8("header3"));
+        AffinityMemoryLayoutBuilder testee = AffinityMemoryLayoutBuilder.builder()
+                .cold(byte8("header1"))
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout.recordSize()).isEqualTo(2);
+        assertThat(layout.memoryPositionFor(byte8("header2"))).isEqualTo(new MemoryPosition(0, 0));
+        assertThat(layout.memoryPositionFor(byte8("header3"))).isEqualTo(new MemoryPosition(0, 8));
+        assertThat(layout.memoryPositionFor(byte8("header1"))).isEqualTo(new MemoryPosition(1, 0));
+    }
+
+    @Test
+    void alignToCacheLine() {
+        // given
+        List<BitHeader<?>> headers = List.of(int32("header1"), int32("header2"), int32("header3"));
+        AffinityMemoryLayoutBuilder testee = AffinityMemoryLayoutBuilder.builder()
+                .cold(int32("header3"))
+                .alignToCacheLine()
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout.recordSize()).isEqualTo(32);
+        assertThat(layout.memoryPositionFor(int32("header1"))).isEqualTo(new MemoryPosition(0, 0));
+        assertThat(layout.memoryPositionFor(int32("header2"))).isEqualTo(new MemoryPosition(1, 0));
+        assertThat(layout.memoryPositionFor(int32("header3"))).isEqualTo(new MemoryPosition(16, 0));
+    }
+
+    @Test
+    void doesNotStraddleCacheLine() {
+        // given
+        List<BitHeader<?>> headers = new ArrayList<>();
+        List<BitHeader<?>> hot = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            hot.add(int32("hot" + i));
+        }
+        headers.addAll(hot);
+        headers.add(long64("header"));
+        AffinityMemoryLayoutBuilder testee = AffinityMemoryLayoutBuilder.builder()
+                .hot(hot.toArray(new BitHeader<?>[0]))
+                .alignToCacheLine()
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout.recordSize()).isEqualTo(32);
+        assertThat(layout.memoryPositionFor(long64("header"))).isEqualTo(new MemoryPosition(16, 0));
+        assertNonOverlapping(layout, headers);
+    }
+
+    @Test
+    void noCacheLinePaddingWithoutAlignment() {
+        // given
+        List<BitHeader<?>> headers = new ArrayList<>();
+        List<BitHeader<?>> hot = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            hot.add(int32("hot" + i));
+        }
+        headers.addAll(hot);
+        headers.add(long64("header"));
+        AffinityMemoryLayoutBuilder testee = AffinityMemoryLayoutBuilder.builder()
+                .hot(hot.toArray(new BitHeader<?>[0]))
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout.recordSize()).isEqualTo(17);
+        assertThat(layout.memoryPositionFor(long64("header"))).isEqualTo(new MemoryPosition(15, 0));
+        assertNonOverlapping(layout, headers);
+    }
+
+    @Test
+    void groupInSingleCacheLine() {
+        // given
+        List<BitHeader<?>> headers = new ArrayList<>();
+        for (int i = 0; i < 14; i++) {
+            headers.add(int32("header" + i));
+        }
+        headers.add(long64("long1"));
+        headers.add(long64("long2"));
+        AffinityMemoryLayoutBuilder testee = AffinityMemoryLayoutBuilder.builder()
+                .hot(headers.subList(0, 14).toArray(new BitHeader<?>[0]))
+                .group(long64("long1"), long64("long2"))
+                .alignToCacheLine()
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout.recordSize()).isEqualTo(32);
+        assertThat(layout.memoryPositionFor(long64("long1"))).isEqualTo(new MemoryPosition(16, 0));
+        assertThat(layout.memoryPositionFor(long64("long2"))).isEqualTo(new MemoryPosition(18, 0));
+        assertNonOverlapping(layout, headers);
+    }
+
+    @Test
+    void groupBiggerThanCacheLine() {
+        // given
+        List<BitHeader<?>> headers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            headers.add(long64("header" + i));
+        }
+        headers.add(bool("flag"));
+        AffinityMemoryLayoutBuilder testee = AffinityMemoryLayoutBuilder.builder()
+                .group(headers.toArray(new BitHeader<?>[0]))
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout.recordSize()).isEqualTo(21);
+        assertNonOverlapping(layout, headers);
+    }
+
+    @Test
+    void ignoresMissingHeaders() {
+        // given
+        List<BitHeader<?>> headers = List.of(int32("header1"));
+        AffinityMemoryLayoutBuilder testee = AffinityMemoryLayoutBuilder.builder()
+                .hot(int32("header2"))
+                .group(int32("header3"), int32("header4"))
+                .cold(int32("header5"))
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout).isEqualTo(new MemoryLayout(1, Map.of(int32("header1"), new MemoryPosition(0, 0))));
+    }
+
+    private void assertNonOverlapping(MemoryLayout memoryLayout, List<BitHeader<?>> headers) {
+        Map<BitHeader<?>, MemoryPosition> headerMemoryPosition = headers.stream()
+                .collect(toMap(
+                        Function.identity(),
+                        memoryLayout::memoryPositionFor
+                ));
+
+        assertDoesNotThrow(() -> new NonOverlappingMemoryLayoutBuilder(32, memoryLayout.recordSize(), headerMemoryPosition));
+    }
+}
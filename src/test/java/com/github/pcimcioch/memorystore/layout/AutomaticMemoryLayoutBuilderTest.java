@@ -81,6 +81,10 @@ class AutomaticMemoryLayoutBuilderTest {
                         header("header1", 11, 16),
                         header("header2", 10, 32),
                         header("header3", 9, 16)
+                )),
+                Arguments.of(32, 3, List.of(
+                        header("header1", 65, 96),
+                        header("header2", 31, 32)
                 ))
         );
     }
@@ -0,0 +1,114 @@
+package com.github.pcimcioch.memorystore.layout;
+
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryLayout;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.github.pcimcioch.memorystore.header.Headers.bool;
+import static com.github.pcimcioch.memorystore.header.Headers.byte8;
+import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.long64;
+import static com.github.pcimcioch.memorystore.header.Headers.short16;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class ColumnGroupMemoryLayoutBuilderTest {
+
+    private static final BitHeader<?> ID = long64("id");
+    private static final BitHeader<?> SIZE = short16("size");
+    private static final BitHeader<?> FLAG = bool("flag");
+    private static final BitHeader<?> CODE = byte8("code");
+    private static final BitHeader<?> COUNT = int32("count");
+
+    @Test
+    void headersInMultipleGroups() {
+        // when
+        Throwable thrown = catchThrowable(() -> ColumnGroupMemoryLayoutBuilder.builder().group(FLAG).group(SIZE, FLAG));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Header flag is already assigned to a column group");
+    }
+
+    @Test
+    void emptyGroup() {
+        // when
+        Throwable thrown = catchThrowable(() -> ColumnGroupMemoryLayoutBuilder.builder().group());
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Column group must contain at least one header");
+    }
+
+    @Test
+    void onlyDefaultGroup() {
+        // given
+        ColumnGroupMemoryLayoutBuilder testee = ColumnGroupMemoryLayoutBuilder.builder().build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, List.of(ID, SIZE, FLAG));
+
+        // then
+        assertThat(layout).isEqualTo(new AutomaticMemoryLayoutBuilder().compute(32, List.of(ID, SIZE, FLAG)));
+    }
+
+    @Test
+    void multipleGroups() {
+        // given
+        ColumnGroupMemoryLayoutBuilder testee = ColumnGroupMemoryLayoutBuilder.builder()
+                .group(FLAG)
+                .group(SIZE, CODE)
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, List.of(ID, SIZE, FLAG, CODE, COUNT));
+
+        // then
+        assertThat(layout.groupsCount()).isEqualTo(3);
+        assertThat(layout.recordSize(0)).isEqualTo(3);
+        assertThat(layout.recordSize(1)).isEqualTo(1);
+        assertThat(layout.recordSize(2)).isEqualTo(1);
+        assertThat(layout.memoryPositionFor(ID).group()).isEqualTo(0);
+        assertThat(layout.memoryPositionFor(COUNT).group()).isEqualTo(0);
+        assertThat(layout.memoryPositionFor(FLAG)).isEqualTo(new MemoryPosition(1, 0, 0));
+        assertThat(layout.memoryPositionFor(SIZE)).isEqualTo(new MemoryPosition(2, 0, 0));
+        assertThat(layout.memoryPositionFor(CODE)).isEqualTo(new MemoryPosition(2, 0, 16));
+    }
+
+    @Test
+    void skipsGroupsWithoutHeaders() {
+        // given
+        ColumnGroupMemoryLayoutBuilder testee = ColumnGroupMemoryLayoutBuilder.builder()
+                .group(FLAG)
+                .group(SIZE)
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, List.of(SIZE));
+
+        // then
+        assertThat(layout).isEqualTo(new MemoryLayout(new int[]{1}, Map.of(SIZE, new MemoryPosition(0, 0, 0))));
+    }
+
+    @Test
+    void customGroupLayout() {
+        // given
+        ColumnGroupMemoryLayoutBuilder testee = ColumnGroupMemoryLayoutBuilder.builder()
+                .group(new NonOverlappingMemoryLayoutBuilder(2, Map.of(FLAG, new MemoryPosition(1, 5))), FLAG)
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, List.of(ID, FLAG));
+
+        // then
+        assertThat(layout.groupsCount()).isEqualTo(2);
+        assertThat(layout.recordSize(1)).isEqualTo(2);
+        assertThat(layout.memoryPositionFor(FLAG)).isEqualTo(new MemoryPosition(1, 1, 5));
+    }
+}
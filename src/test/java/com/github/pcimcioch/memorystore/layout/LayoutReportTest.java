@@ -0,0 +1,91 @@
+package com.github.pcimcioch.memorystore.layout;
+
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryLayout;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.github.pcimcioch.memorystore.header.Headers.bool;
+import static com.github.pcimcioch.memorystore.header.Headers.byte8;
+import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.short16;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class LayoutReportTest {
+
+    @Test
+    void missingHeader() {
+        // given
+        MemoryLayout layout = new MemoryLayout(1, Map.of(int32("header1"), new MemoryPosition(0, 0)));
+
+        // when
+        Throwable thrown = catchThrowable(() -> LayoutReport.of(32, layout, List.of(int32("header1"), bool("header2"))));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cannot find Memory Position for header header2");
+    }
+
+    @Test
+    void wastedBits() {
+        // given
+        List<BitHeader<?>> headers = List.of(int32("header1"), byte8("header2"), bool("header3"));
+        MemoryLayout layout = new MemoryLayout(3, Map.of(
+                int32("header1"), new MemoryPosition(0, 0),
+                byte8("header2"), new MemoryPosition(1, 0),
+                bool("header3"), new MemoryPosition(2, 0)
+        ));
+
+        // when
+        LayoutReport report = LayoutReport.of(32, layout, headers);
+
+        // then
+        assertThat(report.recordBits()).isEqualTo(96);
+        assertThat(report.usedBits()).isEqualTo(41);
+        assertThat(report.wastedBits()).isEqualTo(55);
+        assertThat(report.wastedRatio()).isEqualTo(55d / 96);
+        assertThat(report.minRecordSize()).isEqualTo(2);
+        assertThat(report.wastedBytes(1000)).isEqualTo(6875);
+        assertThat(report).hasToString("Record of 96 bits, 41 bits used, 55 bits wasted (57.29%)");
+    }
+
+    @Test
+    void overlappingHeaders() {
+        // given
+        List<BitHeader<?>> headers = List.of(short16("header1"), byte8("header2"));
+        MemoryLayout layout = new MemoryLayout(1, Map.of(
+                short16("header1"), new MemoryPosition(0, 0),
+                byte8("header2"), new MemoryPosition(0, 8)
+        ));
+
+        // when
+        LayoutReport report = LayoutReport.of(32, layout, headers);
+
+        // then
+        assertThat(report.usedBits()).isEqualTo(16);
+        assertThat(report.wastedBits()).isEqualTo(16);
+    }
+
+    @Test
+    void columnGroups() {
+        // given
+        List<BitHeader<?>> headers = List.of(int32("header1"), bool("header2"));
+        MemoryLayout layout = new MemoryLayout(new int[]{1, 1}, Map.of(
+                int32("header1"), new MemoryPosition(0, 0, 0),
+                bool("header2"), new MemoryPosition(1, 0, 0)
+        ));
+
+        // when
+        LayoutReport report = LayoutReport.of(32, layout, headers);
+
+        // then
+        assertThat(report.recordBits()).isEqualTo(64);
+        assertThat(report.usedBits()).isEqualTo(33);
+        assertThat(report.wastedBits()).isEqualTo(31);
+    }
+}
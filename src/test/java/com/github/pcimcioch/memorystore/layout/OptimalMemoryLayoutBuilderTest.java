@@ -0,0 +1,171 @@
+package com.github.pcimcioch.memorystore.layout;
+
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryLayout;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryPosition;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.github.pcimcioch.memorystore.header.Headers.bitSet;
+import static com.github.pcimcioch.memorystore.header.Headers.bool;
+import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.long64;
+import static com.github.pcimcioch.memorystore.header.Headers.unsignedIntOnBits;
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+class OptimalMemoryLayoutBuilderTest {
+
+    private static final List<BitHeader<?>> GREEDY_SUBOPTIMAL = List.of(
+            unsignedIntOnBits("header1", 11),
+            unsignedIntOnBits("header2", 14),
+            unsignedIntOnBits("header3", 5),
+            unsignedIntOnBits("header4", 10),
+            unsignedIntOnBits("header5", 4),
+            unsignedIntOnBits("header6", 11),
+            unsignedIntOnBits("header7", 9)
+    );
+
+    @Test
+    void negativeTimeBudget() {
+        // when
+        Throwable thrown = catchThrowable(() -> new OptimalMemoryLayoutBuilder(Duration.ofMillis(-1)));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Time budget cannot be negative");
+    }
+
+    @Test
+    void noReportBeforeCompute() {
+        // given
+        OptimalMemoryLayoutBuilder testee = new OptimalMemoryLayoutBuilder();
+
+        // when
+        LayoutReport report = testee.report();
+
+        // then
+        assertThat(report).isNull();
+    }
+
+    @Test
+    void automaticLayoutIsOptimal() {
+        // given
+        List<BitHeader<?>> headers = List.of(int32("header1"), long64("header2"), bool("header3"));
+        OptimalMemoryLayoutBuilder testee = new OptimalMemoryLayoutBuilder();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout).isEqualTo(new AutomaticMemoryLayoutBuilder().compute(32, headers));
+        assertThat(testee.isOptimal()).isTrue();
+        assertThat(testee.report().wastedBits()).isEqualTo(31);
+    }
+
+    @Test
+    void betterThanAutomaticLayout() {
+        // given
+        OptimalMemoryLayoutBuilder testee = new OptimalMemoryLayoutBuilder();
+
+        // when
+        MemoryLayout layout = testee.compute(32, GREEDY_SUBOPTIMAL);
+
+        // then
+        assertThat(new AutomaticMemoryLayoutBuilder().compute(32, GREEDY_SUBOPTIMAL).recordSize()).isEqualTo(3);
+        assertThat(layout.recordSize()).isEqualTo(2);
+        assertThat(testee.isOptimal()).isTrue();
+        assertThat(testee.report().wastedBits()).isEqualTo(0);
+        assertNonOverlapping(layout, GREEDY_SUBOPTIMAL);
+    }
+
+    @Test
+    void fallbackToAutomaticLayout() {
+        // given
+        OptimalMemoryLayoutBuilder testee = new OptimalMemoryLayoutBuilder(Duration.ZERO);
+
+        // when
+        MemoryLayout layout = testee.compute(32, GREEDY_SUBOPTIMAL);
+
+        // then
+        assertThat(layout).isEqualTo(new AutomaticMemoryLayoutBuilder().compute(32, GREEDY_SUBOPTIMAL));
+        assertThat(testee.isOptimal()).isFalse();
+        assertThat(testee.report().wastedBits()).isEqualTo(32);
+    }
+
+    @Test
+    void provesAutomaticLayoutOptimal() {
+        // given
+        List<BitHeader<?>> headers = List.of(
+                unsignedIntOnBits("header1", 17),
+                unsignedIntOnBits("header2", 17),
+                unsignedIntOnBits("header3", 17)
+        );
+        OptimalMemoryLayoutBuilder testee = new OptimalMemoryLayoutBuilder();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout.recordSize()).isEqualTo(3);
+        assertThat(testee.isOptimal()).isTrue();
+    }
+
+    @Test
+    void headersSpanningWords() {
+        // given
+        List<BitHeader<?>> headers = List.of(
+                bitSet("header1", 40),
+                unsignedIntOnBits("header2", 20),
+                long64("header3"),
+                unsignedIntOnBits("header4", 28),
+                unsignedIntOnBits("header5", 12),
+                unsignedIntOnBits("header6", 4)
+        );
+        OptimalMemoryLayoutBuilder testee = new OptimalMemoryLayoutBuilder();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout.recordSize()).isEqualTo(6);
+        assertThat(testee.isOptimal()).isTrue();
+        assertNonOverlapping(layout, headers);
+    }
+
+    @Test
+    void manySmallHeaders() {
+        // given
+        List<BitHeader<?>> headers = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            headers.add(unsignedIntOnBits("header" + i, 3 + i % 11));
+        }
+        OptimalMemoryLayoutBuilder testee = new OptimalMemoryLayoutBuilder();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout.recordSize()).isLessThanOrEqualTo(new AutomaticMemoryLayoutBuilder().compute(32, headers).recordSize());
+        assertThat(layout.recordSize()).isGreaterThanOrEqualTo((int) testee.report().minRecordSize());
+        assertNonOverlapping(layout, headers);
+    }
+
+    private void assertNonOverlapping(MemoryLayout memoryLayout, List<BitHeader<?>> headers) {
+        Map<BitHeader<?>, MemoryPosition> headerMemoryPosition = headers.stream()
+                .collect(toMap(
+                        Function.identity(),
+                        memoryLayout::memoryPositionFor
+                ));
+
+        assertDoesNotThrow(() -> new NonOverlappingMemoryLayoutBuilder(32, memoryLayout.recordSize(), headerMemoryPosition));
+    }
+}
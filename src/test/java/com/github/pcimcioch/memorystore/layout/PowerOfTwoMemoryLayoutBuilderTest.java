@@ -0,0 +1,139 @@
+package com.github.pcimcioch.memorystore.layout;
+
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryLayout;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryPosition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.pcimcioch.memorystore.header.Headers.bool;
+import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class PowerOfTwoMemoryLayoutBuilderTest {
+
+    @Test
+    void negativeThreshold() {
+        // when
+        Throwable thrown = catchThrowable(() -> new PowerOfTwoMemoryLayoutBuilder(new AutomaticMemoryLayoutBuilder(), -0.1));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Padding threshold must be greater or equal zero");
+    }
+
+    @Test
+    void nullDelegate() {
+        // when
+        Throwable thrown = catchThrowable(() -> new PowerOfTwoMemoryLayoutBuilder(null, 1));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Memory layout builder cannot be null");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 1",
+            "2, 2",
+            "3, 4",
+            "4, 4",
+            "5, 5",
+            "6, 8",
+            "7, 8",
+            "8, 8",
+            "11, 11",
+            "12, 16",
+            "13, 16"
+    })
+    void defaultThreshold(int words, int expectedRecordSize) {
+        // given
+        List<BitHeader<?>> headers = ints(words);
+        PowerOfTwoMemoryLayoutBuilder testee = new PowerOfTwoMemoryLayoutBuilder();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout.recordSize()).isEqualTo(expectedRecordSize);
+        for (BitHeader<?> header : headers) {
+            assertThat(layout.memoryPositionFor(header)).isEqualTo(new AutomaticMemoryLayoutBuilder().compute(32, headers).memoryPositionFor(header));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "3, 0, 3",
+            "3, 0.3, 3",
+            "5, 0.6, 8",
+            "9, Infinity, 16"
+    })
+    void customThreshold(int words, double threshold, int expectedRecordSize) {
+        // given
+        PowerOfTwoMemoryLayoutBuilder testee = new PowerOfTwoMemoryLayoutBuilder(new AutomaticMemoryLayoutBuilder(), threshold);
+
+        // when
+        MemoryLayout layout = testee.compute(32, ints(words));
+
+        // then
+        assertThat(layout.recordSize()).isEqualTo(expectedRecordSize);
+    }
+
+    @Test
+    void columnGroups() {
+        // given
+        List<BitHeader<?>> headers = ints(3);
+        headers.add(bool("flag"));
+        PowerOfTwoMemoryLayoutBuilder testee = new PowerOfTwoMemoryLayoutBuilder(
+                ColumnGroupMemoryLayoutBuilder.builder().group(bool("flag")).build(),
+                Double.POSITIVE_INFINITY
+        );
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout.groupsCount()).isEqualTo(2);
+        assertThat(layout.recordSize(0)).isEqualTo(4);
+        assertThat(layout.recordSize(1)).isEqualTo(1);
+        assertThat(layout.memoryPositionFor(bool("flag"))).isEqualTo(new MemoryPosition(1, 0, 0));
+    }
+
+    @Test
+    void overlappingLayout() {
+        // given
+        List<BitHeader<?>> headers = List.of(int32("header1"), bool("header2"));
+        PowerOfTwoMemoryLayoutBuilder testee = new PowerOfTwoMemoryLayoutBuilder(
+                new OverlappingMemoryLayoutBuilder(32, 3, Map.of(
+                        int32("header1"), new MemoryPosition(2, 0),
+                        bool("header2"), new MemoryPosition(2, 0)
+                )),
+                1
+        );
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout).isEqualTo(new MemoryLayout(4, Map.of(
+                int32("header1"), new MemoryPosition(2, 0),
+                bool("header2"), new MemoryPosition(2, 0)
+        )));
+    }
+
+    private static List<BitHeader<?>> ints(int count) {
+        List<BitHeader<?>> headers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            headers.add(int32("header" + i));
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.pcimcioch.memorystore.layout;
+
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryLayout;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.github.pcimcioch.memorystore.header.Headers.bool;
+import static com.github.pcimcioch.memorystore.header.Headers.byte8;
+import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.long64;
+import static com.github.pcimcioch.memorystore.header.Headers.short16;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class WriterDomainMemoryLayoutBuilderTest {
+
+    @Test
+    void emptyDomain() {
+        // when
+        Throwable thrown = catchThrowable(() -> WriterDomainMemoryLayoutBuilder.builder().domain());
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Writer domain must contain at least one header");
+    }
+
+    @Test
+    void headerInMultipleDomains() {
+        // when
+        Throwable thrown = catchThrowable(() -> WriterDomainMemoryLayoutBuilder.builder()
+                .domain(bool("header1"))
+                .domain(int32("header2"), bool("header1")));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Header header1 is already assigned to a writer domain");
+    }
+
+    @Test
+    void onlyDefaultDomain() {
+        // given
+        List<BitHeader<?>> headers = List.of(int32("header1"), byte8("header2"), long64("header3"), bool("header4"));
+        WriterDomainMemoryLayoutBuilder testee = WriterDomainMemoryLayoutBuilder.builder().build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout).isEqualTo(new AutomaticMemoryLayoutBuilder().compute(32, headers));
+    }
+
+    @Test
+    void domainsDoNotShareWords() {
+        // given
+        List<BitHeader<?>> headers = List.of(byte8("header1"), byte8("header2"), short16("header3"), bool("header4"));
+        WriterDomainMemoryLayoutBuilder testee = WriterDomainMemoryLayoutBuilder.builder()
+                .domain(byte8("header2"), bool("header4"))
+                .domain(short16("header3"))
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout).isEqualTo(new MemoryLayout(3, Map.of(
+                byte8("header1"), new MemoryPosition(0, 0),
+                byte8("header2"), new MemoryPosition(1, 0),
+                bool("header4"), new MemoryPosition(1, 8),
+                short16("header3"), new MemoryPosition(2, 0)
+        )));
+    }
+
+    @Test
+    void isolateCacheLines() {
+        // given
+        List<BitHeader<?>> headers = List.of(byte8("header1"), long64("header2"), short16("header3"), bool("header4"));
+        WriterDomainMemoryLayoutBuilder testee = WriterDomainMemoryLayoutBuilder.builder()
+                .domain(long64("header2"), bool("header4"))
+                .domain(short16("header3"))
+                .isolateCacheLines()
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout).isEqualTo(new MemoryLayout(48, Map.of(
+                byte8("header1"), new MemoryPosition(0, 0),
+                long64("header2"), new MemoryPosition(16, 0),
+                bool("header4"), new MemoryPosition(18, 0),
+                short16("header3"), new MemoryPosition(32, 0)
+        )));
+    }
+
+    @Test
+    void skipsEmptyDomains() {
+        // given
+        List<BitHeader<?>> headers = List.of(short16("header3"));
+        WriterDomainMemoryLayoutBuilder testee = WriterDomainMemoryLayoutBuilder.builder()
+                .domain(long64("header2"))
+                .domain(short16("header3"))
+                .isolateCacheLines()
+                .build();
+
+        // when
+        MemoryLayout layout = testee.compute(32, headers);
+
+        // then
+        assertThat(layout).isEqualTo(new MemoryLayout(16, Map.of(short16("header3"), new MemoryPosition(0, 0))));
+    }
+}
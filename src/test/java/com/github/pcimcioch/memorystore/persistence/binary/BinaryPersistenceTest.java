@@ -1,6 +1,16 @@
 package com.github.pcimcioch.memorystore.persistence.binary;
 
 import com.github.pcimcioch.memorystore.SerializerTestBase;
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.AdjacencyEncoder;
+import com.github.pcimcioch.memorystore.encoder.HashIndexEncoder;
+import com.github.pcimcioch.memorystore.encoder.IntArrayEncoder;
+import com.github.pcimcioch.memorystore.encoder.IntEncoder;
+import com.github.pcimcioch.memorystore.encoder.LongEncoder;
+import com.github.pcimcioch.memorystore.header.AdjacencyHeader;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.header.HashIndexHeader;
+import com.github.pcimcioch.memorystore.header.IntArrayHeader;
 import com.github.pcimcioch.memorystore.persistence.binary.model.Entity;
 import com.github.pcimcioch.memorystore.persistence.binary.model.Entity.Color;
 import com.github.pcimcioch.memorystore.persistence.binary.model.EntityRepository;
@@ -10,7 +20,13 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.List;
 
+import static com.github.pcimcioch.memorystore.header.Headers.adjacencyOnBits;
+import static com.github.pcimcioch.memorystore.header.Headers.hashIndex;
+import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.intArrayMaxLength;
+import static com.github.pcimcioch.memorystore.header.Headers.long64;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class BinaryPersistenceTest extends SerializerTestBase {
@@ -73,4 +89,125 @@ class BinaryPersistenceTest extends SerializerTestBase {
         assertThat(loadedRepository.load(3)).isEqualTo(ENTITY_4);
     }
 
-}
\ No newline at end of file
+    @Test
+    void persistEntitiesInColumnGroups() throws IOException {
+        // given
+        EntityRepository repository = new EntityRepository(EntityRepository.columnGroupsLayout());
+
+        repository.save(0, ENTITY_1);
+        repository.save(1, ENTITY_2);
+        repository.save(2, ENTITY_3);
+        repository.save(3, ENTITY_4);
+
+        // when
+        repository.saveTable(encoder());
+        EntityRepository loadedRepository = new EntityRepository(decoder());
+
+        // then
+        assertThat(loadedRepository.load(0)).isEqualTo(ENTITY_1);
+        assertThat(loadedRepository.load(1)).isEqualTo(ENTITY_2);
+        assertThat(loadedRepository.load(2)).isEqualTo(ENTITY_3);
+        assertThat(loadedRepository.load(3)).isEqualTo(ENTITY_4);
+    }
+
+    @Test
+    void persistGraph() throws IOException {
+        // given
+        AdjacencyHeader roadsHeader = adjacencyOnBits("roads", 8);
+        BitHeader<IntEncoder> idHeader = int32("id");
+        Table table = new Table(List.of(roadsHeader, idHeader));
+        table.encoderFor(idHeader).set(2, 42);
+        table.encoderFor(roadsHeader).build(3, new long[]{0, 2, 2, 1}, new long[]{1, 0, 1, 2});
+        BinaryPersistence persistence = BinaryPersistence.builder().build();
+
+        // when
+        persistence.save(encoder(), table);
+        Table loaded = persistence.load(decoder(), List.of(roadsHeader, idHeader));
+
+        // then
+        AdjacencyEncoder roads = loaded.encoderFor(roadsHeader);
+        assertThat(loaded.encoderFor(idHeader).get(2)).isEqualTo(42);
+        assertThat(roads.neighbours(0)).containsExactly(1L);
+        assertThat(roads.neighbours(1)).containsExactly(2L);
+        assertThat(roads.neighbours(2)).containsExactly(0L, 1L);
+    }
+
+    @Test
+    void persistHashIndex() throws IOException {
+        // given
+        HashIndexHeader idIndexHeader = hashIndex("id-index");
+        BitHeader<LongEncoder> idHeader = long64("id");
+        Table table = new Table(List.of(idIndexHeader, idHeader));
+        LongEncoder id = table.encoderFor(idHeader);
+        HashIndexEncoder idIndex = table.encoderFor(idIndexHeader);
+        for (int position = 0; position < 100; position++) {
+            id.set(position, 1000L + position);
+            idIndex.put(1000L + position, position);
+        }
+        BinaryPersistence persistence = BinaryPersistence.builder().build();
+
+        // when
+        persistence.save(encoder(), table);
+        Table loaded = persistence.load(decoder(), List.of(idIndexHeader, idHeader));
+
+        // then
+        HashIndexEncoder loadedIndex = loaded.encoderFor(idIndexHeader);
+        assertThat(loadedIndex.size()).isEqualTo(100);
+        assertThat(loadedIndex.get(1000L)).isEqualTo(0);
+        assertThat(loadedIndex.get(1099L)).isEqualTo(99);
+        assertThat(loadedIndex.get(999L)).isEqualTo(HashIndexEncoder.NONE);
+    }
+
+    @Test
+    void persistAllStoreOwners() throws IOException {
+        // given
+        AdjacencyHeader roadsHeader = adjacencyOnBits("roads", 8);
+        HashIndexHeader idIndexHeader = hashIndex("id-index");
+        IntArrayHeader lanesHeader = intArrayMaxLength("lanes", 100);
+        Table table = new Table(List.of(roadsHeader, idIndexHeader, lanesHeader));
+        table.encoderFor(roadsHeader).build(2, new long[]{0, 1}, new long[]{1, 0});
+        table.encoderFor(idIndexHeader).put(42L, 1);
+        table.encoderFor(lanesHeader).set(1, new int[]{7, 8});
+        BinaryPersistence persistence = BinaryPersistence.builder().build();
+
+        // when
+        persistence.save(encoder(), table);
+        Table loaded = persistence.load(decoder(), List.of(roadsHeader, idIndexHeader, lanesHeader));
+
+        // then
+        assertThat(loaded.encoderFor(roadsHeader).neighbours(0)).containsExactly(1L);
+        assertThat(loaded.encoderFor(roadsHeader).neighbours(1)).containsExactly(0L);
+        assertThat(loaded.encoderFor(idIndexHeader).get(42L)).isEqualTo(1);
+        assertThat(loaded.encoderFor(lanesHeader).get(1)).containsExactly(7, 8);
+    }
+
+    @Test
+    void persistIntArrays() throws IOException {
+        // given
+        IntArrayHeader lanesHeader = intArrayMaxLength("lanes", 100);
+        BitHeader<IntEncoder> idHeader = int32("id");
+        Table table = new Table(List.of(lanesHeader, idHeader));
+        IntArrayEncoder lanes = table.encoderFor(lanesHeader);
+        lanes.set(0, new int[]{1, 2, 3});
+        lanes.set(1, new int[]{4});
+        lanes.append(0, 5);
+        BinaryPersistence persistence = BinaryPersistence.builder().build();
+
+        // when
+        persistence.save(encoder(), table);
+        Table loaded = persistence.load(decoder(), List.of(lanesHeader, idHeader));
+
+        // then
+        IntArrayEncoder loadedLanes = loaded.encoderFor(lanesHeader);
+        assertThat(loadedLanes.get(0)).containsExactly(1, 2, 3, 5);
+        assertThat(loadedLanes.get(1)).containsExactly(4);
+        assertThat(loadedLanes.garbage()).isEqualTo(3);
+
+        // when
+        loadedLanes.append(1, 6);
+
+        // then
+        assertThat(loadedLanes.get(1)).containsExactly(4, 6);
+        assertThat(loadedLanes.arenaSize()).isEqualTo(10);
+    }
+}
@@ -2,6 +2,7 @@ package com.github.pcimcioch.memorystore.persistence.binary;
 
 import com.github.pcimcioch.memorystore.SerializerTestBase;
 import com.github.pcimcioch.memorystore.header.Header;
+import com.github.pcimcioch.memorystore.persistence.binary.HeaderDefinition.StoreOwnerHeaderDefinition;
 import com.github.pcimcioch.memorystore.persistence.binary.HeaderDefinition.BitHeaderDefinition;
 import com.github.pcimcioch.memorystore.persistence.binary.HeaderDefinition.ObjectDirectHeaderDefinition;
 import com.github.pcimcioch.memorystore.persistence.binary.HeaderDefinition.ObjectPoolHeaderDefinition;
@@ -18,8 +19,11 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import static com.github.pcimcioch.memorystore.header.Headers.adjacencyOnBits;
 import static com.github.pcimcioch.memorystore.header.Headers.bool;
+import static com.github.pcimcioch.memorystore.header.Headers.hashIndex;
 import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.intArrayOnBits;
 import static com.github.pcimcioch.memorystore.header.Headers.long64;
 import static com.github.pcimcioch.memorystore.header.Headers.object;
 import static com.github.pcimcioch.memorystore.header.Headers.objectPool;
@@ -47,7 +51,10 @@ class HeaderDefinitionTest extends SerializerTestBase {
                 Arguments.of(bool("test"), Set.of(new BitHeaderDefinition("test", 1, 32))),
                 Arguments.of(unsignedIntOnBits("test", 7), Set.of(new BitHeaderDefinition("test", 7, 32))),
                 Arguments.of(object("test"), Set.of(new ObjectDirectHeaderDefinition("test"))),
-                Arguments.of(objectPool("test", poolOnBits("pool", 5)), Set.of(new ObjectPoolHeaderDefinition("test", "pool", 5), new BitHeaderDefinition("test-index", 5, 32)))
+                Arguments.of(objectPool("test", poolOnBits("pool", 5)), Set.of(new ObjectPoolHeaderDefinition("test", "pool", 5), new BitHeaderDefinition("test-index", 5, 32))),
+                Arguments.of(adjacencyOnBits("test", 6), Set.of(new StoreOwnerHeaderDefinition("test"), new BitHeaderDefinition("test-offset", 31, 32), new BitHeaderDefinition("test-degree", 6, 32))),
+                Arguments.of(hashIndex("test"), Set.of(new StoreOwnerHeaderDefinition("test"))),
+                Arguments.of(intArrayOnBits("test", 8), Set.of(new StoreOwnerHeaderDefinition("test"), new BitHeaderDefinition("test-offset", 31, 32), new BitHeaderDefinition("test-length", 8, 32)))
         );
     }
 
@@ -90,7 +97,10 @@ class HeaderDefinitionTest extends SerializerTestBase {
                 new BitHeaderDefinition("header2", 25, 64),
                 null,
                 new ObjectPoolHeaderDefinition("header3", "pool", 31),
-                new ObjectDirectHeaderDefinition("header4")
+                new ObjectDirectHeaderDefinition("header4"),
+                new StoreOwnerHeaderDefinition("header5"),
+                new StoreOwnerHeaderDefinition("header6"),
+                new StoreOwnerHeaderDefinition("header7")
         );
         Serializer<List<HeaderDefinition>> serializer = listOf(HeaderDefinition.SERIALIZER);
 
@@ -1,15 +1,8 @@
 package com.github.pcimcioch.memorystore.persistence.binary;
 
 import com.github.pcimcioch.memorystore.SerializerTestBase;
-import com.github.pcimcioch.memorystore.encoder.BitEncoder.Config;
-import com.github.pcimcioch.memorystore.encoder.BooleanEncoder;
-import com.github.pcimcioch.memorystore.encoder.CharEncoder;
-import com.github.pcimcioch.memorystore.encoder.IntEncoder;
-import com.github.pcimcioch.memorystore.encoder.ObjectDirectEncoder;
 import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryLayout;
 import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder.MemoryPosition;
-import com.github.pcimcioch.memorystore.store.IntStore;
-import com.github.pcimcioch.memorystore.store.ObjectStore;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -28,13 +21,10 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 
 class LoaderMemoryLayoutTest extends SerializerTestBase {
 
-    private final IntStore intStore = new IntStore();
-    private final ObjectStore<String> objectStore = new ObjectStore<>();
-
     @Test
     void noHeaders() {
         // given
-        LoaderMemoryLayout testee = new LoaderMemoryLayout(32, emptyMap());
+        LoaderMemoryLayout testee = new LoaderMemoryLayout(32, 0, emptyMap());
 
         // when
         MemoryLayout memoryLayout = testee.compute(32, emptyList());
@@ -46,7 +36,7 @@ class LoaderMemoryLayoutTest extends SerializerTestBase {
     @Test
     void incorrectWordSize() {
         // given
-        LoaderMemoryLayout testee = new LoaderMemoryLayout(16, emptyMap());
+        LoaderMemoryLayout testee = new LoaderMemoryLayout(16, 0, emptyMap());
 
         // when
         Throwable thrown = catchThrowable(() -> testee.compute(15, emptyList()));
@@ -60,10 +50,10 @@ class LoaderMemoryLayoutTest extends SerializerTestBase {
     @Test
     void bitHeaders() {
         // given
-        LoaderMemoryLayout testee = new LoaderMemoryLayout(32, Map.of(
-                int32("header1"), new IntEncoder(new Config(intStore, 5, 0, 0, 32)),
-                bool("header2"), new BooleanEncoder(new Config(intStore, 5, 3, 2, 1)),
-                char16("header3"), new CharEncoder(new Config(intStore, 5, 1, 5, 16))
+        LoaderMemoryLayout testee = new LoaderMemoryLayout(32, 5, Map.of(
+                "header1", new MemoryPosition(0, 0),
+                "header2", new MemoryPosition(3, 2),
+                "header3", new MemoryPosition(1, 5)
         ));
 
         // when
@@ -80,11 +70,11 @@ class LoaderMemoryLayoutTest extends SerializerTestBase {
     @Test
     void onlyBitHeaders() {
         // given
-        LoaderMemoryLayout testee = new LoaderMemoryLayout(32, Map.of(
-                int32("header1"), new IntEncoder(new Config(intStore, 5, 0, 0, 32)),
-                bool("header2"), new BooleanEncoder(new Config(intStore, 5, 3, 2, 1)),
-                object("header3"), new ObjectDirectEncoder<>(objectStore)
+        MemoryLayout tableLayout = new MemoryLayout(5, Map.of(
+                int32("header1"), new MemoryPosition(0, 0),
+                bool("header2"), new MemoryPosition(3, 2)
         ));
+        LoaderMemoryLayout testee = new LoaderMemoryLayout(32, tableLayout, List.of(int32("header1"), bool("header2"), object("header3")));
 
         // when
         MemoryLayout memoryLayout = testee.compute(32, List.of(int32("header1"), bool("header2"), char16("header3")));
@@ -100,11 +90,11 @@ class LoaderMemoryLayoutTest extends SerializerTestBase {
     @Test
     void serializeLayout() throws IOException {
         // given
-        LoaderMemoryLayout layout = new LoaderMemoryLayout(32, Map.of(
-                int32("header1"), new IntEncoder(new Config(intStore, 5, 0, 0, 32)),
-                bool("header2"), new BooleanEncoder(new Config(intStore, 5, 3, 2, 1)),
-                object("header3"), new ObjectDirectEncoder<>(objectStore)
+        MemoryLayout tableLayout = new MemoryLayout(5, Map.of(
+                int32("header1"), new MemoryPosition(0, 0),
+                bool("header2"), new MemoryPosition(3, 2)
         ));
+        LoaderMemoryLayout layout = new LoaderMemoryLayout(32, tableLayout, List.of(int32("header1"), bool("header2"), object("header3")));
         LoaderMemoryLayout.SERIALIZER.serialize(encoder(), layout);
         LoaderMemoryLayout testee = LoaderMemoryLayout.SERIALIZER.deserialize(decoder());
 
@@ -118,6 +108,25 @@ class LoaderMemoryLayoutTest extends SerializerTestBase {
         )));
     }
 
+    @Test
+    void serializeGroupedLayout() throws IOException {
+        // given
+        MemoryLayout tableLayout = new MemoryLayout(new int[]{5, 1}, Map.of(
+                int32("header1"), new MemoryPosition(0, 0, 0),
+                bool("header2"), new MemoryPosition(1, 0, 2)
+        ));
+        LoaderMemoryLayout layout = new LoaderMemoryLayout(32, tableLayout, List.of(int32("header1"), bool("header2"), object("header3")));
+        LoaderMemoryLayout.SERIALIZER.serialize(encoder(), layout);
+        LoaderMemoryLayout testee = LoaderMemoryLayout.SERIALIZER.deserialize(decoder());
+
+        // when
+        MemoryLayout memoryLayout = testee.compute(32, List.of(int32("header1"), bool("header2")));
+
+        // then
+        assertThat(testee.groupsCount()).isEqualTo(2);
+        assertThat(memoryLayout).isEqualTo(tableLayout);
+    }
+
     @Test
     void serializeNull() throws IOException {
         // when
@@ -98,6 +98,77 @@ class StoreSerializersTest extends SerializerTestBase {
         assertThat(deserialized.getInt(2047)).isEqualTo(0);
     }
 
+    @Test
+    void recordAlignedIntStore() throws IOException {
+        // given
+        IntStore store = new IntStore(1024, 3);
+        store.setInt(store.recordIndex(0, 3), 10);
+        store.setInt(store.recordIndex(511, 3) + 2, 20);
+        store.setInt(store.recordIndex(512, 3) + 1, 30);
+        store.setInt(store.recordIndex(1024, 3), 0);
+
+        intStore().serialize(encoder(), store);
+
+        // when
+        IntStore deserialized = intStore().deserialize(decoder());
+
+        // then
+        assertThat(deserialized).isNotNull();
+        assertThat(deserialized.isRecordAligned()).isTrue();
+        assertThat(deserialized.recordSize()).isEqualTo(3);
+        assertThat(deserialized.blockSize()).isEqualTo(1536);
+        assertThat(deserialized.blocksCount()).isEqualTo(3);
+        assertThat(deserialized.getInt(0)).isEqualTo(10);
+        assertThat(deserialized.getInt(1535)).isEqualTo(20);
+        assertThat(deserialized.getInt(2049)).isEqualTo(30);
+        assertThat(deserialized.getInt(2050)).isEqualTo(0);
+        assertThat(deserialized.getInt(4096)).isEqualTo(0);
+    }
+
+    @Test
+    void recordAlignedIntStoreOverMaxMinBlockSize() throws IOException {
+        // given
+        IntStore store = new IntStore(33554432, 3);
+        intStore().serialize(encoder(), store);
+
+        // when
+        IntStore deserialized = intStore().deserialize(decoder());
+
+        // then
+        assertThat(deserialized).isNotNull();
+        assertThat(deserialized.recordSize()).isEqualTo(3);
+        assertThat(deserialized.minBlockSize()).isEqualTo(33554432);
+        assertThat(deserialized.blockSize()).isEqualTo(50331648);
+        assertThat(deserialized.recordsPerBlock()).isEqualTo(16777216);
+        assertThat(deserialized.blocksCount()).isZero();
+    }
+
+    @Test
+    void recordAlignedIntStoreOfLargeRecords() throws IOException {
+        // given
+        IntStore store = new IntStore(1024, 1500);
+        store.setInt(store.recordIndex(0, 1500), 10);
+        store.setInt(store.recordIndex(1, 1500) + 1499, 20);
+        store.setInt(store.recordIndex(2, 1500) + 700, 30);
+        store.setInt(store.recordIndex(5, 1500) + 1499, 40);
+
+        intStore().serialize(encoder(), store);
+
+        // when
+        IntStore deserialized = intStore().deserialize(decoder());
+
+        // then
+        assertThat(deserialized).isNotNull();
+        assertThat(deserialized.recordSize()).isEqualTo(1500);
+        assertThat(deserialized.blockSize()).isEqualTo(3000);
+        assertThat(deserialized.blocksCount()).isEqualTo(3);
+        assertThat(deserialized.getInt(deserialized.recordIndex(0, 1500))).isEqualTo(10);
+        assertThat(deserialized.getInt(deserialized.recordIndex(1, 1500) + 1499)).isEqualTo(20);
+        assertThat(deserialized.getInt(deserialized.recordIndex(2, 1500) + 700)).isEqualTo(30);
+        assertThat(deserialized.getInt(deserialized.recordIndex(5, 1500) + 1499)).isEqualTo(40);
+        assertThat(deserialized.getInt(deserialized.recordIndex(4, 1500))).isZero();
+    }
+
     @Test
     void nullObjectStore() throws IOException {
         // given
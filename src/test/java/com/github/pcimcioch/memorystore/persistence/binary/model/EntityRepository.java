@@ -12,6 +12,8 @@ import com.github.pcimcioch.memorystore.header.BitHeader;
 import com.github.pcimcioch.memorystore.header.Header;
 import com.github.pcimcioch.memorystore.header.ObjectDirectHeader;
 import com.github.pcimcioch.memorystore.header.ObjectPoolHeader;
+import com.github.pcimcioch.memorystore.layout.ColumnGroupMemoryLayoutBuilder;
+import com.github.pcimcioch.memorystore.layout.MemoryLayoutBuilder;
 import com.github.pcimcioch.memorystore.persistence.binary.BinaryPersistence;
 import com.github.pcimcioch.memorystore.persistence.binary.model.Entity.Color;
 import com.github.pcimcioch.memorystore.persistence.binary.model.Point.PointSerializer;
@@ -73,6 +75,10 @@ public class EntityRepository {
         this(new Table(ALL_HEADERS));
     }
 
+    public EntityRepository(MemoryLayoutBuilder memoryLayoutBuilder) {
+        this(new Table(memoryLayoutBuilder, ALL_HEADERS));
+    }
+
     public EntityRepository(DataInput stream) throws IOException {
         this(PERSISTENCE.load(stream, ALL_HEADERS));
     }
@@ -99,6 +105,13 @@ public class EntityRepository {
         preferencesEncoder.set(index, entity.preferences());
     }
 
+    public static MemoryLayoutBuilder columnGroupsLayout() {
+        return ColumnGroupMemoryLayoutBuilder.builder()
+                .group(ACCESSIBLE_HEADER)
+                .group(COLOR_HEADER, PREFERENCES_HEADER.poolIndexHeader())
+                .build();
+    }
+
     public Entity load(int index) {
         return new Entity(
                 idEncoder.get(index),
@@ -0,0 +1,259 @@
+package com.github.pcimcioch.memorystore.sort;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.IntEncoder;
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.unsignedIntOnBits;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class IndexedHeapTest {
+
+    private static final BitHeader<IntEncoder> PRIORITY = int32("priority");
+    private static final BitHeader<UnsignedIntegerEncoder> HEAP_POSITION = unsignedIntOnBits("heapPosition", 20);
+
+    private final Table table = new Table(List.of(PRIORITY, HEAP_POSITION));
+    private final IntEncoder priority = table.encoderFor(PRIORITY);
+    private final UnsignedIntegerEncoder heapPosition = table.encoderFor(HEAP_POSITION);
+
+    private final IndexedHeap testee = new IndexedHeap(heapPosition, SortKey.of(priority));
+
+    @Test
+    void nullHeapPosition() {
+        // when
+        Throwable thrown = catchThrowable(() -> new IndexedHeap(null, SortKey.of(priority)));
+
+        // then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void nullPriority() {
+        // when
+        Throwable thrown = catchThrowable(() -> new IndexedHeap(heapPosition, null));
+
+        // then
+        assertThat(thrown).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void emptyHeap() {
+        // when
+        Throwable pollThrown = catchThrowable(testee::poll);
+        Throwable peekThrown = catchThrowable(testee::peek);
+
+        // then
+        assertThat(testee.isEmpty()).isTrue();
+        assertThat(testee.size()).isZero();
+        assertThat(pollThrown)
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("Heap is empty");
+        assertThat(peekThrown)
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("Heap is empty");
+    }
+
+    @Test
+    void pollInPriorityOrder() {
+        // given
+        setPriorities(50, -10, 30, 0, 20);
+        for (long position = 0; position < 5; position++) {
+            testee.add(position);
+        }
+
+        // when
+        long peeked = testee.peek();
+        List<Long> polled = pollAll();
+
+        // then
+        assertThat(peeked).isEqualTo(1L);
+        assertThat(polled).containsExactly(1L, 3L, 4L, 2L, 0L);
+        assertThat(testee.isEmpty()).isTrue();
+    }
+
+    @Test
+    void contains() {
+        // given
+        setPriorities(5, 3, 4);
+        testee.add(0);
+        testee.add(2);
+
+        // when
+        testee.poll();
+
+        // then
+        assertThat(testee.contains(0)).isTrue();
+        assertThat(testee.contains(1)).isFalse();
+        assertThat(testee.contains(2)).isFalse();
+        assertThat(heapPosition.get(2)).isZero();
+    }
+
+    @Test
+    void addTwice() {
+        // given
+        setPriorities(5);
+        testee.add(0);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.add(0));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Record 0 is already in the heap");
+    }
+
+    @Test
+    void decreaseKey() {
+        // given
+        setPriorities(10, 20, 30, 40);
+        for (long position = 0; position < 4; position++) {
+            testee.add(position);
+        }
+
+        // when
+        priority.set(3, 5);
+        testee.decreaseKey(3);
+
+        // then
+        assertThat(pollAll()).containsExactly(3L, 0L, 1L, 2L);
+    }
+
+    @Test
+    void decreaseKey_missingRecord() {
+        // given
+        setPriorities(10, 20);
+        testee.add(0);
+
+        // when
+        Throwable thrown = catchThrowable(() -> testee.decreaseKey(1));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Record 1 is not in the heap");
+    }
+
+    @Test
+    void update() {
+        // given
+        setPriorities(10, 20, 30, 40);
+        for (long position = 0; position < 4; position++) {
+            testee.add(position);
+        }
+
+        // when
+        priority.set(0, 35);
+        testee.update(0);
+        priority.set(2, 15);
+        testee.update(2);
+
+        // then
+        assertThat(pollAll()).containsExactly(2L, 1L, 0L, 3L);
+    }
+
+    @Test
+    void remove() {
+        // given
+        setPriorities(10, 20, 30, 40, 50);
+        for (long position = 0; position < 5; position++) {
+            testee.add(position);
+        }
+
+        // when
+        testee.remove(1);
+        testee.remove(4);
+
+        // then
+        assertThat(testee.contains(1)).isFalse();
+        assertThat(pollAll()).containsExactly(0L, 2L, 3L);
+    }
+
+    @Test
+    void clear() {
+        // given
+        setPriorities(10, 20, 30);
+        for (long position = 0; position < 3; position++) {
+            testee.add(position);
+        }
+
+        // when
+        testee.clear();
+
+        // then
+        assertThat(testee.isEmpty()).isTrue();
+        assertThat(testee.contains(0)).isFalse();
+        assertThat(testee.contains(1)).isFalse();
+        assertThat(testee.contains(2)).isFalse();
+    }
+
+    @Test
+    void descendingPriority() {
+        // given
+        IndexedHeap maxHeap = new IndexedHeap(heapPosition, SortKey.of(priority).descending());
+        setPriorities(3, 9, -1, 5);
+        for (long position = 0; position < 4; position++) {
+            maxHeap.add(position);
+        }
+
+        // when
+        List<Long> polled = new ArrayList<>();
+        while (!maxHeap.isEmpty()) {
+            polled.add(maxHeap.poll());
+        }
+
+        // then
+        assertThat(polled).containsExactly(1L, 3L, 0L, 2L);
+    }
+
+    @Test
+    void randomOperations() {
+        // given
+        Random random = new Random(0);
+        int count = 2000;
+        for (int position = 0; position < count; position++) {
+            priority.set(position, random.nextInt());
+            testee.add(position);
+        }
+
+        // when
+        for (int i = 0; i < count; i++) {
+            int position = random.nextInt(count);
+            priority.set(position, random.nextInt());
+            testee.update(position);
+        }
+
+        // then
+        int[] expected = IntStream.range(0, count)
+                .map(priority::get)
+                .sorted()
+                .toArray();
+        List<Long> polled = pollAll();
+        assertThat(polled).doesNotHaveDuplicates();
+        assertThat(polled.stream().mapToInt(priority::get).toArray()).containsExactly(expected);
+    }
+
+    private void setPriorities(int... values) {
+        for (int position = 0; position < values.length; position++) {
+            priority.set(position, values[position]);
+        }
+    }
+
+    private List<Long> pollAll() {
+        List<Long> polled = new ArrayList<>();
+        while (!testee.isEmpty()) {
+            polled.add(testee.poll());
+        }
+        return polled;
+    }
+}
@@ -0,0 +1,229 @@
+package com.github.pcimcioch.memorystore.sort;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.LongEncoder;
+import com.github.pcimcioch.memorystore.encoder.SignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static com.github.pcimcioch.memorystore.header.Headers.intRange;
+import static com.github.pcimcioch.memorystore.header.Headers.long64;
+import static com.github.pcimcioch.memorystore.header.Headers.unsignedIntOnBits;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class RecordSorterTest {
+
+    private static final BitHeader<UnsignedIntegerEncoder> CATEGORY = unsignedIntOnBits("category", 3);
+    private static final BitHeader<SignedIntegerEncoder> SCORE = intRange("score", -1000, 1000);
+    private static final BitHeader<LongEncoder> ID = long64("id");
+
+    private final Table table = new Table(List.of(CATEGORY, SCORE, ID));
+    private final UnsignedIntegerEncoder category = table.encoderFor(CATEGORY);
+    private final SignedIntegerEncoder score = table.encoderFor(SCORE);
+    private final LongEncoder id = table.encoderFor(ID);
+
+    @Test
+    void noKeys() {
+        // when
+        Throwable thrown = catchThrowable(() -> RecordSorter.sort(new long[]{0L}));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("At least one sort key is required");
+    }
+
+    @Test
+    void sortEmpty() {
+        // given
+        long[] positions = {};
+
+        // when
+        RecordSorter.sort(positions, SortKey.of(score));
+
+        // then
+        assertThat(positions).isEmpty();
+    }
+
+    @Test
+    void sortBySingleKey() {
+        // given
+        score.set(0, 50);
+        score.set(1, -20);
+        score.set(2, 1000);
+        score.set(3, -1000);
+        long[] positions = {0, 1, 2, 3};
+
+        // when
+        RecordSorter.sort(positions, SortKey.of(score));
+
+        // then
+        assertThat(positions).containsExactly(3, 1, 0, 2);
+    }
+
+    @Test
+    void sortIsStable() {
+        // given
+        category.set(0, 1);
+        category.set(1, 0);
+        category.set(2, 1);
+        category.set(3, 0);
+        long[] positions = {3, 2, 1, 0};
+
+        // when
+        RecordSorter.sort(positions, SortKey.of(category));
+
+        // then
+        assertThat(positions).containsExactly(3, 1, 2, 0);
+    }
+
+    @Test
+    void sortDescending() {
+        // given
+        score.set(0, 50);
+        score.set(1, -20);
+        score.set(2, 1000);
+        int[] positions = {0, 1, 2};
+
+        // when
+        RecordSorter.sort(positions, SortKey.of(score).descending());
+
+        // then
+        assertThat(positions).containsExactly(2, 0, 1);
+    }
+
+    @Test
+    void sortByMultipleKeys() {
+        // given
+        setRecord(0, 1, 10, 0L);
+        setRecord(1, 0, 30, 0L);
+        setRecord(2, 1, 20, 0L);
+        setRecord(3, 0, 30, 0L);
+        setRecord(4, 0, 5, 0L);
+        long[] positions = {0, 1, 2, 3, 4};
+
+        // when
+        RecordSorter.sort(positions, SortKey.of(category), SortKey.of(score).descending());
+
+        // then
+        assertThat(positions).containsExactly(1, 3, 4, 2, 0);
+    }
+
+    @Test
+    void sortByKeysWiderThanLong() {
+        // given
+        setRecord(0, 1, 10, 5L);
+        setRecord(1, 1, 10, -5L);
+        setRecord(2, 0, 10, 100L);
+        setRecord(3, 1, -10, 7L);
+        long[] positions = {0, 1, 2, 3};
+
+        // when
+        RecordSorter.sort(positions, SortKey.of(category), SortKey.of(score), SortKey.of(id));
+
+        // then
+        assertThat(positions).containsExactly(2, 3, 1, 0);
+    }
+
+    @Test
+    void matchesComparatorSort() {
+        // given
+        Random random = new Random(7);
+        int count = 50_000;
+        for (int i = 0; i < count; i++) {
+            setRecord(i, random.nextInt(8), random.nextInt(2001) - 1000, random.nextLong());
+        }
+        long[] positions = LongStream.range(0, count).toArray();
+        Comparator<Long> comparator = Comparator.<Long>comparingInt(category::get)
+                .thenComparing(Comparator.<Long>comparingInt(score::get).reversed())
+                .thenComparingLong(id::get);
+        Long[] expected = LongStream.range(0, count).boxed().sorted(comparator).toArray(Long[]::new);
+
+        // when
+        RecordSorter.sort(positions, SortKey.of(category), SortKey.of(score).descending(), SortKey.of(id));
+
+        // then
+        assertThat(positions).containsExactly(Arrays.stream(expected).mapToLong(Long::longValue).toArray());
+    }
+
+    @Test
+    void topK() {
+        // given
+        score.set(0, 50);
+        score.set(1, -20);
+        score.set(2, 1000);
+        score.set(3, -20);
+        score.set(4, 7);
+        long[] positions = {0, 1, 2, 3, 4};
+
+        // then
+        assertThat(RecordSorter.topK(positions, 0, SortKey.of(score))).isEmpty();
+        assertThat(RecordSorter.topK(positions, 1, SortKey.of(score))).containsExactly(1);
+        assertThat(RecordSorter.topK(positions, 3, SortKey.of(score))).containsExactly(1, 3, 4);
+        assertThat(RecordSorter.topK(positions, 2, SortKey.of(score).descending())).containsExactly(2, 0);
+        assertThat(RecordSorter.topK(positions, 10, SortKey.of(score))).containsExactly(1, 3, 4, 0, 2);
+        assertThat(positions).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void topKOfIntPositions() {
+        // given
+        score.set(0, 50);
+        score.set(1, -20);
+        score.set(2, 1000);
+
+        // when
+        int[] result = RecordSorter.topK(new int[]{0, 1, 2}, 2, SortKey.of(score).descending());
+
+        // then
+        assertThat(result).containsExactly(2, 0);
+    }
+
+    @Test
+    void topKMatchesFullSort() {
+        // given
+        Random random = new Random(11);
+        int count = 20_000;
+        for (int i = 0; i < count; i++) {
+            setRecord(i, random.nextInt(8), random.nextInt(2001) - 1000, random.nextLong());
+        }
+        long[] positions = LongStream.range(0, count).toArray();
+        long[] sorted = positions.clone();
+        RecordSorter.sort(sorted, SortKey.of(category), SortKey.of(score));
+        long[] sortedWide = positions.clone();
+        RecordSorter.sort(sortedWide, SortKey.of(score), SortKey.of(id));
+
+        // when
+        long[] result = RecordSorter.topK(positions, 100, SortKey.of(category), SortKey.of(score));
+        long[] resultWide = RecordSorter.topK(positions, 100, SortKey.of(score), SortKey.of(id));
+
+        // then
+        assertThat(result).containsExactly(Arrays.copyOf(sorted, 100));
+        assertThat(resultWide).containsExactly(Arrays.copyOf(sortedWide, 100));
+    }
+
+    @Test
+    void incorrectK() {
+        // when
+        Throwable thrown = catchThrowable(() -> RecordSorter.topK(new long[]{0L}, -1, SortKey.of(score)));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("K must be greater or equal zero");
+    }
+
+    private void setRecord(long position, int categoryValue, int scoreValue, long idValue) {
+        category.set(position, categoryValue);
+        score.set(position, scoreValue);
+        id.set(position, idValue);
+    }
+}
@@ -0,0 +1,361 @@
+package com.github.pcimcioch.memorystore.sort;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.BooleanEncoder;
+import com.github.pcimcioch.memorystore.encoder.ByteEncoder;
+import com.github.pcimcioch.memorystore.encoder.CharEncoder;
+import com.github.pcimcioch.memorystore.encoder.DecimalEncoder;
+import com.github.pcimcioch.memorystore.encoder.DoubleEncoder;
+import com.github.pcimcioch.memorystore.encoder.EnumEncoder;
+import com.github.pcimcioch.memorystore.encoder.FloatEncoder;
+import com.github.pcimcioch.memorystore.encoder.InstantEncoder;
+import com.github.pcimcioch.memorystore.encoder.IntEncoder;
+import com.github.pcimcioch.memorystore.encoder.LongEncoder;
+import com.github.pcimcioch.memorystore.encoder.QuantizedFloatEncoder;
+import com.github.pcimcioch.memorystore.encoder.ShortEncoder;
+import com.github.pcimcioch.memorystore.encoder.SignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.encoder.SignedLongEncoder;
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.encoder.UnsignedLongEncoder;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.github.pcimcioch.memorystore.header.Headers.bool;
+import static com.github.pcimcioch.memorystore.header.Headers.byte8;
+import static com.github.pcimcioch.memorystore.header.Headers.char16;
+import static com.github.pcimcioch.memorystore.header.Headers.decimal;
+import static com.github.pcimcioch.memorystore.header.Headers.double64;
+import static com.github.pcimcioch.memorystore.header.Headers.enumType;
+import static com.github.pcimcioch.memorystore.header.Headers.float32;
+import static com.github.pcimcioch.memorystore.header.Headers.instant;
+import static com.github.pcimcioch.memorystore.header.Headers.int32;
+import static com.github.pcimcioch.memorystore.header.Headers.intRange;
+import static com.github.pcimcioch.memorystore.header.Headers.long64;
+import static com.github.pcimcioch.memorystore.header.Headers.longRange;
+import static com.github.pcimcioch.memorystore.header.Headers.quantizedFloat;
+import static com.github.pcimcioch.memorystore.header.Headers.short16;
+import static com.github.pcimcioch.memorystore.header.Headers.unsignedIntOnBits;
+import static com.github.pcimcioch.memorystore.header.Headers.unsignedLongOnBits;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class SortKeyTest {
+
+    private enum Size {SMALL, MEDIUM, LARGE}
+
+    private static final BitHeader<BooleanEncoder> BOOL = bool("bool");
+    private static final BitHeader<ByteEncoder> BYTE = byte8("byte");
+    private static final BitHeader<CharEncoder> CHAR = char16("char");
+    private static final BitHeader<DoubleEncoder> DOUBLE = double64("double");
+    private static final BitHeader<EnumEncoder<Size>> ENUM = enumType("enum", Size.class);
+    private static final BitHeader<FloatEncoder> FLOAT = float32("float");
+    private static final BitHeader<IntEncoder> INT = int32("int");
+    private static final BitHeader<LongEncoder> LONG = long64("long");
+    private static final BitHeader<ShortEncoder> SHORT = short16("short");
+    private static final BitHeader<SignedIntegerEncoder> SIGNED = intRange("signed", -100, 100);
+    private static final BitHeader<UnsignedIntegerEncoder> UNSIGNED = unsignedIntOnBits("unsigned", 5);
+    private static final BitHeader<SignedLongEncoder> SIGNED_LONG = longRange("signedLong", -(1L << 40), 1L << 40);
+    private static final BitHeader<UnsignedLongEncoder> UNSIGNED_LONG = unsignedLongOnBits("unsignedLong", 50);
+    private static final BitHeader<InstantEncoder> INSTANT = instant("instant", Instant.parse("2020-01-01T00:00:00Z"), Instant.parse("2100-01-01T00:00:00Z"), MINUTES);
+    private static final BitHeader<DecimalEncoder> DECIMAL = decimal("decimal", 2, -10d, 10d);
+    private static final BitHeader<QuantizedFloatEncoder> QUANTIZED = quantizedFloat("quantized", 6, -1f, 1f);
+
+    private final Table table = new Table(List.of(BOOL, BYTE, CHAR, DOUBLE, ENUM, FLOAT, INT, LONG, SHORT, SIGNED, UNSIGNED, DECIMAL, QUANTIZED, SIGNED_LONG, UNSIGNED_LONG, INSTANT));
+
+    @Test
+    void incorrectBitsCount() {
+        // when
+        Throwable thrown = catchThrowable(() -> SortKey.of(65, position -> position));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Sort key must be stored on 1 to 64 bits");
+    }
+
+    @Test
+    void booleanKeys() {
+        // given
+        table.encoderFor(BOOL).set(0, false);
+        table.encoderFor(BOOL).set(1, true);
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(BOOL));
+
+        // then
+        assertThat(testee.bitsCount()).isEqualTo(1);
+        assertOrdered(testee, 0, 1);
+    }
+
+    @Test
+    void byteKeys() {
+        // given
+        byte[] values = {Byte.MIN_VALUE, -1, 0, 1, Byte.MAX_VALUE};
+        for (int i = 0; i < values.length; i++) {
+            table.encoderFor(BYTE).set(i, values[i]);
+        }
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(BYTE));
+
+        // then
+        assertThat(testee.bitsCount()).isEqualTo(8);
+        assertOrdered(testee, 0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void shortKeys() {
+        // given
+        short[] values = {Short.MIN_VALUE, -1, 0, 1, Short.MAX_VALUE};
+        for (int i = 0; i < values.length; i++) {
+            table.encoderFor(SHORT).set(i, values[i]);
+        }
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(SHORT));
+
+        // then
+        assertThat(testee.bitsCount()).isEqualTo(16);
+        assertOrdered(testee, 0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void charKeys() {
+        // given
+        char[] values = {'\u0000', 'A', 'z', '￿'};
+        for (int i = 0; i < values.length; i++) {
+            table.encoderFor(CHAR).set(i, values[i]);
+        }
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(CHAR));
+
+        // then
+        assertOrdered(testee, 0, 1, 2, 3);
+    }
+
+    @Test
+    void intKeys() {
+        // given
+        int[] values = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+        for (int i = 0; i < values.length; i++) {
+            table.encoderFor(INT).set(i, values[i]);
+        }
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(INT));
+
+        // then
+        assertThat(testee.bitsCount()).isEqualTo(32);
+        assertOrdered(testee, 0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void longKeys() {
+        // given
+        long[] values = {Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE};
+        for (int i = 0; i < values.length; i++) {
+            table.encoderFor(LONG).set(i, values[i]);
+        }
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(LONG));
+
+        // then
+        assertThat(testee.bitsCount()).isEqualTo(64);
+        assertOrdered(testee, 0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void floatKeys() {
+        // given
+        float[] values = {Float.NEGATIVE_INFINITY, -10.5f, -0.0f, 0.0f, 1.25f, Float.POSITIVE_INFINITY, Float.NaN};
+        for (int i = 0; i < values.length; i++) {
+            table.encoderFor(FLOAT).set(i, values[i]);
+        }
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(FLOAT));
+
+        // then
+        assertOrdered(testee, 0, 1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    void doubleKeys() {
+        // given
+        double[] values = {Double.NEGATIVE_INFINITY, -10.5, -0.0, 0.0, 1.25, Double.POSITIVE_INFINITY, Double.NaN};
+        for (int i = 0; i < values.length; i++) {
+            table.encoderFor(DOUBLE).set(i, values[i]);
+        }
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(DOUBLE));
+
+        // then
+        assertOrdered(testee, 0, 1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    void enumKeys() {
+        // given
+        table.encoderFor(ENUM).set(0, Size.SMALL);
+        table.encoderFor(ENUM).set(1, Size.MEDIUM);
+        table.encoderFor(ENUM).set(2, Size.LARGE);
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(ENUM));
+
+        // then
+        assertOrdered(testee, 0, 1, 2);
+    }
+
+    @Test
+    void signedKeys() {
+        // given
+        table.encoderFor(SIGNED).set(0, -100);
+        table.encoderFor(SIGNED).set(1, 0);
+        table.encoderFor(SIGNED).set(2, 100);
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(SIGNED));
+
+        // then
+        assertThat(testee.bitsCount()).isEqualTo(8);
+        assertThat(testee.key(0)).isZero();
+        assertOrdered(testee, 0, 1, 2);
+    }
+
+    @Test
+    void signedLongKeys() {
+        // given
+        table.encoderFor(SIGNED_LONG).set(0, -(1L << 40));
+        table.encoderFor(SIGNED_LONG).set(1, -1L);
+        table.encoderFor(SIGNED_LONG).set(2, 0L);
+        table.encoderFor(SIGNED_LONG).set(3, 1L << 40);
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(SIGNED_LONG));
+
+        // then
+        assertThat(testee.bitsCount()).isEqualTo(42);
+        assertThat(testee.key(0)).isZero();
+        assertOrdered(testee, 0, 1, 2, 3);
+    }
+
+    @Test
+    void unsignedLongKeys() {
+        // given
+        table.encoderFor(UNSIGNED_LONG).set(0, 3L);
+        table.encoderFor(UNSIGNED_LONG).set(1, (1L << 50) - 1);
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(UNSIGNED_LONG));
+
+        // then
+        assertThat(testee.bitsCount()).isEqualTo(50);
+        assertThat(testee.key(0)).isEqualTo(3L);
+        assertThat(testee.key(1)).isEqualTo((1L << 50) - 1);
+    }
+
+    @Test
+    void instantKeys() {
+        // given
+        table.encoderFor(INSTANT).set(0, Instant.parse("2020-01-01T00:00:00Z"));
+        table.encoderFor(INSTANT).set(1, Instant.parse("2020-01-01T00:01:00Z"));
+        table.encoderFor(INSTANT).set(2, Instant.parse("2099-12-31T23:59:00Z"));
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(INSTANT));
+
+        // then
+        assertThat(testee.bitsCount()).isEqualTo(26);
+        assertThat(testee.key(0)).isZero();
+        assertThat(testee.key(1)).isEqualTo(1L);
+        assertOrdered(testee, 0, 1, 2);
+    }
+
+    @Test
+    void decimalKeys() {
+        // given
+        table.encoderFor(DECIMAL).setDouble(0, -10d);
+        table.encoderFor(DECIMAL).setDouble(1, -0.01d);
+        table.encoderFor(DECIMAL).setDouble(2, 0d);
+        table.encoderFor(DECIMAL).setDouble(3, 9.99d);
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(DECIMAL));
+
+        // then
+        assertThat(testee.bitsCount()).isEqualTo(11);
+        assertThat(testee.key(0)).isZero();
+        assertOrdered(testee, 0, 1, 2, 3);
+    }
+
+    @Test
+    void quantizedFloatKeys() {
+        // given
+        table.encoderFor(QUANTIZED).set(0, -1f);
+        table.encoderFor(QUANTIZED).set(1, -0.2f);
+        table.encoderFor(QUANTIZED).set(2, 0.2f);
+        table.encoderFor(QUANTIZED).set(3, 1f);
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(QUANTIZED));
+
+        // then
+        assertThat(testee.bitsCount()).isEqualTo(6);
+        assertThat(testee.key(0)).isZero();
+        assertThat(testee.key(3)).isEqualTo(63);
+        assertOrdered(testee, 0, 1, 2, 3);
+    }
+
+    @Test
+    void unsignedKeys() {
+        // given
+        table.encoderFor(UNSIGNED).set(0, 3);
+        table.encoderFor(UNSIGNED).set(1, 31);
+
+        // when
+        SortKey testee = SortKey.of(table.encoderFor(UNSIGNED));
+
+        // then
+        assertThat(testee.bitsCount()).isEqualTo(5);
+        assertThat(testee.key(0)).isEqualTo(3L);
+        assertThat(testee.key(1)).isEqualTo(31L);
+    }
+
+    @Test
+    void descendingKeys() {
+        // given
+        table.encoderFor(UNSIGNED).set(0, 3);
+        table.encoderFor(UNSIGNED).set(1, 31);
+        table.encoderFor(LONG).set(0, -5L);
+        table.encoderFor(LONG).set(1, 5L);
+
+        // when
+        SortKey unsigned = SortKey.of(table.encoderFor(UNSIGNED)).descending();
+        SortKey longKey = SortKey.of(table.encoderFor(LONG)).descending();
+
+        // then
+        assertThat(unsigned.key(0)).isEqualTo(28L);
+        assertThat(unsigned.key(1)).isEqualTo(0L);
+        assertOrdered(unsigned, 1, 0);
+        assertOrdered(longKey, 1, 0);
+    }
+
+    private static void assertOrdered(SortKey key, long... positions) {
+        for (int i = 1; i < positions.length; i++) {
+            assertThat(Long.compareUnsigned(key.key(positions[i - 1]), key.key(positions[i])))
+                    .as("key of %d is smaller than key of %d", positions[i - 1], positions[i])
+                    .isNegative();
+        }
+        for (long position : positions) {
+            assertThat(key.bitsCount() == 64 || key.key(position) >>> key.bitsCount() == 0).isTrue();
+        }
+    }
+}
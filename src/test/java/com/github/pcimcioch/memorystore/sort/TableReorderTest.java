@@ -0,0 +1,236 @@
+package com.github.pcimcioch.memorystore.sort;
+
+import com.github.pcimcioch.memorystore.Table;
+import com.github.pcimcioch.memorystore.encoder.AdjacencyEncoder;
+import com.github.pcimcioch.memorystore.encoder.HashIndexEncoder;
+import com.github.pcimcioch.memorystore.encoder.ListEncoder;
+import com.github.pcimcioch.memorystore.encoder.LongEncoder;
+import com.github.pcimcioch.memorystore.encoder.ObjectDirectEncoder;
+import com.github.pcimcioch.memorystore.encoder.ObjectPoolEncoder;
+import com.github.pcimcioch.memorystore.encoder.UnsignedIntegerEncoder;
+import com.github.pcimcioch.memorystore.header.AdjacencyHeader;
+import com.github.pcimcioch.memorystore.header.BitHeader;
+import com.github.pcimcioch.memorystore.header.HashIndexHeader;
+import com.github.pcimcioch.memorystore.header.ObjectDirectHeader;
+import com.github.pcimcioch.memorystore.header.ObjectPoolHeader;
+import com.github.pcimcioch.memorystore.layout.AutomaticMemoryLayoutBuilder;
+import com.github.pcimcioch.memorystore.store.RecordAlignedStoreFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static com.github.pcimcioch.memorystore.header.Headers.adjacencyOnBits;
+import static com.github.pcimcioch.memorystore.header.Headers.hashIndex;
+import static com.github.pcimcioch.memorystore.header.Headers.listOnBits;
+import static com.github.pcimcioch.memorystore.header.Headers.long64;
+import static com.github.pcimcioch.memorystore.header.Headers.object;
+import static com.github.pcimcioch.memorystore.header.Headers.objectPool;
+import static com.github.pcimcioch.memorystore.header.Headers.poolOnBits;
+import static com.github.pcimcioch.memorystore.header.Headers.unsignedIntOnBits;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class TableReorderTest {
+
+    private static final BitHeader<UnsignedIntegerEncoder> REGION = unsignedIntOnBits("region", 10);
+    private static final BitHeader<LongEncoder> ID = long64("id");
+    private static final BitHeader<ListEncoder> NEIGHBOURS = listOnBits("neighbours", 16);
+    private static final ObjectDirectHeader<String> NAME = object("name");
+    private static final ObjectPoolHeader<String> CITY = objectPool("city", poolOnBits("cities", 4));
+
+    private final Table table = new Table(List.of(REGION, ID, NEIGHBOURS, NAME, CITY));
+    private final UnsignedIntegerEncoder region = table.encoderFor(REGION);
+    private final LongEncoder id = table.encoderFor(ID);
+    private final ListEncoder neighbours = table.encoderFor(NEIGHBOURS);
+    private final ObjectDirectEncoder<String> name = table.encoderFor(NAME);
+    private final ObjectPoolEncoder<String> city = table.encoderFor(CITY);
+
+    private final TableReorder testee = new TableReorder();
+
+    @Test
+    void incorrectOrder() {
+        // when
+        Throwable thrown = catchThrowable(() -> testee.reorder(table, new long[]{0, 0, 1}));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Order must be a permutation of record positions");
+    }
+
+    @Test
+    void reorderRecords() {
+        // given
+        setRecord(0, 5, 100L, "a", "Warsaw");
+        setRecord(1, 3, 101L, "b", "Cracow");
+        setRecord(2, 9, 102L, null, "Gdansk");
+        setRecord(3, 1, 103L, "d", "Warsaw");
+        // 0 -> 2 -> 3
+        neighbours.init(0);
+        neighbours.addNext(0, 2);
+        neighbours.addNext(2, 3);
+        neighbours.init(1);
+
+        // when
+        long[] mapping = testee.reorder(table, new long[]{3, 0, 1, 2});
+
+        // then
+        assertThat(mapping).containsExactly(1, 2, 3, 0);
+        assertRecord(0, 1, 103L, "d", "Warsaw");
+        assertRecord(1, 5, 100L, "a", "Warsaw");
+        assertRecord(2, 3, 101L, "b", "Cracow");
+        assertRecord(3, 9, 102L, null, "Gdansk");
+        assertThat(neighbours.stream(1)).containsExactly(1L, 3L, 0L);
+        assertThat(neighbours.stream(2)).containsExactly(2L);
+    }
+
+    @Test
+    void clusterByKey() {
+        // given
+        int[] regions = {7, 2, 7, 0, 2, 5};
+        for (int i = 0; i < regions.length; i++) {
+            setRecord(i, regions[i], i, "name" + i, "Warsaw");
+        }
+        neighbours.init(0);
+        for (int i = 1; i < regions.length; i++) {
+            neighbours.addPrevious(0, i);
+        }
+
+        // when
+        long[] mapping = testee.clusterBy(table, regions.length, SortKey.of(region));
+
+        // then
+        assertThat(mapping).containsExactly(4, 1, 5, 0, 2, 3);
+        assertThat(ids(6)).containsExactly(3L, 1L, 4L, 5L, 0L, 2L);
+        assertThat(name.get(0)).isEqualTo("name3");
+        assertThat(neighbours.stream(mapping[0])).containsExactly(4L, 1L, 5L, 0L, 2L, 3L);
+
+        SortKey key = SortKey.of(region);
+        assertThat(key.lowerBound(0, 6, 2)).isEqualTo(1);
+        assertThat(key.upperBound(0, 6, 2)).isEqualTo(3);
+        assertThat(key.lowerBound(0, 6, 6)).isEqualTo(4);
+        assertThat(key.lowerBound(0, 6, 8)).isEqualTo(6);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1L, Integer.MAX_VALUE + 1L, Long.MAX_VALUE})
+    void clusterByIncorrectRecordsCount(long recordsCount) {
+        // when
+        Throwable thrown = catchThrowable(() -> testee.clusterBy(table, recordsCount, SortKey.of(region)));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Records count must be between 0 and 2147483647");
+    }
+
+    @Test
+    void reorderBeyondWrittenBlocks() {
+        // given
+        Table bitsOnly = new Table(List.of(REGION));
+        UnsignedIntegerEncoder encoder = bitsOnly.encoderFor(REGION);
+        encoder.set(0, 1);
+
+        // when
+        testee.reorder(bitsOnly, new long[]{1, 0});
+
+        // then
+        assertThat(encoder.get(0)).isZero();
+        assertThat(encoder.get(1)).isEqualTo(1);
+    }
+
+    @Test
+    void reorderGraph() {
+        // given
+        AdjacencyHeader roadsHeader = adjacencyOnBits("roads", 4);
+        Table graph = new Table(List.of(roadsHeader, ID));
+        AdjacencyEncoder roads = graph.encoderFor(roadsHeader);
+        LongEncoder graphId = graph.encoderFor(ID);
+        // 0 -> 1, 0 -> 2, 2 -> 1
+        roads.build(3, new long[]{0, 0, 2}, new long[]{1, 2, 1});
+        graphId.set(0, 100L);
+        graphId.set(1, 101L);
+        graphId.set(2, 102L);
+
+        // when
+        testee.reorder(graph, new long[]{2, 0, 1});
+
+        // then
+        // 1 -> 2, 1 -> 0, 0 -> 2
+        assertThat(graphId.get(0)).isEqualTo(102L);
+        assertThat(graphId.get(1)).isEqualTo(100L);
+        assertThat(graphId.get(2)).isEqualTo(101L);
+        assertThat(roads.neighbours(0)).containsExactly(2L);
+        assertThat(roads.neighbours(1)).containsExactly(2L, 0L);
+        assertThat(roads.neighbours(2)).isEmpty();
+    }
+
+    @Test
+    void reorderHashIndex() {
+        // given
+        HashIndexHeader idIndexHeader = hashIndex("id-index");
+        Table indexed = new Table(List.of(idIndexHeader, ID));
+        HashIndexEncoder idIndex = indexed.encoderFor(idIndexHeader);
+        LongEncoder indexedId = indexed.encoderFor(ID);
+        for (int position = 0; position < 3; position++) {
+            indexedId.set(position, 100L + position);
+            idIndex.put(100L + position, position);
+        }
+
+        // when
+        testee.reorder(indexed, new long[]{2, 0, 1});
+
+        // then
+        for (int position = 0; position < 3; position++) {
+            assertThat(idIndex.get(indexedId.get(position))).isEqualTo(position);
+        }
+        assertThat(idIndex.get(102L)).isEqualTo(0);
+    }
+
+    @Test
+    void reorderRecordAlignedStore() {
+        // given
+        Table aligned = new Table(new AutomaticMemoryLayoutBuilder(), new RecordAlignedStoreFactory(1024), List.of(REGION, ID));
+        UnsignedIntegerEncoder alignedRegion = aligned.encoderFor(REGION);
+        LongEncoder alignedId = aligned.encoderFor(ID);
+        long[] order = new long[1500];
+        for (int i = 0; i < order.length; i++) {
+            alignedRegion.set(i, i % 1000);
+            alignedId.set(i, i);
+            order[i] = order.length - 1 - i;
+        }
+
+        // when
+        testee.reorder(aligned, order);
+
+        // then
+        for (int i = 0; i < order.length; i++) {
+            assertThat(alignedId.get(i)).isEqualTo(order.length - 1 - i);
+            assertThat(alignedRegion.get(i)).isEqualTo((order.length - 1 - i) % 1000);
+        }
+    }
+
+    private void setRecord(long position, int regionValue, long idValue, String nameValue, String cityValue) {
+        region.set(position, regionValue);
+        id.set(position, idValue);
+        name.set(position, nameValue);
+        city.set(position, cityValue);
+    }
+
+    private void assertRecord(long position, int regionValue, long idValue, String nameValue, String cityValue) {
+        assertThat(region.get(position)).isEqualTo(regionValue);
+        assertThat(id.get(position)).isEqualTo(idValue);
+        assertThat(name.get(position)).isEqualTo(nameValue);
+        assertThat(city.get(position)).isEqualTo(cityValue);
+    }
+
+    private long[] ids(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = id.get(i);
+        }
+        return ids;
+    }
+}
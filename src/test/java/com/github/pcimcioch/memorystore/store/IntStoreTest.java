@@ -231,6 +231,29 @@ class IntStoreTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("capacities")
+    void ensureCapacity(long capacity, int expectedSize) {
+        // given
+        IntStore testee = new IntStore(1024);
+
+        // when
+        testee.ensureCapacity(capacity);
+
+        // then
+        assertThat(testee.size()).isEqualTo(expectedSize);
+    }
+
+    private static Stream<Arguments> capacities() {
+        return Stream.of(
+                Arguments.of(0L, 0),
+                Arguments.of(1L, 1024),
+                Arguments.of(1024L, 1024),
+                Arguments.of(1025L, 2048),
+                Arguments.of(3072L, 3072)
+        );
+    }
+
     @Test
     void sizeOfBlockAfterRemoval() {
         // given
@@ -244,4 +267,108 @@ class IntStoreTest {
         // then
         assertThat(size).isEqualTo(2048);
     }
-}
\ No newline at end of file
+
+    @Test
+    void creationOfRecordAlignedWithIncorrectRecordSize() {
+        // when
+        Throwable thrown = catchThrowable(() -> new IntStore(1024, 0));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Record size must be greater then 0");
+    }
+
+    @ParameterizedTest
+    @MethodSource("recordAlignedBlockSizes")
+    void creationOfRecordAligned(int minBlockSize, int recordSize, int blockSize, int recordsPerBlock, int numberOfIndexBits) {
+        // when
+        IntStore testee = new IntStore(minBlockSize, recordSize);
+
+        // then
+        assertThat(testee.isRecordAligned()).isTrue();
+        assertThat(testee.recordSize()).isEqualTo(recordSize);
+        assertThat(testee.blockSize()).isEqualTo(blockSize);
+        assertThat(testee.recordsPerBlock()).isEqualTo(recordsPerBlock);
+        assertThat(testee.numberOfIndexBits()).isEqualTo(numberOfIndexBits);
+        assertThat(testee.indexMask()).isEqualTo((1 << numberOfIndexBits) - 1);
+    }
+
+    private static Stream<Arguments> recordAlignedBlockSizes() {
+        return Stream.of(
+                Arguments.of(1024, 1, 1024, 1024, 10),
+                Arguments.of(1024, 3, 1536, 512, 11),
+                Arguments.of(1024, 4, 1024, 256, 10),
+                Arguments.of(1024, 5, 1280, 256, 11),
+                Arguments.of(131072, 3, 196608, 65536, 18),
+                Arguments.of(1024, 2000, 4000, 2, 12)
+        );
+    }
+
+    @Test
+    void notRecordAligned() {
+        // given
+        IntStore testee = new IntStore(1024);
+
+        // when then
+        assertThat(testee.isRecordAligned()).isFalse();
+        assertThat(testee.recordSize()).isZero();
+        assertThat(testee.recordsPerBlock()).isZero();
+        assertThat(testee.recordIndex(1000, 3)).isEqualTo(3000);
+    }
+
+    @ParameterizedTest
+    @MethodSource("recordIndexes")
+    void recordIndexOfRecordAligned(long position, long expectedIndex) {
+        // given
+        IntStore testee = new IntStore(1024, 3);
+
+        // when
+        long index = testee.recordIndex(position, 3);
+
+        // then
+        assertThat(index).isEqualTo(expectedIndex);
+    }
+
+    private static Stream<Arguments> recordIndexes() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(1, 3),
+                Arguments.of(511, 1533),
+                Arguments.of(512, 2048),
+                Arguments.of(513, 2051),
+                Arguments.of(1024, 4096)
+        );
+    }
+
+    @Test
+    void recordAlignedRecordsDoNotCrossBlocks() {
+        // given
+        IntStore testee = new IntStore(1024, 3);
+
+        // when
+        testee.setLongInBlock(testee.recordIndex(511, 3) + 1, 0x1234567890L);
+        testee.setInt(testee.recordIndex(512, 3), 10);
+
+        // then
+        assertThat(testee.blocksCount()).isEqualTo(2);
+        assertThat(testee.size()).isEqualTo(4096);
+        assertThat(testee.getLongInBlock(1534)).isEqualTo(0x1234567890L);
+        assertThat(testee.getLong(1534)).isEqualTo(0x1234567890L);
+        assertThat(testee.getInt(2048)).isEqualTo(10);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 0x1234567890L})
+    void settingLongValuesInBlock(long value) {
+        // given
+        IntStore testee = new IntStore();
+
+        // when
+        testee.setLongInBlock(10, value);
+
+        // then
+        assertThat(testee.getLongInBlock(10)).isEqualTo(value);
+        assertThat(testee.getLong(10)).isEqualTo(value);
+    }
+}
@@ -53,4 +53,16 @@ class ObjectPoolStoreTest {
 
         assertThat(testee.size()).isEqualTo(2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void indexOf() {
+        // given
+        testee.set("First");
+        testee.set("Second");
+
+        // when then
+        assertThat(testee.indexOf("First")).isEqualTo(0);
+        assertThat(testee.indexOf("Second")).isEqualTo(1);
+        assertThat(testee.indexOf("Third")).isEqualTo(-1);
+    }
+}